@@ -0,0 +1,77 @@
+package nc.recipe;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nc.tile.internal.fluid.Tank;
+import net.minecraft.item.ItemStack;
+
+/** Input lookups for every recipe type, cycling through the inputs of each recipe. A miss differs from a recipe's
+ * inputs in one item, or in one fluid for types without item inputs. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeLookupBenchmark {
+	
+	@Param
+	public NCRecipes.Type type;
+	
+	private ProcessorRecipeHandler handler;
+	
+	private List<ItemStack>[] hitItems, missItems;
+	private List<Tank>[] hitTanks, missTanks;
+	
+	private int next = 0;
+	
+	@Setup
+	public void setup() {
+		SyntheticRecipes recipes = new SyntheticRecipes(type);
+		handler = recipes.handler;
+		int count = recipes.recipeCount;
+		hitItems = new List[count];
+		missItems = new List[count];
+		hitTanks = new List[count];
+		missTanks = new List[count];
+		for (int i = 0; i < count; i++) {
+			hitItems[i] = recipes.hitItems(i);
+			hitTanks[i] = recipes.hitTanks(i);
+			missItems[i] = recipes.missItems(i);
+			missTanks[i] = recipes.missTanks(i);
+			if (handler.getRecipeFromInputs(hitItems[i], hitTanks[i]) == null) throw new IllegalStateException(type + " recipe " + i + " was not found from its own inputs");
+			if (handler.getRecipeFromInputs(missItems[i], missTanks[i]) != null) throw new IllegalStateException(type + " recipe " + i + " was found from mismatched inputs");
+		}
+	}
+	
+	private int next() {
+		int i = next;
+		next = i + 1 == hitItems.length ? 0 : i + 1;
+		return i;
+	}
+	
+	@Benchmark
+	public ProcessorRecipe hit() {
+		int i = next();
+		return handler.getRecipeFromInputs(hitItems[i], hitTanks[i]);
+	}
+	
+	@Benchmark
+	public ProcessorRecipe miss() {
+		int i = next();
+		return handler.getRecipeFromInputs(missItems[i], missTanks[i]);
+	}
+}
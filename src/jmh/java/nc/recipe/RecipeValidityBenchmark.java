@@ -0,0 +1,86 @@
+package nc.recipe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/** Slot and tank insertion checks, for types with both item and fluid inputs at their own and at a larger recipe count */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeValidityBenchmark {
+	
+	@Param({"INFUSER", "DISSOLVER"})
+	public NCRecipes.Type type;
+	
+	/** Zero for the type's own recipe count */
+	@Param({"0", "1024"})
+	public int recipeCount;
+	
+	private ProcessorRecipeHandler handler;
+	
+	private ItemStack[] validItems;
+	private FluidStack[] validFluids;
+	private ItemStack invalidItem;
+	private FluidStack invalidFluid;
+	
+	private int next = 0;
+	
+	@Setup
+	public void setup() {
+		SyntheticRecipes recipes = recipeCount > 0 ? new SyntheticRecipes(type, recipeCount) : new SyntheticRecipes(type);
+		handler = recipes.handler;
+		validItems = new ItemStack[recipes.recipeCount];
+		validFluids = new FluidStack[recipes.recipeCount];
+		for (int i = 0; i < recipes.recipeCount; i++) {
+			validItems[i] = recipes.hitItems(i).get(0);
+			validFluids[i] = recipes.hitTanks(i).get(0).getFluid();
+		}
+		invalidItem = recipes.missItem();
+		invalidFluid = recipes.missFluid();
+		if (!handler.isValidItemInput(validItems[0]) || !handler.isValidFluidInput(validFluids[0])) throw new IllegalStateException(type + " inputs were not valid");
+		if (handler.isValidItemInput(invalidItem) || handler.isValidFluidInput(invalidFluid)) throw new IllegalStateException(type + " unused inputs were valid");
+	}
+	
+	private int next() {
+		int i = next;
+		next = i + 1 == validItems.length ? 0 : i + 1;
+		return i;
+	}
+	
+	@Benchmark
+	public boolean validItem() {
+		return handler.isValidItemInput(validItems[next()]);
+	}
+	
+	@Benchmark
+	public boolean invalidItem() {
+		return handler.isValidItemInput(invalidItem);
+	}
+	
+	@Benchmark
+	public boolean validFluid() {
+		return handler.isValidFluidInput(validFluids[next()]);
+	}
+	
+	@Benchmark
+	public boolean invalidFluid() {
+		return handler.isValidFluidInput(invalidFluid);
+	}
+}
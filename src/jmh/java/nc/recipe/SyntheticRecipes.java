@@ -0,0 +1,183 @@
+package nc.recipe;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+import nc.TestBootstrap;
+import nc.tile.internal.fluid.Tank;
+import nc.tile.internal.fluid.TankSorption;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+/** A recipe handler with the input and output shape of one recipe type, filled with vanilla items, vanilla ore names
+ * and test fluids, as the real handlers need the mod's own items, fluids and config to be loaded. Every fourth item
+ * input is an ore name, so both the item and the ore parts of the recipe index are exercised. */
+public class SyntheticRecipes {
+	
+	/** Item inputs, fluid inputs, item outputs, fluid outputs and recipe count - the count is the number of recipes each
+	 * real handler adds directly, so it undercounts handlers which add recipes in loops */
+	private static final EnumMap<NCRecipes.Type, int[]> SHAPES = new EnumMap<NCRecipes.Type, int[]>(NCRecipes.Type.class);
+	
+	static {
+		shape(NCRecipes.Type.MANUFACTORY, 1, 0, 1, 0, 48);
+		shape(NCRecipes.Type.ISOTOPE_SEPARATOR, 1, 0, 2, 0, 17);
+		shape(NCRecipes.Type.DECAY_HASTENER, 1, 0, 1, 0, 1);
+		shape(NCRecipes.Type.FUEL_REPROCESSOR, 1, 0, 4, 0, 6);
+		shape(NCRecipes.Type.ALLOY_FURNACE, 2, 0, 1, 0, 25);
+		shape(NCRecipes.Type.INFUSER, 1, 1, 1, 0, 27);
+		shape(NCRecipes.Type.MELTER, 1, 0, 0, 1, 61);
+		shape(NCRecipes.Type.SUPERCOOLER, 0, 1, 0, 1, 2);
+		shape(NCRecipes.Type.ELECTROLYSER, 0, 1, 0, 4, 11);
+		shape(NCRecipes.Type.IRRADIATOR, 0, 2, 0, 2, 3);
+		shape(NCRecipes.Type.INGOT_FORMER, 0, 1, 1, 0, 26);
+		shape(NCRecipes.Type.PRESSURIZER, 1, 0, 1, 0, 17);
+		shape(NCRecipes.Type.CHEMICAL_REACTOR, 0, 2, 0, 2, 32);
+		shape(NCRecipes.Type.SALT_MIXER, 0, 2, 0, 1, 26);
+		shape(NCRecipes.Type.CRYSTALLIZER, 0, 1, 1, 0, 8);
+		shape(NCRecipes.Type.DISSOLVER, 1, 1, 0, 1, 9);
+		shape(NCRecipes.Type.EXTRACTOR, 1, 0, 1, 1, 5);
+		shape(NCRecipes.Type.CENTRIFUGE, 0, 1, 0, 4, 15);
+		shape(NCRecipes.Type.ROCK_CRUSHER, 1, 0, 3, 0, 3);
+		shape(NCRecipes.Type.COLLECTOR, 1, 0, 1, 1, 12);
+		shape(NCRecipes.Type.ACTIVE_COOLER, 0, 1, 0, 0, 1);
+		shape(NCRecipes.Type.DECAY_GENERATOR, 1, 0, 1, 0, 10);
+		shape(NCRecipes.Type.FISSION, 1, 0, 1, 0, 16);
+		shape(NCRecipes.Type.FUSION, 0, 2, 0, 4, 1);
+		shape(NCRecipes.Type.SALT_FISSION, 0, 1, 0, 1, 1);
+		shape(NCRecipes.Type.COOLANT_HEATER, 0, 1, 0, 1, 1);
+		shape(NCRecipes.Type.HEAT_EXCHANGER, 0, 1, 0, 1, 3);
+		shape(NCRecipes.Type.TURBINE, 0, 1, 0, 1, 3);
+		shape(NCRecipes.Type.CONDENSER, 0, 1, 0, 1, 2);
+	}
+	
+	private static void shape(NCRecipes.Type type, int itemInputs, int fluidInputs, int itemOutputs, int fluidOutputs, int recipeCount) {
+		SHAPES.put(type, new int[] {itemInputs, fluidInputs, itemOutputs, fluidOutputs, recipeCount});
+	}
+	
+	/** The fluid amount each recipe needs and each input tank holds */
+	private static final int FLUID_AMOUNT = 100, TANK_AMOUNT = 1000;
+	
+	public final ProcessorRecipeHandler handler;
+	public final int itemInputSize, fluidInputSize, recipeCount;
+	
+	private final List<List<ItemStack>> itemInputs = new ArrayList<List<ItemStack>>();
+	private final List<List<FluidStack>> fluidInputs = new ArrayList<List<FluidStack>>();
+	
+	private final ItemStack missItem;
+	private final FluidStack missFluid;
+	
+	public SyntheticRecipes(NCRecipes.Type type) {
+		this(type, SHAPES.get(type)[4]);
+	}
+	
+	public SyntheticRecipes(NCRecipes.Type type, int recipeCount) {
+		TestBootstrap.init();
+		int[] shape = SHAPES.get(type);
+		itemInputSize = shape[0];
+		fluidInputSize = shape[1];
+		this.recipeCount = recipeCount;
+		handler = new Handler(type.name().toLowerCase(), shape[0], shape[1], shape[2], shape[3]);
+		missItem = new ItemStack(Items.BARRIER);
+		missFluid = new FluidStack(TestBootstrap.testFluid(TestBootstrap.TEST_FLUID_COUNT - 1), TANK_AMOUNT);
+		
+		List<ItemStack> items = new ArrayList<ItemStack>();
+		for (Item item : Item.REGISTRY) {
+			if (item != Items.AIR && item != missItem.getItem()) items.add(new ItemStack(item));
+		}
+		List<String> ores = new ArrayList<String>();
+		for (String ore : OreDictionary.getOreNames()) {
+			if (!OreDictionary.getOres(ore).isEmpty()) ores.add(ore);
+		}
+		ores.sort(null);
+		
+		for (int recipe = 0; recipe < recipeCount; recipe++) {
+			List<Object> objects = new ArrayList<Object>();
+			List<ItemStack> recipeItems = new ArrayList<ItemStack>();
+			for (int i = 0; i < itemInputSize; i++) {
+				int k = recipe*itemInputSize + i;
+				if (k % 4 == 3) {
+					String ore = ores.get((k/4) % ores.size());
+					objects.add(ore);
+					recipeItems.add(oreStack(ore));
+				} else {
+					ItemStack stack = items.get(k % items.size());
+					objects.add(stack.copy());
+					recipeItems.add(stack.copy());
+				}
+			}
+			List<FluidStack> recipeFluids = new ArrayList<FluidStack>();
+			for (int i = 0; i < fluidInputSize; i++) {
+				FluidStack stack = new FluidStack(TestBootstrap.testFluid((recipe*fluidInputSize + i) % (TestBootstrap.TEST_FLUID_COUNT - 1)), FLUID_AMOUNT);
+				objects.add(stack);
+				recipeFluids.add(new FluidStack(stack, TANK_AMOUNT));
+			}
+			for (int i = 0; i < shape[2]; i++) objects.add(new ItemStack(Items.STICK));
+			for (int i = 0; i < shape[3]; i++) objects.add(new FluidStack(TestBootstrap.testFluid(0), FLUID_AMOUNT));
+			
+			handler.addRecipe(objects.toArray());
+			itemInputs.add(recipeItems);
+			fluidInputs.add(recipeFluids);
+		}
+	}
+	
+	private static ItemStack oreStack(String ore) {
+		ItemStack stack = OreDictionary.getOres(ore).get(0).copy();
+		if (stack.getItemDamage() == OreDictionary.WILDCARD_VALUE) stack.setItemDamage(0);
+		return stack;
+	}
+	
+	/** Item inputs which match the given recipe */
+	public List<ItemStack> hitItems(int recipe) {
+		List<ItemStack> items = new ArrayList<ItemStack>();
+		for (ItemStack stack : itemInputs.get(recipe)) items.add(stack.copy());
+		return items;
+	}
+	
+	/** Input tanks which match the given recipe */
+	public List<Tank> hitTanks(int recipe) {
+		List<Tank> tanks = new ArrayList<Tank>();
+		for (FluidStack stack : fluidInputs.get(recipe)) tanks.add(tank(stack));
+		return tanks;
+	}
+	
+	/** Inputs which match the given recipe except for the first item, or the first fluid if there are no item inputs */
+	public List<ItemStack> missItems(int recipe) {
+		List<ItemStack> items = hitItems(recipe);
+		if (!items.isEmpty()) items.set(0, missItem.copy());
+		return items;
+	}
+	
+	public List<Tank> missTanks(int recipe) {
+		List<Tank> tanks = hitTanks(recipe);
+		if (itemInputSize == 0 && !tanks.isEmpty()) tanks.set(0, tank(missFluid));
+		return tanks;
+	}
+	
+	public ItemStack missItem() {
+		return missItem.copy();
+	}
+	
+	public FluidStack missFluid() {
+		return missFluid.copy();
+	}
+	
+	private static Tank tank(FluidStack stack) {
+		Tank tank = new Tank(16*TANK_AMOUNT, TankSorption.IN, null);
+		tank.setFluidStored(stack);
+		return tank;
+	}
+	
+	private static class Handler extends ProcessorRecipeHandler {
+		
+		private Handler(String recipeName, int itemInputSize, int fluidInputSize, int itemOutputSize, int fluidOutputSize) {
+			super(recipeName, itemInputSize, fluidInputSize, itemOutputSize, fluidOutputSize);
+		}
+		
+		@Override
+		public void addRecipes() {}
+	}
+}
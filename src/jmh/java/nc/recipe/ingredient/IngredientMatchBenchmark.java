@@ -0,0 +1,100 @@
+package nc.recipe.ingredient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+
+import nc.TestBootstrap;
+import nc.recipe.IngredientSorption;
+import nc.tile.internal.fluid.Tank;
+import nc.tile.internal.fluid.TankSorption;
+import nc.util.RecipeHelper;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/** Single ingredient matches and whole recipe matches of a shapeless two item, one fluid recipe */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IngredientMatchBenchmark {
+	
+	private OreIngredient ore;
+	private ItemStack oreMember, oreNonMember, noOres;
+	private OreIngredient sameOre;
+	
+	private List<IItemIngredient> itemIngredients;
+	private List<IFluidIngredient> fluidIngredients;
+	private List<ItemStack> items, itemsSwapped, itemsMismatched;
+	private List<Tank> tanks;
+	
+	@Setup
+	public void setup() {
+		TestBootstrap.init();
+		ore = new OreIngredient("ingotIron", 1);
+		sameOre = new OreIngredient("ingotIron", 1);
+		oreMember = new ItemStack(Items.IRON_INGOT, 4);
+		oreNonMember = new ItemStack(Items.GOLD_INGOT, 4);
+		noOres = new ItemStack(Blocks.BARRIER);
+		
+		itemIngredients = Lists.newArrayList(new ItemIngredient(new ItemStack(Items.REDSTONE, 2)), new OreIngredient("gemDiamond", 1));
+		fluidIngredients = Lists.newArrayList(new FluidIngredient(new FluidStack(TestBootstrap.testFluid(0), 100)));
+		items = Lists.newArrayList(new ItemStack(Items.REDSTONE, 4), new ItemStack(Items.DIAMOND));
+		itemsSwapped = Lists.newArrayList(new ItemStack(Items.DIAMOND), new ItemStack(Items.REDSTONE, 4));
+		itemsMismatched = Lists.newArrayList(new ItemStack(Items.REDSTONE, 4), new ItemStack(Items.EMERALD));
+		Tank tank = new Tank(1000, TankSorption.IN, null);
+		tank.setFluidStored(TestBootstrap.testFluid(0), 1000);
+		tanks = Lists.newArrayList(tank);
+	}
+	
+	@Benchmark
+	public boolean oreMatchesMember() {
+		return ore.matches(oreMember, IngredientSorption.INPUT);
+	}
+	
+	@Benchmark
+	public boolean oreMatchesNonMember() {
+		return ore.matches(oreNonMember, IngredientSorption.INPUT);
+	}
+	
+	@Benchmark
+	public boolean oreMatchesStackWithoutOres() {
+		return ore.matches(noOres, IngredientSorption.INPUT);
+	}
+	
+	@Benchmark
+	public boolean oreMatchesOreIngredient() {
+		return ore.matches(sameOre, IngredientSorption.INPUT);
+	}
+	
+	@Benchmark
+	public boolean recipeMatchesInOrder() {
+		return RecipeHelper.matchingIngredients(IngredientSorption.INPUT, itemIngredients, fluidIngredients, items, tanks, true);
+	}
+	
+	@Benchmark
+	public boolean recipeMatchesSwapped() {
+		return RecipeHelper.matchingIngredients(IngredientSorption.INPUT, itemIngredients, fluidIngredients, itemsSwapped, tanks, true);
+	}
+	
+	@Benchmark
+	public boolean recipeMismatches() {
+		return RecipeHelper.matchingIngredients(IngredientSorption.INPUT, itemIngredients, fluidIngredients, itemsMismatched, tanks, true);
+	}
+}
@@ -0,0 +1,62 @@
+package nc.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nc.recipe.IngredientSorption;
+import nc.recipe.ingredient.IFluidIngredient;
+import nc.recipe.ingredient.IItemIngredient;
+import nc.tile.internal.fluid.Tank;
+import net.minecraftforge.fluids.FluidStack;
+
+/** The ingredient matcher RecipeHelper used before it tracked used ingredients with a bitmask, kept as a baseline */
+public class LegacyRecipeMatcher {
+	
+	public static boolean matchingIngredients(IngredientSorption sorption, List<IItemIngredient> itemIngredients, List<IFluidIngredient> fluidIngredients, List items, List fluids, boolean shapeless) {
+		List<IItemIngredient> itemIngredientsMatch = new ArrayList<IItemIngredient>(itemIngredients);
+		List<IFluidIngredient> fluidIngredientsMatch = new ArrayList<IFluidIngredient>(fluidIngredients);
+		if (itemIngredients.size() != items.size() || fluidIngredients.size() != fluids.size()) {
+			return false;
+		}
+		int pos = -1;
+		if (!items.isEmpty()) itemInputs: for (Object item : items) {
+			/*if (stack.isEmpty()) {
+				return false;
+			}*/
+			pos++;
+			if (shapeless) {
+				for (IItemIngredient itemIngredient : new ArrayList<IItemIngredient>(itemIngredientsMatch)) {
+					if (itemIngredient.matches(item, sorption)) {
+						itemIngredientsMatch.remove(itemIngredient);
+						continue itemInputs;
+					}
+				}
+			} else if (itemIngredients.get(pos).matches(item, sorption)) {
+				itemIngredientsMatch.remove(itemIngredients.get(pos));
+				continue itemInputs;
+			}
+			return false;
+		}
+		pos = -1;
+		if (!fluids.isEmpty()) fluidInputs: for (Object fluid : fluids) {
+			/*if (tank.isEmpty()) {
+				return false;
+			}*/
+			pos++;
+			if (fluid instanceof Tank) fluid = (FluidStack)((Tank)fluid).getFluid();
+			if (shapeless) {
+				for (IFluidIngredient fluidIngredient : new ArrayList<IFluidIngredient>(fluidIngredientsMatch)) {
+					if (fluidIngredient.matches(fluid, sorption)) {
+						fluidIngredientsMatch.remove(fluidIngredient);
+						continue fluidInputs;
+					}
+				}
+			} else if (fluidIngredients.get(pos).matches(fluid, sorption)) {
+				fluidIngredientsMatch.remove(fluidIngredients.get(pos));
+				continue fluidInputs;
+			}
+			return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,119 @@
+package nc.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nc.TestBootstrap;
+import nc.recipe.IngredientSorption;
+import nc.recipe.ingredient.FluidIngredient;
+import nc.recipe.ingredient.IFluidIngredient;
+import nc.recipe.ingredient.IItemIngredient;
+import nc.recipe.ingredient.ItemIngredient;
+import nc.tile.internal.fluid.Tank;
+import nc.tile.internal.fluid.TankSorption;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/** RecipeHelper.matchingIngredients against the list copying matcher it replaced, for recipes of one to six item or
+ * fluid inputs. Shapeless inputs are given in reverse order, the worst case for the greedy assignment, and a miss
+ * differs from the recipe in its last input. Run with -prof gc to compare allocation rates. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatcherBenchmark {
+	
+	@Param({"1", "2", "3", "4", "5", "6"})
+	public int inputs;
+	
+	@Param({"true", "false"})
+	public boolean shapeless;
+	
+	@Param({"items", "fluids"})
+	public String kind;
+	
+	private List<IItemIngredient> itemIngredients = new ArrayList<IItemIngredient>();
+	private List<IFluidIngredient> fluidIngredients = new ArrayList<IFluidIngredient>();
+	private List<Object> hitItems = new ArrayList<Object>(), missItems, hitFluids = new ArrayList<Object>(), missFluids;
+	
+	@Setup
+	public void setup() {
+		TestBootstrap.init();
+		Item[] items = new Item[] {Items.IRON_INGOT, Items.GOLD_INGOT, Items.DIAMOND, Items.EMERALD, Items.REDSTONE, Items.COAL};
+		boolean fluids = kind.equals("fluids");
+		for (int i = 0; i < inputs; i++) {
+			if (fluids) {
+				fluidIngredients.add(new FluidIngredient(new FluidStack(TestBootstrap.testFluid(i), 100)));
+				hitFluids.add(tank(new FluidStack(TestBootstrap.testFluid(i), 1000)));
+			} else {
+				itemIngredients.add(new ItemIngredient(new ItemStack(items[i])));
+				hitItems.add(new ItemStack(items[i], 4));
+			}
+		}
+		if (shapeless) {
+			Collections.reverse(hitItems);
+			Collections.reverse(hitFluids);
+		}
+		missItems = new ArrayList<Object>(hitItems);
+		missFluids = new ArrayList<Object>(hitFluids);
+		if (fluids) missFluids.set(inputs - 1, tank(new FluidStack(TestBootstrap.testFluid(TestBootstrap.TEST_FLUID_COUNT - 1), 1000)));
+		else missItems.set(inputs - 1, new ItemStack(Blocks.BARRIER));
+		
+		for (boolean hit : new boolean[] {true, false}) {
+			if (current(hit) != hit || legacy(hit) != hit) throw new IllegalStateException("The matchers disagree with the expected result " + hit);
+		}
+	}
+	
+	private static Tank tank(FluidStack stack) {
+		Tank tank = new Tank(16000, TankSorption.IN, null);
+		tank.setFluidStored(stack);
+		return tank;
+	}
+	
+	private boolean current(boolean hit) {
+		return RecipeHelper.matchingIngredients(IngredientSorption.INPUT, itemIngredients, fluidIngredients, hit ? hitItems : missItems, hit ? hitFluids : missFluids, shapeless);
+	}
+	
+	private boolean legacy(boolean hit) {
+		return LegacyRecipeMatcher.matchingIngredients(IngredientSorption.INPUT, itemIngredients, fluidIngredients, hit ? hitItems : missItems, hit ? hitFluids : missFluids, shapeless);
+	}
+	
+	@Benchmark
+	public boolean currentHit() {
+		return current(true);
+	}
+	
+	@Benchmark
+	public boolean currentMiss() {
+		return current(false);
+	}
+	
+	@Benchmark
+	public boolean legacyHit() {
+		return legacy(true);
+	}
+	
+	@Benchmark
+	public boolean legacyMiss() {
+		return legacy(false);
+	}
+}
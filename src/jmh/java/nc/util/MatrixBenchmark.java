@@ -0,0 +1,101 @@
+package nc.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Matrix products, Kronecker products with a 2x2 matrix and adjoints of n*n matrices, comparing the Complex object
+ * formulas, the Complex[][] adapters in Matrix and the in-place kernels of ComplexMatrix */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark {
+	
+	@Param({"2", "4", "8", "16"})
+	public int n;
+	
+	private Complex[][] a, b, spin;
+	private double[] aFlat, bFlat, spinFlat, product, kronecker, adjoint;
+	
+	@Setup
+	public void setup() {
+		Random rand = new Random(1234L);
+		a = new Complex[n][n];
+		b = new Complex[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				a[i][j] = new Complex(rand.nextGaussian(), rand.nextGaussian());
+				b[i][j] = new Complex(rand.nextGaussian(), rand.nextGaussian());
+			}
+		}
+		spin = Matrix.spinY(0.5D);
+		aFlat = ComplexMatrix.fromArray(a);
+		bFlat = ComplexMatrix.fromArray(b);
+		spinFlat = ComplexMatrix.fromArray(spin);
+		product = ComplexMatrix.create(n);
+		kronecker = ComplexMatrix.create(2*n);
+		adjoint = ComplexMatrix.create(n);
+	}
+	
+	@Benchmark
+	public Complex[][] multiplyLegacy() {
+		return LegacyMatrix.multiply(a, b);
+	}
+	
+	@Benchmark
+	public Complex[][] multiplyAdapter() {
+		return Matrix.multiply(a, b);
+	}
+	
+	@Benchmark
+	public double[] multiplyKernel() {
+		ComplexMatrix.multiply(aFlat, bFlat, product, n);
+		return product;
+	}
+	
+	@Benchmark
+	public Complex[][] kroneckerLegacy() {
+		return LegacyMatrix.tensorProduct(a, spin);
+	}
+	
+	@Benchmark
+	public Complex[][] kroneckerAdapter() {
+		return Matrix.tensorProduct(a, spin);
+	}
+	
+	@Benchmark
+	public double[] kroneckerKernel() {
+		ComplexMatrix.kronecker(aFlat, n, spinFlat, 2, kronecker);
+		return kronecker;
+	}
+	
+	@Benchmark
+	public Complex[][] adjointLegacy() {
+		return LegacyMatrix.hermitian(a);
+	}
+	
+	@Benchmark
+	public Complex[][] adjointAdapter() {
+		return Matrix.hermitian(a);
+	}
+	
+	@Benchmark
+	public double[] adjointKernel() {
+		ComplexMatrix.adjoint(aFlat, adjoint, n);
+		return adjoint;
+	}
+}
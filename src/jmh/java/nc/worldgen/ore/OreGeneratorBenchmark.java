@@ -0,0 +1,74 @@
+package nc.worldgen.ore;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nc.StubWorld;
+import nc.TestBootstrap;
+import nc.block.BlockMeta;
+import nc.init.NCBlocks;
+import net.minecraft.init.Blocks;
+
+/** Ore generation over a square of chunks of stone, in a fresh world each time so that every run places the same veins.
+ * Dimension 0 is in the default ore dimension list and dimension 1 is not, so the latter measures the eligibility check
+ * on its own. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OreGeneratorBenchmark {
+	
+	/** The ground is stone to above the highest default ore height */
+	private static final int GROUND_HEIGHT = 64;
+	
+	@Param({"0", "1"})
+	public int dimension;
+	
+	/** The edge length of the square of generated chunks */
+	@Param({"4", "16"})
+	public int chunks;
+	
+	private OreGenerator generator;
+	private StubWorld world;
+	
+	private final Random rand = new Random();
+	
+	@Setup(Level.Trial)
+	public void setupGenerator() {
+		TestBootstrap.initConfig();
+		if (NCBlocks.ore == null) NCBlocks.ore = new BlockMeta.BlockOre("ore");
+		generator = new OreGenerator();
+	}
+	
+	/** Veins spill into the chunks to the east and south, which the game always has loaded while populating */
+	@Setup(Level.Invocation)
+	public void setupWorld() {
+		world = new StubWorld(dimension);
+		world.setGround(Blocks.STONE.getDefaultState(), GROUND_HEIGHT);
+		for (int x = 0; x <= chunks; x++) for (int z = 0; z <= chunks; z++) world.loadChunk(x, z);
+	}
+	
+	@Benchmark
+	public StubWorld generate() {
+		for (int x = 0; x < chunks; x++) for (int z = 0; z < chunks; z++) {
+			rand.setSeed(x*341873128712L + z*132897987541L);
+			generator.generate(rand, x, z, world, null, world.getChunkProvider());
+		}
+		return world;
+	}
+}
@@ -3,6 +3,7 @@ package nc;
 import nc.config.NCConfig;
 import nc.handler.GuiHandler;
 import nc.proxy.CommonProxy;
+import nc.recipe.NCRecipes;
 import nc.render.BlockHighlightTracker;
 import nc.util.NCUtil;
 import net.minecraftforge.fluids.FluidRegistry;
@@ -11,6 +12,7 @@ import net.minecraftforge.fml.common.Mod.EventHandler;
 import net.minecraftforge.fml.common.Mod.Instance;
 import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLLoadCompleteEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
@@ -51,6 +53,12 @@ public class NuclearCraft {
 		proxy.postInit(postEvent);
 	}
 	
+	@EventHandler
+	public void loadComplete(FMLLoadCompleteEvent loadCompleteEvent) {
+		// Scripts have all run by now
+		NCRecipes.applyPendingChanges();
+	}
+	
 	@EventHandler
 	public void serverStart(FMLServerStartingEvent serverStartEvent) {
 		NCUtil.getLogger().info("Server Loading...");
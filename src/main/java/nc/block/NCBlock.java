@@ -14,6 +14,7 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ResourceLocation;
@@ -59,6 +60,14 @@ public class NCBlock extends Block {
 		}
 	}
 	
+	@Override
+	public void onNeighborChange(IBlockAccess world, BlockPos pos, BlockPos neighbor) {
+		if (this instanceof ITileEntityProvider) {
+			TileEntity tile = world.getTileEntity(pos);
+			if (tile instanceof ITile) ((ITile)tile).onNeighborTileChanged(neighbor);
+		}
+	}
+	
 	// NBT Stuff
 	
 	@Override
@@ -7,8 +7,6 @@ import javax.annotation.Nullable;
 import nc.block.NCBlock;
 import nc.tab.NCTabs;
 import nc.tile.quantum.TileSpin;
-import nc.util.Complex;
-import nc.util.Matrix;
 import nc.util.NCUtil;
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.material.Material;
@@ -62,10 +60,8 @@ public class BlockSpin extends NCBlock implements ITileEntityProvider {
 			double phi = (double) (player.rotationYaw + 360D) % 360D;
 			double theta = (double) player.rotationPitch;
 			NCUtil.getLogger().info(phi + "   " + theta);
-			Complex[] newState = qubit.getStateFromAngles(phi, theta);
-			NCUtil.getLogger().info(newState[0].re() + "   " + newState[0].im() + "   " + newState[1].re() + "   " + newState[1].im());
-			NCUtil.getLogger().info(qubit.stateVector[0].re() + "   " + qubit.stateVector[0].im() + "   " + qubit.stateVector[1].re() + "   " + qubit.stateVector[1].im());
-			double expectation = Complex.absSq(Matrix.dot(newState, qubit.stateVector));
+			NCUtil.getLogger().info(qubit.stateVector[0] + "   " + qubit.stateVector[1] + "   " + qubit.stateVector[2] + "   " + qubit.stateVector[3]);
+			double expectation = qubit.getMeasurementProbability(phi, theta);
 			NCUtil.getLogger().info(expectation);
 			double newSpin = expectation > rand.nextDouble() ? 0.5D : -0.5D;
 			qubit.measuredSpin = newSpin;
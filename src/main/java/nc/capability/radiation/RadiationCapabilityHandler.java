@@ -11,6 +11,7 @@ import nc.capability.radiation.source.RadiationSourceProvider;
 import nc.capability.radiation.source.RadiationStackProvider;
 import nc.config.NCConfig;
 import nc.init.NCItems;
+import nc.radiation.RadSources;
 import nc.radiation.RadWorlds;
 import nc.radiation.RadiationArmor;
 import nc.util.ItemInfo;
@@ -70,7 +71,7 @@ public class RadiationCapabilityHandler {
 				return;
 			}
 		}*/
-		event.addCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE_NAME, new RadiationStackProvider(stack));
+		if (RadSources.isPossiblyRadioactive(stack.getItem())) event.addCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE_NAME, new RadiationStackProvider(stack));
 		
 		if (stack.getItem() == NCItems.radiation_badge) event.addCapability(IRadiationSink.CAPABILITY_RADIATION_SINK_NAME, new RadiationSinkProvider(0D));
 		
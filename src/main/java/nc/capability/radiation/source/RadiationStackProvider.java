@@ -4,8 +4,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import nc.radiation.RadSources;
-import nc.util.ItemInfo;
-import nc.util.OreDictHelper;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
@@ -14,28 +12,17 @@ import net.minecraftforge.common.capabilities.ICapabilityProvider;
 public class RadiationStackProvider implements ICapabilityProvider {
 	
 	private IRadiationSource radiation = null;
-	private ItemStack stack = null;
+	private final ItemStack stack;
 	
 	public RadiationStackProvider(ItemStack stack) {
 		this.stack = stack;
 	}
 	
+	/** Only cached once the radiation table is published, as stacks created during loading may be queried before all sources are known */
 	private IRadiationSource getRadiation() {
-		if (radiation == null) {
-			ItemInfo itemInfo = new ItemInfo(stack);
-			if (RadSources.STACK_MAP.containsKey(itemInfo)) {
-				radiation = new RadiationSource(RadSources.STACK_MAP.get(itemInfo));
-			}
-			else for (String oreName : OreDictHelper.getOreNames(stack)) {
-				if (RadSources.ORE_MAP.containsKey(oreName)) {
-					radiation = new RadiationSource(RadSources.ORE_MAP.get(oreName));
-					break;
-				}
-			}
-			if (radiation == null) {
-				radiation = new RadiationSource(0D);
-			}
-		}
+		if (radiation != null) return radiation;
+		if (!RadSources.isStackRadiationReady()) return RadSources.getStackRadiation(stack);
+		radiation = RadSources.getStackRadiation(stack);
 		return radiation;
 	}
 	
@@ -0,0 +1,40 @@
+package nc.capability.radiation.source;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+
+/** Radiation shared by all stacks of an item and meta - setters have no effect */
+public class StackRadiationSource implements IRadiationSource {
+	
+	private final double radiationLevel;
+	
+	public StackRadiationSource(double radiationLevel) {
+		this.radiationLevel = radiationLevel;
+	}
+	
+	@Override
+	public NBTTagCompound writeNBT(IRadiationSource instance, EnumFacing side, NBTTagCompound nbt) {
+		nbt.setDouble("radiationLevel", getRadiationLevel());
+		nbt.setDouble("radiationBuffer", getRadiationBuffer());
+		return nbt;
+	}
+	
+	@Override
+	public void readNBT(IRadiationSource instance, EnumFacing side, NBTTagCompound nbt) {}
+	
+	@Override
+	public double getRadiationLevel() {
+		return radiationLevel;
+	}
+	
+	@Override
+	public void setRadiationLevel(double newRads) {}
+	
+	@Override
+	public double getRadiationBuffer() {
+		return 0D;
+	}
+	
+	@Override
+	public void setRadiationBuffer(double newBuffer) {}
+}
@@ -10,6 +10,7 @@ import nc.network.config.ConfigUpdatePacket;
 import nc.radiation.RadSources;
 import nc.util.Lang;
 import nc.util.NCMath;
+import nc.worldgen.ore.OreGenerator;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.config.Configuration;
@@ -242,6 +243,7 @@ public class NCConfig {
 	public static double radiation_scrubber_fraction;
 	public static int radiation_scrubber_power;
 	public static int radiation_scrubber_borax_rate;
+	public static int radiation_scrubber_time_budget;
 	
 	public static boolean radiation_shielding_default_recipes;
 	public static String[] radiation_shielding_item_blacklist;
@@ -304,13 +306,17 @@ public class NCConfig {
 	public static String[] ore_dict_priority;
 	
 	public static void preInit() {
-		File configFile = new File(Loader.instance().getConfigDir(), "nuclearcraft.cfg");
-		config = new Configuration(configFile);
-		syncFromFiles();
+		load(new File(Loader.instance().getConfigDir(), "nuclearcraft.cfg"));
 		
 		MinecraftForge.EVENT_BUS.register(new ServerConfigEventHandler());
 	}
 	
+	/** Reads the config from the given file, writing any missing entries with their defaults */
+	public static void load(File configFile) {
+		config = new Configuration(configFile);
+		syncFromFiles();
+	}
+	
 	public static Configuration getConfig() {
 		return config;
 	}
@@ -707,6 +713,8 @@ public class NCConfig {
 		propertyRadiationScrubberPower.setLanguageKey("gui.config.radiation.radiation_scrubber_power");
 		Property propertyRadiationScrubberBoraxRate = config.get(CATEGORY_RADIATION, "radiation_scrubber_borax_rate", 0, Lang.localise("gui.config.radiation.radiation_scrubber_borax_rate.comment"), 0, 100);
 		propertyRadiationScrubberBoraxRate.setLanguageKey("gui.config.radiation.radiation_scrubber_borax_rate");
+		Property propertyRadiationScrubberTimeBudget = config.get(CATEGORY_RADIATION, "radiation_scrubber_time_budget", 100, Lang.localise("gui.config.radiation.radiation_scrubber_time_budget.comment"), 0, 50000);
+		propertyRadiationScrubberTimeBudget.setLanguageKey("gui.config.radiation.radiation_scrubber_time_budget");
 		
 		Property propertyRadiationShieldingDefaultRecipes = config.get(CATEGORY_RADIATION, "radiation_shielding_default_recipes", true, Lang.localise("gui.config.radiation.radiation_shielding_default_recipes.comment"));
 		propertyRadiationShieldingDefaultRecipes.setLanguageKey("gui.config.radiation.radiation_shielding_default_recipes");
@@ -1034,6 +1042,7 @@ public class NCConfig {
 		propertyOrderRadiation.add(propertyRadiationScrubberRate.getName());
 		propertyOrderRadiation.add(propertyRadiationScrubberPower.getName());
 		propertyOrderRadiation.add(propertyRadiationScrubberBoraxRate.getName());
+		propertyOrderRadiation.add(propertyRadiationScrubberTimeBudget.getName());
 		propertyOrderRadiation.add(propertyRadiationShieldingDefaultRecipes.getName());
 		propertyOrderRadiation.add(propertyRadiationShieldingItemBlacklist.getName());
 		propertyOrderRadiation.add(propertyRadiationShieldingCustomStacks.getName());
@@ -1284,6 +1293,7 @@ public class NCConfig {
 			radiation_scrubber_fraction = propertyRadiationScrubberRate.getDouble();
 			radiation_scrubber_power = propertyRadiationScrubberPower.getInt();
 			radiation_scrubber_borax_rate = propertyRadiationScrubberBoraxRate.getInt();
+			radiation_scrubber_time_budget = propertyRadiationScrubberTimeBudget.getInt();
 			
 			radiation_shielding_default_recipes = propertyRadiationShieldingDefaultRecipes.getBoolean();
 			radiation_shielding_item_blacklist = propertyRadiationShieldingItemBlacklist.getStringList();
@@ -1538,6 +1548,7 @@ public class NCConfig {
 		propertyRadiationScrubberRate.set(radiation_scrubber_fraction);
 		propertyRadiationScrubberPower.set(radiation_scrubber_power);
 		propertyRadiationScrubberBoraxRate.set(radiation_scrubber_borax_rate);
+		propertyRadiationScrubberTimeBudget.set(radiation_scrubber_time_budget);
 		
 		propertyRadiationShieldingDefaultRecipes.set(radiation_shielding_default_recipes);
 		propertyRadiationShieldingItemBlacklist.set(radiation_shielding_item_blacklist);
@@ -1591,6 +1602,7 @@ public class NCConfig {
 		if (setFromConfig) {
 			radiation_enabled_public = radiation_enabled;
 			radiation_horse_armor_public = radiation_horse_armor;
+			OreGenerator.refreshOreDims();
 		}
 		
 		if (config.hasChanged()) config.save();
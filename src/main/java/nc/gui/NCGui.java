@@ -53,6 +53,10 @@ public abstract class NCGui extends GuiContainer {
 		return Lists.newArrayList(TextFormatting.GREEN + fluidName + TextFormatting.WHITE + " [" + fluidAmount + "]", TextFormatting.ITALIC + Lang.localise("gui.container.shift_clear_tank"));
 	}
 	
+	public void drawFluidTooltip(Tank tank, int mouseX, int mouseY, int x, int y, int width, int height) {
+		drawFluidTooltip(tank.peekFluid(), tank, mouseX, mouseY, x, y, width, height);
+	}
+	
 	public void drawFluidTooltip(FluidStack fluid, Tank tank, int mouseX, int mouseY, int x, int y, int width, int height) {
 		if (fluid == null) return;
 		if (fluid.amount <= 0) return;
@@ -61,7 +61,7 @@ public class GuiFissionController extends NCGui {
 	
 	@Override
 	public List<String> energyInfo(ITileEnergy tile) {
-		String energy = UnitHelper.prefix(tile.getEnergyStorage().getEnergyStored(), tile.getEnergyStorage().getMaxEnergyStored(), 6, "RF");
+		String energy = UnitHelper.prefix(tile.getEnergyStorage().getEnergyStoredLong(), tile.getEnergyStorage().getMaxEnergyStoredLong(), 6, "RF");
 		String power = UnitHelper.prefix((int)this.tile.processPower, 6, "RF/t");
 		String efficiency = NCMath.round(this.tile.efficiency, 1) + "%";
 		if (this.tile.getFuelName().equals(TileFissionController.NO_FUEL) || this.tile.cells == 0) return Lists.newArrayList(TextFormatting.LIGHT_PURPLE + Lang.localise("gui.container.energy_stored") + TextFormatting.WHITE + " " + energy, TextFormatting.LIGHT_PURPLE + Lang.localise("gui.container.power_gen") + TextFormatting.WHITE + " " + power, TextFormatting.LIGHT_PURPLE + Lang.localise("gui.container.fission_controller.efficiency") + TextFormatting.WHITE + " " + efficiency);
@@ -88,7 +88,7 @@ public class GuiFissionController extends NCGui {
 		mc.getTextureManager().bindTexture(gui_textures);
 		drawTexturedModalRect(guiLeft, guiTop, 0, 0, xSize, ySize);
 		
-		double e = Math.round(((double) tile.getEnergyStorage().getEnergyStored()) / ((double) tile.getEnergyStorage().getMaxEnergyStored()) * 85);
+		double e = Math.round(((double) tile.getEnergyStorage().getEnergyStoredLong()) / ((double) tile.getEnergyStorage().getMaxEnergyStoredLong()) * 85);
 		drawTexturedModalRect(guiLeft + 8, guiTop + 6 + 85 - (int) e, 176, 90 + 85 - (int) e, 6, (int) e);
 		
 		double h = Math.round(((double) tile.heat) / ((double) tile.getMaxHeat()) * 85);
@@ -13,7 +13,6 @@ import nc.gui.NCGuiButton;
 import nc.gui.NCGuiToggleButton;
 import nc.network.PacketHandler;
 import nc.network.gui.EmptyTankButtonPacket;
-import nc.network.gui.GetFluidInTankPacket;
 import nc.network.gui.ToggleAlternateComparatorButtonPacket;
 import nc.network.gui.ToggleTanksEmptyUnusableButtonPacket;
 import nc.network.gui.ToggleTanksSharedButtonPacket;
@@ -33,10 +32,6 @@ import net.minecraftforge.fluids.FluidStack;
 
 public class GuiFusionCore extends NCGui {
 	
-	public static int tick;
-	
-	public static FluidStack fluid0, fluid1, fluid2, fluid3, fluid4, fluid5, fluid6, fluid7 = null;
-	
 	private final InventoryPlayer playerInventory;
 	protected TileFusionCore tile;
 	protected final ResourceLocation gui_textures;
@@ -57,12 +52,12 @@ public class GuiFusionCore extends NCGui {
 		drawTooltip(Lang.localise("gui.container.void_outputs"), mouseX, mouseY, 171, 142, 18, 18);
 		drawTooltip(Lang.localise("gui.container.comparator_mode"), mouseX, mouseY, 171, 162, 18, 18);
 		
-		drawFluidTooltip(fluid0, tile.getTanks().get(0), mouseX, mouseY, 38, 6, 6, 46);
-		drawFluidTooltip(fluid1, tile.getTanks().get(1), mouseX, mouseY, 38, 55, 6, 46);
-		drawFluidTooltip(fluid2, tile.getTanks().get(2), mouseX, mouseY, 172, 6, 6, 46);
-		drawFluidTooltip(fluid3, tile.getTanks().get(3), mouseX, mouseY, 182, 6, 6, 46);
-		drawFluidTooltip(fluid4, tile.getTanks().get(4), mouseX, mouseY, 172, 55, 6, 46);
-		drawFluidTooltip(fluid5, tile.getTanks().get(5), mouseX, mouseY, 182, 55, 6, 46);
+		drawFluidTooltip(tile.getTanks().get(0), mouseX, mouseY, 38, 6, 6, 46);
+		drawFluidTooltip(tile.getTanks().get(1), mouseX, mouseY, 38, 55, 6, 46);
+		drawFluidTooltip(tile.getTanks().get(2), mouseX, mouseY, 172, 6, 6, 46);
+		drawFluidTooltip(tile.getTanks().get(3), mouseX, mouseY, 182, 6, 6, 46);
+		drawFluidTooltip(tile.getTanks().get(4), mouseX, mouseY, 172, 55, 6, 46);
+		drawFluidTooltip(tile.getTanks().get(5), mouseX, mouseY, 182, 55, 6, 46);
 		
 		drawEnergyTooltip(tile, mouseX, mouseY, 8, 6, 6, 95);
 		drawHeatTooltip(mouseX, mouseY, 18, 6, 6, 95);
@@ -84,8 +79,8 @@ public class GuiFusionCore extends NCGui {
 		fontRenderer.drawString(heat, 108 - widthHalf(heat), 54, fontColor);
 		String efficiency = Lang.localise("gui.container.fusion_core.efficiency") + " " + ((int) tile.efficiency) + "%";
 		fontRenderer.drawString(efficiency, 108 - widthHalf(efficiency), 65, fontColor);
-		String input1 = fluid0 != null ? fluid0.getLocalizedName() : (fluid6 != null ? fluid6.getLocalizedName() : TileFusionCore.NO_FUEL);
-		String input2 = fluid1 != null ? fluid1.getLocalizedName() : (fluid7 != null ? fluid7.getLocalizedName() : TileFusionCore.NO_FUEL);
+		String input1 = getFuelName(0, 6);
+		String input2 = getFuelName(1, 7);
 		fontRenderer.drawString(input1, 108 - widthHalf(input1), 76, fontColor);
 		fontRenderer.drawString(input2, 108 - widthHalf(input2), 87, fontColor);
 	}
@@ -134,22 +129,22 @@ public class GuiFusionCore extends NCGui {
 		double efficiency = Math.round((tile.efficiency / 100D) * 95D);
 		drawTexturedModalRect(guiLeft + 28, guiTop + 6 + 95 - (int) efficiency, 208, 90 + 95 - (int) efficiency, 6, (int) efficiency);
 		
-		tick++;
-		tick %= 5;
-		
-		if (tick == 0) sendTankInfo();
-		
-		GuiFluidRenderer.renderGuiTank(fluid0, tile.getTanks().get(0).getCapacity(), guiLeft + 38, guiTop + 6, zLevel, 6, 46);
-		GuiFluidRenderer.renderGuiTank(fluid1, tile.getTanks().get(1).getCapacity(), guiLeft + 38, guiTop + 55, zLevel, 6, 46);
-		GuiFluidRenderer.renderGuiTank(fluid2, tile.getTanks().get(2).getCapacity(), guiLeft + 172, guiTop + 6, zLevel, 6, 46);
-		GuiFluidRenderer.renderGuiTank(fluid3, tile.getTanks().get(3).getCapacity(), guiLeft + 182, guiTop + 6, zLevel, 6, 46);
-		GuiFluidRenderer.renderGuiTank(fluid4, tile.getTanks().get(4).getCapacity(), guiLeft + 172, guiTop + 55, zLevel, 6, 46);
-		GuiFluidRenderer.renderGuiTank(fluid5, tile.getTanks().get(5).getCapacity(), guiLeft + 182, guiTop + 55, zLevel, 6, 46);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(0), guiLeft + 38, guiTop + 6, zLevel, 6, 46);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(1), guiLeft + 38, guiTop + 55, zLevel, 6, 46);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(2), guiLeft + 172, guiTop + 6, zLevel, 6, 46);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(3), guiLeft + 182, guiTop + 6, zLevel, 6, 46);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(4), guiLeft + 172, guiTop + 55, zLevel, 6, 46);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(5), guiLeft + 182, guiTop + 55, zLevel, 6, 46);
+	}
+	
+	private String getFuelName(int tank, int fallbackTank) {
+		FluidStack fuel = tile.getTanks().get(tank).peekFluid();
+		if (fuel == null) fuel = tile.getTanks().get(fallbackTank).peekFluid();
+		return fuel != null ? fuel.getLocalizedName() : TileFusionCore.NO_FUEL;
 	}
 	
 	@Override
 	public void initGui() {
-		sendTankInfo();
 		super.initGui();
 		buttonList.add(new NCGuiButton.EmptyTankButton(0, guiLeft + 38, guiTop + 6, 6, 46));
 		buttonList.add(new NCGuiButton.EmptyTankButton(1, guiLeft + 38, guiTop + 55, 6, 46));
@@ -187,15 +182,4 @@ public class GuiFusionCore extends NCGui {
 			}
 		}
 	}
-	
-	protected void sendTankInfo() {
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 0, "nc.gui.generator.GuiFusionCore", "fluid0"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 1, "nc.gui.generator.GuiFusionCore", "fluid1"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 2, "nc.gui.generator.GuiFusionCore", "fluid2"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 3, "nc.gui.generator.GuiFusionCore", "fluid3"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 4, "nc.gui.generator.GuiFusionCore", "fluid4"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 5, "nc.gui.generator.GuiFusionCore", "fluid5"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 6, "nc.gui.generator.GuiFusionCore", "fluid6"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 7, "nc.gui.generator.GuiFusionCore", "fluid7"));
-	}
 }
@@ -7,16 +7,12 @@ import nc.gui.NCGuiButton;
 import nc.init.NCItems;
 import nc.network.PacketHandler;
 import nc.network.gui.EmptyTankButtonPacket;
-import nc.network.gui.GetFluidInTankPacket;
 import nc.tile.processor.TileFluidProcessor;
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraftforge.fluids.FluidStack;
 
 public class GuiChemicalReactor extends GuiFluidProcessor {
 	
-	public static FluidStack fluid0, fluid1, fluid2, fluid3 = null;
-
 	public GuiChemicalReactor(EntityPlayer player, TileFluidProcessor tile) {
 		super("chemical_reactor", player, new ContainerChemicalReactor(player, tile));
 		this.tile = tile;
@@ -26,10 +22,10 @@ public class GuiChemicalReactor extends GuiFluidProcessor {
 	
 	@Override
 	public void renderTooltips(int mouseX, int mouseY) {
-		drawFluidTooltip(fluid0, tile.getTanks().get(0), mouseX, mouseY, 32, 35, 16, 16);
-		drawFluidTooltip(fluid1, tile.getTanks().get(1), mouseX, mouseY, 52, 35, 16, 16);
-		drawFluidTooltip(fluid2, tile.getTanks().get(2), mouseX, mouseY, 108, 31, 24, 24);
-		drawFluidTooltip(fluid3, tile.getTanks().get(3), mouseX, mouseY, 136, 31, 24, 24);
+		drawFluidTooltip(tile.getTanks().get(0), mouseX, mouseY, 32, 35, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(1), mouseX, mouseY, 52, 35, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(2), mouseX, mouseY, 108, 31, 24, 24);
+		drawFluidTooltip(tile.getTanks().get(3), mouseX, mouseY, 136, 31, 24, 24);
 		
 		drawEnergyTooltip(tile, mouseX, mouseY, 8, 6, 16, 74);
 	}
@@ -52,12 +48,10 @@ public class GuiChemicalReactor extends GuiFluidProcessor {
 		int k = getCookProgressScaled(37);
 		drawTexturedModalRect(guiLeft + 70, guiTop + 34, 176, 3, k, 18);
 		
-		if (tick == 0) sendTankInfo();
-		
-		GuiFluidRenderer.renderGuiTank(fluid0, tile.getTanks().get(0).getCapacity(), guiLeft + 32, guiTop + 35, zLevel, 16, 16);
-		GuiFluidRenderer.renderGuiTank(fluid1, tile.getTanks().get(1).getCapacity(), guiLeft + 52, guiTop + 35, zLevel, 16, 16);
-		GuiFluidRenderer.renderGuiTank(fluid2, tile.getTanks().get(2).getCapacity(), guiLeft + 108, guiTop + 31, zLevel, 24, 24);
-		GuiFluidRenderer.renderGuiTank(fluid3, tile.getTanks().get(3).getCapacity(), guiLeft + 136, guiTop + 31, zLevel, 24, 24);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(0), guiLeft + 32, guiTop + 35, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(1), guiLeft + 52, guiTop + 35, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(2), guiLeft + 108, guiTop + 31, zLevel, 24, 24);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(3), guiLeft + 136, guiTop + 31, zLevel, 24, 24);
 	}
 	
 	@Override
@@ -77,12 +71,4 @@ public class GuiChemicalReactor extends GuiFluidProcessor {
 			}
 		}
 	}
-	
-	@Override
-	protected void sendTankInfo() {
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 0, "nc.gui.processor.GuiChemicalReactor", "fluid0"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 1, "nc.gui.processor.GuiChemicalReactor", "fluid1"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 2, "nc.gui.processor.GuiChemicalReactor", "fluid2"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 3, "nc.gui.processor.GuiChemicalReactor", "fluid3"));
-	}
 }
@@ -7,16 +7,12 @@ import nc.gui.NCGuiButton;
 import nc.init.NCItems;
 import nc.network.PacketHandler;
 import nc.network.gui.EmptyTankButtonPacket;
-import nc.network.gui.GetFluidInTankPacket;
 import nc.tile.processor.TileItemFluidProcessor;
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraftforge.fluids.FluidStack;
 
 public class GuiDissolver extends GuiItemFluidProcessor {
 	
-	public static FluidStack fluid0, fluid1 = null;
-	
 	public GuiDissolver(EntityPlayer player, TileItemFluidProcessor tile) {
 		super("dissolver", player, new ContainerDissolver(player, tile));
 		this.tile = tile;
@@ -26,8 +22,8 @@ public class GuiDissolver extends GuiItemFluidProcessor {
 	
 	@Override
 	public void renderTooltips(int mouseX, int mouseY) {
-		drawFluidTooltip(fluid0, tile.getTanks().get(0), mouseX, mouseY, 66, 35, 16, 16);
-		drawFluidTooltip(fluid1, tile.getTanks().get(1), mouseX, mouseY, 122, 31, 24, 24);
+		drawFluidTooltip(tile.getTanks().get(0), mouseX, mouseY, 66, 35, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(1), mouseX, mouseY, 122, 31, 24, 24);
 		
 		drawEnergyTooltip(tile, mouseX, mouseY, 8, 6, 16, 74);
 	}
@@ -50,10 +46,8 @@ public class GuiDissolver extends GuiItemFluidProcessor {
 		int k = getCookProgressScaled(37);
 		drawTexturedModalRect(guiLeft + 84, guiTop + 35, 176, 3, k, 18);
 		
-		if (tick == 0) sendTankInfo();
-		
-		GuiFluidRenderer.renderGuiTank(fluid0, tile.getTanks().get(0).getCapacity(), guiLeft + 66, guiTop + 35, zLevel, 16, 16);
-		GuiFluidRenderer.renderGuiTank(fluid1, tile.getTanks().get(1).getCapacity(), guiLeft + 122, guiTop + 31, zLevel, 24, 24);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(0), guiLeft + 66, guiTop + 35, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(1), guiLeft + 122, guiTop + 31, zLevel, 24, 24);
 	}
 	
 	@Override
@@ -71,10 +65,4 @@ public class GuiDissolver extends GuiItemFluidProcessor {
 			}
 		}
 	}
-	
-	@Override
-	protected void sendTankInfo() {
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 0, "nc.gui.processor.GuiDissolver", "fluid0"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 1, "nc.gui.processor.GuiDissolver", "fluid1"));
-	}
 }
@@ -7,16 +7,12 @@ import nc.gui.NCGuiButton;
 import nc.init.NCItems;
 import nc.network.PacketHandler;
 import nc.network.gui.EmptyTankButtonPacket;
-import nc.network.gui.GetFluidInTankPacket;
 import nc.tile.processor.TileFluidProcessor;
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraftforge.fluids.FluidStack;
 
 public class GuiElectrolyser extends GuiFluidProcessor {
 	
-	public static FluidStack fluid0, fluid1, fluid2, fluid3, fluid4 = null;
-	
 	public GuiElectrolyser(EntityPlayer player, TileFluidProcessor tile) {
 		super("electrolyser", player, new ContainerElectrolyser(player, tile));
 		this.tile = tile;
@@ -26,11 +22,11 @@ public class GuiElectrolyser extends GuiFluidProcessor {
 	
 	@Override
 	public void renderTooltips(int mouseX, int mouseY) {
-		drawFluidTooltip(fluid0, tile.getTanks().get(0), mouseX, mouseY, 50, 41, 16, 16);
-		drawFluidTooltip(fluid1, tile.getTanks().get(1), mouseX, mouseY, 106, 31, 16, 16);
-		drawFluidTooltip(fluid2, tile.getTanks().get(2), mouseX, mouseY, 126, 31, 16, 16);
-		drawFluidTooltip(fluid3, tile.getTanks().get(3), mouseX, mouseY, 106, 51, 16, 16);
-		drawFluidTooltip(fluid4, tile.getTanks().get(4), mouseX, mouseY, 126, 51, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(0), mouseX, mouseY, 50, 41, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(1), mouseX, mouseY, 106, 31, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(2), mouseX, mouseY, 126, 31, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(3), mouseX, mouseY, 106, 51, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(4), mouseX, mouseY, 126, 51, 16, 16);
 		
 		drawEnergyTooltip(tile, mouseX, mouseY, 8, 6, 16, 86);
 	}
@@ -53,13 +49,11 @@ public class GuiElectrolyser extends GuiFluidProcessor {
 		int k = getCookProgressScaled(37);
 		drawTexturedModalRect(guiLeft + 68, guiTop + 30, 176, 3, k, 38);
 		
-		if (tick == 0) sendTankInfo();
-		
-		GuiFluidRenderer.renderGuiTank(fluid0, tile.getTanks().get(0).getCapacity(), guiLeft + 50, guiTop + 41, zLevel, 16, 16);
-		GuiFluidRenderer.renderGuiTank(fluid1, tile.getTanks().get(1).getCapacity(), guiLeft + 106, guiTop + 31, zLevel, 16, 16);
-		GuiFluidRenderer.renderGuiTank(fluid2, tile.getTanks().get(2).getCapacity(), guiLeft + 126, guiTop + 31, zLevel, 16, 16);
-		GuiFluidRenderer.renderGuiTank(fluid3, tile.getTanks().get(3).getCapacity(), guiLeft + 106, guiTop + 51, zLevel, 16, 16);
-		GuiFluidRenderer.renderGuiTank(fluid4, tile.getTanks().get(4).getCapacity(), guiLeft + 126, guiTop + 51, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(0), guiLeft + 50, guiTop + 41, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(1), guiLeft + 106, guiTop + 31, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(2), guiLeft + 126, guiTop + 31, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(3), guiLeft + 106, guiTop + 51, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(4), guiLeft + 126, guiTop + 51, zLevel, 16, 16);
 	}
 	
 	@Override
@@ -80,13 +74,4 @@ public class GuiElectrolyser extends GuiFluidProcessor {
 			}
 		}
 	}
-	
-	@Override
-	protected void sendTankInfo() {
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 0, "nc.gui.processor.GuiElectrolyser", "fluid0"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 1, "nc.gui.processor.GuiElectrolyser", "fluid1"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 2, "nc.gui.processor.GuiElectrolyser", "fluid2"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 3, "nc.gui.processor.GuiElectrolyser", "fluid3"));
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 4, "nc.gui.processor.GuiElectrolyser", "fluid4"));
-	}
 }
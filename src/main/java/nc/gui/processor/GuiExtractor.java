@@ -7,16 +7,12 @@ import nc.gui.NCGuiButton;
 import nc.init.NCItems;
 import nc.network.PacketHandler;
 import nc.network.gui.EmptyTankButtonPacket;
-import nc.network.gui.GetFluidInTankPacket;
 import nc.tile.processor.TileItemFluidProcessor;
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraftforge.fluids.FluidStack;
 
 public class GuiExtractor extends GuiItemFluidProcessor {
 	
-	public static FluidStack fluid0 = null;
-	
 	public GuiExtractor(EntityPlayer player, TileItemFluidProcessor tile) {
 		super("extractor", player, new ContainerExtractor(player, tile));
 		this.tile = tile;
@@ -26,7 +22,7 @@ public class GuiExtractor extends GuiItemFluidProcessor {
 	
 	@Override
 	public void renderTooltips(int mouseX, int mouseY) {
-		drawFluidTooltip(fluid0, tile.getTanks().get(0), mouseX, mouseY, 126, 31, 24, 24);
+		drawFluidTooltip(tile.getTanks().get(0), mouseX, mouseY, 126, 31, 24, 24);
 		
 		drawEnergyTooltip(tile, mouseX, mouseY, 8, 6, 16, 74);
 	}
@@ -49,9 +45,7 @@ public class GuiExtractor extends GuiItemFluidProcessor {
 		int k = getCookProgressScaled(37);
 		drawTexturedModalRect(guiLeft + 60, guiTop + 34, 176, 3, k, 18);
 		
-		if (tick == 0) sendTankInfo();
-		
-		GuiFluidRenderer.renderGuiTank(fluid0, tile.getTanks().get(0).getCapacity(), guiLeft + 126, guiTop + 31, zLevel, 24, 24);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(0), guiLeft + 126, guiTop + 31, zLevel, 24, 24);
 	}
 	
 	@Override
@@ -68,9 +62,4 @@ public class GuiExtractor extends GuiItemFluidProcessor {
 			}
 		}
 	}
-	
-	@Override
-	protected void sendTankInfo() {
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 0, "nc.gui.processor.GuiExtractor", "fluid0"));
-	}
 }
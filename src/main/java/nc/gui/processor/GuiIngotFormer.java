@@ -7,16 +7,12 @@ import nc.gui.NCGuiButton;
 import nc.init.NCItems;
 import nc.network.PacketHandler;
 import nc.network.gui.EmptyTankButtonPacket;
-import nc.network.gui.GetFluidInTankPacket;
 import nc.tile.processor.TileItemFluidProcessor;
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraftforge.fluids.FluidStack;
 
 public class GuiIngotFormer extends GuiItemFluidProcessor {
 	
-	public static FluidStack fluid0 = null;
-
 	public GuiIngotFormer(EntityPlayer player, TileItemFluidProcessor tile) {
 		super("ingot_former", player, new ContainerIngotFormer(player, tile));
 		this.tile = tile;
@@ -26,7 +22,7 @@ public class GuiIngotFormer extends GuiItemFluidProcessor {
 	
 	@Override
 	public void renderTooltips(int mouseX, int mouseY) {
-		drawFluidTooltip(fluid0, tile.getTanks().get(0), mouseX, mouseY, 56, 35, 16, 16);
+		drawFluidTooltip(tile.getTanks().get(0), mouseX, mouseY, 56, 35, 16, 16);
 		
 		drawEnergyTooltip(tile, mouseX, mouseY, 8, 6, 16, 74);
 	}
@@ -49,9 +45,7 @@ public class GuiIngotFormer extends GuiItemFluidProcessor {
 		int k = getCookProgressScaled(37);
 		drawTexturedModalRect(guiLeft + 74, guiTop + 35, 176, 3, k, 16);
 		
-		if (tick == 0) sendTankInfo();
-		
-		GuiFluidRenderer.renderGuiTank(fluid0, tile.getTanks().get(0).getCapacity(), guiLeft + 56, guiTop + 35, zLevel, 16, 16);
+		GuiFluidRenderer.renderGuiTank(tile.getTanks().get(0), guiLeft + 56, guiTop + 35, zLevel, 16, 16);
 	}
 	
 	@Override
@@ -68,9 +62,4 @@ public class GuiIngotFormer extends GuiItemFluidProcessor {
 			}
 		}
 	}
-	
-	@Override
-	protected void sendTankInfo() {
-		PacketHandler.instance.sendToServer(new GetFluidInTankPacket(tile.getPos(), 0, "nc.gui.processor.GuiIngotFormer", "fluid0"));
-	}
 }
@@ -22,8 +22,6 @@ import net.minecraft.util.text.TextFormatting;
 
 public abstract class GuiItemFluidProcessor extends NCGui {
 	
-	public static int tick;
-	
 	private final InventoryPlayer playerInventory;
 	protected TileItemFluidProcessor tile;
 	protected final ResourceLocation gui_textures;
@@ -34,12 +32,6 @@ public abstract class GuiItemFluidProcessor extends NCGui {
 		gui_textures = new ResourceLocation(Global.MOD_ID + ":textures/gui/container/" + name + ".png");
 	}
 	
-	@Override
-	public void initGui() {
-		sendTankInfo();
-		super.initGui();
-	}
-
 	@Override
 	protected void drawGuiContainerForegroundLayer(int mouseX, int mouseY) {
 		String s = tile.getDisplayName().getUnformattedText();
@@ -51,9 +43,6 @@ public abstract class GuiItemFluidProcessor extends NCGui {
 		GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
 		mc.getTextureManager().bindTexture(gui_textures);
 		drawTexturedModalRect(guiLeft, guiTop, 0, 0, xSize, ySize);
-		
-		tick++;
-		tick %= 5;
 	}
 	
 	protected int getCookProgressScaled(double pixels) {
@@ -85,6 +74,4 @@ public abstract class GuiItemFluidProcessor extends NCGui {
 		String powerMultiplier = "x" + NCMath.round(this.tile.getPowerMultiplier(), 2);
 		return Lists.newArrayList(TextFormatting.LIGHT_PURPLE + Lang.localise("gui.container.energy_stored") + TextFormatting.WHITE + " " + energy, TextFormatting.LIGHT_PURPLE + Lang.localise("gui.container.process_power") + TextFormatting.WHITE + " " + power, TextFormatting.AQUA + Lang.localise("gui.container.speed_multiplier") + TextFormatting.WHITE + " " + speedMultiplier, TextFormatting.AQUA + Lang.localise("gui.container.power_multiplier") + TextFormatting.WHITE + " " + powerMultiplier);
 	}
-	
-	protected abstract void sendTankInfo();
 }
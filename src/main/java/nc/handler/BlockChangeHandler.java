@@ -0,0 +1,68 @@
+package nc.handler;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/** Forwards server-side block state changes to tiles that cache information about nearby blocks. */
+public class BlockChangeHandler {
+	
+	private static final Map<World, Set<IBlockChangeListener>> LISTENERS = new WeakHashMap<World, Set<IBlockChangeListener>>();
+	
+	public interface IBlockChangeListener {
+		
+		public void onBlockChanged(BlockPos pos, IBlockState oldState, IBlockState newState);
+	}
+	
+	public static void addListener(World world, IBlockChangeListener listener) {
+		if (world == null || world.isRemote) return;
+		Set<IBlockChangeListener> listeners = LISTENERS.get(world);
+		if (listeners == null) {
+			listeners = Collections.newSetFromMap(new WeakHashMap<IBlockChangeListener, Boolean>());
+			LISTENERS.put(world, listeners);
+		}
+		listeners.add(listener);
+	}
+	
+	public static void removeListener(World world, IBlockChangeListener listener) {
+		if (world == null) return;
+		Set<IBlockChangeListener> listeners = LISTENERS.get(world);
+		if (listeners != null) listeners.remove(listener);
+	}
+	
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		World world = event.getWorld();
+		if (!world.isRemote) world.addEventListener(new WorldListener(world));
+	}
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		LISTENERS.remove(event.getWorld());
+	}
+	
+	private static class WorldListener extends WorldEventListenerAdapter {
+		
+		private final World world;
+		
+		private WorldListener(World world) {
+			this.world = world;
+		}
+		
+		@Override
+		public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+			// Tiles resend their data through here with an unchanged state
+			if (oldState == newState) return;
+			Set<IBlockChangeListener> listeners = LISTENERS.get(world);
+			if (listeners == null || listeners.isEmpty()) return;
+			for (IBlockChangeListener listener : listeners) listener.onBlockChanged(pos, oldState, newState);
+		}
+	}
+}
@@ -2,10 +2,13 @@ package nc.handler;
 
 import nc.init.NCBlocks;
 import nc.init.NCItems;
+import nc.radiation.RadSources;
+import nc.util.OreDictHelper;
 import nc.worldgen.ore.OreGenerator;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.oredict.OreDictionary;
 
 public class OreDictHandler {
@@ -449,5 +452,10 @@ public class OreDictHandler {
 		OreDictionary.registerOre("wool", new ItemStack(Blocks.WOOL, 1, OreDictionary.WILDCARD_VALUE));
 		
 	}
-
+	
+	@SubscribeEvent
+	public void onOreRegister(OreDictionary.OreRegisterEvent event) {
+		OreDictHelper.invalidateOreCache();
+		RadSources.onOreRegistered(event.getName(), event.getOre());
+	}
 }
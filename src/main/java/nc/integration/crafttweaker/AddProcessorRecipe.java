@@ -141,13 +141,14 @@ public class AddProcessorRecipe implements IAction {
 		if (recipe == null) wasNull = true;
 	}
 	
+	/** The addition is queued and applied together with the other script changes to the same recipe handler */
 	@Override
 	public void apply() {
-		if (!wasNull && !wrongSize) {
-			boolean added = recipeType.getRecipeHandler().addRecipe(recipe);
-			if (added) return;
+		if (wasNull || wrongSize) {
+			callError();
+			return;
 		}
-		callError();
+		recipeType.getRecipeHandler().queueRecipeAddition(recipe);
 	}
 	
 	@Override
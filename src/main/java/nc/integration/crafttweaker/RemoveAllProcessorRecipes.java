@@ -14,7 +14,7 @@ public class RemoveAllProcessorRecipes implements IAction {
 	
 	@Override
 	public void apply() {
-		recipeType.getRecipeHandler().removeAllRecipes();
+		recipeType.getRecipeHandler().queueRemoveAllRecipes();
 	}
 	
 	@Override
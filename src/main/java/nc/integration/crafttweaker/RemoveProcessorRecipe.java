@@ -7,7 +7,6 @@ import crafttweaker.CraftTweakerAPI;
 import crafttweaker.IAction;
 import crafttweaker.api.item.IIngredient;
 import nc.recipe.NCRecipes;
-import nc.recipe.ProcessorRecipe;
 import nc.recipe.IngredientSorption;
 import nc.recipe.ingredient.IFluidIngredient;
 import nc.recipe.ingredient.IItemIngredient;
@@ -20,7 +19,6 @@ public class RemoveProcessorRecipe implements IAction {
 	public List<IItemIngredient> itemIngredients;
 	public List<IFluidIngredient> fluidIngredients;
 	public IngredientSorption type;
-	public ProcessorRecipe recipe;
 	public boolean wasNull, wrongSize;
 	public final NCRecipes.Type recipeType;
 
@@ -44,7 +42,7 @@ public class RemoveProcessorRecipe implements IAction {
 			}
 			itemIngredients.add(ingredient);
 		}
-		for (int i = itemSize; i < fluidSize; i++) {
+		for (int i = itemSize; i < itemSize + fluidSize; i++) {
 			IFluidIngredient ingredient = CTMethods.buildRemovalFluidIngredient(ctIngredients.get(i), recipeType);
 			if (ingredient == null) {
 				wasNull = true;
@@ -55,34 +53,35 @@ public class RemoveProcessorRecipe implements IAction {
 
 		this.itemIngredients = itemIngredients;
 		this.fluidIngredients = fluidIngredients;
-		this.recipe = type == IngredientSorption.INPUT ? recipeType.getRecipeHandler().getRecipeFromIngredients(itemIngredients, fluidIngredients) : recipeType.getRecipeHandler().getRecipeFromProducts(itemIngredients, fluidIngredients);
-		if (recipe == null) wasNull = true;
 	}
 	
+	/** The removal is queued and applied together with the other script changes to the same recipe handler */
 	@Override
 	public void apply() {
-		if (!wasNull && !wrongSize) {
-			boolean removed = recipeType.getRecipeHandler().removeRecipe(recipe);
-			if (removed) {
-				while (removed) {
-					recipe = type == IngredientSorption.INPUT ? recipeType.getRecipeHandler().getRecipeFromIngredients(itemIngredients, fluidIngredients) : recipeType.getRecipeHandler().getRecipeFromProducts(itemIngredients, fluidIngredients);
-					removed = recipeType.getRecipeHandler().removeRecipe(recipe);
-				}
-				return;
-			}
+		if (wasNull || wrongSize) {
+			callError();
+			return;
 		}
-		callError();
+		recipeType.getRecipeHandler().queueRecipeRemoval(type, itemIngredients, fluidIngredients, removed -> {
+			if (removed > 0) return;
+			CraftTweakerAPI.logError(getFailureMessage());
+			callError();
+		});
 	}
 	
 	@Override
 	public String describe() {
 		if (wasNull || wrongSize) {
-			return String.format("Error: Failed to remove %s recipe with %s as the " + (type == IngredientSorption.INPUT ? "input" : "output"), recipeType.getRecipeName(), RecipeHelper.getAllIngredientNamesConcat(itemIngredients, fluidIngredients));
+			return "Error: " + getFailureMessage();
 		}
-		if (type == IngredientSorption.INPUT) return String.format("Removing %s recipe: %s", recipeType.getRecipeName(), RecipeHelper.getRecipeString(recipe));
+		if (type == IngredientSorption.INPUT) return String.format("Removing %s recipes with input: %s", recipeType.getRecipeName(), RecipeHelper.getAllIngredientNamesConcat(itemIngredients, fluidIngredients));
 		else return String.format("Removing %s recipes for: %s", recipeType.getRecipeName(), RecipeHelper.getAllIngredientNamesConcat(itemIngredients, fluidIngredients));
 	}
 	
+	private String getFailureMessage() {
+		return String.format("Failed to remove %s recipe with %s as the " + (type == IngredientSorption.INPUT ? "input" : "output"), recipeType.getRecipeName(), RecipeHelper.getAllIngredientNamesConcat(itemIngredients, fluidIngredients));
+	}
+	
 	public static void callError() {
 		if (!hasErrored) CraftTweakerAPI.logError("At least one NuclearCraft CraftTweaker recipe removal method has errored - check the CraftTweaker log for more details");
 		hasErrored = true;
@@ -5,12 +5,15 @@ import java.util.LinkedList;
 import java.util.Random;
 import java.util.Set;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import nc.Global;
 import nc.NuclearCraft;
 import nc.multiblock.network.MultiblockUpdatePacket;
 import nc.multiblock.validation.IMultiblockValidator;
 import nc.multiblock.validation.ValidationError;
-import nc.network.PacketHandler;
+import nc.network.GuiUpdateTracker;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -77,6 +80,28 @@ public abstract class MultiblockBase<PACKET extends MultiblockUpdatePacket> impl
 	
 	protected Set<EntityPlayer> playersToUpdate;
 	
+	/**
+	 * Minimum number of ticks between updates sent to every player tracking the multiblock
+	 */
+	protected static final int BROADCAST_INTERVAL = 10;
+	
+	private long lastBroadcastTime = -BROADCAST_INTERVAL;
+	
+	/**
+	 * Set when a broadcast was held back by the rate limit, to be sent once it has passed
+	 */
+	private boolean isBroadcastPending;
+	
+	/**
+	 * Set when the data written by the save delegate has changed this tick
+	 */
+	private boolean isMultiblockDirty;
+	
+	/**
+	 * Chunks with changed data waiting to be marked dirty, keyed by ChunkPos.asLong
+	 */
+	private final LongSet dirtyChunks = new LongOpenHashSet();
+	
 	protected MultiblockBase(World world) {
 		// Multiblock stuff
 		WORLD = world;
@@ -413,6 +438,7 @@ public abstract class MultiblockBase<PACKET extends MultiblockUpdatePacket> impl
 		else {
 			onMachineAssembled();
 		}
+		markMultiblockDirty();
 	}
 	
 	/**
@@ -511,34 +537,26 @@ public abstract class MultiblockBase<PACKET extends MultiblockUpdatePacket> impl
 		}
 
 		if(this.assemblyState != AssemblyState.Assembled) {
-			// Not assembled - don't run game logic
+			// Not assembled - don't run game logic, but still send a held back update such as the one switching the machine off
+			if(!WORLD.isRemote && isBroadcastPending) {
+				sendUpdateToAllPlayers();
+			}
 			return;
 		}
 
 		if(WORLD.isRemote) {
 			updateClient();
 		}
-		else if(updateServer()) {
-			// If this returns true, the server has changed its internal data. 
-			// If our chunks are loaded (they should be), we must mark our chunks as dirty.
-			if(minimumCoord != null && maximumCoord != null &&
-				this.WORLD.isAreaLoaded(this.minimumCoord, this.maximumCoord)) {
-
-				int minChunkX = WorldHelper.getChunkXFromBlock(this.minimumCoord);
-				int minChunkZ = WorldHelper.getChunkZFromBlock(this.minimumCoord);
-				int maxChunkX = WorldHelper.getChunkXFromBlock(this.maximumCoord);
-				int maxChunkZ = WorldHelper.getChunkZFromBlock(this.maximumCoord);
-				
-				for(int x = minChunkX; x <= maxChunkX; x++) {
-					for(int z = minChunkZ; z <= maxChunkZ; z++) {
-						// Ensure that we save our data, even if the our save delegate is in has no TEs.
-						Chunk chunkToSave = this.WORLD.getChunkFromChunkCoords(x, z);
-						chunkToSave.markDirty();
-					}
-				}
+		else {
+			// If this returns true, the server has changed the data written by the save delegate.
+			if(updateServer()) {
+				markMultiblockDirty();
+			}
+			markDirtyChunks();
+			if(isBroadcastPending) {
+				sendUpdateToAllPlayers();
 			}
 		}
-		// Else: Server, but no need to save data.
 	}
 	
 	/**
@@ -547,9 +565,59 @@ public abstract class MultiblockBase<PACKET extends MultiblockUpdatePacket> impl
 	 * derived from MultiblockBase. This is a callback.
 	 * Note that this will only be called when the machine is assembled.
 	 * @return True if the multiblock should save data, i.e. its internal game state has changed. False otherwise.
+	 * Parts which save their own data should be passed to markPartDirty instead.
 	 */
 	protected abstract boolean updateServer();
 	
+	// Saving
+	
+	/**
+	 * Marks the data written by the save delegate as changed. Only the chunk
+	 * containing the save delegate will be marked dirty.
+	 */
+	protected void markMultiblockDirty() {
+		isMultiblockDirty = true;
+	}
+	
+	/**
+	 * Marks a part which saves its own data as changed. Only the chunk
+	 * containing the part will be marked dirty.
+	 */
+	protected void markPartDirty(IMultiblockPart part) {
+		BlockPos partPos = part.getWorldPosition();
+		if(partPos != null) {
+			dirtyChunks.add(WorldHelper.getChunkXZHashFromBlock(partPos));
+		}
+	}
+	
+	/**
+	 * Marks the changed chunks dirty once per tick. Chunks which are already
+	 * waiting to be saved are skipped, so repeated changes between saves are
+	 * coalesced into a single mark.
+	 */
+	private void markDirtyChunks() {
+		if(isMultiblockDirty) {
+			BlockPos referenceCoord = getReferenceCoord();
+			if(referenceCoord != null) {
+				dirtyChunks.add(WorldHelper.getChunkXZHashFromBlock(referenceCoord));
+			}
+			isMultiblockDirty = false;
+		}
+		if(dirtyChunks.isEmpty()) {
+			return;
+		}
+		IChunkProvider chunkProvider = WORLD.getChunkProvider();
+		LongIterator chunkKeys = dirtyChunks.iterator();
+		while(chunkKeys.hasNext()) {
+			long chunkKey = chunkKeys.nextLong();
+			Chunk chunk = chunkProvider.getLoadedChunk((int) chunkKey, (int) (chunkKey >>> 32));
+			if(chunk != null && !chunk.needsSaving(false)) {
+				chunk.markDirty();
+			}
+		}
+		dirtyChunks.clear();
+	}
+	
 	/**
 	 * Client-side update loop. Generally, this shouldn't do anything, but if you want
 	 * to do some interpolation or something, do it here.
@@ -1062,24 +1130,40 @@ public abstract class MultiblockBase<PACKET extends MultiblockUpdatePacket> impl
 	
 	public void beginUpdatingPlayer(EntityPlayer playerToUpdate) {
 		playersToUpdate.add(playerToUpdate);
+		GuiUpdateTracker.reset(this, playerToUpdate);
 		sendIndividualUpdate(playerToUpdate);
 	}
 	
 	public void stopUpdatingPlayer(EntityPlayer playerToRemove) {
 		playersToUpdate.remove(playerToRemove);
+		GuiUpdateTracker.reset(this, playerToRemove);
 	}
 	
 	protected void sendUpdateToListeningPlayers() {
-		for (EntityPlayer player : playersToUpdate) PacketHandler.instance.sendTo(getUpdatePacket(), (EntityPlayerMP) player);
+		if (playersToUpdate.isEmpty()) return;
+		PACKET packet = getUpdatePacket();
+		for (EntityPlayer player : playersToUpdate) GuiUpdateTracker.sendTo(packet, this, (EntityPlayerMP) player);
 	}
 	
 	protected void sendIndividualUpdate(EntityPlayer player) {
 		if (WORLD.isRemote) return;
-		PacketHandler.instance.sendTo(getUpdatePacket(), (EntityPlayerMP) player);
+		GuiUpdateTracker.sendTo(getUpdatePacket(), this, (EntityPlayerMP) player);
 	}
 	
+	/**
+	 * Sends an update to every player tracking the controller's chunk, at most once every BROADCAST_INTERVAL ticks.
+	 * Updates within the interval are coalesced into one sent when it has passed.
+	 */
 	protected void sendUpdateToAllPlayers() {
-		PacketHandler.instance.sendToAll(getUpdatePacket());
+		if (WORLD.isRemote) return;
+		long time = WORLD.getTotalWorldTime();
+		if (time - lastBroadcastTime < BROADCAST_INTERVAL) {
+			isBroadcastPending = true;
+			return;
+		}
+		lastBroadcastTime = time;
+		isBroadcastPending = false;
+		GuiUpdateTracker.sendToAllTracking(getUpdatePacket(), WORLD);
 	}
 	
 	// Registry
@@ -0,0 +1,65 @@
+package nc.multiblock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/** Compares the fields a multiblock writes to NBT with their values at the previous check. Fields must be visited in
+ * the same order between begin() and end(), which returns whether any of them changed. */
+public class SaveStateTracker {
+	
+	private long[] values = new long[16];
+	private Object[] objects = new Object[4];
+	private int size = -1, objectSize = -1;
+	
+	private int index, objectIndex;
+	private boolean changed;
+	
+	public SaveStateTracker begin() {
+		index = objectIndex = 0;
+		changed = false;
+		return this;
+	}
+	
+	public SaveStateTracker add(long value) {
+		if (index >= values.length) values = Arrays.copyOf(values, 2*values.length);
+		if (index >= size || values[index] != value) {
+			values[index] = value;
+			changed = true;
+		}
+		index++;
+		return this;
+	}
+	
+	public SaveStateTracker add(double value) {
+		return add(Double.doubleToLongBits(value));
+	}
+	
+	public SaveStateTracker add(boolean value) {
+		return add(value ? 1L : 0L);
+	}
+	
+	/** Compared with equals, so the object should be immutable */
+	public SaveStateTracker add(Object value) {
+		if (objectIndex >= objects.length) objects = Arrays.copyOf(objects, 2*objects.length);
+		if (objectIndex >= objectSize || !Objects.equals(objects[objectIndex], value)) {
+			objects[objectIndex] = value;
+			changed = true;
+		}
+		objectIndex++;
+		return this;
+	}
+	
+	public SaveStateTracker add(List<Double> list) {
+		add(list.size());
+		for (Double value : list) add(value.doubleValue());
+		return this;
+	}
+	
+	public boolean end() {
+		if (index != size || objectIndex != objectSize) changed = true;
+		size = index;
+		objectSize = objectIndex;
+		return changed;
+	}
+}
@@ -5,6 +5,7 @@ import javax.annotation.Nullable;
 import nc.block.tile.IActivatable;
 import nc.capability.radiation.source.IRadiationSource;
 import nc.capability.radiation.source.RadiationSource;
+import nc.tile.AdjacentTileCache;
 import nc.tile.ITile;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -35,6 +36,8 @@ public abstract class TileBeefBase extends TileEntity implements ITile, ITickabl
 	
 	private IRadiationSource radiation;
 	
+	private final AdjacentTileCache adjacentTiles = new AdjacentTileCache(this);
+	
 	public TileBeefBase() {
 		super();
 		radiation = new RadiationSource(0D);
@@ -101,6 +104,29 @@ public abstract class TileBeefBase extends TileEntity implements ITile, ITickabl
 		if (getBlockType() instanceof IActivatable) ((IActivatable)getBlockType()).setState(isActive, world, pos);
 	}
 	
+	@Override
+	public void onBlockNeighborChanged(IBlockState state, World world, BlockPos pos, BlockPos fromPos) {
+		adjacentTiles.onNeighborChanged(fromPos);
+		ITile.super.onBlockNeighborChanged(state, world, pos, fromPos);
+	}
+	
+	@Override
+	public void onNeighborTileChanged(BlockPos fromPos) {
+		adjacentTiles.onNeighborChanged(fromPos);
+	}
+	
+	// Adjacent Tiles
+	
+	@Override
+	public TileEntity getAdjacentTile(EnumFacing side) {
+		return adjacentTiles.getTile(side);
+	}
+	
+	@Override
+	public <T> T getAdjacentCapability(Capability<T> capability, EnumFacing side) {
+		return adjacentTiles.getCapability(capability, side);
+	}
+	
 	// Redstone
 	
 	@Override
@@ -287,6 +313,12 @@ public abstract class TileBeefBase extends TileEntity implements ITile, ITickabl
 		}
 	}
 
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		adjacentTiles.clear();
+	}
+
 	public void markChunkDirty() {
 
 		this.getWorld().markChunkDirty(this.getPos(), this);
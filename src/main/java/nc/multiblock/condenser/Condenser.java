@@ -131,7 +131,8 @@ public class Condenser extends CuboidalMultiblockBase<CondenserUpdatePacket> {
 		// TODO
 		if (shouldUpdate()) sendUpdateToListeningPlayers();
 		incrementUpdateCount();
-		return true;
+		// Nothing is saved by the condenser yet
+		return false;
 	}
 	
 	public void setIsCondenserOn() {
@@ -7,6 +7,7 @@ import nc.Global;
 import nc.config.NCConfig;
 import nc.multiblock.IMultiblockPart;
 import nc.multiblock.MultiblockBase;
+import nc.multiblock.SaveStateTracker;
 import nc.multiblock.TileBeefBase.SyncReason;
 import nc.multiblock.container.ContainerHeatExchangerController;
 import nc.multiblock.cuboidal.CuboidalMultiblockBase;
@@ -30,6 +31,8 @@ public class HeatExchanger extends CuboidalMultiblockBase<HeatExchangerUpdatePac
 	
 	private int updateCount = 0;
 	
+	private final SaveStateTracker saveState = new SaveStateTracker();
+	
 	public boolean isHeatExchangerOn;
 	public double fractionOfTubesActive, efficiency;
 	
@@ -152,7 +155,12 @@ public class HeatExchanger extends CuboidalMultiblockBase<HeatExchangerUpdatePac
 		if (shouldUpdate()) updateHeatExchangerStats();
 		if (shouldUpdate()) sendUpdateToListeningPlayers();
 		incrementUpdateCount();
-		return true;
+		return hasSaveStateChanged();
+	}
+	
+	/** Compares every field written by syncDataTo with its value at the previous check */
+	private boolean hasSaveStateChanged() {
+		return saveState.begin().add(isHeatExchangerOn).add(fractionOfTubesActive).add(efficiency).end();
 	}
 	
 	public void setIsHeatExchangerOn() {
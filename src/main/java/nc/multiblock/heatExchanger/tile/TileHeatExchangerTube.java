@@ -44,7 +44,7 @@ public class TileHeatExchangerTube extends TileHeatExchangerPartBase implements
 	private static final FluidConnection DEFAULT = FluidConnection.BOTH;
 	private static final FluidConnection DISABLED = FluidConnection.NON;
 	
-	private final @Nonnull List<Tank> tanks = Lists.newArrayList(new Tank(32000, TankSorption.IN, NCRecipes.heat_exchanger_valid_fluids.get(0)), new Tank(64000, TankSorption.OUT, new ArrayList<String>()));
+	private final @Nonnull List<Tank> tanks = Lists.newArrayList(new Tank(32000, TankSorption.IN, NCRecipes.getValidFluids(NCRecipes.Type.HEAT_EXCHANGER).get(0)), new Tank(64000, TankSorption.OUT, new ArrayList<String>()));
 	
 	private @Nonnull FluidConnection[] fluidConnections = ITileFluid.fluidConnectionAll(FluidConnection.NON);
 	
@@ -282,7 +282,7 @@ public class TileHeatExchangerTube extends TileHeatExchangerPartBase implements
 			if (fluidProduct.getMaxStackSize() <= 0) continue;
 			if (fluidProduct.getStack() == null) return false;
 			else if (!tanks.get(j + fluidInputSize).isEmpty()) {
-				if (!tanks.get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+				if (!tanks.get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 					return false;
 				} else if (tanks.get(j + fluidInputSize).getFluidAmount() + fluidProduct.getMaxStackSize() > tanks.get(j + fluidInputSize).getCapacity()) {
 					return false;
@@ -322,7 +322,7 @@ public class TileHeatExchangerTube extends TileHeatExchangerPartBase implements
 			if (fluidProduct.getMaxStackSize() <= 0) continue;
 			if (tanks.get(j + fluidInputSize).isEmpty()) {
 				tanks.get(j + fluidInputSize).setFluidStored(fluidProduct.getNextStack());
-			} else if (tanks.get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+			} else if (tanks.get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 				tanks.get(j + fluidInputSize).changeFluidAmount(fluidProduct.getNextStackSize());
 			}
 		}
@@ -419,7 +419,7 @@ public class TileHeatExchangerTube extends TileHeatExchangerPartBase implements
 			FluidConnection thisConnection = getFluidConnection(side);
 			if (thisConnection == DISABLED) continue;
 			
-			TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+			TileEntity tile = getAdjacentTile(side);
 			
 			if (tile instanceof TileHeatExchangerVent) {
 				if (thisConnection == DEFAULT) {
@@ -450,7 +450,7 @@ public class TileHeatExchangerTube extends TileHeatExchangerPartBase implements
 		FluidConnection thisConnection = getFluidConnection(side);
 		if (thisConnection == DISABLED) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		
 		if (tile instanceof TileHeatExchangerTube) {
 			TileHeatExchangerTube tube = (TileHeatExchangerTube)tile;
@@ -470,12 +470,12 @@ public class TileHeatExchangerTube extends TileHeatExchangerPartBase implements
 		
 		else if (thisConnection == PRODUCT_OUT) {
 			if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushFluidsTo()) return;
-			IFluidHandler adjStorage = tile == null ? null : tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+			IFluidHandler adjStorage = getAdjacentCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
 			
 			if (adjStorage == null) return;
 			
 			for (int i = 0; i < getTanks().size(); i++) {
-				if (getTanks().get(i).getFluid() == null || !getTanks().get(i).canDrain()) continue;
+				if (getTanks().get(i).peekFluid() == null || !getTanks().get(i).canDrain()) continue;
 				
 				getTanks().get(i).drainInternal(adjStorage.fill(getTanks().get(i).drainInternal(getTanks().get(i).getCapacity(), false), true), true);
 			}
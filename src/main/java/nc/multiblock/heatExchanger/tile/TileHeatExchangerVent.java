@@ -103,7 +103,7 @@ public class TileHeatExchangerVent extends TileHeatExchangerPartBase implements
 	public void pushFluidToSide(@Nonnull EnumFacing side) {
 		if (!getFluidConnection(side).canDrain()) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (!(tile instanceof TileHeatExchangerTube)) return;
 		ITileFluid tube = (ITileFluid) tile;
 		
@@ -1,8 +1,8 @@
 package nc.multiblock.network;
 
-import io.netty.buffer.ByteBuf;
 import nc.multiblock.condenser.Condenser;
 import nc.multiblock.condenser.tile.TileCondenserController;
+import nc.network.IPacketFields;
 import net.minecraft.util.math.BlockPos;
 
 public class CondenserUpdatePacket extends MultiblockUpdatePacket {
@@ -21,17 +21,8 @@ public class CondenserUpdatePacket extends MultiblockUpdatePacket {
 	}
 	
 	@Override
-	public void readMessage(ByteBuf buf) {
-		pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
-		isCondenserOn = buf.readBoolean();
-	}
-	
-	@Override
-	public void writeMessage(ByteBuf buf) {
-		buf.writeInt(pos.getX());
-		buf.writeInt(pos.getY());
-		buf.writeInt(pos.getZ());
-		buf.writeBoolean(isCondenserOn);
+	public void visitFields(IPacketFields fields) {
+		isCondenserOn = fields.visit(isCondenserOn);
 	}
 	
 	public static class Handler extends MultiblockUpdatePacket.Handler<CondenserUpdatePacket, Condenser, TileCondenserController> {
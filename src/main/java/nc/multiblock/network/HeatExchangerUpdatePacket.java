@@ -1,8 +1,8 @@
 package nc.multiblock.network;
 
-import io.netty.buffer.ByteBuf;
 import nc.multiblock.heatExchanger.HeatExchanger;
 import nc.multiblock.heatExchanger.tile.TileHeatExchangerController;
+import nc.network.IPacketFields;
 import net.minecraft.util.math.BlockPos;
 
 public class HeatExchangerUpdatePacket extends MultiblockUpdatePacket {
@@ -25,21 +25,10 @@ public class HeatExchangerUpdatePacket extends MultiblockUpdatePacket {
 	}
 	
 	@Override
-	public void readMessage(ByteBuf buf) {
-		pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
-		isHeatExchangerOn = buf.readBoolean();
-		fractionOfTubesActive = buf.readDouble();
-		efficiency = buf.readDouble();
-	}
-	
-	@Override
-	public void writeMessage(ByteBuf buf) {
-		buf.writeInt(pos.getX());
-		buf.writeInt(pos.getY());
-		buf.writeInt(pos.getZ());
-		buf.writeBoolean(isHeatExchangerOn);
-		buf.writeDouble(fractionOfTubesActive);
-		buf.writeDouble(efficiency);
+	public void visitFields(IPacketFields fields) {
+		isHeatExchangerOn = fields.visit(isHeatExchangerOn);
+		fractionOfTubesActive = fields.visit(fractionOfTubesActive);
+		efficiency = fields.visit(efficiency);
 	}
 	
 	public static class Handler extends MultiblockUpdatePacket.Handler<HeatExchangerUpdatePacket, HeatExchanger, TileHeatExchangerController> {
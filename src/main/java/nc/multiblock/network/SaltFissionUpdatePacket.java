@@ -1,8 +1,8 @@
 package nc.multiblock.network;
 
-import io.netty.buffer.ByteBuf;
 import nc.multiblock.saltFission.SaltFissionReactor;
 import nc.multiblock.saltFission.tile.TileSaltFissionController;
+import nc.network.IPacketFields;
 import net.minecraft.util.math.BlockPos;
 
 public class SaltFissionUpdatePacket extends MultiblockUpdatePacket {
@@ -30,31 +30,15 @@ public class SaltFissionUpdatePacket extends MultiblockUpdatePacket {
 	}
 	
 	@Override
-	public void readMessage(ByteBuf buf) {
-		pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
-		isReactorOn = buf.readBoolean();
-		cooling = buf.readDouble();
-		heating = buf.readDouble();
-		efficiency = buf.readDouble();
-		heatMult = buf.readDouble();
-		coolingRate = buf.readDouble();
-		capacity = buf.readLong();
-		heat = buf.readLong();
-	}
-	
-	@Override
-	public void writeMessage(ByteBuf buf) {
-		buf.writeInt(pos.getX());
-		buf.writeInt(pos.getY());
-		buf.writeInt(pos.getZ());
-		buf.writeBoolean(isReactorOn);
-		buf.writeDouble(cooling);
-		buf.writeDouble(heating);
-		buf.writeDouble(efficiency);
-		buf.writeDouble(heatMult);
-		buf.writeDouble(coolingRate);
-		buf.writeLong(capacity);
-		buf.writeLong(heat);
+	public void visitFields(IPacketFields fields) {
+		isReactorOn = fields.visit(isReactorOn);
+		cooling = fields.visit(cooling);
+		heating = fields.visit(heating);
+		efficiency = fields.visit(efficiency);
+		heatMult = fields.visit(heatMult);
+		coolingRate = fields.visit(coolingRate);
+		capacity = fields.visit(capacity);
+		heat = fields.visit(heat);
 	}
 	
 	public static class Handler extends MultiblockUpdatePacket.Handler<SaltFissionUpdatePacket, SaltFissionReactor, TileSaltFissionController> {
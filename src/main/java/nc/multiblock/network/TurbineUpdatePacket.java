@@ -1,21 +1,22 @@
 package nc.multiblock.network;
 
-import io.netty.buffer.ByteBuf;
 import nc.multiblock.turbine.Turbine;
 import nc.multiblock.turbine.tile.TileTurbineController;
+import nc.network.IPacketFields;
 import net.minecraft.util.math.BlockPos;
 
 public class TurbineUpdatePacket extends MultiblockUpdatePacket {
 	
 	public boolean isTurbineOn, isProcessing;
 	public double power, rawConductivity, totalExpansionLevel, idealTotalExpansionLevel;
-	public int recipeRate, shaftWidth, bladeLength, noBladeSets, capacity, energy;
+	public int recipeRate, shaftWidth, bladeLength, noBladeSets;
+	public long capacity, energy;
 	
 	public TurbineUpdatePacket() {
 		messageValid = false;
 	}
 	
-	public TurbineUpdatePacket(BlockPos pos, boolean isTurbineOn, double power, double rawConductivity, double totalExpansionLevel, double idealTotalExpansionLevel, int recipeRate, int shaftWidth, int bladeLength, int noBladeSets, boolean isProcessing, int capacity, int energy) {
+	public TurbineUpdatePacket(BlockPos pos, boolean isTurbineOn, double power, double rawConductivity, double totalExpansionLevel, double idealTotalExpansionLevel, int recipeRate, int shaftWidth, int bladeLength, int noBladeSets, boolean isProcessing, long capacity, long energy) {
 		this.pos = pos;
 		this.isTurbineOn = isTurbineOn;
 		this.power = power;
@@ -34,39 +35,19 @@ public class TurbineUpdatePacket extends MultiblockUpdatePacket {
 	}
 	
 	@Override
-	public void readMessage(ByteBuf buf) {
-		pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
-		isTurbineOn = buf.readBoolean();
-		power = buf.readDouble();
-		rawConductivity = buf.readDouble();
-		totalExpansionLevel = buf.readDouble();
-		idealTotalExpansionLevel = buf.readDouble();
-		recipeRate = buf.readInt();
-		shaftWidth = buf.readInt();
-		bladeLength = buf.readInt();
-		noBladeSets = buf.readInt();
-		isProcessing = buf.readBoolean();
-		capacity = buf.readInt();
-		energy = buf.readInt();
-	}
-	
-	@Override
-	public void writeMessage(ByteBuf buf) {
-		buf.writeInt(pos.getX());
-		buf.writeInt(pos.getY());
-		buf.writeInt(pos.getZ());
-		buf.writeBoolean(isTurbineOn);
-		buf.writeDouble(power);
-		buf.writeDouble(rawConductivity);
-		buf.writeDouble(totalExpansionLevel);
-		buf.writeDouble(idealTotalExpansionLevel);
-		buf.writeInt(recipeRate);
-		buf.writeInt(shaftWidth);
-		buf.writeInt(bladeLength);
-		buf.writeInt(noBladeSets);
-		buf.writeBoolean(isProcessing);
-		buf.writeInt(capacity);
-		buf.writeInt(energy);
+	public void visitFields(IPacketFields fields) {
+		isTurbineOn = fields.visit(isTurbineOn);
+		power = fields.visit(power);
+		rawConductivity = fields.visit(rawConductivity);
+		totalExpansionLevel = fields.visit(totalExpansionLevel);
+		idealTotalExpansionLevel = fields.visit(idealTotalExpansionLevel);
+		recipeRate = fields.visit(recipeRate);
+		shaftWidth = fields.visit(shaftWidth);
+		bladeLength = fields.visit(bladeLength);
+		noBladeSets = fields.visit(noBladeSets);
+		isProcessing = fields.visit(isProcessing);
+		capacity = fields.visit(capacity);
+		energy = fields.visit(energy);
 	}
 	
 	public static class Handler extends MultiblockUpdatePacket.Handler<TurbineUpdatePacket, Turbine, TileTurbineController> {
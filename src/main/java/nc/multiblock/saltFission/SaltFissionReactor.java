@@ -13,6 +13,7 @@ import nc.config.NCConfig;
 import nc.handler.SoundHandler;
 import nc.multiblock.IMultiblockPart;
 import nc.multiblock.MultiblockBase;
+import nc.multiblock.SaveStateTracker;
 import nc.multiblock.TileBeefBase.SyncReason;
 import nc.multiblock.container.ContainerSaltFissionController;
 import nc.multiblock.cuboidal.CuboidalMultiblockBase;
@@ -63,6 +64,8 @@ public class SaltFissionReactor extends CuboidalMultiblockBase<SaltFissionUpdate
 	public double cooling, heating, efficiency, heatMult, coolingRate;
 	
 	private short heaterCheckCount = 0;
+	
+	private final SaveStateTracker saveState = new SaveStateTracker();
 
 	public SaltFissionReactor(World world) {
 		super(world);
@@ -234,7 +237,13 @@ public class SaltFissionReactor extends CuboidalMultiblockBase<SaltFissionUpdate
 		}
 		if (shouldUpdate()) sendUpdateToListeningPlayers();
 		incrementUpdateCount();
-		return true;
+		return hasSaveStateChanged();
+	}
+	
+	/** Compares every field written by syncDataTo with its value at the previous check */
+	private boolean hasSaveStateChanged() {
+		saveState.begin().add(heatBuffer.heatStored).add(heatBuffer.heatCapacity).add(comparatorSignal).add(isReactorOn);
+		return saveState.add(cooling).add(heating).add(efficiency).add(heatMult).add(coolingRate).end();
 	}
 	
 	public void setIsReactorOn() {
@@ -273,7 +282,9 @@ public class SaltFissionReactor extends CuboidalMultiblockBase<SaltFissionUpdate
 				if (vessel.distributedTo) continue;
 				Tank vesselTank = vessel.getTanks().get(0);
 				
-				distributorTank.drainInternal(vesselTank.fillInternal(distributorTank.drainInternal(rate, false), true), true);
+				if (distributorTank.drainInternal(vesselTank.fillInternal(distributorTank.drainInternal(rate, false), true), true) != null) {
+					markPartDirty(distributor);
+				}
 				vessel.distributedTo = true;
 				count -= rate;
 			}
@@ -288,7 +299,9 @@ public class SaltFissionReactor extends CuboidalMultiblockBase<SaltFissionUpdate
 				if (vessel.retrievedFrom) continue;
 				Tank vesselTank = vessel.getTanks().get(1);
 				
-				vesselTank.drainInternal(retrieverTank.fillInternal(vesselTank.drainInternal(rate, false), true), true);
+				if (vesselTank.drainInternal(retrieverTank.fillInternal(vesselTank.drainInternal(rate, false), true), true) != null) {
+					markPartDirty(retriever);
+				}
 				vessel.retrievedFrom = true;
 				count -= rate;
 			}
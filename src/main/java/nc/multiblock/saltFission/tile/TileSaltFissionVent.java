@@ -104,7 +104,7 @@ public class TileSaltFissionVent extends TileSaltFissionPartBase implements ITil
 	public void pushFluidToSide(@Nonnull EnumFacing side) {
 		if (!getFluidConnection(side).canDrain()) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (!(tile instanceof TileSaltFissionVessel) && !(tile instanceof TileSaltFissionHeater)) return;
 		ITileFluid holder = (ITileFluid) tile;
 		
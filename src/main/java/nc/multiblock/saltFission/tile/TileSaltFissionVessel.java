@@ -49,7 +49,7 @@ public class TileSaltFissionVessel extends TileSaltFissionPartBase implements IF
 	private static final FluidConnection DEFAULT = FluidConnection.BOTH;
 	private static final FluidConnection DISABLED = FluidConnection.NON;
 	
-	private final @Nonnull List<Tank> tanks = Lists.newArrayList(new Tank(FluidStackHelper.INGOT_BLOCK_VOLUME*2, TankSorption.IN, NCRecipes.salt_fission_valid_fluids.get(0)), new Tank(FluidStackHelper.INGOT_BLOCK_VOLUME*4, TankSorption.OUT, new ArrayList<String>()), new Tank(FluidStackHelper.INGOT_BLOCK_VOLUME*2, TankSorption.NON, new ArrayList<String>()));
+	private final @Nonnull List<Tank> tanks = Lists.newArrayList(new Tank(FluidStackHelper.INGOT_BLOCK_VOLUME*2, TankSorption.IN, NCRecipes.getValidFluids(NCRecipes.Type.SALT_FISSION).get(0)), new Tank(FluidStackHelper.INGOT_BLOCK_VOLUME*4, TankSorption.OUT, new ArrayList<String>()), new Tank(FluidStackHelper.INGOT_BLOCK_VOLUME*2, TankSorption.NON, new ArrayList<String>()));
 	
 	private @Nonnull FluidConnection[] fluidConnections = ITileFluid.fluidConnectionAll(FluidConnection.BOTH);
 	
@@ -279,7 +279,7 @@ public class TileSaltFissionVessel extends TileSaltFissionPartBase implements IF
 			if (fluidProduct.getMaxStackSize() <= 0) continue;
 			if (fluidProduct.getStack() == null) return false;
 			else if (!tanks.get(j + fluidInputSize).isEmpty()) {
-				if (!tanks.get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+				if (!tanks.get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 					return false;
 				} else if (tanks.get(j + fluidInputSize).getFluidAmount() + fluidProduct.getMaxStackSize() > tanks.get(j + fluidInputSize).getCapacity()) {
 					return false;
@@ -302,7 +302,7 @@ public class TileSaltFissionVessel extends TileSaltFissionPartBase implements IF
 		for (int i = 0; i < fluidInputSize; i++) {
 			IFluidIngredient fluidIngredient = getFluidIngredients().get(fluidInputOrder.get(i));
 			if (fluidIngredient.getMaxStackSize() > 0) {
-				tanks.get(i + fluidInputSize + fluidOutputSize).setFluidStored(new FluidStack(tanks.get(i).getFluid(), fluidIngredient.getMaxStackSize()));
+				tanks.get(i + fluidInputSize + fluidOutputSize).setFluidStored(new FluidStack(tanks.get(i).peekFluid(), fluidIngredient.getMaxStackSize()));
 				tanks.get(i).changeFluidAmount(-fluidIngredient.getMaxStackSize());
 			}
 			if (tanks.get(i).isEmpty()) tanks.get(i).setFluid(null);
@@ -336,7 +336,7 @@ public class TileSaltFissionVessel extends TileSaltFissionPartBase implements IF
 			if (fluidProduct.getNextStackSize() <= 0) continue;
 			if (tanks.get(j + fluidInputSize).isEmpty()) {
 				tanks.get(j + fluidInputSize).setFluidStored(fluidProduct.getNextStack());
-			} else if (tanks.get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+			} else if (tanks.get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 				tanks.get(j + fluidInputSize).changeFluidAmount(fluidProduct.getNextStackSize());
 			}
 		}
@@ -423,7 +423,7 @@ public class TileSaltFissionVessel extends TileSaltFissionPartBase implements IF
 		FluidConnection thisConnection = getFluidConnection(side);
 		if (thisConnection == DISABLED) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		
 		if (tile instanceof TileSaltFissionVessel) {
 			TileSaltFissionVessel vessel = (TileSaltFissionVessel)tile;
@@ -443,12 +443,12 @@ public class TileSaltFissionVessel extends TileSaltFissionPartBase implements IF
 		
 		else if (thisConnection == DEPLETED_OUT) {
 			if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushFluidsTo()) return;
-			IFluidHandler adjStorage = tile == null ? null : tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+			IFluidHandler adjStorage = getAdjacentCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
 			
 			if (adjStorage == null) return;
 			
 			for (int i = 0; i < getTanks().size(); i++) {
-				if (getTanks().get(i).getFluid() == null || !getTanks().get(i).canDrain()) continue;
+				if (getTanks().get(i).peekFluid() == null || !getTanks().get(i).canDrain()) continue;
 				
 				getTanks().get(i).drainInternal(adjStorage.fill(getTanks().get(i).drainInternal(getTanks().get(i).getCapacity(), false), true), true);
 			}
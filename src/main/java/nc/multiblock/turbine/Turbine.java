@@ -12,6 +12,7 @@ import nc.Global;
 import nc.config.NCConfig;
 import nc.multiblock.IMultiblockPart;
 import nc.multiblock.MultiblockBase;
+import nc.multiblock.SaveStateTracker;
 import nc.multiblock.TileBeefBase.SyncReason;
 import nc.multiblock.container.ContainerTurbineController;
 import nc.multiblock.cuboidal.CuboidalMultiblockBase;
@@ -78,6 +79,8 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 	
 	private short dynamoCoilCheckCount = 0;
 	
+	private final SaveStateTracker saveState = new SaveStateTracker();
+	
 	public Turbine(World world) {
 		super(world);
 		
@@ -89,7 +92,7 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 		outlets = new HashSet<TileTurbineOutlet>();
 		
 		energyStorage = new EnergyStorage(BASE_MAX_ENERGY);
-		tanks = Lists.newArrayList(new Tank(BASE_MAX_INPUT, TankSorption.BOTH, NCRecipes.turbine_valid_fluids.get(0)), new Tank(BASE_MAX_OUTPUT, TankSorption.BOTH, null));
+		tanks = Lists.newArrayList(new Tank(BASE_MAX_INPUT, TankSorption.BOTH, NCRecipes.getValidFluids(NCRecipes.Type.TURBINE).get(0)), new Tank(BASE_MAX_OUTPUT, TankSorption.BOTH, null));
 	}
 	
 	// Multiblock Part Getters
@@ -171,8 +174,8 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 	protected void onTurbineFormed() {
 		setIsTurbineOn();
 		
-		energyStorage.setStorageCapacity(BASE_MAX_ENERGY*getNumConnectedBlocks());
-		energyStorage.setMaxTransfer(BASE_MAX_ENERGY*getNumConnectedBlocks());
+		energyStorage.setStorageCapacityLong((long) BASE_MAX_ENERGY*getNumConnectedBlocks());
+		energyStorage.setMaxTransferLong((long) BASE_MAX_ENERGY*getNumConnectedBlocks());
 		tanks.get(0).setCapacity(BASE_MAX_INPUT*getNumConnectedBlocks());
 		tanks.get(1).setCapacity(BASE_MAX_OUTPUT*getNumConnectedBlocks());
 		
@@ -562,7 +565,16 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 		updateTurbine();
 		if (shouldUpdate()) sendUpdateToListeningPlayers();
 		incrementUpdateCount();
-		return true;
+		return hasSaveStateChanged();
+	}
+	
+	/** Compares every field written by syncDataTo with its value at the previous check */
+	private boolean hasSaveStateChanged() {
+		saveState.begin().add(energyStorage.getEnergyStoredLong());
+		for (Tank tank : tanks) saveState.add(tank.getFluidAmount()).add(tank.getFluidName());
+		saveState.add(isTurbineOn).add(power).add(rawConductivity).add(flowDir).add(shaftWidth).add(shaftVolume).add(bladeLength).add(noBladeSets).add(recipeRate);
+		saveState.add(totalExpansionLevel).add(idealTotalExpansionLevel).add(basePowerPerMB).add(expansionLevels).add(rawBladeEfficiencies).add(isProcessing);
+		return saveState.end();
 	}
 	
 	public void setIsTurbineOn() {
@@ -595,7 +607,7 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 			}
 			if (wasProcessing != isProcessing) sendUpdateToAllPlayers();
 		}
-		energyStorage.changeEnergyStored((int)power);
+		energyStorage.changeEnergyStoredLong((long)power);
 	}
 	
 	protected void refreshRecipe() {
@@ -626,7 +638,7 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 		if (fluidProduct.getMaxStackSize() <= 0 || fluidProduct.getStack() == null) return false;
 		recipeRate = Math.min(tanks.get(0).getFluidAmount(), getMaxRecipeRateMultiplier()*updateTime());
 		if (!tanks.get(1).isEmpty()) {
-			if (!tanks.get(1).getFluid().isFluidEqual(fluidProduct.getStack())) {
+			if (!tanks.get(1).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 				return false;
 			} else if (tanks.get(1).getFluidAmount() + fluidProduct.getMaxStackSize()*recipeRate > tanks.get(1).getCapacity()) {
 				return false;
@@ -645,7 +657,7 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 		if (tanks.get(1).isEmpty()) {
 			tanks.get(1).setFluidStored(fluidProduct.getNextStack());
 			tanks.get(1).setFluidAmount(tanks.get(1).getFluidAmount()*recipeRate);
-		} else if (tanks.get(1).getFluid().isFluidEqual(fluidProduct.getStack())) {
+		} else if (tanks.get(1).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 			tanks.get(1).changeFluidAmount(fluidProduct.getNextStackSize()*recipeRate);
 		}
 	}
@@ -825,7 +837,7 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 	
 	@Override
 	protected TurbineUpdatePacket getUpdatePacket() {
-		return new TurbineUpdatePacket(controller.getPos(), isTurbineOn, power, rawConductivity, totalExpansionLevel, idealTotalExpansionLevel, recipeRate, shaftWidth, bladeLength, noBladeSets, isProcessing, energyStorage.getMaxEnergyStored(), energyStorage.getEnergyStored());
+		return new TurbineUpdatePacket(controller.getPos(), isTurbineOn, power, rawConductivity, totalExpansionLevel, idealTotalExpansionLevel, recipeRate, shaftWidth, bladeLength, noBladeSets, isProcessing, energyStorage.getMaxEnergyStoredLong(), energyStorage.getEnergyStoredLong());
 	}
 	
 	@Override
@@ -840,9 +852,9 @@ public class Turbine extends CuboidalMultiblockBase<TurbineUpdatePacket> {
 		bladeLength = message.bladeLength;
 		noBladeSets = message.noBladeSets;
 		isProcessing = message.isProcessing;
-		energyStorage.setStorageCapacity(message.capacity);
-		energyStorage.setMaxTransfer(message.capacity);
-		energyStorage.setEnergyStored(message.energy);
+		energyStorage.setStorageCapacityLong(message.capacity);
+		energyStorage.setMaxTransferLong(message.capacity);
+		energyStorage.setEnergyStoredLong(message.energy);
 	}
 	
 	public Container getContainer(EntityPlayer player) {
@@ -297,13 +297,13 @@ public class TileTurbineDynamoCoil extends TileTurbinePartBase implements ITileE
 	public void pushEnergyToSide(@Nonnull EnumFacing side) {
 		if (!getEnergyConnection(side).canExtract()) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null || tile instanceof TileTurbinePartBase) return;
 		
 		if (tile instanceof ITileEnergy) if (!((ITileEnergy) tile).getEnergyConnection(side.getOpposite()).canReceive()) return;
 		if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushEnergyTo()) return;
 		
-		IEnergyStorage adjStorage = tile.getCapability(CapabilityEnergy.ENERGY, side.getOpposite());
+		IEnergyStorage adjStorage = getAdjacentCapability(CapabilityEnergy.ENERGY, side);
 		
 		if (adjStorage != null && getEnergyStorage().canExtract()) {
 			getEnergyStorage().extractEnergy(adjStorage.receiveEnergy(getEnergyStorage().extractEnergy(getEnergyStorage().getMaxEnergyStored(), true), false), false);
@@ -319,7 +319,7 @@ public class TileTurbineDynamoCoil extends TileTurbinePartBase implements ITileE
 			}
 		}
 		if (ModCheck.gregtechLoaded()) {
-			IEnergyContainer adjStorageGT = tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side.getOpposite());
+			IEnergyContainer adjStorageGT = getAdjacentCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side);
 			if (adjStorageGT != null && getEnergyStorage().canExtract()) {
 				int voltage = MathHelper.clamp(getEnergyStorage().getEnergyStored()/NCConfig.rf_per_eu, 1, EnergyHelper.getMaxEUFromTier(getEUSourceTier()));
 				getEnergyStorage().extractEnergy((int)Math.min(voltage*adjStorageGT.acceptEnergyFromNetwork(side.getOpposite(), voltage, 1)*NCConfig.rf_per_eu, Integer.MAX_VALUE), false);
@@ -105,16 +105,16 @@ public class TileTurbineOutlet extends TileTurbinePartBase implements ITileFluid
 	
 	@Override
 	public void pushFluidToSide(@Nonnull EnumFacing side) {
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null || tile instanceof TileTurbineOutlet) return;
 		
 		if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushFluidsTo()) return;
 		
-		IFluidHandler adjStorage = tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+		IFluidHandler adjStorage = getAdjacentCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
 		if (adjStorage == null) return;
 		
 		for (int i = 0; i < getTanks().size(); i++) {
-			if (getTanks().get(i).getFluid() == null || !getTanks().get(i).canDrain()) continue;
+			if (getTanks().get(i).peekFluid() == null || !getTanks().get(i).canDrain()) continue;
 			
 			getTanks().get(i).drain(adjStorage.fill(getTanks().get(i).drain(getTanks().get(i).getCapacity(), false), true), true);
 		}
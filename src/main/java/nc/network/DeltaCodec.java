@@ -0,0 +1,131 @@
+package nc.network;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+/** Writes only the fields of an update packet which changed since the given base state. Ints and longs are sent as zigzag varint deltas, integral doubles as varints and booleans as toggles with no payload. */
+public class DeltaCodec {
+	
+	private static final byte DELTA = 0, KEYFRAME = 1, BROADCAST = 2;
+	
+	/** Last state received for each packet type and position - only touched by the client network thread, and cleared when the client leaves a world */
+	private static final Map<Class<?>, Map<BlockPos, DeltaState>> RECEIVED = new HashMap<Class<?>, Map<BlockPos, DeltaState>>();
+	
+	public static void write(ByteBuf buf, DeltaState state, DeltaState base, boolean broadcast) {
+		buf.writeByte(broadcast ? BROADCAST : base == null ? KEYFRAME : DELTA);
+		long mask = state.changedMask(base);
+		writeVarLong(buf, mask);
+		for (int i = 0; i < state.size(); i++) {
+			if ((mask >>> i & 1L) == 0L) continue;
+			long value = state.values[i], previous = base == null ? 0L : base.values[i];
+			switch (state.types[i]) {
+			case DeltaState.BOOLEAN:
+				break;
+			case DeltaState.INT:
+			case DeltaState.LONG:
+				writeVarLong(buf, zigzag(value - previous));
+				break;
+			case DeltaState.DOUBLE:
+				writeDouble(buf, Double.longBitsToDouble(value));
+				break;
+			case DeltaState.STRING:
+				ByteBufUtils.writeUTF8String(buf, state.strings[i]);
+				break;
+			}
+		}
+	}
+	
+	/** Decodes the fields into the packet against the last state received for the same packet type and position. Returns false for a delta with no state to decode it against, which is dropped rather than read against the packet's defaults. */
+	public static synchronized boolean read(ByteBuf buf, DeltaUpdatePacket packet, BlockPos pos) {
+		byte type = buf.readByte();
+		Map<BlockPos, DeltaState> received = RECEIVED.get(packet.getClass());
+		if (received == null) {
+			received = new HashMap<BlockPos, DeltaState>();
+			RECEIVED.put(packet.getClass(), received);
+		}
+		DeltaState base = type == DELTA ? received.get(pos) : null;
+		if (type == DELTA && base == null) return false;
+		// The freshly constructed packet holds default values, which keyframes are encoded against
+		DeltaState state = base == null ? DeltaState.of(packet) : base.copy();
+		
+		long mask = readVarLong(buf);
+		for (int i = 0; i < state.size(); i++) {
+			if ((mask >>> i & 1L) == 0L) continue;
+			switch (state.types[i]) {
+			case DeltaState.BOOLEAN:
+				state.values[i] ^= 1L;
+				break;
+			case DeltaState.INT:
+			case DeltaState.LONG:
+				state.values[i] += unzigzag(readVarLong(buf));
+				break;
+			case DeltaState.DOUBLE:
+				state.values[i] = Double.doubleToRawLongBits(readDouble(buf));
+				break;
+			case DeltaState.STRING:
+				state.strings[i] = ByteBufUtils.readUTF8String(buf);
+				break;
+			}
+		}
+		// Broadcasts also reach players who are sent deltas, which must stay encoded against their own last state
+		if (type != BROADCAST) received.put(pos, state);
+		state.applyTo(packet);
+		return true;
+	}
+	
+	public static synchronized void clearReceived() {
+		RECEIVED.clear();
+	}
+	
+	// Doubles - the low bit flags whether the value follows as raw bits
+	
+	private static final double MAX_INTEGRAL = 1L << 53;
+	
+	private static void writeDouble(ByteBuf buf, double value) {
+		long integral = (long) value;
+		if (Math.abs(value) < MAX_INTEGRAL && Double.doubleToRawLongBits(value) == Double.doubleToRawLongBits(integral)) {
+			writeVarLong(buf, zigzag(integral) << 1);
+		}
+		else {
+			writeVarLong(buf, 1L);
+			buf.writeDouble(value);
+		}
+	}
+	
+	private static double readDouble(ByteBuf buf) {
+		long header = readVarLong(buf);
+		return (header & 1L) == 0L ? unzigzag(header >>> 1) : buf.readDouble();
+	}
+	
+	// Varints
+	
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+	
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1L);
+	}
+	
+	private static void writeVarLong(ByteBuf buf, long value) {
+		while ((value & ~0x7FL) != 0L) {
+			buf.writeByte((int) (value & 0x7FL) | 0x80);
+			value >>>= 7;
+		}
+		buf.writeByte((int) value);
+	}
+	
+	private static long readVarLong(ByteBuf buf) {
+		long value = 0L;
+		for (int shift = 0; shift < 70; shift += 7) {
+			byte b = buf.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return value;
+		}
+		throw new IndexOutOfBoundsException("Varint is too long");
+	}
+}
@@ -0,0 +1,142 @@
+package nc.network;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/** Raw field values of an update packet, in visiting order, used as the base that the next packet is encoded against */
+public class DeltaState {
+	
+	public static final int MAX_FIELDS = 64;
+	
+	static final byte BOOLEAN = 0, INT = 1, LONG = 2, DOUBLE = 3, STRING = 4;
+	
+	final byte[] types;
+	final long[] values;
+	final String[] strings;
+	
+	private DeltaState(byte[] types, long[] values, String[] strings) {
+		this.types = types;
+		this.values = values;
+		this.strings = strings;
+	}
+	
+	public static DeltaState of(DeltaUpdatePacket packet) {
+		Recorder recorder = new Recorder();
+		packet.visitFields(recorder);
+		return recorder.getState();
+	}
+	
+	public int size() {
+		return types.length;
+	}
+	
+	DeltaState copy() {
+		return new DeltaState(types, values.clone(), strings.clone());
+	}
+	
+	/** Bit i is set if field i differs from the base, or from its default value if there is no base */
+	long changedMask(DeltaState base) {
+		long mask = 0L;
+		for (int i = 0; i < types.length; i++) {
+			if (base == null ? values[i] != 0L || types[i] == STRING && !strings[i].isEmpty() : values[i] != base.values[i] || !Objects.equals(strings[i], base.strings[i])) mask |= 1L << i;
+		}
+		return mask;
+	}
+	
+	void applyTo(DeltaUpdatePacket packet) {
+		packet.visitFields(new Applier());
+	}
+	
+	public boolean equals(DeltaState other) {
+		return other != null && Arrays.equals(types, other.types) && Arrays.equals(values, other.values) && Arrays.equals(strings, other.strings);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof DeltaState && equals((DeltaState) obj);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+	
+	private static class Recorder implements IPacketFields {
+		
+		private final byte[] types = new byte[MAX_FIELDS];
+		private final long[] values = new long[MAX_FIELDS];
+		private final String[] strings = new String[MAX_FIELDS];
+		private int size = 0;
+		
+		private void add(byte type, long value, String string) {
+			if (size >= MAX_FIELDS) throw new IllegalStateException("Update packets can not have more than " + MAX_FIELDS + " fields");
+			types[size] = type;
+			values[size] = value;
+			strings[size++] = string;
+		}
+		
+		@Override
+		public boolean visit(boolean value) {
+			add(BOOLEAN, value ? 1L : 0L, null);
+			return value;
+		}
+		
+		@Override
+		public int visit(int value) {
+			add(INT, value, null);
+			return value;
+		}
+		
+		@Override
+		public long visit(long value) {
+			add(LONG, value, null);
+			return value;
+		}
+		
+		@Override
+		public double visit(double value) {
+			add(DOUBLE, Double.doubleToRawLongBits(value), null);
+			return value;
+		}
+		
+		@Override
+		public String visit(String value) {
+			add(STRING, 0L, value == null ? "" : value);
+			return value;
+		}
+		
+		private DeltaState getState() {
+			return new DeltaState(Arrays.copyOf(types, size), Arrays.copyOf(values, size), Arrays.copyOf(strings, size));
+		}
+	}
+	
+	private class Applier implements IPacketFields {
+		
+		private int index = 0;
+		
+		@Override
+		public boolean visit(boolean value) {
+			return values[index++] != 0L;
+		}
+		
+		@Override
+		public int visit(int value) {
+			return (int) values[index++];
+		}
+		
+		@Override
+		public long visit(long value) {
+			return values[index++];
+		}
+		
+		@Override
+		public double visit(double value) {
+			return Double.longBitsToDouble(values[index++]);
+		}
+		
+		@Override
+		public String visit(String value) {
+			return strings[index++];
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package nc.network;
+
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.network.FMLNetworkEvent.ClientDisconnectionFromServerEvent;
+
+/** Forgets the GUI update states the client has received when it leaves a world, as the server starts again from keyframes for the next one */
+public class DeltaUpdateHandler {
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if (event.getWorld().isRemote) DeltaCodec.clearReceived();
+	}
+	
+	@SubscribeEvent
+	public void onClientDisconnect(ClientDisconnectionFromServerEvent event) {
+		DeltaCodec.clearReceived();
+	}
+}
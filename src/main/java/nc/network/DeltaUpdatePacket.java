@@ -0,0 +1,55 @@
+package nc.network;
+
+import io.netty.buffer.ByteBuf;
+import nc.util.NCUtil;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+
+/** Update packet which only carries the fields that changed since the previous packet its receiver was sent */
+public abstract class DeltaUpdatePacket implements IMessage {
+	
+	protected boolean messageValid;
+	protected BlockPos pos;
+	
+	private DeltaState state, deltaBase;
+	private boolean broadcast;
+	
+	public DeltaUpdatePacket() {
+		messageValid = false;
+	}
+	
+	public abstract void visitFields(IPacketFields fields);
+	
+	public DeltaState getDeltaState() {
+		if (state == null) state = DeltaState.of(this);
+		return state;
+	}
+	
+	/** Messages are encoded on the sending thread, so this is set just before each send. Broadcasts are keyframes which receivers do not encode later deltas against. */
+	public void setDeltaBase(DeltaState base, boolean broadcast) {
+		deltaBase = base;
+		this.broadcast = broadcast;
+	}
+	
+	@Override
+	public void fromBytes(ByteBuf buf) {
+		try {
+			pos = BlockPos.fromLong(buf.readLong());
+			if (!DeltaCodec.read(buf, this, pos)) {
+				NCUtil.getLogger().debug("Dropped a GUI update delta for " + pos + " which was sent without a keyframe");
+				return;
+			}
+		} catch (IndexOutOfBoundsException ioe) {
+			NCUtil.getLogger().catching(ioe);
+			return;
+		}
+		messageValid = true;
+	}
+	
+	@Override
+	public void toBytes(ByteBuf buf) {
+		if (!messageValid) return;
+		buf.writeLong(pos.toLong());
+		DeltaCodec.write(buf, getDeltaState(), deltaBase, broadcast);
+	}
+}
@@ -0,0 +1,61 @@
+package nc.network;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
+
+/** Remembers the last GUI update state sent to each player from each tile or multiblock, so that only changes are sent. Containers also reset entries from the client thread, hence the locking. */
+public class GuiUpdateTracker {
+	
+	private static final Map<EntityPlayer, Map<Object, Sent>> SENT = new WeakHashMap<EntityPlayer, Map<Object, Sent>>();
+	
+	private static Map<Object, Sent> getSent(EntityPlayer player) {
+		Map<Object, Sent> sent = SENT.get(player);
+		if (sent == null) {
+			sent = new IdentityHashMap<Object, Sent>();
+			SENT.put(player, sent);
+		}
+		return sent;
+	}
+	
+	/** Sends the changes since the last update from this source, a keyframe if there was none, or nothing if nothing changed */
+	public static synchronized void sendTo(DeltaUpdatePacket packet, Object source, EntityPlayerMP player) {
+		Map<Object, Sent> sent = getSent(player);
+		Sent last = sent.get(source);
+		// The receiver keeps its states per position, so a multiblock whose controller has moved starts again from a keyframe
+		DeltaState state = packet.getDeltaState(), base = last == null || !last.pos.equals(packet.pos) ? null : last.state;
+		if (state.equals(base)) return;
+		packet.setDeltaBase(base, false);
+		PacketHandler.instance.sendTo(packet, player);
+		sent.put(source, new Sent(packet.pos, state));
+	}
+	
+	/** Sends a keyframe to every player tracking the chunk the packet's position is in */
+	public static synchronized void sendToAllTracking(DeltaUpdatePacket packet, World world) {
+		packet.setDeltaBase(null, true);
+		PacketHandler.instance.sendToAllTracking(packet, new TargetPoint(world.provider.getDimension(), packet.pos.getX(), packet.pos.getY(), packet.pos.getZ(), 0D));
+	}
+	
+	/** Forgets what was sent to the player from this source, so that the next update is a keyframe */
+	public static synchronized void reset(Object source, EntityPlayer player) {
+		Map<Object, Sent> sent = SENT.get(player);
+		if (sent != null) sent.remove(source);
+	}
+	
+	private static class Sent {
+		
+		private final BlockPos pos;
+		private final DeltaState state;
+		
+		private Sent(BlockPos pos, DeltaState state) {
+			this.pos = pos;
+			this.state = state;
+		}
+	}
+}
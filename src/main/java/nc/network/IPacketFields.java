@@ -0,0 +1,15 @@
+package nc.network;
+
+/** Visits the fields of an update packet in a fixed order - each method returns the value the field should now hold */
+public interface IPacketFields {
+	
+	public boolean visit(boolean value);
+	
+	public int visit(int value);
+	
+	public long visit(long value);
+	
+	public double visit(double value);
+	
+	public String visit(String value);
+}
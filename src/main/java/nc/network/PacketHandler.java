@@ -6,8 +6,6 @@ import nc.multiblock.network.SaltFissionUpdatePacket;
 import nc.multiblock.network.TurbineUpdatePacket;
 import nc.network.config.ConfigUpdatePacket;
 import nc.network.gui.EmptyTankButtonPacket;
-import nc.network.gui.GetFluidInTankPacket;
-import nc.network.gui.ReturnFluidInTankPacket;
 import nc.network.gui.ToggleAlternateComparatorButtonPacket;
 import nc.network.gui.ToggleTanksEmptyUnusableButtonPacket;
 import nc.network.gui.ToggleTanksSharedButtonPacket;
@@ -40,7 +38,6 @@ public class PacketHandler {
 
 	public static void registerMessages() {
 		// SERVER
-		instance.registerMessage(GetFluidInTankPacket.Handler.class, GetFluidInTankPacket.class, nextID(), Side.SERVER);
 		instance.registerMessage(EmptyTankButtonPacket.Handler.class, EmptyTankButtonPacket.class, nextID(), Side.SERVER);
 		
 		instance.registerMessage(ToggleTanksSharedButtonPacket.Handler.class, ToggleTanksSharedButtonPacket.class, nextID(), Side.SERVER);
@@ -53,8 +50,6 @@ public class PacketHandler {
 		
 		instance.registerMessage(BlockHighlightUpdatePacket.Handler.class, BlockHighlightUpdatePacket.class, nextID(), Side.CLIENT);
 		
-		instance.registerMessage(ReturnFluidInTankPacket.Handler.class, ReturnFluidInTankPacket.class, nextID(), Side.CLIENT);
-		
 		instance.registerMessage(ProcessorUpdatePacket.Handler.class, ProcessorUpdatePacket.class, nextID(), Side.CLIENT);
 		instance.registerMessage(FissionUpdatePacket.Handler.class, FissionUpdatePacket.class, nextID(), Side.CLIENT);
 		instance.registerMessage(FusionUpdatePacket.Handler.class, FusionUpdatePacket.class, nextID(), Side.CLIENT);
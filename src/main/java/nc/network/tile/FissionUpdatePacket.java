@@ -1,13 +1,13 @@
 package nc.network.tile;
 
-import io.netty.buffer.ByteBuf;
+import nc.network.IPacketFields;
 import nc.tile.generator.TileFissionController;
 import net.minecraft.util.math.BlockPos;
 
 public class FissionUpdatePacket extends TileUpdatePacket {
 	
 	public double time;
-	public int energyStored;
+	public long energyStored;
 	public double baseProcessTime;
 	public double baseProcessPower;
 	public double heat;
@@ -32,7 +32,7 @@ public class FissionUpdatePacket extends TileUpdatePacket {
 		messageValid = false;
 	}
 	
-	public FissionUpdatePacket(BlockPos pos, double time, int energyStored, double baseProcessTime, double baseProcessPower, double heat, double cooling, double efficiency, int cells, double speedMultiplier, int lengthX, int lengthY, int lengthZ, double heatChange, int complete, int ready, int problemPosX, int problemPosY, int problemPosZ, double heatMult, boolean hasConsumed, boolean computerActivated) {
+	public FissionUpdatePacket(BlockPos pos, double time, long energyStored, double baseProcessTime, double baseProcessPower, double heat, double cooling, double efficiency, int cells, double speedMultiplier, int lengthX, int lengthY, int lengthZ, double heatChange, int complete, int ready, int problemPosX, int problemPosY, int problemPosZ, double heatMult, boolean hasConsumed, boolean computerActivated) {
 		this.pos = pos;
 		this.time = time;
 		this.energyStored = energyStored;
@@ -60,57 +60,28 @@ public class FissionUpdatePacket extends TileUpdatePacket {
 	}
 	
 	@Override
-	public void readMessage(ByteBuf buf) {
-		pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
-		time = buf.readDouble();
-		energyStored = buf.readInt();
-		baseProcessTime = buf.readDouble();
-		baseProcessPower = buf.readDouble();
-		heat = buf.readDouble();
-		cooling = buf.readDouble();
-		efficiency = buf.readDouble();
-		cells = buf.readInt();
-		speedMultiplier = buf.readDouble();
-		lengthX = buf.readInt();
-		lengthY = buf.readInt();
-		lengthZ = buf.readInt();
-		heatChange = buf.readDouble();
-		complete = buf.readInt();
-		ready = buf.readInt();
-		problemPosX = buf.readInt();
-		problemPosY = buf.readInt();
-		problemPosZ = buf.readInt();
-		heatMult = buf.readDouble();
-		hasConsumed = buf.readBoolean();
-		computerActivated = buf.readBoolean();
-	}
-	
-	@Override
-	public void writeMessage(ByteBuf buf) {
-		buf.writeInt(pos.getX());
-		buf.writeInt(pos.getY());
-		buf.writeInt(pos.getZ());
-		buf.writeDouble(time);
-		buf.writeInt(energyStored);
-		buf.writeDouble(baseProcessTime);
-		buf.writeDouble(baseProcessPower);
-		buf.writeDouble(heat);
-		buf.writeDouble(cooling);
-		buf.writeDouble(efficiency);
-		buf.writeInt(cells);
-		buf.writeDouble(speedMultiplier);
-		buf.writeInt(lengthX);
-		buf.writeInt(lengthY);
-		buf.writeInt(lengthZ);
-		buf.writeDouble(heatChange);
-		buf.writeInt(complete);
-		buf.writeInt(ready);
-		buf.writeInt(problemPosX);
-		buf.writeInt(problemPosY);
-		buf.writeInt(problemPosZ);
-		buf.writeDouble(heatMult);
-		buf.writeBoolean(hasConsumed);
-		buf.writeBoolean(computerActivated);
+	public void visitFields(IPacketFields fields) {
+		time = fields.visit(time);
+		energyStored = fields.visit(energyStored);
+		baseProcessTime = fields.visit(baseProcessTime);
+		baseProcessPower = fields.visit(baseProcessPower);
+		heat = fields.visit(heat);
+		cooling = fields.visit(cooling);
+		efficiency = fields.visit(efficiency);
+		cells = fields.visit(cells);
+		speedMultiplier = fields.visit(speedMultiplier);
+		lengthX = fields.visit(lengthX);
+		lengthY = fields.visit(lengthY);
+		lengthZ = fields.visit(lengthZ);
+		heatChange = fields.visit(heatChange);
+		complete = fields.visit(complete);
+		ready = fields.visit(ready);
+		problemPosX = fields.visit(problemPosX);
+		problemPosY = fields.visit(problemPosY);
+		problemPosZ = fields.visit(problemPosZ);
+		heatMult = fields.visit(heatMult);
+		hasConsumed = fields.visit(hasConsumed);
+		computerActivated = fields.visit(computerActivated);
 	}
 	
 	public static class Handler extends TileUpdatePacket.Handler<FissionUpdatePacket, TileFissionController> {
@@ -1,9 +1,11 @@
 package nc.network.tile;
 
-import io.netty.buffer.ByteBuf;
+import java.util.List;
+
+import nc.network.IPacketFields;
 import nc.tile.generator.TileFusionCore;
+import nc.tile.internal.fluid.Tank;
 import net.minecraft.util.math.BlockPos;
-import net.minecraftforge.fml.common.network.ByteBufUtils;
 
 public class FusionUpdatePacket extends TileUpdatePacket {
 	
@@ -23,12 +25,13 @@ public class FusionUpdatePacket extends TileUpdatePacket {
 	public boolean hasConsumed;
 	public boolean computerActivated;
 	public String problem;
+	public TankUpdateInfo tanks = new TankUpdateInfo();
 	
 	public FusionUpdatePacket() {
 		messageValid = false;
 	}
 	
-	public FusionUpdatePacket(BlockPos pos, double time, int energyStored, double baseProcessTime, double baseProcessPower, double processPower, boolean isProcessing, double heat, double efficiency, double speedMultiplier, int size, int complete, double cooling, double heatChange, boolean hasConsumed, boolean computerActivated, String problem) {
+	public FusionUpdatePacket(BlockPos pos, double time, int energyStored, double baseProcessTime, double baseProcessPower, double processPower, boolean isProcessing, double heat, double efficiency, double speedMultiplier, int size, int complete, double cooling, double heatChange, boolean hasConsumed, boolean computerActivated, String problem, List<Tank> tanks) {
 		this.pos = pos;
 		this.time = time;
 		this.energyStored = energyStored;
@@ -46,52 +49,30 @@ public class FusionUpdatePacket extends TileUpdatePacket {
 		this.hasConsumed = hasConsumed;
 		this.computerActivated = computerActivated;
 		this.problem = problem;
+		this.tanks = new TankUpdateInfo(tanks);
 		
 		messageValid = true;
 	}
 	
 	@Override
-	public void readMessage(ByteBuf buf) {
-		pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
-		time = buf.readDouble();
-		energyStored = buf.readInt();
-		baseProcessTime = buf.readDouble();
-		baseProcessPower = buf.readDouble();
-		processPower = buf.readDouble();
-		isProcessing = buf.readBoolean();
-		heat = buf.readDouble();
-		efficiency = buf.readDouble();
-		speedMultiplier = buf.readDouble();
-		size = buf.readInt();
-		complete = buf.readInt();
-		cooling = buf.readDouble();
-		heatChange = buf.readDouble();
-		hasConsumed = buf.readBoolean();
-		computerActivated = buf.readBoolean();
-		problem = ByteBufUtils.readUTF8String(buf);
-	}
-	
-	@Override
-	public void writeMessage(ByteBuf buf) {
-		buf.writeInt(pos.getX());
-		buf.writeInt(pos.getY());
-		buf.writeInt(pos.getZ());
-		buf.writeDouble(time);
-		buf.writeInt(energyStored);
-		buf.writeDouble(baseProcessTime);
-		buf.writeDouble(baseProcessPower);
-		buf.writeDouble(processPower);
-		buf.writeBoolean(isProcessing);
-		buf.writeDouble(heat);
-		buf.writeDouble(efficiency);
-		buf.writeDouble(speedMultiplier);
-		buf.writeInt(size);
-		buf.writeInt(complete);
-		buf.writeDouble(cooling);
-		buf.writeDouble(heatChange);
-		buf.writeBoolean(hasConsumed);
-		buf.writeBoolean(computerActivated);
-		ByteBufUtils.writeUTF8String(buf, problem);
+	public void visitFields(IPacketFields fields) {
+		time = fields.visit(time);
+		energyStored = fields.visit(energyStored);
+		baseProcessTime = fields.visit(baseProcessTime);
+		baseProcessPower = fields.visit(baseProcessPower);
+		processPower = fields.visit(processPower);
+		isProcessing = fields.visit(isProcessing);
+		heat = fields.visit(heat);
+		efficiency = fields.visit(efficiency);
+		speedMultiplier = fields.visit(speedMultiplier);
+		size = fields.visit(size);
+		complete = fields.visit(complete);
+		cooling = fields.visit(cooling);
+		heatChange = fields.visit(heatChange);
+		hasConsumed = fields.visit(hasConsumed);
+		computerActivated = fields.visit(computerActivated);
+		problem = fields.visit(problem);
+		tanks.visitFields(fields);
 	}
 	
 	public static class Handler extends TileUpdatePacket.Handler<FusionUpdatePacket, TileFusionCore> {
@@ -1,7 +1,10 @@
 package nc.network.tile;
 
-import io.netty.buffer.ByteBuf;
+import java.util.List;
+
+import nc.network.IPacketFields;
 import nc.tile.IGui;
+import nc.tile.internal.fluid.Tank;
 import net.minecraft.util.math.BlockPos;
 
 public class ProcessorUpdatePacket extends TileUpdatePacket {
@@ -10,6 +13,7 @@ public class ProcessorUpdatePacket extends TileUpdatePacket {
 	public int energyStored;
 	public double baseProcessTime;
 	public double baseProcessPower;
+	public TankUpdateInfo tanks = new TankUpdateInfo();
 	
 	public ProcessorUpdatePacket() {
 		messageValid = false;
@@ -25,24 +29,18 @@ public class ProcessorUpdatePacket extends TileUpdatePacket {
 		messageValid = true;
 	}
 	
-	@Override
-	public void readMessage(ByteBuf buf) {
-		pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
-		time = buf.readDouble();
-		energyStored = buf.readInt();
-		baseProcessTime = buf.readDouble();
-		baseProcessPower = buf.readDouble();
+	public ProcessorUpdatePacket(BlockPos pos, double time, int energyStored, double baseProcessTime, double baseProcessPower, List<Tank> tanks) {
+		this(pos, time, energyStored, baseProcessTime, baseProcessPower);
+		this.tanks = new TankUpdateInfo(tanks);
 	}
 	
 	@Override
-	public void writeMessage(ByteBuf buf) {
-		buf.writeInt(pos.getX());
-		buf.writeInt(pos.getY());
-		buf.writeInt(pos.getZ());
-		buf.writeDouble(time);
-		buf.writeInt(energyStored);
-		buf.writeDouble(baseProcessTime);
-		buf.writeDouble(baseProcessPower);
+	public void visitFields(IPacketFields fields) {
+		time = fields.visit(time);
+		energyStored = fields.visit(energyStored);
+		baseProcessTime = fields.visit(baseProcessTime);
+		baseProcessPower = fields.visit(baseProcessPower);
+		tanks.visitFields(fields);
 	}
 	
 	public static class Handler extends TileUpdatePacket.Handler<ProcessorUpdatePacket, IGui> {
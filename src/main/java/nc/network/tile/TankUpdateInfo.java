@@ -0,0 +1,43 @@
+package nc.network.tile;
+
+import java.util.List;
+
+import nc.network.IPacketFields;
+import nc.tile.internal.fluid.Tank;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+/** Contents of up to eight tanks as fluid ID and amount pairs, visited as fixed update packet fields so that only the tanks which changed are sent */
+public class TankUpdateInfo {
+	
+	public static final int MAX_TANKS = 8;
+	
+	/** Fluid IDs plus one, so that empty tanks keep the default value */
+	private final int[] fluidIDs = new int[MAX_TANKS];
+	private final int[] amounts = new int[MAX_TANKS];
+	
+	public TankUpdateInfo() {}
+	
+	public TankUpdateInfo(List<Tank> tanks) {
+		for (int i = 0; i < Math.min(tanks.size(), MAX_TANKS); i++) {
+			FluidStack stack = tanks.get(i).peekFluid();
+			if (stack == null || stack.amount <= 0) continue;
+			fluidIDs[i] = FluidRegistry.getFluidID(stack.getFluid()) + 1;
+			amounts[i] = stack.amount;
+		}
+	}
+	
+	public void visitFields(IPacketFields fields) {
+		for (int i = 0; i < MAX_TANKS; i++) {
+			fluidIDs[i] = fields.visit(fluidIDs[i]);
+			amounts[i] = fields.visit(amounts[i]);
+		}
+	}
+	
+	public void applyTo(List<Tank> tanks) {
+		for (int i = 0; i < Math.min(tanks.size(), MAX_TANKS); i++) {
+			if (fluidIDs[i] <= 0) tanks.get(i).setFluidStored(null);
+			else tanks.get(i).setFluidStored(FluidRegistry.getFluid(fluidIDs[i] - 1), amounts[i]);
+		}
+	}
+}
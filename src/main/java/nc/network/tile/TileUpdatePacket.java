@@ -1,51 +1,21 @@
 package nc.network.tile;
 
-import io.netty.buffer.ByteBuf;
+import nc.network.DeltaUpdatePacket;
 import nc.tile.ITile;
-import nc.util.NCUtil;
 import net.minecraft.client.Minecraft;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import net.minecraftforge.fml.relauncher.Side;
 
-public abstract class TileUpdatePacket implements IMessage {
-	
-	protected boolean messageValid;
-	protected BlockPos pos;
-	
-	public TileUpdatePacket() {
-		messageValid = false;
-	}
-	
-	public abstract void readMessage(ByteBuf buf);
-	
-	public abstract void writeMessage(ByteBuf buf);
-	
-	@Override
-	public void fromBytes(ByteBuf buf) {
-		try {
-			readMessage(buf);
-		} catch (IndexOutOfBoundsException ioe) {
-			NCUtil.getLogger().catching(ioe);
-			return;
-		}
-		messageValid = true;
-	}
-
-	@Override
-	public void toBytes(ByteBuf buf) {
-		if (!messageValid) return;
-		writeMessage(buf);
-	}
+public abstract class TileUpdatePacket extends DeltaUpdatePacket {
 	
 	public static abstract class Handler<MESSAGE extends TileUpdatePacket, TILE> implements IMessageHandler<MESSAGE, IMessage> {
 		
 		@Override
 		public IMessage onMessage(MESSAGE message, MessageContext ctx) {
-			if (!message.messageValid && ctx.side != Side.CLIENT) return null;
+			if (!message.messageValid || ctx.side != Side.CLIENT) return null;
 			Minecraft.getMinecraft().addScheduledTask(() -> processMessage(message));
 			return null;
 		}
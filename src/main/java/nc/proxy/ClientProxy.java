@@ -14,6 +14,7 @@ import nc.init.NCFissionFluids;
 import nc.init.NCItems;
 import nc.init.NCTools;
 import nc.model.ModelTexturedFluid;
+import nc.network.DeltaUpdateHandler;
 import nc.radiation.RadiationRenders;
 import nc.render.BlockHighlightHandler;
 import nc.render.ColorRenderer;
@@ -68,6 +69,7 @@ public class ClientProxy extends CommonProxy {
 		//ClientRegistry.bindTileEntitySpecialRenderer(TileSpin.class, new RenderSpin());
 		
 		MinecraftForge.EVENT_BUS.register(new BlockHighlightHandler());
+		MinecraftForge.EVENT_BUS.register(new DeltaUpdateHandler());
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import nc.Global;
 import nc.ModCheck;
 import nc.capability.radiation.RadiationCapabilityHandler;
 import nc.command.CommandHandler;
+import nc.handler.BlockChangeHandler;
 import nc.handler.CapabilityHandler;
 import nc.handler.DropHandler;
 import nc.handler.DungeonLootHandler;
@@ -59,6 +60,9 @@ public class CommonProxy {
 	public void preInit(FMLPreInitializationEvent preEvent) {
 		ModCheck.init();
 		
+		MinecraftForge.EVENT_BUS.register(new OreDictHandler());
+		MinecraftForge.EVENT_BUS.register(new BlockChangeHandler());
+		
 		SoundHandler.init();
 		
 		NCBlocks.init();
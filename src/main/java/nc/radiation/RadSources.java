@@ -1,20 +1,30 @@
 package nc.radiation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 
 import nc.ModCheck;
+import nc.capability.radiation.source.IRadiationSource;
+import nc.capability.radiation.source.StackRadiationSource;
 import nc.config.NCConfig;
 import nc.init.NCBlocks;
 import nc.util.ItemInfo;
+import nc.util.OreDictHelper;
 import nc.util.RegistryHelper;
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 public class RadSources {
 	
@@ -24,16 +34,102 @@ public class RadSources {
 	public static final Map<String, Double> ORE_MAP = new HashMap<String, Double>();
 	public static final Map<ItemInfo, Double> STACK_MAP = new HashMap<ItemInfo, Double>();
 	
-	public static void addToOreMap(String ore, Double radiation) {
+	public static synchronized void addToOreMap(String ore, Double radiation) {
 		if (ORE_BLACKLIST.contains(ore)) return;
 		ORE_MAP.put(ore, radiation);
+		for (ItemStack stack : OreDictionary.getOres(ore, false)) RADIOACTIVE_ITEMS.add(stack.getItem());
+		onSourcesChanged();
 	}
 	
-	public static void addToStackMap(ItemStack stack, Double radiation) {
+	public static synchronized void addToStackMap(ItemStack stack, Double radiation) {
 		for (ItemStack blacklisted : STACK_BLACKLIST) {
 			if (stack.isItemEqual(blacklisted)) return;
 		}
 		STACK_MAP.put(new ItemInfo(stack), radiation);
+		RADIOACTIVE_ITEMS.add(stack.getItem());
+		onSourcesChanged();
+	}
+	
+	// Stack Radiation - one shared source per item and meta, resolved against an immutable snapshot of the sources
+	
+	private static final IRadiationSource NO_RADIATION = new StackRadiationSource(0D);
+	
+	/** Items with a radiation entry for at least one meta - only touched while holding the class lock */
+	private static final Set<Item> RADIOACTIVE_ITEMS = Collections.newSetFromMap(new IdentityHashMap<Item, Boolean>());
+	
+	/** Published once the sources have been registered, and replaced whenever they change afterwards - read without locking */
+	private static volatile StackRadiationTable stackRadiationTable = null;
+	
+	public static synchronized void onOreRegistered(String ore, ItemStack stack) {
+		if (!ORE_MAP.containsKey(ore) || stack.isEmpty()) return;
+		RADIOACTIVE_ITEMS.add(stack.getItem());
+		onSourcesChanged();
+	}
+	
+	private static void onSourcesChanged() {
+		if (stackRadiationTable != null) publishStackRadiationTable();
+	}
+	
+	private static synchronized void publishStackRadiationTable() {
+		stackRadiationTable = new StackRadiationTable(RADIOACTIVE_ITEMS, ORE_MAP, STACK_MAP);
+	}
+	
+	/** Whether stack radiation can be resolved from the published table yet */
+	public static boolean isStackRadiationReady() {
+		return stackRadiationTable != null;
+	}
+	
+	/** Stacks of other items never need a radiation capability - until the table is published every item is treated as possibly radioactive, so that stacks created during loading still get the capability */
+	public static boolean isPossiblyRadioactive(Item item) {
+		StackRadiationTable table = stackRadiationTable;
+		return table == null || table.items.contains(item);
+	}
+	
+	/** The returned source is shared by all stacks of the same item and meta */
+	public static IRadiationSource getStackRadiation(ItemStack stack) {
+		if (stack.isEmpty()) return NO_RADIATION;
+		StackRadiationTable table = stackRadiationTable;
+		if (table == null) synchronized (RadSources.class) {
+			return resolveStackRadiation(stack, RADIOACTIVE_ITEMS, ORE_MAP, STACK_MAP);
+		}
+		return table.getStackRadiation(stack);
+	}
+	
+	private static IRadiationSource resolveStackRadiation(ItemStack stack, Set<Item> items, Map<String, Double> oreMap, Map<ItemInfo, Double> stackMap) {
+		if (!items.contains(stack.getItem())) return NO_RADIATION;
+		Double stackRadiation = stackMap.get(new ItemInfo(stack));
+		if (stackRadiation != null) return new StackRadiationSource(stackRadiation);
+		for (String oreName : OreDictHelper.getOreNames(stack)) {
+			Double oreRadiation = oreMap.get(oreName);
+			if (oreRadiation != null) return new StackRadiationSource(oreRadiation);
+		}
+		return NO_RADIATION;
+	}
+	
+	/** Immutable copy of the sources, with a concurrent cache of the radiation resolved for each item and meta */
+	private static class StackRadiationTable {
+		
+		private final Set<Item> items;
+		private final Map<String, Double> oreMap;
+		private final Map<ItemInfo, Double> stackMap;
+		private final Map<Long, IRadiationSource> cache = new ConcurrentHashMap<Long, IRadiationSource>();
+		
+		private StackRadiationTable(Set<Item> items, Map<String, Double> oreMap, Map<ItemInfo, Double> stackMap) {
+			this.items = ImmutableSet.copyOf(items);
+			this.oreMap = ImmutableMap.copyOf(oreMap);
+			this.stackMap = ImmutableMap.copyOf(stackMap);
+		}
+		
+		private IRadiationSource getStackRadiation(ItemStack stack) {
+			if (!items.contains(stack.getItem())) return NO_RADIATION;
+			Long key = OreDictHelper.itemKey(stack.getItem(), stack.getItemDamage());
+			IRadiationSource radiation = cache.get(key);
+			if (radiation == null) {
+				radiation = resolveStackRadiation(stack, items, oreMap, stackMap);
+				cache.put(key, radiation);
+			}
+			return radiation;
+		}
 	}
 	
 	public static final double INGOT = 1D;
@@ -369,5 +465,6 @@ public class RadSources {
 			ItemStack stack = RegistryHelper.blockStackFromRegistry(blockInfo.substring(0, scorePos));
 			if (stack != null) addToStackMap(stack, Double.parseDouble(blockInfo.substring(scorePos + 1)));
 		}
+		publishStackRadiationTable();
 	}
 }
@@ -0,0 +1,311 @@
+package nc.radiation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+
+import ic2.api.reactor.IReactor;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import nc.ModCheck;
+import nc.capability.radiation.entity.IEntityRads;
+import nc.capability.radiation.source.IRadiationSource;
+import nc.config.NCConfig;
+import nc.handler.WorldEventListenerAdapter;
+import nc.tile.radiation.ITileRadiationEnvironment;
+import nc.util.RadiationHelper;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeProvider;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.items.CapabilityItemHandler;
+
+/** The loaded chunks of a dimension and the tiles and entities in it which can give off radiation. Sources are tracked as they are loaded and unloaded. */
+public class RadiationField {
+	
+	private static final BlockPos BIOME_POS = new BlockPos(8, 8, 8);
+	
+	private static final List<byte[]> ADJACENT_COORDS = Lists.newArrayList(new byte[] {1, 0}, new byte[] {0, 1}, new byte[] {-1, 0}, new byte[] {0, -1});
+	
+	private final WorldServer world;
+	private final int dimension;
+	
+	private final Long2ObjectOpenHashMap<ChunkEntry> chunkMap = new Long2ObjectOpenHashMap<ChunkEntry>();
+	private ChunkEntry[] chunks = new ChunkEntry[256];
+	private int chunkCount = 0;
+	
+	private final Set<Entity> entities = Collections.newSetFromMap(new IdentityHashMap<Entity, Boolean>());
+	private Entity[] entityArray = new Entity[64];
+	
+	private final Set<TileEntity> environmentTiles = Collections.newSetFromMap(new IdentityHashMap<TileEntity, Boolean>());
+	
+	public RadiationField(WorldServer world) {
+		this.world = world;
+		dimension = world.provider.getDimension();
+		world.addEventListener(new Listener());
+	}
+	
+	public World getWorld() {
+		return world;
+	}
+	
+	// Chunks
+	
+	public void onChunkLoad(Chunk chunk) {
+		long key = ChunkPos.asLong(chunk.x, chunk.z);
+		if (chunkMap.containsKey(key) || !chunk.hasCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null)) return;
+		IRadiationSource chunkRadiation = chunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
+		if (chunkRadiation == null) return;
+		
+		ChunkEntry entry = new ChunkEntry(chunk, chunkRadiation);
+		if (chunkCount == chunks.length) chunks = Arrays.copyOf(chunks, 2*chunkCount);
+		entry.index = chunkCount;
+		chunks[chunkCount++] = entry;
+		chunkMap.put(key, entry);
+	}
+	
+	public void onChunkUnload(Chunk chunk) {
+		ChunkEntry entry = chunkMap.remove(ChunkPos.asLong(chunk.x, chunk.z));
+		if (entry == null) return;
+		
+		ChunkEntry last = chunks[--chunkCount];
+		chunks[entry.index] = last;
+		last.index = entry.index;
+		chunks[chunkCount] = null;
+	}
+	
+	/** Tiles placed during population do not cause block updates, so the chunk is scanned again on the next update */
+	public void onChunkPopulated(Chunk chunk) {
+		ChunkEntry entry = chunkMap.get(ChunkPos.asLong(chunk.x, chunk.z));
+		if (entry != null) entry.needsScan = true;
+	}
+	
+	private ChunkEntry getChunkEntry(BlockPos pos) {
+		return chunkMap.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+	}
+	
+	// Sources
+	
+	private void scanTiles(ChunkEntry entry) {
+		for (TileEntity tile : entry.chunk.getTileEntityMap().values()) addTile(entry, tile);
+		entry.needsScan = false;
+	}
+	
+	private void addTile(ChunkEntry entry, TileEntity tile) {
+		if (tile == null || tile.isInvalid()) return;
+		if (tile instanceof ITileRadiationEnvironment) environmentTiles.add(tile);
+		if (isRadiationSource(tile)) entry.tiles.add(tile);
+	}
+	
+	/** Tiles which can never add to the chunk buffer are not tracked */
+	private static boolean isRadiationSource(TileEntity tile) {
+		if (tile.hasCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null)) return true;
+		if (ModCheck.ic2Loaded()) {
+			if (tile instanceof IReactor) return true;
+		}
+		return NCConfig.radiation_hardcore_containers > 0D && tile.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+	}
+	
+	private void addEntity(Entity entity) {
+		if (entity instanceof EntityPlayer) entities.add(entity);
+		else if (entity instanceof EntityItem) {
+			if (NCConfig.radiation_dropped_items) entities.add(entity);
+		}
+		else if (entity instanceof EntityLiving && entity.hasCapability(IEntityRads.CAPABILITY_ENTITY_RADS, null)) entities.add(entity);
+	}
+	
+	// Update
+	
+	public void update(int tickRate) {
+		updateEntities(tickRate);
+		updateChunkBuffers();
+		updateEnvironmentTiles();
+		updateChunkLevels();
+		spreadRadiation();
+	}
+	
+	private void updateEntities(int tickRate) {
+		// Entities can be spawned or removed while irradiating others, so a copy is iterated over
+		int entityCount = entities.size();
+		entityArray = entities.toArray(entityArray);
+		
+		for (int i = 0; i < entityCount; i++) {
+			Entity entity = entityArray[i];
+			Chunk chunk = world.getChunkFromChunkCoords((int)entity.posX >> 4, (int)entity.posZ >> 4);
+			if (entity instanceof EntityPlayer) {
+				RadiationHelper.transferRadsFromInventoryToChunkBuffer(((EntityPlayer)entity).inventory, chunk);
+			}
+			else if (entity instanceof EntityItem) {
+				RadiationHelper.transferRadiationFromStackToChunkBuffer(((EntityItem) entity).getItem(), 1D, chunk);
+			}
+			else if (entity instanceof EntityLiving) {
+				EntityLiving entityLiving = (EntityLiving) entity;
+				IEntityRads entityRads = entityLiving.getCapability(IEntityRads.CAPABILITY_ENTITY_RADS, null);
+				if (entityRads != null) {
+					RadiationHelper.transferRadsFromSourceToEntity(world, entityLiving, entityRads, tickRate);
+					RadiationHelper.transferRadsFromSourceToEntity(chunk, entityLiving, entityRads, tickRate);
+					
+					if (NCConfig.radiation_entity_decay_rate > 0D) {
+						entityRads.setTotalRads(entityRads.getTotalRads()*Math.pow(1D - NCConfig.radiation_entity_decay_rate, tickRate), false);
+					}
+					
+					if (entityLiving instanceof IMob) {
+						RadiationHelper.applyPotionEffects(entityLiving, entityRads, RadEffects.MOB_RAD_LEVEL_LIST, RadEffects.MOB_EFFECTS_LIST);
+					}
+					else {
+						if (entityRads.isFatal()) {
+							entityLiving.attackEntityFrom(RadiationHandler.FATAL_RADS, Float.MAX_VALUE);
+						}
+						else {
+							RadiationHelper.applyPotionEffects(entityLiving, entityRads, RadEffects.ENTITY_RAD_LEVEL_LIST, RadEffects.ENTITY_DEBUFF_LIST);
+						}
+					}
+					entityRads.setRadiationLevel(entityRads.getRadiationLevel()*(1D - NCConfig.radiation_decay_rate));
+				}
+			}
+		}
+		Arrays.fill(entityArray, 0, entityCount, null);
+	}
+	
+	private void updateChunkBuffers() {
+		BiomeProvider biomeProvider = world.getBiomeProvider();
+		boolean biomeRadiation = !RadBiomes.DIM_BLACKLIST.contains(dimension);
+		
+		for (int i = 0; i < chunkCount; i++) {
+			ChunkEntry entry = chunks[i];
+			if (entry.needsScan) scanTiles(entry);
+			
+			Iterator<TileEntity> tileIterator = entry.tiles.iterator();
+			while (tileIterator.hasNext()) {
+				TileEntity tile = tileIterator.next();
+				if (tile.isInvalid()) tileIterator.remove();
+				else RadiationHelper.addToChunkBuffer(entry.radiation, RadiationHelper.getRadiationFromSource(tile, entry.chunk));
+			}
+			
+			if (biomeRadiation) {
+				Double radiation = RadBiomes.RAD_MAP.get(entry.chunk.getBiome(BIOME_POS, biomeProvider));
+				if (radiation != null) RadiationHelper.addToChunkBuffer(entry.radiation, radiation);
+			}
+		}
+	}
+	
+	private void updateEnvironmentTiles() {
+		if (environmentTiles.isEmpty()) return;
+		
+		Iterator<TileEntity> tileIterator = environmentTiles.iterator();
+		while (tileIterator.hasNext()) {
+			TileEntity tile = tileIterator.next();
+			ChunkEntry entry = getChunkEntry(tile.getPos());
+			if (entry == null || tile.isInvalid()) {
+				tileIterator.remove();
+				continue;
+			}
+			((ITileRadiationEnvironment) tile).setCurrentChunkBuffer(Math.max(NCConfig.radiation_lowest_rate, Math.max(entry.radiation.getRadiationBuffer(), entry.radiation.getRadiationLevel())));
+		}
+		
+		for (TileEntity tile : environmentTiles) {
+			ITileRadiationEnvironment environmentTile = (ITileRadiationEnvironment) tile;
+			RadiationHelper.addToChunkBuffer(getChunkEntry(tile.getPos()).radiation, environmentTile.getChunkBufferContributionFraction()*environmentTile.getCurrentChunkBuffer());
+		}
+	}
+	
+	private void updateChunkLevels() {
+		BiomeProvider biomeProvider = world.getBiomeProvider();
+		Double worldLimit = RadWorlds.LIMIT_MAP.get(dimension);
+		
+		for (int i = 0; i < chunkCount; i++) {
+			ChunkEntry entry = chunks[i];
+			IRadiationSource chunkRadiation = entry.radiation;
+			
+			double changeRate = (chunkRadiation.getRadiationLevel() < chunkRadiation.getRadiationBuffer() || chunkRadiation.getRadiationBuffer() < 0D) ? NCConfig.radiation_spread_rate : NCConfig.radiation_decay_rate;
+			double buffer = chunkRadiation.getRadiationBuffer();
+			
+			double newLevel = Math.max(0D, chunkRadiation.getRadiationLevel() + (buffer - chunkRadiation.getRadiationLevel())*changeRate);
+			if (NCConfig.radiation_chunk_limit >= 0D) {
+				newLevel = Math.min(newLevel, NCConfig.radiation_chunk_limit);
+			}
+			if (!RadBiomes.LIMIT_MAP.isEmpty()) {
+				Biome biome = entry.chunk.getBiome(BIOME_POS, biomeProvider);
+				Double biomeLimit = RadBiomes.LIMIT_MAP.get(biome);
+				if (biomeLimit != null) newLevel = Math.min(newLevel, biomeLimit);
+			}
+			if (worldLimit != null) {
+				newLevel = Math.min(newLevel, worldLimit);
+			}
+			
+			chunkRadiation.setRadiationLevel(newLevel);
+		}
+	}
+	
+	private void spreadRadiation() {
+		for (int i = 0; i < chunkCount; i++) {
+			ChunkEntry entry = chunks[i];
+			ChunkEntry adjacent = getRandomAdjacentChunk(entry);
+			// Emptying buffers here too!
+			RadiationHelper.spreadRadiation(entry.radiation, adjacent == null ? null : adjacent.radiation);
+		}
+	}
+	
+	private ChunkEntry getRandomAdjacentChunk(ChunkEntry entry) {
+		int x = entry.chunk.x;
+		int z = entry.chunk.z;
+		Collections.shuffle(ADJACENT_COORDS);
+		for (byte[] pos : ADJACENT_COORDS) {
+			ChunkEntry adjacent = chunkMap.get(ChunkPos.asLong(x + pos[0], z + pos[1]));
+			if (adjacent != null) return adjacent;
+		}
+		return null;
+	}
+	
+	// Chunk Entry
+	
+	private static class ChunkEntry {
+		
+		private final Chunk chunk;
+		private final IRadiationSource radiation;
+		private final Set<TileEntity> tiles = Collections.newSetFromMap(new IdentityHashMap<TileEntity, Boolean>());
+		private int index;
+		private boolean needsScan = true;
+		
+		private ChunkEntry(Chunk chunk, IRadiationSource radiation) {
+			this.chunk = chunk;
+			this.radiation = radiation;
+		}
+	}
+	
+	// Listener
+	
+	private class Listener extends WorldEventListenerAdapter {
+		
+		@Override
+		public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+			if (oldState == newState || !newState.getBlock().hasTileEntity(newState)) return;
+			ChunkEntry entry = getChunkEntry(pos);
+			if (entry != null) addTile(entry, entry.chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK));
+		}
+		
+		@Override
+		public void onEntityAdded(Entity entity) {
+			addEntity(entity);
+		}
+		
+		@Override
+		public void onEntityRemoved(Entity entity) {
+			entities.remove(entity);
+		}
+	}
+}
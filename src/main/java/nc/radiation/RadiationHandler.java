@@ -1,36 +1,27 @@
 package nc.radiation;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
 
-import com.google.common.collect.Lists;
-
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import nc.capability.radiation.entity.IEntityRads;
-import nc.capability.radiation.source.IRadiationSource;
 import nc.config.NCConfig;
 import nc.handler.SoundHandler;
 import nc.network.PacketHandler;
 import nc.network.radiation.PlayerRadsUpdatePacket;
-import nc.tile.radiation.ITileRadiationEnvironment;
 import nc.util.Lang;
 import nc.util.RadiationHelper;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityLiving;
-import net.minecraft.entity.item.EntityItem;
-import net.minecraft.entity.monster.IMob;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.DamageSource;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
-import net.minecraft.world.biome.Biome;
-import net.minecraft.world.biome.BiomeProvider;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.event.terraingen.PopulateChunkEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 import net.minecraftforge.fml.common.gameevent.TickEvent.PlayerTickEvent;
@@ -47,6 +38,8 @@ public class RadiationHandler {
 	
 	private static final int WORLD_TICK_RATE = NCConfig.radiation_world_tick_rate;
 	private static final int PLAYER_TICK_RATE = NCConfig.radiation_player_tick_rate;
+	
+	private static final Int2ObjectMap<RadiationField> FIELDS = new Int2ObjectOpenHashMap<RadiationField>();
 			
 	@SubscribeEvent
 	public void updatePlayerRadiation(PlayerTickEvent event) {
@@ -113,134 +106,51 @@ public class RadiationHandler {
 		}
 	}
 	
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		if (!NCConfig.radiation_enabled_public || !(event.getWorld() instanceof WorldServer)) return;
+		WorldServer world = (WorldServer)event.getWorld();
+		FIELDS.put(world.provider.getDimension(), new RadiationField(world));
+	}
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		int dimension = event.getWorld().provider.getDimension();
+		RadiationField field = FIELDS.get(dimension);
+		if (field != null && field.getWorld() == event.getWorld()) FIELDS.remove(dimension);
+	}
+	
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		RadiationField field = getField(event.getWorld());
+		if (field != null) field.onChunkLoad(event.getChunk());
+	}
+	
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		RadiationField field = getField(event.getWorld());
+		if (field != null) field.onChunkUnload(event.getChunk());
+	}
+	
+	@SubscribeEvent
+	public void onChunkPopulated(PopulateChunkEvent.Post event) {
+		RadiationField field = getField(event.getWorld());
+		if (field != null) field.onChunkPopulated(event.getWorld().getChunkFromChunkCoords(event.getChunkX(), event.getChunkZ()));
+	}
+	
+	private static RadiationField getField(World world) {
+		if (world.isRemote) return null;
+		RadiationField field = FIELDS.get(world.provider.getDimension());
+		return field != null && field.getWorld() == world ? field : null;
+	}
+	
 	@SubscribeEvent
 	public void updateChunkRadiation(WorldTickEvent event) {
 		if (!NCConfig.radiation_enabled_public) return;
 		
 		if (event.phase != Phase.START || event.side == Side.CLIENT || (event.world.getTotalWorldTime() % WORLD_TICK_RATE) != 0 || !(event.world instanceof WorldServer)) return;
-		WorldServer world = (WorldServer)event.world;
-		ChunkProviderServer chunkProvider = world.getChunkProvider();
-		Chunk[] chunkArray = chunkProvider.getLoadedChunks().toArray(new Chunk[chunkProvider.getLoadedChunks().size()]);
-		
-		Entity[] entityArray = world.loadedEntityList.toArray(new Entity[world.loadedEntityList.size()]);
-		for (Entity entity : entityArray) {
-			Chunk chunk = world.getChunkFromChunkCoords((int)entity.posX >> 4, (int)entity.posZ >> 4);
-			if (entity instanceof EntityPlayer) {
-				RadiationHelper.transferRadsFromInventoryToChunkBuffer(((EntityPlayer)entity).inventory, chunk);
-			}
-			else if (entity instanceof EntityItem) {
-				if (NCConfig.radiation_dropped_items) RadiationHelper.transferRadiationFromStackToChunkBuffer(((EntityItem) entity).getItem(), 1D, chunk);
-			}
-			else if (entity instanceof EntityLiving) {
-				EntityLiving entityLiving = (EntityLiving) entity;
-				if (entityLiving.hasCapability(IEntityRads.CAPABILITY_ENTITY_RADS, null)) {
-					IEntityRads entityRads = entityLiving.getCapability(IEntityRads.CAPABILITY_ENTITY_RADS, null);
-					if (entityRads != null) {
-						RadiationHelper.transferRadsFromSourceToEntity(world, entityLiving, entityRads, WORLD_TICK_RATE);
-						RadiationHelper.transferRadsFromSourceToEntity(chunk, entityLiving, entityRads, WORLD_TICK_RATE);
-						//RadiationHelper.transferBackgroundRadsToEntity(entityLiving.getEntityWorld().getBiome(entityLiving.getPosition()), entityRads, WORLD_TICK_RATE);
-						
-						if (NCConfig.radiation_entity_decay_rate > 0D) {
-							entityRads.setTotalRads(entityRads.getTotalRads()*Math.pow(1D - NCConfig.radiation_entity_decay_rate, WORLD_TICK_RATE), false);
-						}
-						
-						if (entityLiving instanceof IMob) {
-							RadiationHelper.applyPotionEffects(entityLiving, entityRads, RadEffects.MOB_RAD_LEVEL_LIST, RadEffects.MOB_EFFECTS_LIST);
-						}
-						else {
-							if (entityRads.isFatal()) {
-								entityLiving.attackEntityFrom(FATAL_RADS, Float.MAX_VALUE);
-							}
-							else {
-								RadiationHelper.applyPotionEffects(entityLiving, entityRads, RadEffects.ENTITY_RAD_LEVEL_LIST, RadEffects.ENTITY_DEBUFF_LIST);
-							}
-						}
-						entityRads.setRadiationLevel(entityRads.getRadiationLevel()*(1D - NCConfig.radiation_decay_rate));
-					}
-				}
-			}
-		}
-		
-		TileEntity[] tileArray = world.loadedTileEntityList.toArray(new TileEntity[world.loadedTileEntityList.size()]);
-		for (TileEntity tile : tileArray) {
-			Chunk chunk = world.getChunkFromBlockCoords(tile.getPos());
-			RadiationHelper.transferRadiationFromSourceToChunkBuffer(tile, chunk);
-		}
-		
-		BiomeProvider biomeProvider = world.getBiomeProvider();
-		int dimension = world.provider.getDimension();
-		for (Chunk chunk : chunkArray) {
-			if (chunk == null || !chunk.isLoaded() || !chunk.hasCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null)) return;
-			IRadiationSource chunkRadiation = chunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
-			if (chunkRadiation == null) return;
-			
-			if (!RadBiomes.DIM_BLACKLIST.contains(dimension)) {
-				Double biomeRadiation = RadBiomes.RAD_MAP.get(chunk.getBiome(new BlockPos(8, 8, 8), biomeProvider));
-				if (biomeRadiation != null) RadiationHelper.addToChunkBuffer(chunkRadiation, biomeRadiation);
-			}
-		}
-		
-		for (TileEntity tile : tileArray) {
-			if (tile instanceof ITileRadiationEnvironment) {
-				Chunk chunk = world.getChunkFromBlockCoords(tile.getPos());
-				if (chunk == null || !chunk.hasCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null)) return;
-				IRadiationSource chunkRadiation = chunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
-				if (chunkRadiation == null) return;
-				
-				((ITileRadiationEnvironment)tile).setCurrentChunkBuffer(Math.max(NCConfig.radiation_lowest_rate, Math.max(chunkRadiation.getRadiationBuffer(), chunkRadiation.getRadiationLevel())));
-			}
-		}
-		
-		for (TileEntity tile : tileArray) {
-			if (tile instanceof ITileRadiationEnvironment) {
-				Chunk chunk = world.getChunkFromBlockCoords(tile.getPos());
-				RadiationHelper.addFractionToChunkBuffer(chunk, (ITileRadiationEnvironment)tile);
-			}
-		}
-		
-		for (Chunk chunk : chunkArray) {
-			if (chunk == null || !chunk.isLoaded() || !chunk.hasCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null)) return;
-			IRadiationSource chunkRadiation = chunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
-			if (chunkRadiation == null) return;
-			
-			double changeRate = (chunkRadiation.getRadiationLevel() < chunkRadiation.getRadiationBuffer() || chunkRadiation.getRadiationBuffer() < 0D) ? NCConfig.radiation_spread_rate : NCConfig.radiation_decay_rate;
-			double buffer = chunkRadiation.getRadiationBuffer();
-			
-			double newLevel = Math.max(0D, chunkRadiation.getRadiationLevel() + (buffer - chunkRadiation.getRadiationLevel())*changeRate);
-			if (NCConfig.radiation_chunk_limit >= 0D) {
-				newLevel = Math.min(newLevel, NCConfig.radiation_chunk_limit);
-			}
-			Biome biome = chunk.getBiome(new BlockPos(8, 8, 8), biomeProvider);
-			if (!RadBiomes.LIMIT_MAP.isEmpty() && RadBiomes.LIMIT_MAP.containsKey(biome)) {
-				newLevel = Math.min(newLevel, RadBiomes.LIMIT_MAP.get(biome));
-			}
-			if (!RadWorlds.LIMIT_MAP.isEmpty() && RadWorlds.LIMIT_MAP.containsKey(dimension)) {
-				newLevel = Math.min(newLevel, RadWorlds.LIMIT_MAP.get(dimension));
-			}
-			
-			chunkRadiation.setRadiationLevel(newLevel);
-		}
-		
-		for (Chunk chunk : chunkArray) {
-			// Emptying buffers here too!
-			RadiationHelper.spreadRadiationFromChunk(chunk, getRandomAdjacentChunk(chunkProvider, chunk));
-		}
-	}
-	
-	private static final List<byte[]> ADJACENT_COORDS = Lists.newArrayList(new byte[] {1, 0}, new byte[] {0, 1}, new byte[] {-1, 0}, new byte[] {0, -1});
-	
-	private Chunk getRandomAdjacentChunk(ChunkProviderServer chunkProvider, Chunk chunk) {
-		if (chunkProvider == null || chunk == null || !chunk.isLoaded()) return null;
-		int x = chunk.getPos().x;
-		int z = chunk.getPos().z;
-		Collections.shuffle(ADJACENT_COORDS);
-		for (byte[] pos : ADJACENT_COORDS) {
-			if (chunkProvider.chunkExists(x + pos[0], z + pos[1])) {
-				Chunk adjChunk = chunkProvider.getLoadedChunk(x + pos[0], z + pos[1]);
-				if (adjChunk != null) return adjChunk;
-			}
-		}
-		return null;
+		RadiationField field = getField(event.world);
+		if (field != null) field.update(WORLD_TICK_RATE);
 	}
 	
 	private void playGeigerSound(EntityPlayer player) {
@@ -0,0 +1,105 @@
+package nc.radiation.environment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import nc.tile.radiation.ITileRadiationEnvironment;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+/** The positions around environment tiles in one world, bucketed by chunk, with links from each tile back to its positions */
+public class RadiationEnvironment {
+	
+	private final World world;
+	
+	private final Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<RadiationEnvironmentInfo>> chunkMap = new Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<RadiationEnvironmentInfo>>();
+	private final Map<ITileRadiationEnvironment, List<RadiationEnvironmentInfo>> tileLinks = new IdentityHashMap<ITileRadiationEnvironment, List<RadiationEnvironmentInfo>>();
+	
+	/** Positions are handled in turn - removed ones are dropped when they reach the front */
+	private final ArrayDeque<RadiationEnvironmentInfo> queue = new ArrayDeque<RadiationEnvironmentInfo>();
+	
+	public RadiationEnvironment(World world) {
+		this.world = world;
+	}
+	
+	public void addTile(BlockPos pos, ITileRadiationEnvironment tile) {
+		// A tile replaced at the same position before its removal was handled is dropped with all of its links
+		ITileRadiationEnvironment previous = getTileAt(pos, tile.getTilePos());
+		if (previous != null && previous != tile) removeTile(previous);
+		
+		long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		Long2ObjectOpenHashMap<RadiationEnvironmentInfo> chunkInfos = chunkMap.get(chunkKey);
+		if (chunkInfos == null) {
+			chunkInfos = new Long2ObjectOpenHashMap<RadiationEnvironmentInfo>();
+			chunkMap.put(chunkKey, chunkInfos);
+		}
+		
+		long posKey = pos.toLong();
+		RadiationEnvironmentInfo info = chunkInfos.get(posKey);
+		if (info == null) {
+			info = new RadiationEnvironmentInfo(pos);
+			chunkInfos.put(posKey, info);
+			queue.add(info);
+		}
+		if (info.tileMap.put(tile.getTilePos(), tile) == tile) return;
+		
+		List<RadiationEnvironmentInfo> links = tileLinks.get(tile);
+		if (links == null) {
+			links = new ArrayList<RadiationEnvironmentInfo>();
+			tileLinks.put(tile, links);
+		}
+		links.add(info);
+	}
+	
+	private ITileRadiationEnvironment getTileAt(BlockPos pos, BlockPos tilePos) {
+		Long2ObjectOpenHashMap<RadiationEnvironmentInfo> chunkInfos = chunkMap.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+		if (chunkInfos == null) return null;
+		RadiationEnvironmentInfo info = chunkInfos.get(pos.toLong());
+		return info == null ? null : info.tileMap.get(tilePos);
+	}
+	
+	public void removeTile(ITileRadiationEnvironment tile) {
+		List<RadiationEnvironmentInfo> links = tileLinks.remove(tile);
+		if (links == null) return;
+		
+		for (RadiationEnvironmentInfo info : links) {
+			// Only unlink the entry if it still belongs to this tile
+			if (!info.tileMap.remove(tile.getTilePos(), tile) || !info.tileMap.isEmpty()) continue;
+			
+			info.isRemoved = true;
+			long chunkKey = ChunkPos.asLong(info.pos.getX() >> 4, info.pos.getZ() >> 4);
+			Long2ObjectOpenHashMap<RadiationEnvironmentInfo> chunkInfos = chunkMap.get(chunkKey);
+			if (chunkInfos == null) continue;
+			chunkInfos.remove(info.pos.toLong());
+			if (chunkInfos.isEmpty()) chunkMap.remove(chunkKey);
+		}
+	}
+	
+	public boolean isEmpty() {
+		return tileLinks.isEmpty();
+	}
+	
+	/** Handles queued positions until the time budget runs out, visiting each position at most once per call */
+	public void update(long budgetNanos) {
+		long endTime = System.nanoTime() + budgetNanos;
+		int count = queue.size();
+		
+		while (count > 0) {
+			count--;
+			RadiationEnvironmentInfo info = queue.poll();
+			if (info.isRemoved) continue;
+			queue.add(info);
+			
+			// Avoid loading chunks just to check their blocks
+			if (!world.isBlockLoaded(info.pos)) continue;
+			for (ITileRadiationEnvironment tile : info.tileMap.values()) tile.handleRadiationEnvironmentInfo(info);
+			
+			if (System.nanoTime() >= endTime) break;
+		}
+	}
+}
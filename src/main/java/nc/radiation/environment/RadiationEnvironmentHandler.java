@@ -1,15 +1,14 @@
 package nc.radiation.environment;
 
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.WeakHashMap;
 
 import nc.config.NCConfig;
 import nc.tile.radiation.ITileRadiationEnvironment;
-import nc.util.MapHelper;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
@@ -17,8 +16,8 @@ import net.minecraftforge.fml.relauncher.Side;
 
 public class RadiationEnvironmentHandler {
 	
-	private static final Map<BlockPos, RadiationEnvironmentInfo> ENVIRONMENT = new ConcurrentHashMap<BlockPos, RadiationEnvironmentInfo>();
-	private static final Map<BlockPos, RadiationEnvironmentInfo> ENVIRONMENT_BACKUP = new ConcurrentHashMap<BlockPos, RadiationEnvironmentInfo>();
+	/** Keyed by the world itself, so each dimension has its own environment which goes when the world does */
+	private static final Map<World, RadiationEnvironment> ENVIRONMENTS = new WeakHashMap<World, RadiationEnvironment>();
 	
 	@SubscribeEvent
 	public void updateRadiationEnvironment(WorldTickEvent event) {
@@ -26,54 +25,32 @@ public class RadiationEnvironmentHandler {
 		
 		if (event.phase != Phase.END || event.side == Side.CLIENT || !(event.world instanceof WorldServer)) return;
 		
-		int count = Math.min(4, ENVIRONMENT.size());
-		
-		while (count > 0) {
-			count--;
-			
-			Entry<BlockPos, RadiationEnvironmentInfo> environmentEntry = MapHelper.getNextEntry(ENVIRONMENT);
-			
-			RadiationEnvironmentInfo info = environmentEntry.getValue();
-			for (Entry<BlockPos, ITileRadiationEnvironment> infoEntry : info.tileMap.entrySet()) infoEntry.getValue().handleRadiationEnvironmentInfo(info);
-			ENVIRONMENT.remove(environmentEntry.getKey());
-			ENVIRONMENT_BACKUP.put(environmentEntry.getKey(), environmentEntry.getValue());
-		}
-		
-		if (ENVIRONMENT.isEmpty()) {
-			ENVIRONMENT.putAll(ENVIRONMENT_BACKUP);
-			ENVIRONMENT_BACKUP.clear();
-		}
+		RadiationEnvironment environment = ENVIRONMENTS.get(event.world);
+		if (environment != null) environment.update(NCConfig.radiation_scrubber_time_budget*1000L);
+	}
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if (!event.getWorld().isRemote) ENVIRONMENTS.remove(event.getWorld());
 	}
 	
 	public static void addTile(BlockPos pos, ITileRadiationEnvironment tile) {
-		RadiationEnvironmentInfo newInfo = new RadiationEnvironmentInfo(pos, tile);
-		if (!ENVIRONMENT.containsKey(pos)) RadiationEnvironmentHandler.ENVIRONMENT.put(pos, newInfo);
-		else RadiationEnvironmentHandler.ENVIRONMENT.get(pos).tileMap.put(tile.getTilePos(), tile);
+		World world = tile.getTileWorld();
+		if (world == null || world.isRemote) return;
+		RadiationEnvironment environment = ENVIRONMENTS.get(world);
+		if (environment == null) {
+			environment = new RadiationEnvironment(world);
+			ENVIRONMENTS.put(world, environment);
+		}
+		environment.addTile(pos, tile);
 	}
 	
 	public static void removeTile(ITileRadiationEnvironment tile) {
-		Iterator<Entry<BlockPos, RadiationEnvironmentInfo>> infoIterator = ENVIRONMENT.entrySet().iterator();
-		
-		while (infoIterator.hasNext()) {
-			Entry<BlockPos, RadiationEnvironmentInfo> infoEntry = infoIterator.next();
-			if (infoEntry == null || infoEntry.getValue() == null) infoIterator.remove();
-			
-			else {
-				infoEntry.getValue().tileMap.remove(tile.getTilePos());
-				if (infoEntry.getValue().tileMap.isEmpty()) infoIterator.remove();
-			}
-		}
-		
-		Iterator<Entry<BlockPos, RadiationEnvironmentInfo>> backupInfoIterator = ENVIRONMENT_BACKUP.entrySet().iterator();
-		
-		while (backupInfoIterator.hasNext()) {
-			Entry<BlockPos, RadiationEnvironmentInfo> infoEntry = backupInfoIterator.next();
-			if (infoEntry == null || infoEntry.getValue() == null) backupInfoIterator.remove();
-			
-			else {
-				infoEntry.getValue().tileMap.remove(tile.getTilePos());
-				if (infoEntry.getValue().tileMap.isEmpty()) backupInfoIterator.remove();
-			}
-		}
+		World world = tile.getTileWorld();
+		if (world == null || world.isRemote) return;
+		RadiationEnvironment environment = ENVIRONMENTS.get(world);
+		if (environment == null) return;
+		environment.removeTile(tile);
+		if (environment.isEmpty()) ENVIRONMENTS.remove(world);
 	}
 }
@@ -1,7 +1,7 @@
 package nc.radiation.environment;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import nc.tile.radiation.ITileRadiationEnvironment;
 import net.minecraft.util.math.BlockPos;
@@ -9,7 +9,10 @@ import net.minecraft.util.math.BlockPos;
 public class RadiationEnvironmentInfo {
 	
 	public final BlockPos pos;
-	public final Map<BlockPos, ITileRadiationEnvironment> tileMap = new ConcurrentHashMap<BlockPos, ITileRadiationEnvironment>();
+	public final Map<BlockPos, ITileRadiationEnvironment> tileMap = new HashMap<BlockPos, ITileRadiationEnvironment>();
+	
+	/** Set once the last tile has been removed, so queued references can be dropped */
+	boolean isRemoved = false;
 	
 	public RadiationEnvironmentInfo(BlockPos pos) {
 		this.pos = pos;
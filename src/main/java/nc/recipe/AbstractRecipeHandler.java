@@ -1,12 +1,15 @@
 package nc.recipe;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 import javax.annotation.Nullable;
 
 import com.google.common.collect.Lists;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import nc.ModCheck;
 import nc.recipe.ingredient.ChanceFluidIngredient;
 import nc.recipe.ingredient.ChanceItemIngredient;
@@ -33,7 +36,7 @@ import net.minecraftforge.fluids.FluidStack;
 
 public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	
-	public List<T> recipes = new ArrayList<T>();
+	public final RecipeList<T> recipes = new RecipeList<T>();
 	public List<Class<?>> validItemInputs = Lists.newArrayList(IItemIngredient.class, ArrayList.class, String.class, Item.class, Block.class, ItemStack.class, ItemStack[].class);
 	public List<Class<?>> validFluidInputs = Lists.newArrayList(IFluidIngredient.class, ArrayList.class, String.class, Fluid.class, FluidStack.class, FluidStack[].class);
 	public List<Class<?>> validItemOutputs = Lists.newArrayList(IItemIngredient.class, String.class, Item.class, Block.class, ItemStack.class);
@@ -44,6 +47,15 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	
 	public static final List<Integer> INVALID = Lists.newArrayList(-1);
 	
+	/** Published only once fully built, as lookups from JEI and GUIs can run on the client thread */
+	private volatile RecipeIndex<T> recipeIndex = null;
+	
+	/** Script changes, applied together in one pass once scripts have loaded or the next time the recipes are read */
+	private final List<PendingChange<T>> pendingChanges = new ArrayList<PendingChange<T>>();
+	
+	/** Lets reads skip the lock once the queue has been applied */
+	private volatile boolean hasPendingChanges = false;
+	
 	public AbstractRecipeHandler() {}
 	
 	public abstract void addRecipes();
@@ -51,6 +63,7 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	public abstract String getRecipeName();
 	
 	public List<T> getRecipes() {
+		applyPendingChanges();
 		return recipes;
 	}
 	
@@ -60,15 +73,29 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	public T getRecipeFromInputs(List<ItemStack> itemInputs, List<Tank> fluidInputs) {
 		if (isFullNull(itemInputs, fluidInputs)) return null;
 		
-		for (T recipe : recipes) {
-			if (recipe.matchingInputs(itemInputs, fluidInputs)) return recipe;
+		return getRecipeIndex().getRecipeFromInputs(itemInputs, fluidInputs);
+	}
+	
+	/** The index is rebuilt lazily whenever the recipe list has changed since it was built, including direct edits of the list */
+	protected RecipeIndex<T> getRecipeIndex() {
+		applyPendingChanges();
+		RecipeIndex<T> index = recipeIndex;
+		int version = recipes.getVersion();
+		if (index == null || index.getVersion() != version) {
+			index = new RecipeIndex<T>(recipes, IngredientSorption.INPUT, version);
+			recipeIndex = index;
 		}
-		return null;
+		return index;
+	}
+	
+	protected void invalidateRecipeIndex() {
+		recipeIndex = null;
 	}
 
 	@Nullable
 	public T getRecipeFromOutputs(List<ItemStack> itemOutputs, List<Tank> fluidOutputs) {
 		if (isFullNull(itemOutputs, fluidOutputs)) return null;
+		applyPendingChanges();
 		
 		for (T recipe : recipes) {
 			if (recipe.matchingOutputs(itemOutputs, fluidOutputs)) return recipe;
@@ -81,13 +108,14 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 			if (item != null && !item.isEmpty()) return false;
 		}
 		for (Tank tank : tanks) {
-			if (tank.getFluid() != null) return false;
+			if (tank.peekFluid() != null) return false;
 		}
 		return true;
 	}
 	
 	@Nullable
 	public T getRecipeFromIngredients(List<IItemIngredient> itemIngredients, List<IFluidIngredient> fluidIngredients) {
+		applyPendingChanges();
 		for (T recipe : recipes) {
 			if (recipe.matchingIngredients(itemIngredients, fluidIngredients)) return recipe;
 		}
@@ -96,6 +124,7 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	
 	@Nullable
 	public T getRecipeFromProducts(List<IItemIngredient> itemProducts, List<IFluidIngredient> fluidProducts) {
+		applyPendingChanges();
 		for (T recipe : recipes) {
 			if (recipe.matchingProducts(itemProducts, fluidProducts)) return recipe;
 		}
@@ -117,15 +146,127 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	}*/
 	
 	public boolean addRecipe(T recipe) {
-		return (recipe != null) ? recipes.add(recipe) : false;
+		if (recipe == null) return false;
+		applyPendingChanges();
+		invalidateRecipeIndex();
+		return recipes.add(recipe);
 	}
 
 	public boolean removeRecipe(T recipe) {
-		return recipe != null ? recipes.remove(recipe) : false;
+		applyPendingChanges();
+		if (recipe == null || !recipes.remove(recipe)) return false;
+		invalidateRecipeIndex();
+		return true;
 	}
 	
 	public void removeAllRecipes() {
+		applyPendingChanges();
 		recipes.clear();
+		invalidateRecipeIndex();
+	}
+	
+	// Batched script changes
+	
+	public synchronized void queueRecipeAddition(T recipe) {
+		if (recipe != null) queueChange(new PendingChange<T>(recipe, null, null, null, null));
+	}
+	
+	/** Queues the removal of every recipe matching the ingredients or products - the consumer is passed the number of recipes removed once the change is applied */
+	public synchronized void queueRecipeRemoval(IngredientSorption type, List<IItemIngredient> itemIngredients, List<IFluidIngredient> fluidIngredients, @Nullable IntConsumer onApplied) {
+		queueChange(new PendingChange<T>(null, type, itemIngredients, fluidIngredients, onApplied));
+	}
+	
+	public synchronized void queueRemoveAllRecipes() {
+		queueChange(new PendingChange<T>(null, null, null, null, null));
+	}
+	
+	private void queueChange(PendingChange<T> change) {
+		pendingChanges.add(change);
+		hasPendingChanges = true;
+	}
+	
+	/** Applies the queued changes in order with a single rebuild of the recipe list - removals are matched against a temporary index of the recipes present before them */
+	public void applyPendingChanges() {
+		if (hasPendingChanges) synchronized (this) {
+			if (hasPendingChanges) applyChanges();
+		}
+	}
+	
+	/** The rebuilt list is swapped in whole, so readers never see it part way through */
+	private void applyChanges() {
+		List<PendingChange<T>> changes = new ArrayList<PendingChange<T>>(pendingChanges);
+		pendingChanges.clear();
+		
+		int start = 0;
+		for (int i = 0; i < changes.size(); i++) {
+			if (changes.get(i).isRemoveAll()) start = i + 1;
+		}
+		
+		// The position in the change list at which each recipe was added, with existing recipes coming first
+		List<T> working = new ArrayList<T>(start > 0 ? 0 : recipes.size());
+		IntArrayList addedAt = new IntArrayList();
+		if (start == 0) for (T recipe : recipes) {
+			working.add(recipe);
+			addedAt.add(-1);
+		}
+		for (int i = start; i < changes.size(); i++) {
+			if (changes.get(i).recipe != null) {
+				working.add(changes.get(i).recipe);
+				addedAt.add(i);
+			}
+		}
+		
+		RecipeIndex<T> inputIndex = null, outputIndex = null;
+		BitSet removed = new BitSet(), candidates = new BitSet();
+		for (int i = start; i < changes.size(); i++) {
+			PendingChange<T> change = changes.get(i);
+			if (change.type == null) continue;
+			boolean input = change.type == IngredientSorption.INPUT;
+			if (input && inputIndex == null) inputIndex = new RecipeIndex<T>(working, IngredientSorption.INPUT);
+			else if (!input && outputIndex == null) outputIndex = new RecipeIndex<T>(working, IngredientSorption.OUTPUT);
+			
+			candidates.clear();
+			if (!(input ? inputIndex : outputIndex).markCandidates(change.itemIngredients, change.fluidIngredients, candidates)) candidates.set(0, working.size());
+			int count = 0;
+			for (int pos = candidates.nextSetBit(0); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+				if (removed.get(pos) || addedAt.getInt(pos) > i) continue;
+				T recipe = working.get(pos);
+				if (input ? recipe.matchingIngredients(change.itemIngredients, change.fluidIngredients) : recipe.matchingProducts(change.itemIngredients, change.fluidIngredients)) {
+					removed.set(pos);
+					count++;
+				}
+			}
+			if (change.onApplied != null) change.onApplied.accept(count);
+		}
+		
+		List<T> result = new ArrayList<T>(working.size() - removed.cardinality());
+		for (int pos = 0; pos < working.size(); pos++) {
+			if (!removed.get(pos)) result.add(working.get(pos));
+		}
+		recipes.setAll(result);
+		invalidateRecipeIndex();
+		hasPendingChanges = false;
+	}
+	
+	private static class PendingChange<T> {
+		
+		private final T recipe;
+		private final IngredientSorption type;
+		private final List<IItemIngredient> itemIngredients;
+		private final List<IFluidIngredient> fluidIngredients;
+		private final IntConsumer onApplied;
+		
+		private PendingChange(T recipe, IngredientSorption type, List<IItemIngredient> itemIngredients, List<IFluidIngredient> fluidIngredients, IntConsumer onApplied) {
+			this.recipe = recipe;
+			this.type = type;
+			this.itemIngredients = itemIngredients;
+			this.fluidIngredients = fluidIngredients;
+			this.onApplied = onApplied;
+		}
+		
+		private boolean isRemoveAll() {
+			return recipe == null && type == null;
+		}
 	}
 
 	public void addValidItemInput(Class itemInputType) {
@@ -288,28 +429,15 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	}
 	
 	public boolean isValidItemInput(ItemStack stack) {
-		for (T recipe : recipes) {
-			for (IItemIngredient input : recipe.itemIngredients()) {
-				if (input.matches(stack, IngredientSorption.NEUTRAL)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return getRecipeIndex().isValidItemInput(stack);
 	}
 	
 	public boolean isValidFluidInput(FluidStack stack) {
-		for (T recipe : recipes) {
-			for (IFluidIngredient input : recipe.fluidIngredients()) {
-				if (input.matches(stack, IngredientSorption.NEUTRAL)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return getRecipeIndex().isValidFluidInput(stack);
 	}
 
 	public boolean isValidItemOutput(ItemStack stack) {
+		applyPendingChanges();
 		for (T recipe : recipes) {
 			for (IItemIngredient output : recipe.itemProducts()) {
 				if (output.matches(stack, IngredientSorption.OUTPUT)) {
@@ -321,6 +449,7 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 	}
 	
 	public boolean isValidFluidOutput(FluidStack stack) {
+		applyPendingChanges();
 		for (T recipe : recipes) {
 			for (IFluidIngredient output : recipe.fluidProducts()) {
 				if (output.matches(stack, IngredientSorption.OUTPUT)) {
@@ -336,39 +465,7 @@ public abstract class AbstractRecipeHandler<T extends IRecipe> {
 		if (otherInputs.isEmpty() || (stack.isItemEqual(slotStack) && ItemStackHelper.areItemStackTagsEqual(stack, slotStack))) {
 			return isValidItemInput(stack);
 		}
-		
-		List<ItemStack> otherStacks = new ArrayList<ItemStack>();
-		for (ItemStack otherInput : otherInputs) {
-			if (!otherInput.isEmpty()) otherStacks.add(otherInput);
-		}
-		if (otherStacks.isEmpty()) return isValidItemInput(stack);
-		
-		List<ItemStack> allStacks = Lists.newArrayList(stack);
-		allStacks.addAll(otherStacks);
-		
-		List<T> recipeList = new ArrayList(recipes);
-		recipeLoop: for (T recipe : recipes) {
-			objLoop: for (ItemStack obj : allStacks) {
-				for (IItemIngredient input : recipe.itemIngredients()) {
-					if (input.matches(obj, IngredientSorption.NEUTRAL)) continue objLoop;
-				}
-				recipeList.remove(recipe);
-				continue recipeLoop;
-			}
-		}
-		
-		for (T recipe : recipeList) {
-			for (IItemIngredient input : recipe.itemIngredients()) {
-				if (input.matches(stack, IngredientSorption.NEUTRAL)) {
-					for (ItemStack other : otherStacks) {
-						if (input.matches(other, IngredientSorption.NEUTRAL)) return false;
-					}
-					return true;
-				}
-			}
-		}
-		
-		return false;
+		return getRecipeIndex().isValidItemInput(stack, otherInputs);
 	}
 	
 	// Stacks
@@ -1,7 +1,11 @@
 package nc.recipe;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
+import nc.config.NCConfig;
 import nc.recipe.generator.DecayGeneratorRecipes;
 import nc.recipe.generator.FissionRecipes;
 import nc.recipe.generator.FusionRecipes;
@@ -34,6 +38,7 @@ import nc.recipe.processor.SupercoolerRecipes;
 import nc.recipe.vanilla.CraftingRecipeHandler;
 import nc.recipe.vanilla.FurnaceFuelHandler;
 import nc.recipe.vanilla.FurnaceRecipeHandler;
+import nc.util.NCUtil;
 import nc.util.RecipeHelper;
 import net.minecraftforge.event.RegistryEvent;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
@@ -44,69 +49,24 @@ public class NCRecipes {
 	
 	private static boolean initialized = false;
 	
-	private static ManufactoryRecipes manufactory;
-	private static IsotopeSeparatorRecipes isotope_separator;
-	private static DecayHastenerRecipes decay_hastener;
-	private static FuelReprocessorRecipes fuel_reprocessor;
-	private static AlloyFurnaceRecipes alloy_furnace;
-	private static InfuserRecipes infuser;
-	private static MelterRecipes melter;
-	private static SupercoolerRecipes supercooler;
-	private static ElectrolyserRecipes electrolyser;
-	private static IrradiatorRecipes irradiator;
-	private static IngotFormerRecipes ingot_former;
-	private static PressurizerRecipes pressurizer;
-	private static ChemicalReactorRecipes chemical_reactor;
-	private static SaltMixerRecipes salt_mixer;
-	private static CrystallizerRecipes crystallizer;
-	private static DissolverRecipes dissolver;
-	private static ExtractorRecipes extractor;
-	private static CentrifugeRecipes centrifuge;
-	private static RockCrusherRecipes rock_crusher;
-	private static CollectorRecipes collector;
-	private static ActiveCoolerRecipes active_cooler;
-	private static DecayGeneratorRecipes decay_generator;
-	private static FissionRecipes fission;
-	private static FusionRecipes fusion;
-	private static SaltFissionRecipes salt_fission;
-	private static CoolantHeaterRecipes coolant_heater;
-	private static HeatExchangerRecipes heat_exchanger;
-	private static TurbineRecipes turbine;
-	private static CondenserRecipes condenser;
+	/** Handlers are built on first access, or eagerly at registration if their feature is switched on in the config */
+	private static final AtomicReferenceArray<ProcessorRecipeHandler> HANDLERS = new AtomicReferenceArray<ProcessorRecipeHandler>(Type.values().length);
+	
+	private static final AtomicReferenceArray<List<List<String>>> VALID_FLUIDS = new AtomicReferenceArray<List<List<String>>>(Type.values().length);
 	
 	@SubscribeEvent(priority = EventPriority.LOW)
-    public void registerRecipes(RegistryEvent.Register<net.minecraft.item.crafting.IRecipe> event) {
+	public void registerRecipes(RegistryEvent.Register<net.minecraft.item.crafting.IRecipe> event) {
 		if (initialized) return;
 		
-		manufactory = new ManufactoryRecipes();
-		isotope_separator = new IsotopeSeparatorRecipes();
-		decay_hastener = new DecayHastenerRecipes();
-		fuel_reprocessor = new FuelReprocessorRecipes();
-		alloy_furnace = new AlloyFurnaceRecipes();
-		infuser = new InfuserRecipes();
-		melter = new MelterRecipes();
-		supercooler = new SupercoolerRecipes();
-		electrolyser = new ElectrolyserRecipes();
-		irradiator = new IrradiatorRecipes();
-		ingot_former = new IngotFormerRecipes();
-		pressurizer = new PressurizerRecipes();
-		chemical_reactor = new ChemicalReactorRecipes();
-		salt_mixer = new SaltMixerRecipes();
-		crystallizer = new CrystallizerRecipes();
-		dissolver = new DissolverRecipes();
-		extractor = new ExtractorRecipes();
-		centrifuge = new CentrifugeRecipes();
-		rock_crusher = new RockCrusherRecipes();
-		collector = new CollectorRecipes();
-		active_cooler = new ActiveCoolerRecipes();
-		decay_generator = new DecayGeneratorRecipes();
-		fission = new FissionRecipes();
-		fusion = new FusionRecipes();
-		salt_fission = new SaltFissionRecipes();
-		coolant_heater = new CoolantHeaterRecipes();
-		heat_exchanger = new HeatExchangerRecipes();
-		turbine = new TurbineRecipes();
-		condenser = new CondenserRecipes();
+		int built = 0;
+		long startTime = System.nanoTime();
+		for (Type type : Type.values()) {
+			if (type.shouldPreload() && HANDLERS.get(type.ordinal()) == null) {
+				type.getRecipeHandler();
+				built++;
+			}
+		}
+		NCUtil.getLogger().info("Built " + built + " of " + Type.values().length + " recipe handlers in " + (System.nanoTime() - startTime)/1000000L + " ms - the rest will be built on first use");
 		
 		CraftingRecipeHandler.registerCraftingRecipes();
 		FurnaceRecipeHandler.registerFurnaceRecipes();
@@ -115,100 +75,73 @@ public class NCRecipes {
 		initialized = true;
 	}
 	
+	/** Applies the changes queued by scripts to every built handler, so that the first machine to read its recipes doesn't have to */
+	public static void applyPendingChanges() {
+		for (int i = 0; i < HANDLERS.length(); i++) {
+			ProcessorRecipeHandler handler = HANDLERS.get(i);
+			if (handler != null) handler.applyPendingChanges();
+		}
+	}
+	
+	private static synchronized ProcessorRecipeHandler buildRecipeHandler(Type type) {
+		ProcessorRecipeHandler handler = HANDLERS.get(type.ordinal());
+		if (handler != null) return handler;
+		
+		long startTime = System.nanoTime();
+		handler = type.factory.get();
+		HANDLERS.set(type.ordinal(), handler);
+		NCUtil.getLogger().info("Built " + handler.getRecipeName() + " recipe handler with " + handler.getRecipes().size() + " recipes in " + (System.nanoTime() - startTime)/1000000L + " ms");
+		return handler;
+	}
+	
 	public static enum Type {
-		MANUFACTORY,
-		ISOTOPE_SEPARATOR,
-		DECAY_HASTENER,
-		FUEL_REPROCESSOR,
-		ALLOY_FURNACE,
-		INFUSER,
-		MELTER,
-		SUPERCOOLER,
-		ELECTROLYSER,
-		IRRADIATOR,
-		INGOT_FORMER,
-		PRESSURIZER,
-		CHEMICAL_REACTOR,
-		SALT_MIXER,
-		CRYSTALLIZER,
-		DISSOLVER,
-		EXTRACTOR,
-		CENTRIFUGE,
-		ROCK_CRUSHER,
-		COLLECTOR,
-		ACTIVE_COOLER,
-		DECAY_GENERATOR,
-		FISSION,
-		FUSION,
-		SALT_FISSION,
-		COOLANT_HEATER,
-		HEAT_EXCHANGER,
-		TURBINE,
-		CONDENSER;
+		MANUFACTORY(ManufactoryRecipes::new, () -> isRegistered(NCConfig.register_processor, 1)),
+		ISOTOPE_SEPARATOR(IsotopeSeparatorRecipes::new, () -> isRegistered(NCConfig.register_processor, 2)),
+		DECAY_HASTENER(DecayHastenerRecipes::new, () -> isRegistered(NCConfig.register_processor, 3)),
+		FUEL_REPROCESSOR(FuelReprocessorRecipes::new, () -> isRegistered(NCConfig.register_processor, 4)),
+		ALLOY_FURNACE(AlloyFurnaceRecipes::new, () -> isRegistered(NCConfig.register_processor, 5)),
+		INFUSER(InfuserRecipes::new, () -> isRegistered(NCConfig.register_processor, 6)),
+		MELTER(MelterRecipes::new, () -> isRegistered(NCConfig.register_processor, 7)),
+		SUPERCOOLER(SupercoolerRecipes::new, () -> isRegistered(NCConfig.register_processor, 8)),
+		ELECTROLYSER(ElectrolyserRecipes::new, () -> isRegistered(NCConfig.register_processor, 9)),
+		IRRADIATOR(IrradiatorRecipes::new, () -> isRegistered(NCConfig.register_processor, 10)),
+		INGOT_FORMER(IngotFormerRecipes::new, () -> isRegistered(NCConfig.register_processor, 11)),
+		PRESSURIZER(PressurizerRecipes::new, () -> isRegistered(NCConfig.register_processor, 12)),
+		CHEMICAL_REACTOR(ChemicalReactorRecipes::new, () -> isRegistered(NCConfig.register_processor, 13)),
+		SALT_MIXER(SaltMixerRecipes::new, () -> isRegistered(NCConfig.register_processor, 14)),
+		CRYSTALLIZER(CrystallizerRecipes::new, () -> isRegistered(NCConfig.register_processor, 15)),
+		DISSOLVER(DissolverRecipes::new, () -> isRegistered(NCConfig.register_processor, 16)),
+		EXTRACTOR(ExtractorRecipes::new, () -> isRegistered(NCConfig.register_processor, 17)),
+		CENTRIFUGE(CentrifugeRecipes::new, () -> isRegistered(NCConfig.register_processor, 18)),
+		ROCK_CRUSHER(RockCrusherRecipes::new, () -> isRegistered(NCConfig.register_processor, 19)),
+		COLLECTOR(CollectorRecipes::new, () -> anyRegistered(NCConfig.register_passive)),
+		ACTIVE_COOLER(ActiveCoolerRecipes::new, null),
+		DECAY_GENERATOR(DecayGeneratorRecipes::new, null),
+		FISSION(FissionRecipes::new, null),
+		FUSION(FusionRecipes::new, null),
+		SALT_FISSION(SaltFissionRecipes::new, null),
+		COOLANT_HEATER(CoolantHeaterRecipes::new, null),
+		HEAT_EXCHANGER(HeatExchangerRecipes::new, null),
+		TURBINE(TurbineRecipes::new, null),
+		CONDENSER(CondenserRecipes::new, null);
+		
+		private final Supplier<ProcessorRecipeHandler> factory;
+		/** Whether the feature is switched on in the config, or null if it has no switch, in which case the handler is left to its first use */
+		private final BooleanSupplier preload;
+		
+		private Type(Supplier<ProcessorRecipeHandler> factory, BooleanSupplier preload) {
+			this.factory = factory;
+			this.preload = preload;
+		}
+		
+		/** Whether the handler should be built at registration rather than on first use */
+		public boolean shouldPreload() {
+			return preload != null && preload.getAsBoolean();
+		}
 		
 		public ProcessorRecipeHandler getRecipeHandler() {
-			switch (this) {
-			case MANUFACTORY:
-				return manufactory;
-			case ISOTOPE_SEPARATOR:
-				return isotope_separator;
-			case DECAY_HASTENER:
-				return decay_hastener;
-			case FUEL_REPROCESSOR:
-				return fuel_reprocessor;
-			case ALLOY_FURNACE:
-				return alloy_furnace;
-			case INFUSER:
-				return infuser;
-			case MELTER:
-				return melter;
-			case SUPERCOOLER:
-				return supercooler;
-			case ELECTROLYSER:
-				return electrolyser;
-			case IRRADIATOR:
-				return irradiator;
-			case INGOT_FORMER:
-				return ingot_former;
-			case PRESSURIZER:
-				return pressurizer;
-			case CHEMICAL_REACTOR:
-				return chemical_reactor;
-			case SALT_MIXER:
-				return salt_mixer;
-			case CRYSTALLIZER:
-				return crystallizer;
-			case DISSOLVER:
-				return dissolver;
-			case EXTRACTOR:
-				return extractor;
-			case CENTRIFUGE:
-				return centrifuge;
-			case ROCK_CRUSHER:
-				return rock_crusher;
-			case COLLECTOR:
-				return collector;
-			case ACTIVE_COOLER:
-				return active_cooler;
-			case DECAY_GENERATOR:
-				return decay_generator;
-			case FISSION:
-				return fission;
-			case FUSION:
-				return fusion;
-			case SALT_FISSION:
-				return salt_fission;
-			case COOLANT_HEATER:
-				return coolant_heater;
-			case HEAT_EXCHANGER:
-				return heat_exchanger;
-			case TURBINE:
-				return turbine;
-			case CONDENSER:
-				return condenser;
-			default:
-				return manufactory;
-			}
+			ProcessorRecipeHandler handler = HANDLERS.get(ordinal());
+			return handler != null ? handler : buildRecipeHandler(this);
 		}
 		
 		public String getRecipeName() {
@@ -216,41 +149,33 @@ public class NCRecipes {
 		}
 	}
 	
-	public static List<List<String>> infuser_valid_fluids;
-	public static List<List<String>> melter_valid_fluids;
-	public static List<List<String>> supercooler_valid_fluids;
-	public static List<List<String>> electrolyser_valid_fluids;
-	public static List<List<String>> irradiator_valid_fluids;
-	public static List<List<String>> ingot_former_valid_fluids;
-	public static List<List<String>> chemical_reactor_valid_fluids;
-	public static List<List<String>> salt_mixer_valid_fluids;
-	public static List<List<String>> crystallizer_valid_fluids;
-	public static List<List<String>> dissolver_valid_fluids;
-	public static List<List<String>> extractor_valid_fluids;
-	public static List<List<String>> centrifuge_valid_fluids;
-	public static List<List<String>> fusion_valid_fluids;
-	public static List<List<String>> salt_fission_valid_fluids;
-	public static List<List<String>> coolant_heater_valid_fluids;
-	public static List<List<String>> heat_exchanger_valid_fluids;
-	public static List<List<String>> turbine_valid_fluids;
+	/** The fluids allowed in each tank of the processor, resolved once per type */
+	public static List<List<String>> getValidFluids(Type type) {
+		List<List<String>> validFluids = VALID_FLUIDS.get(type.ordinal());
+		if (validFluids == null) {
+			validFluids = RecipeHelper.validFluids(type);
+			if (!VALID_FLUIDS.compareAndSet(type.ordinal(), null, validFluids)) validFluids = VALID_FLUIDS.get(type.ordinal());
+		}
+		return validFluids;
+	}
+	
+	private static boolean isRegistered(boolean[] register, int id) {
+		return id >= register.length || register[id];
+	}
+	
+	private static boolean anyRegistered(boolean[] register) {
+		for (boolean registered : register) {
+			if (registered) return true;
+		}
+		return false;
+	}
+	
+	private static final Type[] VALID_FLUID_TYPES = new Type[] {Type.INFUSER, Type.MELTER, Type.SUPERCOOLER, Type.ELECTROLYSER, Type.IRRADIATOR, Type.INGOT_FORMER, Type.CHEMICAL_REACTOR, Type.SALT_MIXER, Type.CRYSTALLIZER, Type.DISSOLVER, Type.EXTRACTOR, Type.CENTRIFUGE, Type.FUSION, Type.SALT_FISSION, Type.COOLANT_HEATER, Type.HEAT_EXCHANGER, Type.TURBINE};
 	
+	/** Resolves the valid fluids of features switched on in the config up front - the rest are resolved if their tiles are ever loaded */
 	public static void init() {
-		infuser_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.INFUSER);
-		melter_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.MELTER);
-		supercooler_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.SUPERCOOLER);
-		electrolyser_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.ELECTROLYSER);
-		irradiator_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.IRRADIATOR);
-		ingot_former_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.INGOT_FORMER);
-		chemical_reactor_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.CHEMICAL_REACTOR);
-		salt_mixer_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.SALT_MIXER);
-		crystallizer_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.CRYSTALLIZER);
-		dissolver_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.DISSOLVER);
-		extractor_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.EXTRACTOR);
-		centrifuge_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.CENTRIFUGE);
-		fusion_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.FUSION);
-		salt_fission_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.SALT_FISSION);
-		coolant_heater_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.COOLANT_HEATER);
-		heat_exchanger_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.HEAT_EXCHANGER);
-		turbine_valid_fluids = RecipeHelper.validFluids(NCRecipes.Type.TURBINE);
+		for (Type type : VALID_FLUID_TYPES) {
+			if (type.shouldPreload()) getValidFluids(type);
+		}
 	}
 }
@@ -22,6 +22,11 @@ public class ProcessorRecipe implements IRecipe {
 	protected List extras;
 	public boolean isShapeless;
 	
+	/** Extras are unpacked once so that the per-tick getters below avoid casting and unboxing */
+	private final Class<?>[] extraTypes;
+	private final double[] extraDoubles;
+	private final long[] extraLongs;
+	
 	public ProcessorRecipe(List<IItemIngredient> itemIngredientsList, List<IFluidIngredient> fluidIngredientsList, List<IItemIngredient> itemProductsList, List<IFluidIngredient> fluidProductsList, List extrasList, boolean shapeless) {
 		itemIngredients = itemIngredientsList;
 		fluidIngredients = fluidIngredientsList;
@@ -35,6 +40,18 @@ public class ProcessorRecipe implements IRecipe {
 		
 		extras = extrasList;
 		isShapeless = shapeless;
+		
+		extraTypes = new Class<?>[extrasList.size()];
+		extraDoubles = new double[extrasList.size()];
+		extraLongs = new long[extrasList.size()];
+		for (int i = 0; i < extrasList.size(); i++) {
+			Object extra = extrasList.get(i);
+			if (extra == null) continue;
+			extraTypes[i] = extra.getClass();
+			if (extra instanceof Double) extraDoubles[i] = (Double) extra;
+			else if (extra instanceof Long) extraLongs[i] = (Long) extra;
+			else if (extra instanceof Integer) extraLongs[i] = (Integer) extra;
+		}
 	}
 	
 	@Override
@@ -84,164 +101,137 @@ public class ProcessorRecipe implements IRecipe {
 	
 	/* ================================== Recipe Info ===================================== */
 	
+	private double extraDouble(int pos, double fallback) {
+		return pos < extraTypes.length && extraTypes[pos] == Double.class ? extraDoubles[pos] : fallback;
+	}
+	
+	private long extraLong(int pos, long fallback) {
+		return pos < extraTypes.length && extraTypes[pos] == Long.class ? extraLongs[pos] : fallback;
+	}
+	
+	private int extraInt(int pos, int fallback) {
+		return pos < extraTypes.length && extraTypes[pos] == Integer.class ? (int) extraLongs[pos] : fallback;
+	}
+	
+	private String extraString(int pos) {
+		return pos < extraTypes.length && extraTypes[pos] == String.class ? (String) extras.get(pos) : null;
+	}
+	
 	// Processors
 	
 	public double getProcessTime(double defaultProcessTime) {
-		if (extras.isEmpty()) return defaultProcessTime;
-		else if (extras.get(0) instanceof Double) return ((double) extras.get(0))*defaultProcessTime;
-		else return defaultProcessTime;
+		return extraDouble(0, 1D)*defaultProcessTime;
 	}
 	
 	public double getProcessPower(double defaultProcessPower) {
-		if (extras.size() < 2) return defaultProcessPower;
-		else if (extras.get(1) instanceof Double) return ((double) extras.get(1))*defaultProcessPower;
-		else return defaultProcessPower;
+		return extraDouble(1, 1D)*defaultProcessPower;
 	}
 	
 	public double getProcessRadiation() {
-		if (extras.size() < 3) return 0D;
-		else if (extras.get(2) instanceof Double) return (double) extras.get(2);
-		else return 0D;
+		return extraDouble(2, 0D);
 	}
 	
 	// Active Cooler
 	
 	public long getActiveFissionCoolingRate() {
-		if (extras.isEmpty()) return 0;
-		else if (extras.get(0) instanceof Long) return (long) extras.get(0);
-		else return 0;
+		return extraLong(0, 0L);
 	}
 	
 	public long getActiveFusionCoolingRate() {
-		if (extras.size() < 2) return 0;
-		else if (extras.get(1) instanceof Long) return (long) extras.get(1);
-		else return 0;
+		return extraLong(1, 0L);
 	}
 	
 	// Decay Generator
 	
 	public double getDecayLifetime() {
-		if (extras.isEmpty()) return TileDecayGenerator.DEFAULT_LIFETIME;
-		else if (extras.get(0) instanceof Double) return ((double) extras.get(0))/(double)NCConfig.machine_update_rate;
-		return TileDecayGenerator.DEFAULT_LIFETIME;
+		return extraTypes.length > 0 && extraTypes[0] == Double.class ? extraDoubles[0]/(double)NCConfig.machine_update_rate : TileDecayGenerator.DEFAULT_LIFETIME;
 	}
 	
 	public int getDecayPower() {
-		if (extras.size() < 2) return 0;
-		if (extras.get(1) instanceof Double) return (int) (((double) extras.get(1))*NCConfig.machine_update_rate/20D);
-		return 0;
+		return extraTypes.length > 1 && extraTypes[1] == Double.class ? (int) (extraDoubles[1]*NCConfig.machine_update_rate/20D) : 0;
 	}
 	
 	public double getDecayRadiation() {
-		if (extras.size() < 3) return 0D;
-		else if (extras.get(2) instanceof Double) return ((double) extras.get(2))/20D;
-		else return 0D;
+		return extraDouble(2, 0D)/20D;
 	}
 	
 	// Fission
 	
 	public double getFissionFuelTime() {
-		if (extras.isEmpty()) return 1D;
-		else if (extras.get(0) instanceof Double) return (double) extras.get(0);
-		else return 1D;
+		return extraDouble(0, 1D);
 	}
 	
 	public double getFissionFuelPower() {
-		if (extras.size() < 2) return 0D;
-		else if (extras.get(1) instanceof Double) return (double) extras.get(1);
-		else return 0D;
+		return extraDouble(1, 0D);
 	}
 	
 	public double getFissionFuelHeat() {
-		if (extras.size() < 3) return 0D;
-		else if (extras.get(2) instanceof Double) return (double) extras.get(2);
-		else return 0D;
+		return extraDouble(2, 0D);
+	}
+	
+	public String getFissionFuelName() {
+		return extraString(3);
 	}
 	
 	public double getFissionFuelRadiation() {
-		if (extras.size() < 5) return 0D;
-		else if (extras.get(4) instanceof Double) return (double) extras.get(4);
-		else return 0D;
+		return extraDouble(4, 0D);
 	}
 	
 	// Fusion
 	
 	public double getFusionComboTime() {
-		if (extras.isEmpty()) return 1D;
-		else if (extras.get(0) instanceof Double) return (double) extras.get(0);
-		else return 1D;
+		return extraDouble(0, 1D);
 	}
 	
 	public double getFusionComboPower() {
-		if (extras.size() < 2) return 0D;
-		else if (extras.get(1) instanceof Double) return (double) extras.get(1);
-		else return 0D;
+		return extraDouble(1, 0D);
 	}
 	
 	public double getFusionComboHeatVariable() {
-		if (extras.size() < 3) return 1000D;
-		else if (extras.get(2) instanceof Double) return (double) extras.get(2);
-		else return 1000D;
+		return extraDouble(2, 1000D);
 	}
 	
 	public double getFusionComboRadiation() {
-		if (extras.size() < 4) return 0D;
-		else if (extras.get(3) instanceof Double) return (double) extras.get(3);
-		else return 0D;
+		return extraDouble(3, 0D);
 	}
 	
 	// Salt Fission Vessel
 	
 	public double getSaltFissionFuelTime() {
-		if (extras.isEmpty()) return 1D;
-		else if (extras.get(0) instanceof Double) return (double) extras.get(0);
-		else return 1D;
+		return extraDouble(0, 1D);
 	}
 	
 	public double getSaltFissionFuelHeat() {
-		if (extras.size() < 2) return 0D;
-		else if (extras.get(1) instanceof Double) return (double) extras.get(1);
-		else return 0D;
+		return extraDouble(1, 0D);
 	}
 	
 	public double getSaltFissionFuelRadiation() {
-		if (extras.size() < 3) return 0D;
-		else if (extras.get(2) instanceof Double) return (double) extras.get(2);
-		else return 0D;
+		return extraDouble(2, 0D);
 	}
 	
 	// Coolant Heater
 	
 	public double getCoolantHeaterCoolingRate() {
-		if (extras.isEmpty()) return 10D;
-		else if (extras.get(0) instanceof Double) return (double) extras.get(0);
-		else return 0D;
+		return extraTypes.length == 0 ? 10D : extraDouble(0, 0D);
 	}
 	
 	public String[] getCoolantHeaterJEIInfo() {
-		if (extras.size() < 2) return null;
-		else if (extras.get(1) instanceof String) return InfoHelper.formattedInfo(Lang.localise((String) extras.get(1)));
-		else return null;
+		String info = extraString(1);
+		return info == null ? null : InfoHelper.formattedInfo(Lang.localise(info));
 	}
 	
 	// Heat Exchanger
 	
 	public double getHeatExchangerProcessTime(double defaultProcessTime) {
-		if (extras.isEmpty()) return defaultProcessTime;
-		else if (extras.get(0) instanceof Double) return (double) extras.get(0);
-		else return defaultProcessTime;
+		return extraDouble(0, defaultProcessTime);
 	}
 	
 	public int getHeatExchangerInputTemperature() {
-		if (extras.size() < 2) return 0;
-		else if (extras.get(1) instanceof Integer) return (int) extras.get(1);
-		else return 0;
+		return extraInt(1, 0);
 	}
 	
 	public int getHeatExchangerOutputTemperature() {
-		if (extras.size() < 3) return 0;
-		else if (extras.get(2) instanceof Integer) return (int) extras.get(2);
-		else return 0;
+		return extraInt(2, 0);
 	}
 	
 	public boolean getHeatExchangerIsHeating() {
@@ -251,8 +241,6 @@ public class ProcessorRecipe implements IRecipe {
 	// Turbine
 	
 	public double getTurbinePowerPerMB() {
-		if (extras.isEmpty()) return 0D;
-		else if (extras.get(0) instanceof Double) return (double) extras.get(0);
-		else return 0D;
+		return extraDouble(0, 0D);
 	}
 }
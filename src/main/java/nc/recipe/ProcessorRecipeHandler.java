@@ -5,6 +5,8 @@ import java.util.List;
 
 import javax.annotation.Nullable;
 
+import com.google.common.collect.Lists;
+
 import nc.Global;
 import nc.recipe.ingredient.IFluidIngredient;
 import nc.recipe.ingredient.IItemIngredient;
@@ -13,6 +15,8 @@ import nc.util.RecipeHelper;
 
 public abstract class ProcessorRecipeHandler extends AbstractRecipeHandler<ProcessorRecipe> {
 	
+	public static final List<Class<?>> PROCESSOR_EXTRAS = Lists.newArrayList(Double.class, Double.class, Double.class);
+	
 	public int itemInputSize, fluidInputSize, itemOutputSize, fluidOutputSize;
 	public final boolean shapeless;
 	private final String recipeName;
@@ -90,7 +94,42 @@ public abstract class ProcessorRecipeHandler extends AbstractRecipeHandler<Proce
 		if (!isValidRecipe(itemIngredients, fluidIngredients, itemProducts, fluidProducts)) {
 			NCUtil.getLogger().info(getRecipeName() + " - a recipe was removed: " + RecipeHelper.getRecipeString(itemIngredients, fluidIngredients, itemProducts, fluidProducts));
 		}
-		return new ProcessorRecipe(itemIngredients, fluidIngredients, itemProducts, fluidProducts, extras, shapeless);
+		List builtExtras = buildExtras(extras);
+		if (builtExtras == null) {
+			NCUtil.getLogger().error(getRecipeName() + " - a recipe had invalid extra info " + extras + ": " + RecipeHelper.getRecipeString(itemIngredients, fluidIngredients, itemProducts, fluidProducts));
+			return null;
+		}
+		return new ProcessorRecipe(itemIngredients, fluidIngredients, itemProducts, fluidProducts, builtExtras, shapeless);
+	}
+	
+	/** The types of the extra recipe info entries, in order - recipes may leave out trailing entries */
+	public List<Class<?>> getExtrasTypes() {
+		return PROCESSOR_EXTRAS;
+	}
+	
+	/** Checks the extras against {@link #getExtrasTypes()}, returning null if there are too many or one has the wrong type */
+	@Nullable
+	public List buildExtras(List extras) {
+		List<Class<?>> extrasTypes = getExtrasTypes();
+		if (extras.size() > extrasTypes.size()) return null;
+		List builtExtras = new ArrayList();
+		for (int i = 0; i < extras.size(); i++) {
+			Object extra = buildExtra(extras.get(i), extrasTypes.get(i));
+			if (extra == null) return null;
+			builtExtras.add(extra);
+		}
+		return builtExtras;
+	}
+	
+	@Nullable
+	protected Object buildExtra(Object extra, Class<?> extraType) {
+		if (extraType.isInstance(extra)) return extra;
+		if (extraType == Double.class && extra instanceof Number) return ((Number) extra).doubleValue();
+		if (extra instanceof Integer || extra instanceof Long || extra instanceof Short || extra instanceof Byte) {
+			if (extraType == Long.class) return ((Number) extra).longValue();
+			if (extraType == Integer.class) return ((Number) extra).intValue();
+		}
+		return null;
 	}
 	
 	public boolean isValidRecipe(List<IItemIngredient> itemIngredients, List<IFluidIngredient> fluidIngredients, List<IItemIngredient> itemProducts, List<IFluidIngredient> fluidProducts) {
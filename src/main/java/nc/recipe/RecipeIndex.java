@@ -0,0 +1,433 @@
+package nc.recipe;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import nc.recipe.ingredient.ChanceFluidIngredient;
+import nc.recipe.ingredient.ChanceItemIngredient;
+import nc.recipe.ingredient.EmptyFluidIngredient;
+import nc.recipe.ingredient.EmptyItemIngredient;
+import nc.recipe.ingredient.FluidArrayIngredient;
+import nc.recipe.ingredient.FluidIngredient;
+import nc.recipe.ingredient.IFluidIngredient;
+import nc.recipe.ingredient.IItemIngredient;
+import nc.recipe.ingredient.ItemArrayIngredient;
+import nc.recipe.ingredient.ItemIngredient;
+import nc.recipe.ingredient.OreIngredient;
+import nc.tile.internal.fluid.Tank;
+import nc.util.OreDictHelper;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/** Maps item identities, ore IDs and fluid names to the positions of the recipes that could accept them, so that
+ * input lookups only need to verify a handful of candidates. Candidates are always checked in list order, so the
+ * recipe returned is the same one a full scan of the recipe list would find. */
+public class RecipeIndex<T extends IRecipe> {
+	
+	private static final Object EMPTY = new Object();
+	private static final Object UNINDEXED = new Object();
+	
+	private final List<T> recipes = new ArrayList<T>();
+	
+	/** Whether the recipes are indexed by their ingredients or, for script removals by output, their products */
+	private final IngredientSorption sorption;
+	
+	private final Int2ObjectOpenHashMap<IntArrayList> itemMap = new Int2ObjectOpenHashMap<IntArrayList>();
+	private final Int2ObjectOpenHashMap<IntArrayList> oreMap = new Int2ObjectOpenHashMap<IntArrayList>();
+	private final IntArrayList emptyItemRecipes = new IntArrayList(), unindexedItemRecipes = new IntArrayList();
+	
+	private final Object2ObjectOpenHashMap<String, IntArrayList> fluidMap = new Object2ObjectOpenHashMap<String, IntArrayList>();
+	private final IntArrayList emptyFluidRecipes = new IntArrayList(), unindexedFluidRecipes = new IntArrayList();
+	
+	// Ingredient-level validity tables for slot and tank insertion checks
+	
+	private final Int2ObjectOpenHashMap<List<IItemIngredient>> validItemMap = new Int2ObjectOpenHashMap<List<IItemIngredient>>();
+	private final BitSet validOreIDs = new BitSet();
+	private final List<IItemIngredient> unindexedItemIngredients = new ArrayList<IItemIngredient>();
+	private boolean validEmptyItem = false;
+	
+	private final Object2ObjectOpenHashMap<String, List<IFluidIngredient>> validFluidMap = new Object2ObjectOpenHashMap<String, List<IFluidIngredient>>();
+	private final List<IFluidIngredient> unindexedFluidIngredients = new ArrayList<IFluidIngredient>();
+	private boolean validEmptyFluid = false;
+	
+	/** Version of the recipe list the index was built from */
+	private final int version;
+	
+	public RecipeIndex(List<T> recipeList) {
+		this(recipeList, IngredientSorption.INPUT);
+	}
+	
+	public RecipeIndex(List<T> recipeList, IngredientSorption sorption) {
+		this(recipeList, sorption, 0);
+	}
+	
+	/** The index is never modified after construction, so it can be shared between threads once published. */
+	public RecipeIndex(List<T> recipeList, IngredientSorption sorption, int version) {
+		this.sorption = sorption;
+		this.version = version;
+		for (T recipe : recipeList) add(recipe);
+	}
+	
+	public int size() {
+		return recipes.size();
+	}
+	
+	public int getVersion() {
+		return version;
+	}
+	
+	/** Appends a recipe to the end of the index, matching the behaviour of adding it to the end of the recipe list. */
+	private void add(T recipe) {
+		int pos = recipes.size();
+		recipes.add(recipe);
+	
+		ObjectOpenHashSet<Object> keys = new ObjectOpenHashSet<Object>();
+		for (IItemIngredient ingredient : sorption == IngredientSorption.OUTPUT ? recipe.itemProducts() : recipe.itemIngredients()) {
+			if (!addItemKeys(ingredient, keys)) {
+				keys.add(UNINDEXED);
+				unindexedItemIngredients.add(ingredient);
+			}
+			else addItemLeaves(ingredient);
+		}
+		for (Object key : keys) {
+			if (key == EMPTY) emptyItemRecipes.add(pos);
+			else if (key == UNINDEXED) unindexedItemRecipes.add(pos);
+			else if (key instanceof Item) posting(itemMap, Item.getIdFromItem((Item) key)).add(pos);
+			else posting(oreMap, (Integer) key).add(pos);
+		}
+	
+		keys.clear();
+		for (IFluidIngredient ingredient : sorption == IngredientSorption.OUTPUT ? recipe.fluidProducts() : recipe.fluidIngredients()) {
+			if (!addFluidKeys(ingredient, keys)) {
+				keys.add(UNINDEXED);
+				unindexedFluidIngredients.add(ingredient);
+			}
+			else addFluidLeaves(ingredient);
+		}
+		for (Object key : keys) {
+			if (key == EMPTY) emptyFluidRecipes.add(pos);
+			else if (key == UNINDEXED) unindexedFluidRecipes.add(pos);
+			else posting(fluidMap, (String) key).add(pos);
+		}
+	}
+	
+	@Nullable
+	public T getRecipeFromInputs(List<ItemStack> itemInputs, List<Tank> fluidInputs) {
+		int probeItem = -1, probeFluid = -1, probeSize = Integer.MAX_VALUE;
+		for (int i = 0; i < itemInputs.size(); i++) {
+			int size = itemCandidateCount(itemInputs.get(i));
+			if (size < probeSize) {
+				probeItem = i;
+				probeSize = size;
+			}
+		}
+		for (int i = 0; i < fluidInputs.size(); i++) {
+			int size = fluidCandidateCount(fluidInputs.get(i));
+			if (size < probeSize) {
+				probeItem = -1;
+				probeFluid = i;
+				probeSize = size;
+			}
+		}
+	
+		int best = Integer.MAX_VALUE;
+		if (probeItem >= 0) {
+			ItemStack stack = itemInputs.get(probeItem);
+			best = search(unindexedItemRecipes, best, itemInputs, fluidInputs);
+			if (stack == null || stack.isEmpty()) {
+				best = search(emptyItemRecipes, best, itemInputs, fluidInputs);
+			} else {
+				best = search(itemMap.get(Item.getIdFromItem(stack.getItem())), best, itemInputs, fluidInputs);
+				BitSet oreIDs = OreDictHelper.getOreIDs(stack);
+				for (int oreID = oreIDs.nextSetBit(0); oreID >= 0; oreID = oreIDs.nextSetBit(oreID + 1)) best = search(oreMap.get(oreID), best, itemInputs, fluidInputs);
+			}
+		} else if (probeFluid >= 0) {
+			FluidStack stack = fluidInputs.get(probeFluid).peekFluid();
+			best = search(unindexedFluidRecipes, best, itemInputs, fluidInputs);
+			best = search(stack == null ? emptyFluidRecipes : fluidMap.get(stack.getFluid().getName()), best, itemInputs, fluidInputs);
+		}
+		return best == Integer.MAX_VALUE ? null : recipes.get(best);
+	}
+	
+	/** Marks the positions of the recipes that could match the given ingredient lists, as used by script removals. Only the
+	 * first ingredient of a standard type is probed, so the marked recipes still need to be checked. Returns false if no
+	 * ingredient could be probed, in which case every recipe is a candidate. */
+	public boolean markCandidates(List<IItemIngredient> items, List<IFluidIngredient> fluids, BitSet out) {
+		for (IItemIngredient item : items) {
+			Class<?> clazz = item == null ? null : item.getClass();
+			if (clazz == ItemIngredient.class) {
+				ItemStack stack = ((ItemIngredient) item).stack;
+				mark(unindexedItemRecipes, out);
+				if (stack.isEmpty()) mark(emptyItemRecipes, out);
+				else {
+					mark(itemMap.get(Item.getIdFromItem(stack.getItem())), out);
+					BitSet oreIDs = OreDictHelper.getOreIDs(stack);
+					for (int oreID = oreIDs.nextSetBit(0); oreID >= 0; oreID = oreIDs.nextSetBit(oreID + 1)) mark(oreMap.get(oreID), out);
+				}
+				return true;
+			}
+			else if (clazz == OreIngredient.class) {
+				OreIngredient ore = (OreIngredient) item;
+				mark(unindexedItemRecipes, out);
+				mark(oreMap.get(ore.oreID), out);
+				// Item ingredients accept an ore ingredient that lists their item
+				if (ore.cachedStackList != null) for (ItemStack stack : ore.cachedStackList) {
+					if (stack != null && !stack.isEmpty()) mark(itemMap.get(Item.getIdFromItem(stack.getItem())), out);
+				}
+				return true;
+			}
+			else if (clazz == EmptyItemIngredient.class) {
+				mark(unindexedItemRecipes, out);
+				mark(emptyItemRecipes, out);
+				return true;
+			}
+		}
+		for (IFluidIngredient fluid : fluids) {
+			Class<?> clazz = fluid == null ? null : fluid.getClass();
+			if (clazz == FluidIngredient.class && ((FluidIngredient) fluid).stack != null) {
+				mark(unindexedFluidRecipes, out);
+				mark(fluidMap.get(((FluidIngredient) fluid).stack.getFluid().getName()), out);
+				return true;
+			}
+			else if (clazz == EmptyFluidIngredient.class) {
+				mark(unindexedFluidRecipes, out);
+				mark(emptyFluidRecipes, out);
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static void mark(@Nullable IntArrayList posting, BitSet out) {
+		if (posting != null) for (int i = 0; i < posting.size(); i++) out.set(posting.getInt(i));
+	}
+	
+	/** Equivalent to checking whether any ingredient of any recipe accepts the stack. */
+	public boolean isValidItemInput(ItemStack stack) {
+		if (stack == null || stack.isEmpty()) {
+			if (validEmptyItem) return true;
+		} else {
+			List<IItemIngredient> ingredients = validItemMap.get(Item.getIdFromItem(stack.getItem()));
+			if (ingredients != null) for (IItemIngredient ingredient : ingredients) {
+				if (ingredient.matches(stack, IngredientSorption.NEUTRAL)) return true;
+			}
+			if (OreDictHelper.getOreIDs(stack).intersects(validOreIDs)) return true;
+		}
+		for (IItemIngredient ingredient : unindexedItemIngredients) {
+			if (ingredient.matches(stack, IngredientSorption.NEUTRAL)) return true;
+		}
+		return false;
+	}
+	
+	/** Equivalent to checking whether any ingredient of any recipe accepts the fluid. */
+	public boolean isValidFluidInput(FluidStack stack) {
+		if (stack == null) {
+			if (validEmptyFluid) return true;
+		} else {
+			List<IFluidIngredient> ingredients = validFluidMap.get(stack.getFluid().getName());
+			if (ingredients != null) for (IFluidIngredient ingredient : ingredients) {
+				if (ingredient.matches(stack, IngredientSorption.NEUTRAL)) return true;
+			}
+		}
+		for (IFluidIngredient ingredient : unindexedFluidIngredients) {
+			if (ingredient.matches(stack, IngredientSorption.NEUTRAL)) return true;
+		}
+		return false;
+	}
+	
+	/** Smart item insertion: the first recipe that accepts both the stack and all other non-empty inputs decides
+	 * whether the stack is valid, which is only the case if the ingredient it matches does not also take another input. */
+	public boolean isValidItemInput(ItemStack stack, List<ItemStack> otherInputs) {
+		boolean hasOthers = false;
+		for (ItemStack other : otherInputs) {
+			if (!other.isEmpty()) {
+				hasOthers = true;
+				break;
+			}
+		}
+		if (!hasOthers) return isValidItemInput(stack);
+	
+		int best = Integer.MAX_VALUE;
+		best = searchAccepting(unindexedItemRecipes, best, stack, otherInputs);
+		if (stack.isEmpty()) {
+			best = searchAccepting(emptyItemRecipes, best, stack, otherInputs);
+		} else {
+			best = searchAccepting(itemMap.get(Item.getIdFromItem(stack.getItem())), best, stack, otherInputs);
+			BitSet oreIDs = OreDictHelper.getOreIDs(stack);
+			for (int oreID = oreIDs.nextSetBit(0); oreID >= 0; oreID = oreIDs.nextSetBit(oreID + 1)) best = searchAccepting(oreMap.get(oreID), best, stack, otherInputs);
+		}
+		if (best == Integer.MAX_VALUE) return false;
+	
+		for (IItemIngredient input : recipes.get(best).itemIngredients()) {
+			if (input.matches(stack, IngredientSorption.NEUTRAL)) {
+				for (ItemStack other : otherInputs) {
+					if (!other.isEmpty() && input.matches(other, IngredientSorption.NEUTRAL)) return false;
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private int searchAccepting(@Nullable IntArrayList posting, int best, ItemStack stack, List<ItemStack> otherInputs) {
+		if (posting == null) return best;
+		for (int i = 0; i < posting.size(); i++) {
+			int pos = posting.getInt(i);
+			if (pos >= best) return best;
+			if (acceptsAll(recipes.get(pos), stack, otherInputs)) return pos;
+		}
+		return best;
+	}
+	
+	private static boolean acceptsAll(IRecipe recipe, ItemStack stack, List<ItemStack> otherInputs) {
+		if (!accepts(recipe, stack)) return false;
+		for (ItemStack other : otherInputs) {
+			if (!other.isEmpty() && !accepts(recipe, other)) return false;
+		}
+		return true;
+	}
+	
+	private static boolean accepts(IRecipe recipe, ItemStack stack) {
+		for (IItemIngredient input : recipe.itemIngredients()) {
+			if (input.matches(stack, IngredientSorption.NEUTRAL)) return true;
+		}
+		return false;
+	}
+	
+	/** Returns the lowest recipe position in the posting list that is below the current best and accepts the inputs. */
+	private int search(@Nullable IntArrayList posting, int best, List<ItemStack> itemInputs, List<Tank> fluidInputs) {
+		if (posting == null) return best;
+		for (int i = 0; i < posting.size(); i++) {
+			int pos = posting.getInt(i);
+			if (pos >= best) return best;
+			if (recipes.get(pos).matchingInputs(itemInputs, fluidInputs)) return pos;
+		}
+		return best;
+	}
+	
+	private int itemCandidateCount(ItemStack stack) {
+		int count = unindexedItemRecipes.size();
+		if (stack == null || stack.isEmpty()) return count + emptyItemRecipes.size();
+		count += size(itemMap.get(Item.getIdFromItem(stack.getItem())));
+		BitSet oreIDs = OreDictHelper.getOreIDs(stack);
+		for (int oreID = oreIDs.nextSetBit(0); oreID >= 0; oreID = oreIDs.nextSetBit(oreID + 1)) count += size(oreMap.get(oreID));
+		return count;
+	}
+	
+	private int fluidCandidateCount(Tank tank) {
+		int count = unindexedFluidRecipes.size();
+		FluidStack stack = tank.peekFluid();
+		return count + (stack == null ? emptyFluidRecipes.size() : size(fluidMap.get(stack.getFluid().getName())));
+	}
+	
+	private static int size(@Nullable IntArrayList posting) {
+		return posting == null ? 0 : posting.size();
+	}
+	
+	private static IntArrayList posting(Int2ObjectOpenHashMap<IntArrayList> map, int key) {
+		IntArrayList posting = map.get(key);
+		if (posting == null) map.put(key, posting = new IntArrayList());
+		return posting;
+	}
+	
+	private static <K> IntArrayList posting(Object2ObjectOpenHashMap<K, IntArrayList> map, K key) {
+		IntArrayList posting = map.get(key);
+		if (posting == null) map.put(key, posting = new IntArrayList());
+		return posting;
+	}
+	
+	/** Must only be called for ingredients that {@link #addItemKeys} was able to index. */
+	private void addItemLeaves(IItemIngredient ingredient) {
+		if (ingredient instanceof ItemIngredient) {
+			ItemStack stack = ((ItemIngredient) ingredient).stack;
+			if (stack.isEmpty()) return;
+			int id = Item.getIdFromItem(stack.getItem());
+			List<IItemIngredient> ingredients = validItemMap.get(id);
+			if (ingredients == null) validItemMap.put(id, ingredients = new ArrayList<IItemIngredient>());
+			ingredients.add(ingredient);
+		}
+		else if (ingredient instanceof OreIngredient) validOreIDs.set(((OreIngredient) ingredient).oreID);
+		else if (ingredient instanceof EmptyItemIngredient) validEmptyItem = true;
+		else if (ingredient instanceof ChanceItemIngredient) addItemLeaves(((ChanceItemIngredient) ingredient).ingredient);
+		else if (ingredient instanceof ItemArrayIngredient) {
+			for (IItemIngredient subIngredient : ((ItemArrayIngredient) ingredient).ingredientList) addItemLeaves(subIngredient);
+		}
+	}
+	
+	/** Must only be called for ingredients that {@link #addFluidKeys} was able to index. */
+	private void addFluidLeaves(IFluidIngredient ingredient) {
+		if (ingredient instanceof FluidIngredient) {
+			String fluidName = ((FluidIngredient) ingredient).stack.getFluid().getName();
+			List<IFluidIngredient> ingredients = validFluidMap.get(fluidName);
+			if (ingredients == null) validFluidMap.put(fluidName, ingredients = new ArrayList<IFluidIngredient>());
+			ingredients.add(ingredient);
+		}
+		else if (ingredient instanceof EmptyFluidIngredient) validEmptyFluid = true;
+		else if (ingredient instanceof ChanceFluidIngredient) addFluidLeaves(((ChanceFluidIngredient) ingredient).ingredient);
+		else if (ingredient instanceof FluidArrayIngredient) {
+			for (IFluidIngredient subIngredient : ((FluidArrayIngredient) ingredient).ingredientList) addFluidLeaves(subIngredient);
+		}
+	}
+	
+	/** Only the standard ingredient types are indexed - anything else is always treated as a candidate. */
+	private static boolean addItemKeys(IItemIngredient ingredient, ObjectOpenHashSet<Object> keys) {
+		if (ingredient == null) return false;
+		Class<?> clazz = ingredient.getClass();
+		if (clazz == ItemIngredient.class) {
+			ItemStack stack = ((ItemIngredient) ingredient).stack;
+			keys.add(stack.isEmpty() ? EMPTY : stack.getItem());
+			return true;
+		}
+		else if (clazz == OreIngredient.class) {
+			keys.add(((OreIngredient) ingredient).oreID);
+			return true;
+		}
+		else if (clazz == EmptyItemIngredient.class) {
+			keys.add(EMPTY);
+			return true;
+		}
+		else if (clazz == ChanceItemIngredient.class) {
+			return addItemKeys(((ChanceItemIngredient) ingredient).ingredient, keys);
+		}
+		else if (clazz == ItemArrayIngredient.class) {
+			for (IItemIngredient subIngredient : ((ItemArrayIngredient) ingredient).ingredientList) {
+				if (!addItemKeys(subIngredient, keys)) return false;
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	private static boolean addFluidKeys(IFluidIngredient ingredient, ObjectOpenHashSet<Object> keys) {
+		if (ingredient == null) return false;
+		Class<?> clazz = ingredient.getClass();
+		if (clazz == FluidIngredient.class) {
+			FluidStack stack = ((FluidIngredient) ingredient).stack;
+			if (stack == null) return false;
+			keys.add(stack.getFluid().getName());
+			return true;
+		}
+		else if (clazz == EmptyFluidIngredient.class) {
+			keys.add(EMPTY);
+			return true;
+		}
+		else if (clazz == ChanceFluidIngredient.class) {
+			return addFluidKeys(((ChanceFluidIngredient) ingredient).ingredient, keys);
+		}
+		else if (clazz == FluidArrayIngredient.class) {
+			for (IFluidIngredient subIngredient : ((FluidArrayIngredient) ingredient).ingredientList) {
+				if (!addFluidKeys(subIngredient, keys)) return false;
+			}
+			return true;
+		}
+		return false;
+	}
+}
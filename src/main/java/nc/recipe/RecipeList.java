@@ -0,0 +1,89 @@
+package nc.recipe;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/** Recipe list which counts every change made to it, including replacements, so that indices built from it can tell when they are stale */
+public class RecipeList<T> extends AbstractList<T> {
+	
+	/** Only replaced whole by {@link #setAll}, so that readers on other threads see either the old or the new recipes */
+	private volatile ArrayList<T> list = new ArrayList<T>();
+	
+	private int version = 0;
+	
+	/** Changes whenever an element is added, removed or replaced */
+	public int getVersion() {
+		return version;
+	}
+	
+	@Override
+	public T get(int index) {
+		return list.get(index);
+	}
+	
+	@Override
+	public int size() {
+		return list.size();
+	}
+	
+	/** Iterates over the elements present when called, even if they are replaced by {@link #setAll} meanwhile */
+	@Override
+	public Iterator<T> iterator() {
+		return Collections.unmodifiableList(list).iterator();
+	}
+	
+	@Override
+	public T set(int index, T element) {
+		T previous = list.set(index, element);
+		version++;
+		return previous;
+	}
+	
+	@Override
+	public void add(int index, T element) {
+		list.add(index, element);
+		version++;
+		modCount++;
+	}
+	
+	@Override
+	public T remove(int index) {
+		T previous = list.remove(index);
+		version++;
+		modCount++;
+		return previous;
+	}
+	
+	@Override
+	public boolean addAll(Collection<? extends T> c) {
+		if (c.isEmpty()) return false;
+		list.addAll(c);
+		version++;
+		modCount++;
+		return true;
+	}
+	
+	@Override
+	public void clear() {
+		list.clear();
+		version++;
+		modCount++;
+	}
+	
+	/** Replaces every element with a single assignment */
+	public void setAll(Collection<? extends T> c) {
+		list = new ArrayList<T>(c);
+		version++;
+		modCount++;
+	}
+	
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		list.subList(fromIndex, toIndex).clear();
+		version++;
+		modCount++;
+	}
+}
@@ -1,5 +1,9 @@
 package nc.recipe.generator;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import nc.config.NCConfig;
 import nc.recipe.ProcessorRecipeHandler;
 import nc.util.Lang;
@@ -7,6 +11,8 @@ import nc.util.RegistryHelper;
 
 public class FissionRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = Lists.newArrayList(Double.class, Double.class, Double.class, String.class, Double.class);
+	
 	public FissionRecipes() {
 		super("fission", 1, 0, 1, 0);
 	}
@@ -61,4 +67,9 @@ public class FissionRecipes extends ProcessorRecipeHandler {
 	private static String localiseFuel(String string) {
 		return Lang.localise("gui.container.fission_controller." + string);
 	}
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
@@ -1,11 +1,17 @@
 package nc.recipe.generator;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import nc.config.NCConfig;
 import nc.recipe.ProcessorRecipeHandler;
 import nc.util.FluidStackHelper;
 
 public class FusionRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = Lists.newArrayList(Double.class, Double.class, Double.class, Double.class);
+	
 	public FusionRecipes() {
 		super("fusion", 0, 2, 0, 4);
 	}
@@ -51,4 +57,9 @@ public class FusionRecipes extends ProcessorRecipeHandler {
 	public void addFusionRecipe(String in1, int amountIn1, String in2, int amountIn2, String out1, int amountOut1, String out2, int amountOut2, String out3, int amountOut3, String out4, int amountOut4, int combo) {
 		addRecipe(fluidStack(in1, amountIn1), fluidStack(in2, amountIn2), fluidStack(out1, amountOut1), fluidStack(out2, amountOut2), fluidStack(out3, amountOut3), fluidStack(out4, amountOut4), NCConfig.fusion_fuel_time[combo], NCConfig.fusion_power[combo], NCConfig.fusion_heat_variable[combo]);
 	}
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
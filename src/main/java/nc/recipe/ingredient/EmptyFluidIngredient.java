@@ -50,7 +50,7 @@ public class EmptyFluidIngredient implements IFluidIngredient {
 	public boolean matches(Object object, IngredientSorption sorption) {
 		if (object == null) return true;
 		if (object instanceof Tank) {
-			return ((Tank)object).getFluid() == null;
+			return ((Tank)object).peekFluid() == null;
 		}
 		return object instanceof EmptyFluidIngredient;
 	}
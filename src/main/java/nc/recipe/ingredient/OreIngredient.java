@@ -8,15 +8,18 @@ import com.google.common.collect.Lists;
 import nc.recipe.IngredientSorption;
 import nc.util.OreDictHelper;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 public class OreIngredient implements IItemIngredient {
 	
 	public String oreName;
+	public final int oreID;
 	public final List<ItemStack> cachedStackList;
 	public int stackSize;
 	
 	public OreIngredient(String oreName, int stackSize) {
 		this.oreName = oreName;
+		oreID = OreDictionary.getOreID(oreName);
 		cachedStackList = OreDictHelper.getPrioritisedStackList(oreName);
 		this.stackSize = stackSize;
 	}
@@ -53,7 +56,7 @@ public class OreIngredient implements IItemIngredient {
 		else if (object instanceof ItemStack && type.checkStackSize(stackSize, ((ItemStack) object).getCount())) {
 			ItemStack itemstack = (ItemStack)object;
 			if (itemstack.isEmpty()) return false;
-			if (OreDictHelper.getOreNames(itemstack).contains(oreName)) return true;
+			if (OreDictHelper.hasOreID(itemstack, oreID)) return true;
 		}
 		else if (object instanceof ItemIngredient) {
 			if (matches(((ItemIngredient) object).stack, type)) return true;
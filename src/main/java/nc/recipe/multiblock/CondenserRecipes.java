@@ -1,9 +1,15 @@
 package nc.recipe.multiblock;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import nc.recipe.ProcessorRecipeHandler;
 
 public class CondenserRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = Lists.newArrayList(Double.class);
+	
 	public CondenserRecipes() {
 		super("condenser", 0, 1, 0, 1);
 	}
@@ -13,4 +19,9 @@ public class CondenserRecipes extends ProcessorRecipeHandler {
 		addRecipe(fluidStack("exhaust_steam", 1000), fluidStack("condensate_water", 50), 1D);
 		addRecipe(fluidStack("low_quality_steam", 1000), fluidStack("condensate_water", 25), 1D);
 	}
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
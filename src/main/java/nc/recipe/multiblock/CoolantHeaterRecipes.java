@@ -1,10 +1,16 @@
 package nc.recipe.multiblock;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import nc.config.NCConfig;
 import nc.recipe.ProcessorRecipeHandler;
 
 public class CoolantHeaterRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = Lists.newArrayList(Double.class, String.class);
+	
 	public CoolantHeaterRecipes() {
 		super("coolant_heater", 0, 1, 0, 1);
 	}
@@ -17,4 +23,9 @@ public class CoolantHeaterRecipes extends ProcessorRecipeHandler {
 	}
 	
 	static final String[] COOLANTS = new String[] {"", "redstone_", "quartz_", "gold_", "glowstone_", "lapis_", "diamond_", "liquidhelium_", "ender_", "cryotheum_", "iron_", "emerald_", "copper_", "tin_", "magnesium_"};
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
@@ -1,11 +1,17 @@
 package nc.recipe.multiblock;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import nc.config.NCConfig;
 import nc.recipe.ProcessorRecipeHandler;
 import nc.recipe.ingredient.IFluidIngredient;
 
 public class HeatExchangerRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = Lists.newArrayList(Double.class, Integer.class, Integer.class);
+	
 	public HeatExchangerRecipes() {
 		super("heat_exchanger", 0, 1, 0, 1);
 	}
@@ -36,4 +42,9 @@ public class HeatExchangerRecipes extends ProcessorRecipeHandler {
 	}
 	
 	private static final String[] COOLANTS = new String[] {"", "redstone_", "quartz_", "gold_", "glowstone_", "lapis_", "diamond_", "liquidhelium_", "ender_", "cryotheum_", "iron_", "emerald_", "copper_", "tin_", "magnesium_"};
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
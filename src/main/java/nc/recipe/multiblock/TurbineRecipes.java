@@ -1,10 +1,16 @@
 package nc.recipe.multiblock;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import nc.config.NCConfig;
 import nc.recipe.ProcessorRecipeHandler;
 
 public class TurbineRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = Lists.newArrayList(Double.class);
+	
 	public TurbineRecipes() {
 		super("high_turbine", 0, 1, 0, 1);
 	}
@@ -15,4 +21,9 @@ public class TurbineRecipes extends ProcessorRecipeHandler {
 		addRecipe(fluidStack("low_pressure_steam", 1), fluidStack("low_quality_steam", 2), NCConfig.turbine_power_per_mb[1]);
 		addRecipe(fluidStack("steam", 1), fluidStack("low_quality_steam", 2), NCConfig.turbine_power_per_mb[2]);
 	}
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
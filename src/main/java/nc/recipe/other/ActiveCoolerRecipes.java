@@ -1,11 +1,17 @@
 package nc.recipe.other;
 
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
 import nc.config.NCConfig;
 import nc.enumm.MetaEnums.CoolerType;
 import nc.recipe.ProcessorRecipeHandler;
 
 public class ActiveCoolerRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = Lists.newArrayList(Long.class, Long.class);
+	
 	public ActiveCoolerRecipes() {
 		super("active_cooler", 0, 1, 0, 0);
 	}
@@ -16,4 +22,9 @@ public class ActiveCoolerRecipes extends ProcessorRecipeHandler {
 			addRecipe(fluidStack(CoolerType.values()[i].getFluidName(), NCConfig.active_cooler_max_rate), Math.round(NCConfig.fission_active_cooling_rate[i - 1]*NCConfig.active_cooler_max_rate/20), Math.round(NCConfig.fusion_active_cooling_rate[i - 1]*NCConfig.active_cooler_max_rate/20));
 		}
 	}
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
@@ -1,5 +1,8 @@
 package nc.recipe.other;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import nc.config.NCConfig;
 import nc.init.NCBlocks;
 import nc.recipe.ProcessorRecipeHandler;
@@ -8,6 +11,8 @@ import net.minecraft.item.ItemStack;
 
 public class CollectorRecipes extends ProcessorRecipeHandler {
 	
+	private static final List<Class<?>> EXTRAS_TYPES = new ArrayList<Class<?>>();
+	
 	public CollectorRecipes() {
 		super("collector", 1, 0, 1, 1);
 	}
@@ -38,4 +43,9 @@ public class CollectorRecipes extends ProcessorRecipeHandler {
 			addRecipe(NCBlocks.nitrogen_collector_dense, emptyItemStack(), fluidStack("nitrogen", NCConfig.processor_passive_rate[3]*64));
 		}
 	}
+	
+	@Override
+	public List<Class<?>> getExtrasTypes() {
+		return EXTRAS_TYPES;
+	}
 }
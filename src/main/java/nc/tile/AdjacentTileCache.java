@@ -0,0 +1,108 @@
+package nc.tile;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.capabilities.Capability;
+
+/** Tiles and capability handlers on each side of a tile, resolved on demand and dropped when a neighbouring block or tile is replaced */
+public class AdjacentTileCache {
+	
+	/** Misses are only trusted for a second, as a neighbour can gain a tile or capability without notifying its neighbours */
+	private static final long MISS_LIFETIME = 20L;
+	
+	private final ITile owner;
+	private final TileEntity[] tiles = new TileEntity[6];
+	private final IBlockState[] states = new IBlockState[6];
+	private final boolean[] resolved = new boolean[6];
+	private final long[] tileMissExpiry = new long[6];
+	private final Map<Capability<?>, Object>[] capabilities = new Map[6];
+	
+	public AdjacentTileCache(ITile owner) {
+		this.owner = owner;
+	}
+	
+	public @Nullable TileEntity getTile(@Nonnull EnumFacing side) {
+		int index = side.getIndex();
+		TileEntity tile = tiles[index];
+		if (resolved[index] && (tile == null ? getWorldTime() < tileMissExpiry[index] : !isLost(tile))) return tile;
+		
+		clear(index);
+		BlockPos pos = owner.getTilePos().offset(side);
+		// Retried on the next call rather than loading the chunk
+		if (!owner.getTileWorld().isBlockLoaded(pos)) return null;
+		tile = owner.getTileWorld().getTileEntity(pos);
+		tiles[index] = tile;
+		states[index] = owner.getTileWorld().getBlockState(pos);
+		resolved[index] = true;
+		if (tile == null) tileMissExpiry[index] = getWorldTime() + MISS_LIFETIME;
+		return tile;
+	}
+	
+	public @Nullable <T> T getCapability(@Nonnull Capability<T> capability, @Nonnull EnumFacing side) {
+		TileEntity tile = getTile(side);
+		if (tile == null) return null;
+		int index = side.getIndex();
+		if (capabilities[index] == null) capabilities[index] = new IdentityHashMap<Capability<?>, Object>();
+		Object handler = capabilities[index].get(capability);
+		if (handler == null || handler instanceof CapabilityMiss && ((CapabilityMiss) handler).expiry <= getWorldTime()) {
+			handler = tile.getCapability(capability, side.getOpposite());
+			if (handler == null) handler = new CapabilityMiss(getWorldTime() + MISS_LIFETIME);
+			capabilities[index].put(capability, handler);
+		}
+		return handler instanceof CapabilityMiss ? null : (T) handler;
+	}
+	
+	private long getWorldTime() {
+		return owner.getTileWorld().getTotalWorldTime();
+	}
+	
+	private static class CapabilityMiss {
+		
+		private final long expiry;
+		
+		private CapabilityMiss(long expiry) {
+			this.expiry = expiry;
+		}
+	}
+	
+	private boolean isLost(TileEntity tile) {
+		if (tile.isInvalid() || tile instanceof NCTile && ((NCTile) tile).isChunkUnloaded) return true;
+		// Other mods' tiles in a neighbouring chunk are not invalidated when it unloads
+		BlockPos pos = owner.getTilePos(), tilePos = tile.getPos();
+		return (pos.getX() >> 4 != tilePos.getX() >> 4 || pos.getZ() >> 4 != tilePos.getZ() >> 4) && !owner.getTileWorld().isBlockLoaded(tilePos);
+	}
+	
+	/** Neighbours also notify when their contents change, which for most machines is every tick, so a side is only
+	 * dropped if its block state or tile is no longer the one it was resolved with. Only the six adjacent positions are
+	 * cached, so notifications from further away are ignored. */
+	public void onNeighborChanged(BlockPos fromPos) {
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (owner.getTilePos().offset(side).equals(fromPos)) {
+				int index = side.getIndex();
+				if (resolved[index] && (owner.getTileWorld().getBlockState(fromPos) != states[index] || owner.getTileWorld().getTileEntity(fromPos) != tiles[index])) {
+					clear(index);
+				}
+				return;
+			}
+		}
+	}
+	
+	private void clear(int index) {
+		tiles[index] = null;
+		states[index] = null;
+		resolved[index] = false;
+		if (capabilities[index] != null) capabilities[index].clear();
+	}
+	
+	public void clear() {
+		for (int i = 0; i < 6; i++) clear(i);
+	}
+}
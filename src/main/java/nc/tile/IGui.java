@@ -2,7 +2,7 @@ package nc.tile;
 
 import java.util.Set;
 
-import nc.network.PacketHandler;
+import nc.network.GuiUpdateTracker;
 import nc.network.tile.TileUpdatePacket;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -19,23 +19,28 @@ public interface IGui<PACKET extends TileUpdatePacket> extends ITile {
 	
 	public default void beginUpdatingPlayer(EntityPlayer playerToUpdate) {
 		getPlayersToUpdate().add(playerToUpdate);
+		GuiUpdateTracker.reset(this, playerToUpdate);
 		sendIndividualUpdate(playerToUpdate);
 	}
 	
 	public default void stopUpdatingPlayer(EntityPlayer playerToRemove) {
 		getPlayersToUpdate().remove(playerToRemove);
+		GuiUpdateTracker.reset(this, playerToRemove);
 	}
 	
 	public default void sendUpdateToListeningPlayers() {
-		for (EntityPlayer player : getPlayersToUpdate()) PacketHandler.instance.sendTo(getGuiUpdatePacket(), (EntityPlayerMP) player);
+		if (getPlayersToUpdate().isEmpty()) return;
+		PACKET packet = getGuiUpdatePacket();
+		for (EntityPlayer player : getPlayersToUpdate()) GuiUpdateTracker.sendTo(packet, this, (EntityPlayerMP) player);
 	}
 	
 	public default void sendIndividualUpdate(EntityPlayer player) {
 		if (getTileWorld().isRemote) return;
-		PacketHandler.instance.sendTo(getGuiUpdatePacket(), (EntityPlayerMP) player);
+		GuiUpdateTracker.sendTo(getGuiUpdatePacket(), this, (EntityPlayerMP) player);
 	}
 	
 	public default void sendUpdateToAllPlayers() {
-		PacketHandler.instance.sendToAll(getGuiUpdatePacket());
+		if (getTileWorld().isRemote) return;
+		GuiUpdateTracker.sendToAllTracking(getGuiUpdatePacket(), getTileWorld());
 	}
 }
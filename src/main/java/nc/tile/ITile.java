@@ -6,9 +6,11 @@ import javax.annotation.Nullable;
 import nc.capability.radiation.source.IRadiationSource;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
 
 public interface ITile {
 	
@@ -32,6 +34,9 @@ public interface ITile {
 		refreshIsRedstonePowered(world, pos);
 	}
 	
+	/** Called when a neighbouring tile changes without a block update, such as when it is marked dirty */
+	public default void onNeighborTileChanged(BlockPos fromPos) {}
+	
 	// Redstone
 	
 	public default boolean checkIsRedstonePowered(World world, BlockPos pos) {
@@ -66,6 +71,18 @@ public interface ITile {
 		getTileWorld().notifyNeighborsOfStateChange(pos, getTileBlockType(), true);
 	}
 	
+	// Adjacent Tiles
+	
+	public default @Nullable TileEntity getAdjacentTile(@Nonnull EnumFacing side) {
+		return getTileWorld().getTileEntity(getTilePos().offset(side));
+	}
+	
+	/** The capability of the tile on the given side, queried from the side facing this tile */
+	public default @Nullable <T> T getAdjacentCapability(@Nonnull Capability<T> capability, @Nonnull EnumFacing side) {
+		TileEntity tile = getAdjacentTile(side);
+		return tile == null ? null : tile.getCapability(capability, side.getOpposite());
+	}
+	
 	// Capabilities
 	
 	/** Use when the capability provider side argument must be non-null */
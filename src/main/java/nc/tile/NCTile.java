@@ -23,12 +23,15 @@ public abstract class NCTile extends TileEntity implements ITickable, ITile {
 	
 	public boolean isAdded = false;
 	public boolean isMarkedDirty = false;
+	public boolean isChunkUnloaded = false;
 	
 	private boolean isRedstonePowered = false;
 	private boolean alternateComparator = false;
 	
 	private IRadiationSource radiation;
 	
+	private final AdjacentTileCache adjacentTiles = new AdjacentTileCache(this);
+	
 	public NCTile() {
 		super();
 		radiation = new RadiationSource(0D);
@@ -55,6 +58,42 @@ public abstract class NCTile extends TileEntity implements ITickable, ITile {
 		}
 	}
 	
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		isChunkUnloaded = true;
+		adjacentTiles.clear();
+	}
+	
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		adjacentTiles.clear();
+	}
+	
+	@Override
+	public void onBlockNeighborChanged(IBlockState state, World world, BlockPos pos, BlockPos fromPos) {
+		adjacentTiles.onNeighborChanged(fromPos);
+		ITile.super.onBlockNeighborChanged(state, world, pos, fromPos);
+	}
+	
+	@Override
+	public void onNeighborTileChanged(BlockPos fromPos) {
+		adjacentTiles.onNeighborChanged(fromPos);
+	}
+	
+	// Adjacent Tiles
+	
+	@Override
+	public TileEntity getAdjacentTile(EnumFacing side) {
+		return adjacentTiles.getTile(side);
+	}
+	
+	@Override
+	public <T> T getAdjacentCapability(Capability<T> capability, EnumFacing side) {
+		return adjacentTiles.getCapability(capability, side);
+	}
+	
 	@Override
 	public World getTileWorld() {
 		return getWorld();
@@ -1,9 +1,11 @@
 package nc.tile.dummy;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 
 import javax.annotation.Nonnull;
 
+import nc.tile.NCTile;
 import nc.tile.energy.ITileEnergy;
 import nc.tile.energyFluid.TileEnergyFluidSidedInventory;
 import nc.tile.fluid.ITileFluid;
@@ -21,6 +23,7 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ISidedInventory;
 import net.minecraft.inventory.ItemStackHelper;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
@@ -29,6 +32,8 @@ import net.minecraft.world.World;
 public abstract class TileDummy<T extends IDummyMaster> extends TileEnergyFluidSidedInventory {
 	
 	public BlockPos masterPosition = null;
+	/** Tile at masterPosition, dropped once it is invalidated or its chunk unloads */
+	private WeakReference<TileEntity> masterRef = null;
 	protected final int updateRate;
 	
 	protected int checkCount;
@@ -63,7 +68,8 @@ public abstract class TileDummy<T extends IDummyMaster> extends TileEnergyFluidS
 	public void update() {
 		super.update();
 		if(!world.isRemote) {
-			if (checkCount == 0) findMaster();
+			// Neighbour changes and lost masters trigger a search, so this only retries while there is none
+			if (checkCount == 0 && masterPosition == null) findMaster();
 			tickDummy();
 		}
 	}
@@ -75,6 +81,7 @@ public abstract class TileDummy<T extends IDummyMaster> extends TileEnergyFluidS
 	@Override
 	public void onBlockNeighborChanged(IBlockState state, World world, BlockPos pos, BlockPos fromPos) {
 		super.onBlockNeighborChanged(state, world, pos, fromPos);
+		if (!world.isRemote) findMaster();
 		if (hasMaster()) getMaster().onDummyNeighborChanged(state, world, pos, fromPos);
 	}
 	
@@ -317,9 +324,14 @@ public abstract class TileDummy<T extends IDummyMaster> extends TileEnergyFluidS
 	/** Find the BlockPos of the master tile entity */
 	public abstract void findMaster();
 	
+	protected void setMasterPosition(BlockPos pos) {
+		if (pos == null ? masterPosition == null : pos.equals(masterPosition)) return;
+		masterPosition = pos;
+		masterRef = null;
+	}
+	
 	public boolean hasMaster() {
-		if (masterPosition == null) return false;
-		return isMaster(masterPosition);
+		return getMaster() != null;
 	}
 	
 	public boolean isMaster(BlockPos pos) {
@@ -327,7 +339,21 @@ public abstract class TileDummy<T extends IDummyMaster> extends TileEnergyFluidS
 	}
 	
 	public T getMaster() {
-		if (hasMaster()) return (T) world.getTileEntity(masterPosition);
-		return null;
+		if (masterPosition == null) return null;
+		TileEntity master = masterRef == null ? null : masterRef.get();
+		if (master == null || isMasterLost(master)) {
+			// The master may have been replaced in place, so look once more before giving up on it
+			master = world.isBlockLoaded(masterPosition) ? world.getTileEntity(masterPosition) : null;
+			if (!tClass.isInstance(master)) {
+				setMasterPosition(null);
+				return null;
+			}
+			masterRef = new WeakReference<TileEntity>(master);
+		}
+		return (T) master;
+	}
+	
+	private static boolean isMasterLost(TileEntity master) {
+		return master.isInvalid() || master instanceof NCTile && ((NCTile) master).isChunkUnloaded;
 	}
 }
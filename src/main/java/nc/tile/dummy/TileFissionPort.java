@@ -16,6 +16,7 @@ import nc.init.NCBlocks;
 import nc.tile.energy.ITileEnergy;
 import nc.tile.generator.TileFissionController;
 import nc.tile.internal.energy.EnergyConnection;
+import nc.tile.internal.energy.EnergyStorage;
 import nc.tile.passive.ITilePassive;
 import nc.util.BlockFinder;
 import nc.util.EnergyHelper;
@@ -54,9 +55,13 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 		return 1;
 	}
 	
-	private int getCurrentEnergyStored() {
+	private long getCurrentEnergyStored() {
 		if (hasMaster()) return getMaster().currentEnergyStored;
-		return 1;
+		return 1L;
+	}
+	
+	private int getEnergyPerPort() {
+		return EnergyStorage.clampToInt(getCurrentEnergyStored()/getNumberOfPorts());
 	}
 	
 	@Override
@@ -84,16 +89,16 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 	public void pushPortEnergyToSide(@Nonnull EnumFacing side) {
 		if (getEnergyStorage().getEnergyStored() <= 0 || !getEnergyConnection(side).canExtract()) return;
 		
-		TileEntity tile = world.getTileEntity(getPos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null) return;
 		
 		if (tile instanceof ITileEnergy) if (!((ITileEnergy) tile).getEnergyConnection(side.getOpposite()).canReceive()) return;
 		if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushEnergyTo()) return;
 		
-		IEnergyStorage adjStorage = tile.getCapability(CapabilityEnergy.ENERGY, side.getOpposite());
+		IEnergyStorage adjStorage = getAdjacentCapability(CapabilityEnergy.ENERGY, side);
 		
 		if (adjStorage != null && getEnergyStorage().canExtract()) {
-			getEnergyStorage().extractEnergy(adjStorage.receiveEnergy(getEnergyStorage().extractEnergy(getCurrentEnergyStored()/getNumberOfPorts(), true), false), false);
+			getEnergyStorage().extractEnergy(adjStorage.receiveEnergy(getEnergyStorage().extractEnergy(getEnergyPerPort(), true), false), false);
 			return;
 		}
 		
@@ -101,14 +106,14 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 		
 		if (ModCheck.ic2Loaded()) {
 			if (tile instanceof IEnergySink) {
-				getEnergyStorage().extractEnergy((int) Math.round(((IEnergySink) tile).injectEnergy(side.getOpposite(), getEnergyStorage().extractEnergy(getCurrentEnergyStored()/getNumberOfPorts(), true)/NCConfig.rf_per_eu, getSourceTier())*NCConfig.rf_per_eu), false);
+				getEnergyStorage().extractEnergy((int) Math.round(((IEnergySink) tile).injectEnergy(side.getOpposite(), getEnergyStorage().extractEnergy(getEnergyPerPort(), true)/NCConfig.rf_per_eu, getSourceTier())*NCConfig.rf_per_eu), false);
 				return;
 			}
 		}
 		if (ModCheck.gregtechLoaded()) {
-			IEnergyContainer adjStorageGT = tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side.getOpposite());
+			IEnergyContainer adjStorageGT = getAdjacentCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side);
 			if (adjStorageGT != null && getEnergyStorage().canExtract()) {
-				int voltage = MathHelper.clamp((getCurrentEnergyStored()/getNumberOfPorts())/NCConfig.rf_per_eu, 1, EnergyHelper.getMaxEUFromTier(getEUSourceTier()));
+				int voltage = MathHelper.clamp(getEnergyPerPort()/NCConfig.rf_per_eu, 1, EnergyHelper.getMaxEUFromTier(getEUSourceTier()));
 				getEnergyStorage().extractEnergy((int)Math.min(voltage*adjStorageGT.acceptEnergyFromNetwork(side.getOpposite(), voltage, 1)*NCConfig.rf_per_eu, Integer.MAX_VALUE), false);
 				return;
 			}
@@ -170,7 +175,7 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 			}
 		}
 		if (!f) {
-			masterPosition = null;
+			setMasterPosition(null);
 			return;
 		}
 		f = false;
@@ -182,7 +187,7 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 			}
 		}
 		if (!f) {
-			masterPosition = null;
+			setMasterPosition(null);
 			return;
 		}
 		f = false;
@@ -194,7 +199,7 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 			}
 		}
 		if (!f) {
-			masterPosition = null;
+			setMasterPosition(null);
 			return;
 		}
 		f = false;
@@ -206,7 +211,7 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 			}
 		}
 		if (!f) {
-			masterPosition = null;
+			setMasterPosition(null);
 			return;
 		}
 		f = false;
@@ -218,12 +223,12 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 			}
 		}
 		if (!f) {
-			masterPosition = null;
+			setMasterPosition(null);
 			return;
 		}
 		f = false;
 		if ((x0 > 0 || x1 < 0) || (y0 > 0 || y1 < 0) || (z0 > 0 || z1 < 0) || x1 - x0 < 1 || y1 - y0 < 1 || z1 - z0 < 1) {
-			masterPosition = null;
+			setMasterPosition(null);
 			return;
 		}
 		for (int y = y0; y <= y1; y++) {
@@ -231,7 +236,7 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 				for (int x : new int[] {x0, x1}) {
 					if(world.getTileEntity(finder.position(x, y, z)) != null) {
 						if(isMaster(finder.position(x, y, z))) {
-							masterPosition = finder.position(x, y, z);
+							setMasterPosition(finder.position(x, y, z));
 							return;
 						}
 					}
@@ -241,14 +246,14 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 				for (int x = x0; x <= x1; x++) {
 					if(world.getTileEntity(finder.position(x, y, z)) != null) {
 						if(isMaster(finder.position(x, y, z))) {
-							masterPosition = finder.position(x, y, z);
+							setMasterPosition(finder.position(x, y, z));
 							return;
 						}
 					}
 				}
 			}
 		}
-		masterPosition = null;
+		setMasterPosition(null);
 	}
 	
 	// OpenComputers
@@ -298,19 +303,19 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 	@Callback
 	@Optional.Method(modid = "opencomputers")
 	public Object[] getEnergyStored(Context context, Arguments args) {
-		return new Object[] {hasMaster() ? getMaster().getEnergyStored() : 0};
+		return new Object[] {hasMaster() ? getMaster().getEnergyStorage().getEnergyStoredLong() : 0L};
 	}
 	
 	@Callback
 	@Optional.Method(modid = "opencomputers")
 	public Object[] getMaxEnergyStored(Context context, Arguments args) {
-		return new Object[] {hasMaster() ? getMaster().getMaxEnergyStored() : 1};
+		return new Object[] {hasMaster() ? getMaster().getEnergyStorage().getMaxEnergyStoredLong() : 1L};
 	}
 	
 	@Callback
 	@Optional.Method(modid = "opencomputers")
 	public Object[] getEnergyChange(Context context, Arguments args) {
-		return new Object[] {hasMaster() ? getMaster().energyChange : 0};
+		return new Object[] {hasMaster() ? getMaster().energyChange : 0L};
 	}
 	
 	@Callback
@@ -414,7 +419,10 @@ public class TileFissionPort extends TileDummy<TileFissionController> implements
 	@Callback
 	@Optional.Method(modid = "opencomputers")
 	public Object[] forceUpdate(Context context, Arguments args) {
-		if (hasMaster()) getMaster().refreshMultiblock(true);
+		if (hasMaster()) {
+			getMaster().markLayoutDirty();
+			getMaster().refreshMultiblock(true);
+		}
 		return new Object[] {};
 	}
 }
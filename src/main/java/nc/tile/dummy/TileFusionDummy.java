@@ -37,10 +37,10 @@ public abstract class TileFusionDummy extends TileDummy<TileFusionCore> implemen
 		public void findMaster() {
 			BlockPosHelper helper = new BlockPosHelper(pos);
 			for (BlockPos pos : helper.cuboid(-1, -1, -1, 1, 0, 1)) if (findCore(pos)) {
-				masterPosition = pos;
+				setMasterPosition(pos);
 				return;
 			}
-			masterPosition = null;
+			setMasterPosition(null);
 		}
 	}
 	
@@ -53,17 +53,17 @@ public abstract class TileFusionDummy extends TileDummy<TileFusionCore> implemen
 		public void findMaster() {
 			BlockPosHelper helper = new BlockPosHelper(pos);
 			for (BlockPos pos : helper.cuboid(-1, -2, -1, 1, -2, 1)) if (findCore(pos)) {
-				masterPosition = pos;
+				setMasterPosition(pos);
 				return;
 			}
-			masterPosition = null;
+			setMasterPosition(null);
 		}
 	}
 	
 	private BlockFinder finder;
 	
 	public TileFusionDummy(String name) {
-		super(TileFusionCore.class, name, TankSorption.BOTH, NCConfig.machine_update_rate, NCRecipes.fusion_valid_fluids.get(0), ITileFluid.fluidConnectionAll(FluidConnection.BOTH));
+		super(TileFusionCore.class, name, TankSorption.BOTH, NCConfig.machine_update_rate, NCRecipes.getValidFluids(NCRecipes.Type.FUSION).get(0), ITileFluid.fluidConnectionAll(FluidConnection.BOTH));
 	}
 	
 	@Override
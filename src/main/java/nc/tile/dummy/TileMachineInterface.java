@@ -33,11 +33,11 @@ public class TileMachineInterface extends TileDummy<IInterfaceable> implements I
 			TileEntity tile = world.getTileEntity(getPos().offset(side));
 			if (tile != null) {
 				if (isMaster(getPos().offset(side))) {
-					masterPosition = getPos().offset(side);
+					setMasterPosition(getPos().offset(side));
 					return;
 				}
 			}
 		}
-		masterPosition = null;
+		setMasterPosition(null);
 	}
 }
@@ -142,13 +142,13 @@ public interface ITileEnergy extends ITile {
 	public default void pushEnergyToSide(@Nonnull EnumFacing side) {
 		if (!getEnergyConnection(side).canExtract()) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null) return;
 		
 		if (tile instanceof ITileEnergy) if (!((ITileEnergy) tile).getEnergyConnection(side.getOpposite()).canReceive()) return;
 		if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushEnergyTo()) return;
 		
-		IEnergyStorage adjStorage = tile.getCapability(CapabilityEnergy.ENERGY, side.getOpposite());
+		IEnergyStorage adjStorage = getAdjacentCapability(CapabilityEnergy.ENERGY, side);
 		
 		if (adjStorage != null && getEnergyStorage().canExtract()) {
 			getEnergyStorage().extractEnergy(adjStorage.receiveEnergy(getEnergyStorage().extractEnergy(getEnergyStorage().getMaxEnergyStored(), true), false), false);
@@ -164,7 +164,7 @@ public interface ITileEnergy extends ITile {
 			}
 		}
 		if (ModCheck.gregtechLoaded()) {
-			IEnergyContainer adjStorageGT = tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side.getOpposite());
+			IEnergyContainer adjStorageGT = getAdjacentCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side);
 			if (adjStorageGT != null && getEnergyStorage().canExtract()) {
 				int voltage = MathHelper.clamp(getEnergyStorage().getEnergyStored()/NCConfig.rf_per_eu, 1, EnergyHelper.getMaxEUFromTier(getEUSourceTier()));
 				getEnergyStorage().extractEnergy((int)Math.min(voltage*adjStorageGT.acceptEnergyFromNetwork(side.getOpposite(), voltage, 1)*NCConfig.rf_per_eu, Integer.MAX_VALUE), false);
@@ -176,12 +176,12 @@ public interface ITileEnergy extends ITile {
 	public default void spreadEnergyToSide(@Nonnull EnumFacing side) {
 		if (!getEnergyConnection(side).canConnect()) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null) return;
 		
 		if (!(tile instanceof IEnergySpread)) return;
 		if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushEnergyTo()) return;
-		IEnergyStorage adjStorage = tile.getCapability(CapabilityEnergy.ENERGY, side.getOpposite());
+		IEnergyStorage adjStorage = getAdjacentCapability(CapabilityEnergy.ENERGY, side);
 		
 		if (adjStorage != null && getEnergyStorage().canExtract()) {
 			int maxExtract = (getEnergyStorage().getEnergyStored() - adjStorage.getEnergyStored())/2;
@@ -192,16 +192,16 @@ public interface ITileEnergy extends ITile {
 	// NBT
 	
 	public default NBTTagCompound writeEnergy(NBTTagCompound nbt) {
-		nbt.setInteger("energy", getEnergyStorage().getEnergyStored());
-		nbt.setInteger("capacity", getEnergyStorage().getMaxEnergyStored());
-		nbt.setInteger("maxTransfer", getEnergyStorage().getMaxTransfer());
+		nbt.setLong("energy", getEnergyStorage().getEnergyStoredLong());
+		nbt.setLong("capacity", getEnergyStorage().getMaxEnergyStoredLong());
+		nbt.setLong("maxTransfer", getEnergyStorage().getMaxTransferLong());
 		return nbt;
 	}
 	
 	public default void readEnergy(NBTTagCompound nbt) {
-		getEnergyStorage().setEnergyStored(nbt.getInteger("energy"));
-		getEnergyStorage().setStorageCapacity(nbt.getInteger("capacity"));
-		if (nbt.hasKey("maxTransfer")) getEnergyStorage().setMaxTransfer(nbt.getInteger("maxTransfer"));
+		getEnergyStorage().setEnergyStoredLong(nbt.getLong("energy"));
+		getEnergyStorage().setStorageCapacityLong(nbt.getLong("capacity"));
+		if (nbt.hasKey("maxTransfer")) getEnergyStorage().setMaxTransferLong(nbt.getLong("maxTransfer"));
 		else getEnergyStorage().setMaxTransfer(Math.max(nbt.getInteger("maxReceive"), nbt.getInteger("maxExtract"))); // For old NBT
 	}
 	
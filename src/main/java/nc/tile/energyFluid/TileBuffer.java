@@ -70,9 +70,9 @@ public class TileBuffer extends TileEnergyFluidSidedInventory implements IInterf
 		IItemHandler inv = thisTile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side);
 		if (inv == null) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (!(tile instanceof IBufferable)) return;
-		IItemHandler adjInv = tile == null ? null : tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side.getOpposite());
+		IItemHandler adjInv = getAdjacentCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side);
 		if (adjInv == null || adjInv.getSlots() < 1) return;
 		
 		for (int i = 0; i < getInventoryStacks().size(); i++) {
@@ -92,16 +92,16 @@ public class TileBuffer extends TileEnergyFluidSidedInventory implements IInterf
 	public void pushFluidToSide(@Nonnull EnumFacing side) {
 		if (!getFluidConnection(side).canDrain()) return;
 		
-		TileEntity tile = world.getTileEntity(getPos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null) return;
 		
 		if (!(tile instanceof IBufferable)) return;
 		
-		IFluidHandler adjStorage = tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+		IFluidHandler adjStorage = getAdjacentCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
 		if (adjStorage == null) return;
 		
 		for (int i = 0; i < getTanks().size(); i++) {
-			if (getTanks().get(i).getFluid() == null || !getTanks().get(i).canDrain()) return;
+			if (getTanks().get(i).peekFluid() == null || !getTanks().get(i).canDrain()) return;
 			
 			getTanks().get(i).drainInternal(adjStorage.fill(getTanks().get(i).drainInternal(getTanks().get(i).getCapacity(), false), true), true);
 		}
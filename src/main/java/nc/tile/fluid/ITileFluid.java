@@ -34,7 +34,7 @@ public interface ITileFluid extends ITile {
 		if (!getTanksShared()) return true;
 		
 		for (int i = 0; i < getTanks().size(); i++) {
-			if (i != tankNumber && getTanks().get(i).canFill() && getTanks().get(i).getFluid() != null && getTanks().get(i).getFluid().isFluidEqual(resource)) {
+			if (i != tankNumber && getTanks().get(i).canFill() && getTanks().get(i).peekFluid() != null && getTanks().get(i).peekFluid().isFluidEqual(resource)) {
 				return false;
 			}
 		}
@@ -94,7 +94,7 @@ public interface ITileFluid extends ITile {
 	public default int fill(FluidStack resource, boolean doFill, EnumFacing side) {
 		if (getTanks().isEmpty() || !getFluidConnection(side).canFill()) return 0;
 		for (int i = 0; i < getTanks().size(); i++) {
-			if (getTanks().get(i).canFillFluidType(resource) && isNextToFill(resource, i) && getTanks().get(i).getFluidAmount() < getTanks().get(i).getCapacity() && (getTanks().get(i).getFluid() == null || getTanks().get(i).getFluid().isFluidEqual(resource))) {
+			if (getTanks().get(i).canFillFluidType(resource) && isNextToFill(resource, i) && getTanks().get(i).getFluidAmount() < getTanks().get(i).getCapacity() && (getTanks().get(i).peekFluid() == null || getTanks().get(i).peekFluid().isFluidEqual(resource))) {
 				return getTanks().get(i).fill(resource, doFill);
 			}
 		}
@@ -104,7 +104,7 @@ public interface ITileFluid extends ITile {
 	public default FluidStack drain(FluidStack resource, boolean doDrain, EnumFacing side) {
 		if (getTanks().isEmpty() || !getFluidConnection(side).canDrain()) return null;
 		for (int i = 0; i < getTanks().size(); i++) {
-			if (getTanks().get(i).canDrain() && getTanks().get(i).getFluidAmount() > 0 && resource.isFluidEqual(getTanks().get(i).getFluid()) && getTanks().get(i).drain(resource, false) != null) {
+			if (getTanks().get(i).canDrain() && getTanks().get(i).getFluidAmount() > 0 && resource.isFluidEqual(getTanks().get(i).peekFluid()) && getTanks().get(i).drain(resource, false) != null) {
 				return getTanks().get(i).drain(resource, doDrain);
 			}
 		}
@@ -157,16 +157,16 @@ public interface ITileFluid extends ITile {
 	public default void pushFluidToSide(@Nonnull EnumFacing side) {
 		if (!getFluidConnection(side).canDrain()) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null) return;
 		
 		if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushFluidsTo()) return;
 		
-		IFluidHandler adjStorage = tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+		IFluidHandler adjStorage = getAdjacentCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
 		if (adjStorage == null) return;
 		
 		for (int i = 0; i < getTanks().size(); i++) {
-			if (getTanks().get(i).getFluid() == null || !getTanks().get(i).canDrain()) continue;
+			if (getTanks().get(i).peekFluid() == null || !getTanks().get(i).canDrain()) continue;
 			
 			getTanks().get(i).drain(adjStorage.fill(getTanks().get(i).drain(getTanks().get(i).getCapacity(), false), true), true);
 		}
@@ -175,17 +175,17 @@ public interface ITileFluid extends ITile {
 	public default void spreadFluidToSide(@Nonnull EnumFacing side) {
 		if (!getFluidConnection(side).canConnect()) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
+		TileEntity tile = getAdjacentTile(side);
 		if (tile == null) return;
 		
 		if (!(tile instanceof IFluidSpread)) return;
 		if (tile instanceof ITilePassive) if (!((ITilePassive) tile).canPushFluidsTo()) return;
 		
-		IFluidHandler adjStorage = tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+		IFluidHandler adjStorage = getAdjacentCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
 		if (adjStorage == null) return;
 		
 		for (int i = 0; i < getTanks().size(); i++) {
-			if (getTanks().get(i).getFluid() == null || !getTanks().get(i).canDistribute()) continue;
+			if (getTanks().get(i).peekFluid() == null || !getTanks().get(i).canDistribute()) continue;
 			
 			int maxDrain = getTanks().get(i).getFluidAmount()/2;
 			FluidStack stack = adjStorage.getTankProperties()[0].getContents();
@@ -1,5 +1,6 @@
 package nc.tile.generator;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -14,6 +15,8 @@ import nc.block.tile.generator.BlockFissionController;
 import nc.block.tile.generator.BlockFissionControllerNewFixed;
 import nc.config.NCConfig;
 import nc.enumm.MetaEnums.CoolerType;
+import nc.handler.BlockChangeHandler;
+import nc.handler.BlockChangeHandler.IBlockChangeListener;
 import nc.init.NCBlocks;
 import nc.network.tile.FissionUpdatePacket;
 import nc.recipe.NCRecipes;
@@ -21,6 +24,7 @@ import nc.tile.IGui;
 import nc.tile.fluid.TileActiveCooler;
 import nc.tile.internal.fluid.Tank;
 import nc.util.BlockFinder;
+import nc.util.BlockPredicate;
 import nc.util.BlockPosHelper;
 import nc.util.EnergyHelper;
 import nc.util.Lang;
@@ -38,7 +42,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.fml.common.Optional;
 
 @Optional.Interface(iface = "li.cil.oc.api.network.SimpleComponent", modid = "opencomputers")
-public class TileFissionController extends TileItemGenerator implements IGui<FissionUpdatePacket>, SimpleComponent {
+public class TileFissionController extends TileItemGenerator implements IGui<FissionUpdatePacket>, SimpleComponent, IBlockChangeListener {
 	
 	private Random rand = new Random();
 	
@@ -49,7 +53,8 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	public int maxX, maxY, maxZ;
 	public int lengthX, lengthY, lengthZ = 3;
 	public int complete, ready, comparatorStrength;
-	public int ports = 1, currentEnergyStored = 0, energyChange = 0;
+	public int ports = 1;
+	public long currentEnergyStored = 0L, energyChange = 0L;
 	
 	public String problem = CASING_INCOMPLETE;
 	public String problemPos = "";
@@ -75,8 +80,22 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	
 	private BlockFinder finder;
 	
+	private final BlockPredicate cellPredicate = new BlockPredicate(NCBlocks.cell_block);
+	private final BlockPredicate moderatorPredicate = new BlockPredicate("blockGraphite", "blockBeryllium");
+	private final BlockPredicate[] coolerPredicates = coolerPredicates();
+	private final BlockPredicate activeCoolerPredicate = new BlockPredicate(NCBlocks.active_cooler);
+	private final BlockPredicate casingPredicate = new BlockPredicate(NCBlocks.fission_block.getStateFromMeta(0), NCBlocks.reactor_casing_transparent, NCBlocks.fission_port, NCBlocks.buffer, NCBlocks.reactor_door, NCBlocks.reactor_trapdoor);
+	private final BlockPredicate controllerPredicate = new BlockPredicate(NCBlocks.fission_controller_new_fixed, NCBlocks.fission_controller_idle, NCBlocks.fission_controller_active, NCBlocks.fission_controller_new_idle, NCBlocks.fission_controller_new_active);
+	private final BlockPredicate casingAllPredicate = new BlockPredicate(NCBlocks.fission_block.getStateFromMeta(0), NCBlocks.reactor_casing_transparent, NCBlocks.fission_port, NCBlocks.buffer, NCBlocks.reactor_door, NCBlocks.reactor_trapdoor, NCBlocks.fission_controller_new_fixed, NCBlocks.fission_controller_idle, NCBlocks.fission_controller_active, NCBlocks.fission_controller_new_idle, NCBlocks.fission_controller_new_active);
+	private final BlockPredicate portPredicate = new BlockPredicate(NCBlocks.fission_port);
+	private final BlockPredicate comparatorPredicate = new BlockPredicate(Blocks.UNPOWERED_COMPARATOR, Blocks.POWERED_COMPARATOR);
+	
 	private boolean newRules;
 	
+	private final List<LayoutComponent> layout = new ArrayList<LayoutComponent>();
+	private boolean layoutDirty = true;
+	private BlockPos layoutMin, layoutMax;
+	
 	public static class New extends TileFissionController {
 		
 		public New() {
@@ -101,9 +120,22 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	@Override
 	public void onAdded() {
 		finder = new BlockFinder(pos, world, getBlockMetadata() & 7);
+		if (!world.isRemote) BlockChangeHandler.addListener(world, this);
 		super.onAdded();
 	}
 	
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		BlockChangeHandler.removeListener(world, this);
+	}
+	
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		BlockChangeHandler.removeListener(world, this);
+	}
+	
 	@Override
 	public void updateGenerator() {
 		if (fixControllerBlock()) return;
@@ -113,7 +145,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 			isProcessing = isProcessing();
 			if (wasActivated != isActivated) refreshMultiblock(true);
 			else checkStructure(false);
-			energyChange = getEnergyStored() - currentEnergyStored;
+			energyChange = getEnergyStorage().getEnergyStoredLong() - currentEnergyStored;
 			if (newRules) newRun(false); else run(false);
 			if (overheat()) return;
 			if (isProcessing) process();
@@ -125,7 +157,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 				sendUpdateToAllPlayers();
 			}
 			pushEnergy();
-			currentEnergyStored = getEnergyStored();
+			currentEnergyStored = getEnergyStorage().getEnergyStoredLong();
 			if (comparatorStrength != getComparatorStrength()) {
 				if (findAdjacentComparator()) shouldUpdate = true;
 			}
@@ -142,6 +174,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 			BlockFissionController controller = (BlockFissionController) state.getBlock();
 			if (!controller.isNew) {
 				newRules = false;
+				markLayoutDirty();
 				return false;
 			}
 			int meta = NCBlocks.fission_controller_idle.getMetaFromState(state);
@@ -157,7 +190,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 		if (heatChange > 0) {
 			return (int) MathHelper.clamp(1500D/(double)NCConfig.fission_comparator_max_heat*(double)heat/(double)getMaxHeat(), 0D, 15D);
 		} else {
-			return (int) MathHelper.clamp(15D*(double)getEnergyStored()/(double)getMaxEnergyStored(), 0D, 15D);
+			return (int) MathHelper.clamp(15D*(double)getEnergyStorage().getEnergyStoredLong()/(double)getEnergyStorage().getMaxEnergyStoredLong(), 0D, 15D);
 		}
 	}
 	
@@ -182,7 +215,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	}
 	
 	public boolean findAdjacentComparator() {
-		return finder.adjacent(pos, 1, Blocks.UNPOWERED_COMPARATOR, Blocks.POWERED_COMPARATOR);
+		return finder.adjacent(pos, 1, comparatorPredicate);
 	}
 	
 	public boolean overheat() {
@@ -277,10 +310,8 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	
 	public String getFuelName() {
 		if (recipe == null) return NO_FUEL;
-		if (recipe.extras().size() < 4) return GENERIC_FUEL;
-		Object fuelNameInfo = recipe.extras().get(3);
-		if (fuelNameInfo instanceof String) return ((String) fuelNameInfo).replace('_', '-');
-		else return GENERIC_FUEL;
+		String fuelName = recipe.getFissionFuelName();
+		return fuelName == null ? GENERIC_FUEL : fuelName.replace('_', '-');
 	}
 	
 	public int getLengthX() {
@@ -301,236 +332,204 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 		return BASE_MAX_HEAT*getLengthX()*getLengthY()*getLengthZ();
 	}
 	
-	// Finding Blocks
+	// Finding Blocks - the layout probes take absolute world coordinates
 	
-	private boolean findCell(BlockPos pos) {
-		return finder.find(pos, NCBlocks.cell_block);
-	}
+	private static final List<EnumFacing[]> HORIZONTAL_DIRS = BlockPosHelper.horizontalsDirList();
+	private static final List<EnumFacing[]> AXIAL_DIRS = BlockPosHelper.axialsDirList();
+	private static final List<EnumFacing[]> VERTEX_DIRS = BlockPosHelper.vertexDirList();
 	
-	private boolean findCell(int x, int y, int z) {
-		return findCell(finder.position(x, y, z));
+	private static BlockPredicate[] coolerPredicates() {
+		BlockPredicate[] predicates = new BlockPredicate[CoolerType.values().length];
+		for (int i = 0; i < predicates.length; i++) predicates[i] = new BlockPredicate(NCBlocks.cooler.getStateFromMeta(i));
+		return predicates;
 	}
 	
-	private boolean findModerator(BlockPos pos) {
-		return finder.find(pos, "blockGraphite", "blockBeryllium");
+	private boolean findCell(int x, int y, int z) {
+		return finder.findAbsolute(x, y, z, cellPredicate);
 	}
 	
 	private boolean findModerator(int x, int y, int z) {
-		return findModerator(finder.position(x, y, z));
+		return finder.findAbsolute(x, y, z, moderatorPredicate);
 	}
 	
 	private boolean findCellOnSide(int x, int y, int z, EnumFacing side) {
-		return findCell(finder.position(x, y, z).offset(side));
+		return findCell(x + side.getFrontOffsetX(), y + side.getFrontOffsetY(), z + side.getFrontOffsetZ());
 	}
 	
 	private boolean findModeratorThenCellOnSide(int x, int y, int z, EnumFacing side) {
-		return findModerator(finder.position(x, y, z).offset(side)) && findCell(finder.position(x, y, z).offset(side, 2));
+		int dx = side.getFrontOffsetX(), dy = side.getFrontOffsetY(), dz = side.getFrontOffsetZ();
+		return findModerator(x + dx, y + dy, z + dz) && findCell(x + 2*dx, y + 2*dy, z + 2*dz);
 	}
 	
 	private boolean newFindModeratorThenCellOnSide(int x, int y, int z, EnumFacing side) {
+		int dx = side.getFrontOffsetX(), dy = side.getFrontOffsetY(), dz = side.getFrontOffsetZ();
 		for (int i = 1; i <= NCConfig.fission_neutron_reach; i++) {
-			for (int j = 1; j <= i; j++) if (!findModerator(finder.position(x, y, z).offset(side, j))) return false;
-			if (findCell(finder.position(x, y, z).offset(side, i + 1))) return true;
+			for (int j = 1; j <= i; j++) if (!findModerator(x + j*dx, y + j*dy, z + j*dz)) return false;
+			if (findCell(x + (i + 1)*dx, y + (i + 1)*dy, z + (i + 1)*dz)) return true;
 		}
 		return false;
 	}
 	
-	private int moderatorAdjacentCount(BlockPos pos) {
+	private int moderatorAdjacentCount(int x, int y, int z) {
 		int count = 0;
-		BlockPosHelper helper = new BlockPosHelper(pos);
-		for (BlockPos blockPos : helper.adjacents()) if (findModerator(blockPos)) count++;
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (findModerator(x + side.getFrontOffsetX(), y + side.getFrontOffsetY(), z + side.getFrontOffsetZ())) count++;
+		}
 		return count;
 	}
 	
-	private int moderatorAdjacentCount(int x, int y, int z) {
-		return moderatorAdjacentCount(finder.position(x, y, z));
+	private boolean activeModerator(int x, int y, int z) {
+		return findModerator(x, y, z) && cellAdjacent(x, y, z);
 	}
 	
-	private int activeModeratorAdjacentCount(BlockPos pos) {
+	private int activeModeratorAdjacentCount(int x, int y, int z) {
 		int count = 0;
-		BlockPosHelper helper = new BlockPosHelper(pos);
-		for (BlockPos blockPos : helper.adjacents()) {
-			if (findModerator(blockPos) && cellAdjacent(blockPos)) count++;
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (activeModerator(x + side.getFrontOffsetX(), y + side.getFrontOffsetY(), z + side.getFrontOffsetZ())) count++;
 		}
 		return count;
 	}
 	
-	private int activeModeratorAdjacentCount(int x, int y, int z) {
-		return activeModeratorAdjacentCount(finder.position(x, y, z));
-	}
-	
-	private boolean cellAdjacent(BlockPos pos) {
-		return finder.adjacent(pos, 1, NCBlocks.cell_block);
-	}
-	
-	private boolean cellAdjacent(int x, int y, int z) {
-		return finder.adjacent(x, y, z, 1, NCBlocks.cell_block);
-	}
-	
-	private int cellAdjacentCount(BlockPos pos) {
-		return finder.adjacentCount(pos, 1, NCBlocks.cell_block);
-	}
-	
-	private int cellAdjacentCount(int x, int y, int z) {
-		return cellAdjacentCount(finder.position(x, y, z));
-	}
-	
-	private boolean activeModeratorAdjacent(BlockPos pos) {
-		BlockPosHelper helper = new BlockPosHelper(pos);
-		for (BlockPos blockPos : helper.adjacents()) {
-			if (findModerator(blockPos) && cellAdjacent(blockPos)) return true;
+	private boolean activeModeratorAdjacent(int x, int y, int z) {
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (activeModerator(x + side.getFrontOffsetX(), y + side.getFrontOffsetY(), z + side.getFrontOffsetZ())) return true;
 		}
 		return false;
 	}
 	
-	private boolean activeModeratorAdjacent(int x, int y, int z) {
-		return activeModeratorAdjacent(finder.position(x, y, z));
+	private boolean cellAdjacent(int x, int y, int z) {
+		for (EnumFacing side : EnumFacing.VALUES) if (findCellOnSide(x, y, z, side)) return true;
+		return false;
 	}
 	
-	private boolean findCooler(BlockPos pos, int meta) {
-		return finder.find(pos, NCBlocks.cooler.getStateFromMeta(meta));
+	private int cellAdjacentCount(int x, int y, int z) {
+		int count = 0;
+		for (EnumFacing side : EnumFacing.VALUES) if (findCellOnSide(x, y, z, side)) count++;
+		return count;
 	}
 	
 	private boolean findCooler(int x, int y, int z, int meta) {
-		return findCooler(finder.position(x, y, z), meta);
+		return finder.findAbsolute(x, y, z, coolerPredicates[meta]);
 	}
 	
-	private boolean activeCoolerAdjacent(BlockPos pos, int meta) {
-		BlockPosHelper helper = new BlockPosHelper(pos);
-		for (BlockPos blockPos : helper.adjacents()) {
-			if (findCooler(blockPos, meta)) if (coolerRequirements(blockPos, meta)) return true;
-		}
-		return false;
+	private boolean activeCooler(int x, int y, int z, int meta) {
+		return findCooler(x, y, z, meta) && coolerRequirements(x, y, z, meta);
 	}
 	
 	private boolean activeCoolerAdjacent(int x, int y, int z, int meta) {
-		return activeCoolerAdjacent(finder.position(x, y, z), meta);
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (activeCooler(x + side.getFrontOffsetX(), y + side.getFrontOffsetY(), z + side.getFrontOffsetZ(), meta)) return true;
+		}
+		return false;
 	}
 	
-	private int activeCoolerAdjacentCount(BlockPos pos, int meta) {
+	private int activeCoolerAdjacentCount(int x, int y, int z, int meta) {
 		int count = 0;
-		BlockPosHelper helper = new BlockPosHelper(pos);
-		for (BlockPos blockPos : helper.adjacents()) {
-			if (findCooler(blockPos, meta)) if (coolerRequirements(blockPos, meta)) count++;
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (activeCooler(x + side.getFrontOffsetX(), y + side.getFrontOffsetY(), z + side.getFrontOffsetZ(), meta)) count++;
 		}
 		return count;
 	}
 	
-	private int activeCoolerAdjacentCount(int x, int y, int z, int meta) {
-		return activeCoolerAdjacentCount(finder.position(x, y, z), meta);
-	}
-	
-	private boolean activeCoolerConfiguration(BlockPos pos, int meta, List<BlockPos[]> posArrays) {
-		for (BlockPos[] posArray : posArrays) {
-			if (finder.configuration(posArray, NCBlocks.cooler.getStateFromMeta(meta))) {
-				for (BlockPos blockPos : posArray) if (!coolerRequirements(blockPos, meta)) return false;
-				return true;
+	private boolean activeCoolerConfiguration(int x, int y, int z, int meta, List<EnumFacing[]> dirArrays) {
+		configurations: for (EnumFacing[] dirArray : dirArrays) {
+			for (EnumFacing dir : dirArray) {
+				if (!findCooler(x + dir.getFrontOffsetX(), y + dir.getFrontOffsetY(), z + dir.getFrontOffsetZ(), meta)) continue configurations;
+			}
+			for (EnumFacing dir : dirArray) {
+				if (!coolerRequirements(x + dir.getFrontOffsetX(), y + dir.getFrontOffsetY(), z + dir.getFrontOffsetZ(), meta)) return false;
 			}
+			return true;
 		}
 		return false;
 	}
 	
-	private boolean activeCoolerHorizontal(BlockPos pos, int meta) {
-		return activeCoolerConfiguration(pos, meta, new BlockPosHelper(pos).horizontalsList());
+	private boolean activeCoolerHorizontal(int x, int y, int z, int meta) {
+		return activeCoolerConfiguration(x, y, z, meta, HORIZONTAL_DIRS);
 	}
 	
-	private boolean activeCoolerAxial(BlockPos pos, int meta) {
-		return activeCoolerConfiguration(pos, meta, new BlockPosHelper(pos).axialsList());
+	private boolean activeCoolerAxial(int x, int y, int z, int meta) {
+		return activeCoolerConfiguration(x, y, z, meta, AXIAL_DIRS);
 	}
 	
-	private boolean coolerRequirements(BlockPos pos, int meta) {
+	private boolean coolerRequirements(int x, int y, int z, int meta) {
 		switch (meta) {
 		case 1: // Water
-			return !NCConfig.fission_water_cooler_requirement || (newRules ? cellAdjacent(pos) || activeModeratorAdjacent(pos) : casingAllAdjacent(pos));
+			return !NCConfig.fission_water_cooler_requirement || (newRules ? cellAdjacent(x, y, z) || activeModeratorAdjacent(x, y, z) : casingAllAdjacent(x, y, z));
 		case 2: // Redstone
-			return cellAdjacent(pos);
+			return cellAdjacent(x, y, z);
 		case 3: // Quartz
-			return activeModeratorAdjacent(pos);
+			return activeModeratorAdjacent(x, y, z);
 		case 4: // Gold
-			return activeCoolerAdjacent(pos, 1) && activeCoolerAdjacent(pos, 2);
+			return activeCoolerAdjacent(x, y, z, 1) && activeCoolerAdjacent(x, y, z, 2);
 		case 5: // Glowstone
-			return activeModeratorAdjacentCount(pos) >= 2;
+			return activeModeratorAdjacentCount(x, y, z) >= 2;
 		case 6: // Lapis
-			return cellAdjacent(pos) && casingAllAdjacent(pos);
+			return cellAdjacent(x, y, z) && casingAllAdjacent(x, y, z);
 		case 7: // Diamond
-			return newRules ? activeCoolerAdjacent(pos, 1) && activeCoolerAdjacent(pos, 3) : activeCoolerHorizontal(pos, 1) && casingAllAdjacent(pos);
+			return newRules ? activeCoolerAdjacent(x, y, z, 1) && activeCoolerAdjacent(x, y, z, 3) : activeCoolerHorizontal(x, y, z, 1) && casingAllAdjacent(x, y, z);
 		case 8: // Liquid Helium
-			return newRules ? activeCoolerAdjacentCount(pos, 2) == 1 && casingAllAdjacent(pos) : activeCoolerAdjacent(pos, 3) && casingAllAdjacent(pos);
+			return newRules ? activeCoolerAdjacentCount(x, y, z, 2) == 1 && casingAllAdjacent(x, y, z) : activeCoolerAdjacent(x, y, z, 3) && casingAllAdjacent(x, y, z);
 		case 9: // Enderium
-			return casingAllOneVertex(pos);
+			return casingAllOneVertex(x, y, z);
 		case 10: // Cryotheum
-			return cellAdjacentCount(pos) >= 2;
+			return cellAdjacentCount(x, y, z) >= 2;
 		case 11: // Iron
-			return activeCoolerAdjacent(pos, 4);
+			return activeCoolerAdjacent(x, y, z, 4);
 		case 12: // Emerald
-			return activeModeratorAdjacent(pos) && cellAdjacent(pos);
+			return activeModeratorAdjacent(x, y, z) && cellAdjacent(x, y, z);
 		case 13: // Copper
-			return activeCoolerAdjacent(pos, 5);
+			return activeCoolerAdjacent(x, y, z, 5);
 		case 14: // Tin
-			return activeCoolerAxial(pos, 6);
+			return activeCoolerAxial(x, y, z, 6);
 		case 15: // Magnesium
-			return newRules ? casingAllAdjacent(pos) && activeModeratorAdjacent(pos) : casingAllAdjacent(pos) && activeCoolerAdjacent(pos, 8);
+			return newRules ? casingAllAdjacent(x, y, z) && activeModeratorAdjacent(x, y, z) : casingAllAdjacent(x, y, z) && activeCoolerAdjacent(x, y, z, 8);
 		default:
 			return false;
 		}
 	}
 	
-	private boolean coolerRequirements(int x, int y, int z, int meta) {
-		return coolerRequirements(finder.position(x, y, z), meta);
+	private boolean casingAllAdjacent(int x, int y, int z) {
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (finder.findAbsolute(x + side.getFrontOffsetX(), y + side.getFrontOffsetY(), z + side.getFrontOffsetZ(), casingAllPredicate)) return true;
+		}
+		return false;
 	}
 	
-	private boolean findCasing(BlockPos pos) {
-		return finder.find(pos, NCBlocks.fission_block.getStateFromMeta(0), NCBlocks.reactor_casing_transparent, NCBlocks.fission_port, NCBlocks.buffer, NCBlocks.reactor_door, NCBlocks.reactor_trapdoor);
+	private boolean casingAllOneVertex(int x, int y, int z) {
+		int count = 0;
+		dirList: for (EnumFacing[] vertexDirList : VERTEX_DIRS) {
+			for (EnumFacing dir : vertexDirList) {
+				if (!finder.findAbsolute(x + dir.getFrontOffsetX(), y + dir.getFrontOffsetY(), z + dir.getFrontOffsetZ(), casingAllPredicate)) continue dirList;
+			}
+			count++;
+			if (count > 1) return false;
+		}
+		return count == 1;
 	}
 	
-	private boolean findCasing(int x, int y, int z) {
-		return findCasing(finder.position(x, y, z));
-	}
+	// Finding Casing - relative to the controller
 	
-	private boolean findController(BlockPos pos) {
-		return finder.find(pos, NCBlocks.fission_controller_new_fixed, NCBlocks.fission_controller_idle, NCBlocks.fission_controller_active, NCBlocks.fission_controller_new_idle, NCBlocks.fission_controller_new_active);
+	private boolean findCasing(int x, int y, int z) {
+		return finder.find(x, y, z, casingPredicate);
 	}
 	
 	private boolean findController(int x, int y, int z) {
-		return findController(finder.position(x, y, z));
-	}
-	
-	private boolean findCasingAll(BlockPos pos) {
-		return findCasing(pos) || findController(pos);
+		return finder.find(x, y, z, controllerPredicate);
 	}
 	
 	private boolean findCasingAll(int x, int y, int z) {
-		return findCasingAll(finder.position(x, y, z));
-	}
-	
-	private boolean findPort(BlockPos pos) {
-		return finder.find(pos, NCBlocks.fission_port);
+		return finder.find(x, y, z, casingAllPredicate);
 	}
 	
 	private boolean findPort(int x, int y, int z) {
-		return findPort(finder.position(x, y, z));
-	}
-	
-	private boolean casingAllAdjacent(BlockPos pos) {
-		BlockPosHelper posHelper = new BlockPosHelper(pos);
-		for (BlockPos blockPos : posHelper.adjacents()) if (findCasingAll(blockPos)) return true;
-		return false;
-	}
-	
-	private boolean casingAllOneVertex(BlockPos pos) {
-		int count = 0;
-		BlockPosHelper posHelper = new BlockPosHelper(pos);
-		posList: for (BlockPos[] vertexPosList : posHelper.vertexList()) {
-			for (BlockPos blockPos : vertexPosList) if (!findCasingAll(blockPos)) continue posList;
-			count++;
-			if (count > 1) return false;
-		}
-		return count == 1;
+		return finder.find(x, y, z, portPredicate);
 	}
 	
 	// Finding Structure
 	
 	public boolean checkStructure(boolean checkBlocks) {
+		if (checkBlocks && complete == 1 && !layoutDirty) return true;
 		if (checkBlocks) {
 			int maxLength = NCConfig.fission_max_size + 1;
 			boolean validStructure = false;
@@ -703,20 +702,109 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 			lengthX = maxX + 1 - minX; lengthY = maxY + 1 - minY; lengthZ = maxZ + 1 - minZ;
 			ports = Math.max(1, portCount);
 			setCapacity();
+			buildLayout();
 			
 			return true;
 		} else return complete == 1;
 	}
 	
 	private void setCapacity() {
-		getEnergyStorage().setStorageCapacity(getNewCapacity());
-		getEnergyStorage().setMaxTransfer(getNewCapacity());
+		getEnergyStorage().setStorageCapacityLong(getNewCapacity());
+		getEnergyStorage().setMaxTransferLong(getNewCapacity());
 	}
 	
-	private int getNewCapacity() {
-		if (NCMath.atIntLimit(getLengthX()*getLengthY()*getLengthZ(), BASE_CAPACITY)) return Integer.MAX_VALUE;
+	private long getNewCapacity() {
 		if (getLengthX() <= 0 || getLengthY() <= 0 || getLengthZ() <= 0) return BASE_CAPACITY;
-		return BASE_CAPACITY*getLengthX()*getLengthY()*getLengthZ();
+		return (long) BASE_CAPACITY*getLengthX()*getLengthY()*getLengthZ();
+	}
+	
+	// Cached Layout
+	
+	/** Block-dependent contributions of one interior position, kept in the order the interior is scanned. */
+	private static class LayoutComponent {
+		
+		private final BlockPos pos;
+		private boolean cell, moderator, moderatorCellAdjacent, activeCooler;
+		private int extraCells, adjacentModerators, passiveCooler, activeCoolerRequirements;
+		
+		private LayoutComponent(int x, int y, int z) {
+			pos = new BlockPos(x, y, z);
+		}
+	}
+	
+	public void markLayoutDirty() {
+		layoutDirty = true;
+	}
+	
+	@Override
+	public void onBlockChanged(BlockPos changedPos, IBlockState oldState, IBlockState newState) {
+		if (layoutDirty || layoutMin == null || changedPos.equals(pos)) return;
+		if (changedPos.getX() < layoutMin.getX() || changedPos.getY() < layoutMin.getY() || changedPos.getZ() < layoutMin.getZ()) return;
+		if (changedPos.getX() > layoutMax.getX() || changedPos.getY() > layoutMax.getY() || changedPos.getZ() > layoutMax.getZ()) return;
+		layoutDirty = true;
+	}
+	
+	private void buildLayout() {
+		layout.clear();
+		for (int z = minZ + 1; z <= maxZ - 1; z++) for (int x = minX + 1; x <= maxX - 1; x++) for (int y = minY + 1; y <= maxY - 1; y++) {
+			int posX = finder.worldX(x, z), posY = finder.worldY(y), posZ = finder.worldZ(x, z);
+			LayoutComponent component = new LayoutComponent(posX, posY, posZ);
+			
+			if (findCell(posX, posY, posZ)) {
+				component.cell = true;
+				for (EnumFacing side : EnumFacing.VALUES) {
+					if (findCellOnSide(posX, posY, posZ, side) || (newRules ? newFindModeratorThenCellOnSide(posX, posY, posZ, side) : findModeratorThenCellOnSide(posX, posY, posZ, side))) component.extraCells++;
+				}
+				if (newRules) component.adjacentModerators = moderatorAdjacentCount(posX, posY, posZ);
+			}
+			
+			if (!newRules && findModerator(posX, posY, posZ)) {
+				component.moderator = true;
+				component.moderatorCellAdjacent = cellAdjacent(posX, posY, posZ);
+			}
+			
+			for (int i = 1; i < CoolerType.values().length; i++) {
+				if (findCooler(posX, posY, posZ, i)) if (coolerRequirements(posX, posY, posZ, i)) {
+					component.passiveCooler = i;
+					break;
+				}
+			}
+			
+			if (finder.findAbsolute(posX, posY, posZ, activeCoolerPredicate)) {
+				component.activeCooler = true;
+				for (int i = 1; i < CoolerType.values().length; i++) {
+					if (coolerRequirements(posX, posY, posZ, i)) component.activeCoolerRequirements |= 1 << i;
+				}
+			}
+			
+			if (component.cell || component.moderator || component.passiveCooler > 0 || component.activeCooler) layout.add(component);
+		}
+		
+		// The structure search can look one block beyond the casing
+		BlockPos corner = finder.position(minX - 1, minY - 1, minZ - 1), opposite = finder.position(maxX + 1, maxY + 1, maxZ + 1);
+		layoutMin = new BlockPos(Math.min(corner.getX(), opposite.getX()), Math.min(corner.getY(), opposite.getY()), Math.min(corner.getZ(), opposite.getZ()));
+		layoutMax = new BlockPos(Math.max(corner.getX(), opposite.getX()), Math.max(corner.getY(), opposite.getY()), Math.max(corner.getZ(), opposite.getZ()));
+		layoutDirty = false;
+	}
+	
+	/** Updates the active cooler's state and returns the cooler type it provides, or 0 if it is not cooling. */
+	private int activeCoolerType(LayoutComponent component) {
+		TileEntity tile = world.getTileEntity(component.pos);
+		if (!(tile instanceof TileActiveCooler)) return 0;
+		TileActiveCooler cooler = (TileActiveCooler) tile;
+		Tank tank = cooler.getTanks().get(0);
+		if (tank.getFluidAmount() <= 0) return 0;
+		int coolerType = 0;
+		for (int i = 1; i < CoolerType.values().length; i++) {
+			if (tank.getFluidName().equals(CoolerType.values()[i].getFluidName())) {
+				if ((component.activeCoolerRequirements & (1 << i)) != 0) {
+					coolerType = i;
+					break;
+				}
+			}
+		}
+		cooler.isActive = coolerType > 0 && isActivated() && readyToProcess();
+		return coolerType;
 	}
 	
 	// Set Fuel and Power and Modify Heat
@@ -737,14 +825,11 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 		if (checkBlocks) {
 			boolean isProcessing = isProcessing();
 			if (complete == 1) {
-				for (int z = minZ + 1; z <= maxZ - 1; z++) for (int x = minX + 1; x <= maxX - 1; x++) for (int y = minY + 1; y <= maxY - 1; y++) {
+				for (LayoutComponent component : layout) {
 					
 					// Cells
-					if (findCell(x, y, z)) {
-						int extraCells = 0;
-						for (EnumFacing side : EnumFacing.VALUES) {
-							if (findCellOnSide(x, y, z, side) || findModeratorThenCellOnSide(x, y, z, side)) extraCells += 1;
-						}
+					if (component.cell) {
+						int extraCells = component.extraCells;
 						
 						cellCount++;
 						energyMultThisTick += extraCells + 1;
@@ -758,46 +843,26 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 					}
 					
 					// Moderators
-					if (findModerator(x, y, z)) {
+					if (component.moderator) {
 						if (readyToProcess()) {
 							heatMultThisTick += cellCount/16D;
 							heatThisTick += NCConfig.fission_heat_generation*baseRF*cellCount/16D;
 						}
-						if (cellAdjacent(x, y, z)) {
+						if (component.moderatorCellAdjacent) {
 							energyMultThisTick += cellCount/8D;
 							if (readyToProcess()) energyThisTick += NCConfig.fission_power*baseRF*cellCount/8D;
 						}
 					}
 					
 					// Passive Coolers
-					for (int i = 1; i < CoolerType.values().length; i++) {
-						if (findCooler(x, y, z, i)) if (coolerRequirements(x, y, z, i)) {
-							coolerHeatThisTick -= CoolerType.values()[i].getCooling();
-							break;
-						}
+					if (component.passiveCooler > 0) {
+						coolerHeatThisTick -= CoolerType.values()[component.passiveCooler].getCooling();
 					}
 					
 					// Active Coolers
-					if (finder.find(x, y, z, NCBlocks.active_cooler)) {
-						TileEntity tile = world.getTileEntity(finder.position(x, y, z));
-						if (tile instanceof TileActiveCooler) {
-							TileActiveCooler cooler = (TileActiveCooler) tile;
-							Tank tank = cooler.getTanks().get(0);
-							if (tank.getFluidAmount() > 0) {
-								double currentHeat = heat + (isProcessing ? heatThisTick : 0) + coolerHeatThisTick;
-								boolean isInValidPosition = false;
-								for (int i = 1; i < CoolerType.values().length; i++) {
-									if (tank.getFluidName().equals(CoolerType.values()[i].getFluidName())) {
-										if (coolerRequirements(x, y, z, i)) {
-											coolerHeatThisTick -= NCConfig.fission_active_cooling_rate[i - 1]*NCConfig.active_cooler_max_rate/20;
-											isInValidPosition = true;
-											break;
-										}
-									}
-								}
-								cooler.isActive = isInValidPosition && isActivated() && readyToProcess();
-							}
-						}
+					if (component.activeCooler) {
+						int coolerType = activeCoolerType(component);
+						if (coolerType > 0) coolerHeatThisTick -= NCConfig.fission_active_cooling_rate[coolerType - 1]*NCConfig.active_cooler_max_rate/20;
 					}
 				}
 			}
@@ -855,14 +920,11 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 		if (checkBlocks) {
 			boolean isProcessing = isProcessing();
 			if (complete == 1) {
-				for (int z = minZ + 1; z <= maxZ - 1; z++) for (int x = minX + 1; x <= maxX - 1; x++) for (int y = minY + 1; y <= maxY - 1; y++) {
+				for (LayoutComponent component : layout) {
 					
 					// Cells
-					if (findCell(x, y, z)) {
-						int extraCells = 0;
-						for (EnumFacing side : EnumFacing.VALUES) {
-							if (findCellOnSide(x, y, z, side) || newFindModeratorThenCellOnSide(x, y, z, side)) extraCells += 1;
-						}
+					if (component.cell) {
+						int extraCells = component.extraCells;
 						
 						cellCount++;
 						energyMultThisTick += extraCells + 1D;
@@ -875,7 +937,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 						if (isProcessing) fuelThisTick += NCConfig.fission_fuel_use;
 						
 						// Adjacent Moderators
-						int moderatorAdjacentCount = moderatorAdjacentCount(x, y, z);
+						int moderatorAdjacentCount = component.adjacentModerators;
 						
 						energyMultThisTick += moderatorPowerMultiplier*moderatorAdjacentCount*(extraCells + 1D);
 						heatMultThisTick += moderatorHeatMultiplier*moderatorAdjacentCount*(extraCells + 1D);
@@ -884,40 +946,15 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 						heatThisTick += baseHeat*moderatorHeatMultiplier*moderatorAdjacentCount*(extraCells + 1D);
 					}
 					
-					// Extra Moderators
-					/*if (readyToProcess()) if (findModerator(x, y, z)) {
-						if (!cellAdjacent(x, y, z)) heatThisTick += baseHeat;
-					}*/
-					
 					// Passive Coolers
-					for (int i = 1; i < CoolerType.values().length; i++) {
-						if (findCooler(x, y, z, i)) if (coolerRequirements(x, y, z, i)) {
-							coolerHeatThisTick -= CoolerType.values()[i].getCooling();
-							break;
-						}
-					}	
+					if (component.passiveCooler > 0) {
+						coolerHeatThisTick -= CoolerType.values()[component.passiveCooler].getCooling();
+					}
 					
 					// Active Coolers
-					if (finder.find(x, y, z, NCBlocks.active_cooler)) {
-						TileEntity tile = world.getTileEntity(finder.position(x, y, z));
-						if (tile instanceof TileActiveCooler) {
-							TileActiveCooler cooler = (TileActiveCooler) tile;
-							Tank tank = cooler.getTanks().get(0);
-							if (tank.getFluidAmount() > 0) {
-								double currentHeat = heat + (isProcessing ? heatThisTick : 0) + coolerHeatThisTick;
-								boolean isInValidPosition = false;
-								for (int i = 1; i < CoolerType.values().length; i++) {
-									if (tank.getFluidName().equals(CoolerType.values()[i].getFluidName())) {
-										if (coolerRequirements(x, y, z, i)) {
-											coolerHeatThisTick -= NCConfig.fission_active_cooling_rate[i - 1]*NCConfig.active_cooler_max_rate/20;
-											isInValidPosition = true;
-											break;
-										}
-									}
-								}
-								cooler.isActive = isInValidPosition && isActivated() && readyToProcess();
-							}
-						}
+					if (component.activeCooler) {
+						int coolerType = activeCoolerType(component);
+						if (coolerType > 0) coolerHeatThisTick -= NCConfig.fission_active_cooling_rate[coolerType - 1]*NCConfig.active_cooler_max_rate/20;
 					}
 				}
 			}
@@ -957,8 +994,17 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	}
 	
 	public void stopActiveCooling() {
+		if (!layoutDirty) {
+			for (LayoutComponent component : layout) if (component.activeCooler) {
+				TileEntity tile = world.getTileEntity(component.pos);
+				if (tile instanceof TileActiveCooler) {
+					((TileActiveCooler) tile).isActive = false;
+				}
+			}
+			return;
+		}
 		for (int z = minZ + 1; z <= maxZ - 1; z++) for (int x = minX + 1; x <= maxX - 1; x++) for (int y = minY + 1; y <= maxY - 1; y++) {
-			if (finder.find(x, y, z, NCBlocks.active_cooler)) {
+			if (finder.find(x, y, z, activeCoolerPredicate)) {
 				TileEntity tile = world.getTileEntity(finder.position(x, y, z));
 				if (tile instanceof TileActiveCooler) {
 					((TileActiveCooler) tile).isActive = false;
@@ -1015,7 +1061,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 		nbt.setInteger("problemPosZ", problemPosZ);
 		nbt.setBoolean("newRules", newRules);
 		nbt.setInteger("ports", ports);
-		nbt.setInteger("currentEnergyStored", currentEnergyStored);
+		nbt.setLong("currentEnergyStored", currentEnergyStored);
 		nbt.setBoolean("isActivated", isActivated);
 		nbt.setBoolean("computerActivated", computerActivated);
 		nbt.setInteger("comparatorStrength", comparatorStrength);
@@ -1027,7 +1073,7 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 		lengthX = nbt.getInteger("lengthX");
 		lengthY = nbt.getInteger("lengthY");
 		lengthZ = nbt.getInteger("lengthZ");
-		getEnergyStorage().setStorageCapacity(getNewCapacity());
+		getEnergyStorage().setStorageCapacityLong(getNewCapacity());
 		super.readAll(nbt);
 		processPower = nbt.getDouble("processPower");
 		speedMultiplier = nbt.getDouble("speedMultiplier");
@@ -1053,7 +1099,8 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 		problemPosZ = nbt.getInteger("problemPosZ");
 		newRules = nbt.getBoolean("newRules");
 		ports = nbt.getInteger("ports");
-		currentEnergyStored = nbt.getInteger("currentEnergyStored");
+		// Also reads the int tag written before storage was long-backed
+		currentEnergyStored = nbt.getLong("currentEnergyStored");
 		isActivated = nbt.getBoolean("isActivated");
 		computerActivated = nbt.getBoolean("computerActivated");
 		comparatorStrength = nbt.getInteger("comparatorStrength");
@@ -1073,13 +1120,13 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	
 	@Override
 	public FissionUpdatePacket getGuiUpdatePacket() {
-		return new FissionUpdatePacket(pos, time, getEnergyStored(), baseProcessTime, baseProcessPower, heat, cooling, efficiency, cells, speedMultiplier, lengthX, lengthY, lengthZ, heatChange, complete, ready, problemPosX, problemPosY, problemPosZ, heatMult, hasConsumed, computerActivated);
+		return new FissionUpdatePacket(pos, time, getEnergyStorage().getEnergyStoredLong(), baseProcessTime, baseProcessPower, heat, cooling, efficiency, cells, speedMultiplier, lengthX, lengthY, lengthZ, heatChange, complete, ready, problemPosX, problemPosY, problemPosZ, heatMult, hasConsumed, computerActivated);
 	}
 	
 	@Override
 	public void onGuiPacket(FissionUpdatePacket message) {
 		time = message.time;
-		getEnergyStorage().setEnergyStored(message.energyStored);
+		getEnergyStorage().setEnergyStoredLong(message.energyStored);
 		baseProcessTime = message.baseProcessTime;
 		baseProcessPower = message.baseProcessPower;
 		heat = message.heat;
@@ -1155,13 +1202,13 @@ public class TileFissionController extends TileItemGenerator implements IGui<Fis
 	@Callback
 	@Optional.Method(modid = "opencomputers")
 	public Object[] getEnergyStored(Context context, Arguments args) {
-		return new Object[] {getEnergyStored()};
+		return new Object[] {getEnergyStorage().getEnergyStoredLong()};
 	}
 	
 	@Callback
 	@Optional.Method(modid = "opencomputers")
 	public Object[] getMaxEnergyStored(Context context, Arguments args) {
-		return new Object[] {getMaxEnergyStored()};
+		return new Object[] {getEnergyStorage().getMaxEnergyStoredLong()};
 	}
 	
 	@Callback
@@ -160,7 +160,7 @@ public abstract class TileFluidGenerator extends TileEnergyFluidSidedInventory i
 			if (fluidProduct.getMaxStackSize() <= 0) continue;
 			if (fluidProduct.getStack() == null) return false;
 			else if (!getTanks().get(j + fluidInputSize).isEmpty()) {
-				if (!getTanks().get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+				if (!getTanks().get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 					return false;
 				} else if (!getVoidExcessFluidOutputs() && getTanks().get(j + fluidInputSize).getFluidAmount() + fluidProduct.getMaxStackSize() > getTanks().get(j + fluidInputSize).getCapacity()) {
 					return false;
@@ -183,7 +183,7 @@ public abstract class TileFluidGenerator extends TileEnergyFluidSidedInventory i
 		for (int i = 0; i < fluidInputSize; i++) {
 			IFluidIngredient fluidIngredient = getFluidIngredients().get(fluidInputOrder.get(i));
 			if (fluidIngredient.getMaxStackSize() > 0) {
-				getTanks().get(i + fluidInputSize + fluidOutputSize).setFluidStored(new FluidStack(getTanks().get(i).getFluid(), fluidIngredient.getMaxStackSize()));
+				getTanks().get(i + fluidInputSize + fluidOutputSize).setFluidStored(new FluidStack(getTanks().get(i).peekFluid(), fluidIngredient.getMaxStackSize()));
 				getTanks().get(i).changeFluidAmount(-fluidIngredient.getMaxStackSize());
 			}
 			if (getTanks().get(i).isEmpty()) getTanks().get(i).setFluid(null);
@@ -221,7 +221,7 @@ public abstract class TileFluidGenerator extends TileEnergyFluidSidedInventory i
 			if (fluidProduct.getNextStackSize() <= 0) continue;
 			if (getTanks().get(j + fluidInputSize).isEmpty()) {
 				getTanks().get(j + fluidInputSize).setFluidStored(fluidProduct.getNextStack());
-			} else if (getTanks().get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+			} else if (getTanks().get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 				getTanks().get(j + fluidInputSize).changeFluidAmount(fluidProduct.getNextStackSize());
 			}
 		}
@@ -312,8 +312,8 @@ public abstract class TileFluidGenerator extends TileEnergyFluidSidedInventory i
 		if (!getTanksShared()) return true;
 		
 		for (int i = 0; i < fluidInputSize; i++) {
-			if (tankNumber != i && getTanks().get(i).canFill() && getTanks().get(i).getFluid() != null) {
-				if (getTanks().get(i).getFluid().isFluidEqual(resource)) return false;
+			if (tankNumber != i && getTanks().get(i).canFill() && getTanks().get(i).peekFluid() != null) {
+				if (getTanks().get(i).peekFluid().isFluidEqual(resource)) return false;
 			}
 		}
 		return true;
@@ -21,11 +21,12 @@ import nc.tile.fluid.TileActiveCooler;
 import nc.tile.internal.energy.EnergyConnection;
 import nc.tile.internal.fluid.Tank;
 import nc.util.BlockFinder;
+import nc.util.BlockPredicate;
 import nc.util.BlockPosHelper;
 import nc.util.EnergyHelper;
 import nc.util.Lang;
 import nc.util.MaterialHelper;
-import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
@@ -68,7 +69,7 @@ public class TileFusionCore extends TileFluidGenerator implements IGui<FusionUpd
 	private BlockFinder finder;
 	
 	public TileFusionCore() {
-		super("Fusion Core", 2, 4, 0, defaultTankCapacities(32000, 2, 4), defaultTankSorptions(2, 4), NCRecipes.fusion_valid_fluids, maxPower(), NCRecipes.Type.FUSION);
+		super("Fusion Core", 2, 4, 0, defaultTankCapacities(32000, 2, 4), defaultTankSorptions(2, 4), NCRecipes.getValidFluids(NCRecipes.Type.FUSION), maxPower(), NCRecipes.Type.FUSION);
 		setTanksShared(false);
 	}
 	
@@ -294,25 +295,21 @@ public class TileFusionCore extends TileFluidGenerator implements IGui<FusionUpd
 	
 	// Finding Blocks
 	
-	private boolean findIdleElectromagnet(BlockPos pos) {
-		return finder.find(pos, NCBlocks.fusion_electromagnet_idle, NCBlocks.fusion_electromagnet_transparent_idle);
-	}
-	
-	private boolean findActiveElectromagnet(BlockPos pos) {
-		return finder.find(pos, NCBlocks.fusion_electromagnet_active, NCBlocks.fusion_electromagnet_transparent_active);
-	}
-	
-	private boolean findElectromagnet(BlockPos pos) {
-		return finder.find(pos, NCBlocks.fusion_electromagnet_active, NCBlocks.fusion_electromagnet_transparent_active, NCBlocks.fusion_electromagnet_idle, NCBlocks.fusion_electromagnet_transparent_idle);
-	}
+	private final BlockPredicate connectorPredicate = new BlockPredicate(NCBlocks.fusion_connector);
+	private final BlockPredicate activeElectromagnetPredicate = new BlockPredicate(NCBlocks.fusion_electromagnet_active, NCBlocks.fusion_electromagnet_transparent_active);
+	private final BlockPredicate electromagnetPredicate = new BlockPredicate(NCBlocks.fusion_electromagnet_active, NCBlocks.fusion_electromagnet_transparent_active, NCBlocks.fusion_electromagnet_idle, NCBlocks.fusion_electromagnet_transparent_idle);
+	private final BlockPredicate plasmaPredicate = new BlockPredicate(FluidRegistry.getFluid("plasma").getBlock().getDefaultState());
 	
-	private boolean findAir(BlockPos pos) {
-		Material mat = finder.getBlockState(pos).getMaterial();
-		return MaterialHelper.isReplaceable(mat) || findPlasma(pos);
-	}
+	private final BlockPredicate airPredicate = new BlockPredicate() {
+		
+		@Override
+		public boolean test(IBlockState state) {
+			return MaterialHelper.isReplaceable(state.getMaterial()) || plasmaPredicate.test(state);
+		}
+	};
 	
 	private boolean findPlasma(BlockPos pos) {
-		return finder.find(pos, FluidRegistry.getFluid("plasma").getBlock().getDefaultState());
+		return finder.find(pos, plasmaPredicate);
 	}
 	
 	private TileActiveCooler findActiveCooler(BlockPos pos) {
@@ -325,33 +322,27 @@ public class TileFusionCore extends TileFluidGenerator implements IGui<FusionUpd
 	
 	public void setSize() {
 		int runningSize = 1;
+		BlockPos connectorPos = pos.offset(EnumFacing.UP);
 		for (int r = 0; r <= NCConfig.fusion_max_size; r++) {
-			if (finder.horizontalY(pos.offset(EnumFacing.UP), r + 2, NCBlocks.fusion_connector)) {
+			if (finder.horizontalY(connectorPos, r + 2, connectorPredicate)) {
 				runningSize ++;
 			} else break;
 		}
 		size = runningSize;
-		BlockPosHelper helper = new BlockPosHelper(pos);
-		for (BlockPos pos : helper.squareTube(ringRadius(), 1)) {
-			if (!(findElectromagnet(pos))) {
-				complete = 0;
-				problem = RING_INCOMPLETE;
-				return;
-			}
+		if (!finder.squareTube(ringRadius(), 1, electromagnetPredicate)) {
+			complete = 0;
+			problem = RING_INCOMPLETE;
+			return;
 		}
-		for (BlockPos pos : helper.squareRing(ringRadius(), 1)) {
-			if (!(findAir(pos))) {
-				complete = 0;
-				problem = RING_BLOCKED;
-				return;
-			}
+		if (!finder.squareRing(ringRadius(), 1, airPredicate)) {
+			complete = 0;
+			problem = RING_BLOCKED;
+			return;
 		}
-		for (BlockPos pos : helper.squareTube(ringRadius(), 1)) {
-			if (!(findActiveElectromagnet(pos))) {
-				complete = 0;
-				problem = POWER_ISSUE;
-				return;
-			}
+		if (!finder.squareTube(ringRadius(), 1, activeElectromagnetPredicate)) {
+			complete = 0;
+			problem = POWER_ISSUE;
+			return;
 		}
 		complete = 1;
 		problem = NO_PROBLEM;
@@ -498,7 +489,7 @@ public class TileFusionCore extends TileFluidGenerator implements IGui<FusionUpd
 	
 	@Override
 	public FusionUpdatePacket getGuiUpdatePacket() {
-		return new FusionUpdatePacket(pos, time, getEnergyStored(), baseProcessTime, baseProcessPower, processPower, isProcessing, heat, efficiency, speedMultiplier, size, complete, cooling, heatChange, hasConsumed, computerActivated, problem);
+		return new FusionUpdatePacket(pos, time, getEnergyStored(), baseProcessTime, baseProcessPower, processPower, isProcessing, heat, efficiency, speedMultiplier, size, complete, cooling, heatChange, hasConsumed, computerActivated, problem, getTanks());
 	}
 	
 	@Override
@@ -519,6 +510,7 @@ public class TileFusionCore extends TileFluidGenerator implements IGui<FusionUpd
 		hasConsumed = message.hasConsumed;
 		computerActivated = message.computerActivated;
 		problem = message.problem;
+		message.tanks.applyTo(getTanks());
 	}
 	
 	// OpenComputers
@@ -7,8 +7,9 @@ import net.minecraftforge.energy.IEnergyStorage;
 
 public class EnergyStorage implements IEnergyStorage, INBTSerializable<NBTTagCompound> {
 
-	private int energyStored, energyCapacity;
-	private int maxTransfer;
+	/** Full range values - the Forge int methods see them clamped to Integer.MAX_VALUE */
+	private long energyStored, energyCapacity;
+	private long maxTransfer;
 	
 	public EnergyStorage(int capacity) {
 		this(capacity, capacity);
@@ -28,16 +29,16 @@ public class EnergyStorage implements IEnergyStorage, INBTSerializable<NBTTagCom
 	
 	@Override
 	public int getEnergyStored() {
-		return energyStored;
+		return clampToInt(energyStored);
 	}
 
 	@Override
 	public int getMaxEnergyStored() {
-		return energyCapacity;
+		return clampToInt(energyCapacity);
 	}
 	
 	public int getMaxTransfer() {
-		return maxTransfer;
+		return clampToInt(maxTransfer);
 	}
 
 	@Override
@@ -52,45 +53,96 @@ public class EnergyStorage implements IEnergyStorage, INBTSerializable<NBTTagCom
 
 	@Override
 	public int receiveEnergy(int receive, boolean simulated) {
-		int energyReceived = Math.min(energyCapacity - energyStored, Math.min(maxTransfer, receive));
+		int energyReceived = (int) Math.min(energyCapacity - energyStored, Math.min(maxTransfer, receive));
 		if (!simulated) changeEnergyStored(energyReceived);
 		return energyReceived;
 	}
 
 	@Override
 	public int extractEnergy(int extract, boolean simulated) {
-		int energyExtracted = Math.min(energyStored, Math.min(maxTransfer, extract));
+		int energyExtracted = (int) Math.min(energyStored, Math.min(maxTransfer, extract));
 		if (!simulated) changeEnergyStored(-energyExtracted);
 		return energyExtracted;
 	}
 	
 	public void changeEnergyStored(int energy) {
-		energyStored += energy;
-		if (energyStored > energyCapacity) energyStored = energyCapacity;
-		else if (energyStored < 0) energyStored = 0;
+		changeEnergyStoredLong(energy);
 	}
 	
 	public void setEnergyStored(int energy) {
+		setEnergyStoredLong(energy);
+	}
+	
+	public void setStorageCapacity(int newCapacity) {
+		setStorageCapacityLong(newCapacity);
+	}
+	
+	public void setMaxTransfer(int newMaxTransfer) {
+		setMaxTransferLong(newMaxTransfer);
+	}
+	
+	// Full Range
+	
+	public long getEnergyStoredLong() {
+		return energyStored;
+	}
+	
+	public long getMaxEnergyStoredLong() {
+		return energyCapacity;
+	}
+	
+	public long getMaxTransferLong() {
+		return maxTransfer;
+	}
+	
+	public long receiveEnergyLong(long receive, boolean simulated) {
+		long energyReceived = Math.max(0L, Math.min(energyCapacity - energyStored, Math.min(maxTransfer, receive)));
+		if (!simulated) changeEnergyStoredLong(energyReceived);
+		return energyReceived;
+	}
+	
+	public long extractEnergyLong(long extract, boolean simulated) {
+		long energyExtracted = Math.max(0L, Math.min(energyStored, Math.min(maxTransfer, extract)));
+		if (!simulated) changeEnergyStoredLong(-energyExtracted);
+		return energyExtracted;
+	}
+	
+	public void changeEnergyStoredLong(long energy) {
+		setEnergyStoredLong(addSaturated(energyStored, energy));
+	}
+	
+	public void setEnergyStoredLong(long energy) {
 		energyStored = energy;
 		if (energyStored > energyCapacity) energyStored = energyCapacity;
-		else if (energyStored < 0) energyStored = 0;
+		else if (energyStored < 0L) energyStored = 0L;
 	}
 	
-	public void setStorageCapacity(int newCapacity) {
-		if(newCapacity == energyCapacity || newCapacity <= 0) return;
+	public void setStorageCapacityLong(long newCapacity) {
+		if(newCapacity == energyCapacity || newCapacity <= 0L) return;
 		energyCapacity = Math.max(newCapacity, NCConfig.rf_per_eu);
-		if(newCapacity < energyStored) setEnergyStored(newCapacity);
-    }
+		if(newCapacity < energyStored) setEnergyStoredLong(newCapacity);
+	}
 	
 	public void mergeEnergyStorage(EnergyStorage other) {
-		setStorageCapacity(getMaxEnergyStored() + other.getMaxEnergyStored());
-		setEnergyStored(getEnergyStored() + other.getEnergyStored());
+		setStorageCapacityLong(addSaturated(getMaxEnergyStoredLong(), other.getMaxEnergyStoredLong()));
+		setEnergyStoredLong(addSaturated(getEnergyStoredLong(), other.getEnergyStoredLong()));
 	}
 	
-	public void setMaxTransfer(int newMaxTransfer) {
-		if(newMaxTransfer < 0) return;
+	public void setMaxTransferLong(long newMaxTransfer) {
+		if(newMaxTransfer < 0L) return;
 		if(newMaxTransfer != maxTransfer) maxTransfer = Math.max(newMaxTransfer, NCConfig.rf_per_eu);
-    }
+	}
+	
+	public static int clampToInt(long value) {
+		return value > Integer.MAX_VALUE ? Integer.MAX_VALUE : value < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) value;
+	}
+	
+	private static long addSaturated(long a, long b) {
+		long sum = a + b;
+		// Overflow only if both have the same sign and the sum's sign differs
+		if (((a ^ sum) & (b ^ sum)) < 0L) return a < 0L ? Long.MIN_VALUE : Long.MAX_VALUE;
+		return sum;
+	}
 	
 	// NBT
 	
@@ -105,8 +157,8 @@ public class EnergyStorage implements IEnergyStorage, INBTSerializable<NBTTagCom
 	}
 	
 	public NBTTagCompound writeToNBT(NBTTagCompound nbt) {
-		if (energyStored < 0) energyStored = 0;
-		nbt.setInteger("energy", energyStored);
+		if (energyStored < 0L) energyStored = 0L;
+		nbt.setLong("energy", energyStored);
 		return nbt;
 	}
 	
@@ -119,7 +171,8 @@ public class EnergyStorage implements IEnergyStorage, INBTSerializable<NBTTagCom
 	}
 	
 	public EnergyStorage readFromNBT(NBTTagCompound nbt) {
-		energyStored = nbt.getInteger("energy");
+		// Also reads the int tags written before storage was long-backed
+		energyStored = nbt.getLong("energy");
 		if (energyStored > energyCapacity) energyStored = energyCapacity;
 		return this;
 	}
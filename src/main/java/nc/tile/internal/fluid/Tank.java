@@ -1,8 +1,13 @@
 package nc.tile.internal.fluid;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.collect.Sets;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.INBTSerializable;
@@ -10,6 +15,7 @@ import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.capability.FluidTankPropertiesWrapper;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 
@@ -18,6 +24,13 @@ public class Tank extends FluidTank implements INBTSerializable<NBTTagCompound>
 	private int maxTransfer;
 	private List<String> allowedFluids;
 	
+	/** Resolved from the allowed fluid names on first use, as the fluids may not all be registered when the tank is created */
+	private Set<Fluid> allowedFluidSet;
+	private Set<String> allowedFluidNames;
+	
+	/** Set once the stored stack has been handed out by getFluid, after which it is replaced rather than changed in place */
+	private boolean fluidExposed = false;
+	
 	public Tank(int capacity, @Nonnull TankSorption sorption, List<String> allowedFluids) {
 		this(capacity, capacity, sorption, allowedFluids);
 	}
@@ -33,27 +46,90 @@ public class Tank extends FluidTank implements INBTSerializable<NBTTagCompound>
 	
 	// FluidTank
 	
+	@Override
+	@Nullable
+	public FluidStack getFluid() {
+		fluidExposed = true;
+		return fluid;
+	}
+	
+	/** The stored stack is copied, as the tank may change it in place */
+	@Override
+	public void setFluid(@Nullable FluidStack fluid) {
+		this.fluid = fluid == null ? null : fluid.copy();
+		fluidExposed = false;
+	}
+	
+	@Override
+	public FluidTankInfo getInfo() {
+		return new FluidTankInfo(fluid == null ? null : fluid.copy(), capacity);
+	}
+	
+	@Override
+	public int fillInternal(FluidStack resource, boolean doFill) {
+		if (doFill) detachFluid();
+		return super.fillInternal(resource, doFill);
+	}
+	
+	@Override
+	public FluidStack drainInternal(FluidStack resource, boolean doDrain) {
+		if (doDrain) detachFluid();
+		return super.drainInternal(resource, doDrain);
+	}
+	
+	@Override
+	public FluidStack drainInternal(int maxDrain, boolean doDrain) {
+		if (doDrain) detachFluid();
+		return super.drainInternal(maxDrain, doDrain);
+	}
+	
 	@Override
 	public boolean canFillFluidType(FluidStack fluid) {
-		if (fluid != null && allowedFluids != null && !allowedFluids.contains(fluid.getFluid().getName())) return false;
+		if (fluid != null && !isFluidAllowed(fluid.getFluid())) return false;
 		return canFill();
 	}
 	
 	public boolean canFillFluidType(Fluid fluid) {
-		if (fluid != null && allowedFluids != null && !allowedFluids.contains(fluid.getName())) return false;
+		if (fluid != null && !isFluidAllowed(fluid)) return false;
 		return canFill();
 	}
 	
+	private boolean isFluidAllowed(Fluid fluid) {
+		if (allowedFluids == null) return true;
+		if (allowedFluidSet == null) {
+			allowedFluidSet = Sets.newIdentityHashSet();
+			allowedFluidNames = new HashSet<String>(allowedFluids);
+			for (String name : allowedFluids) {
+				Fluid allowed = FluidRegistry.getFluid(name);
+				if (allowed != null) allowedFluidSet.add(allowed);
+			}
+		}
+		// Fall back to the name for fluids which were not registered yet or are registered under another instance
+		return allowedFluidSet.contains(fluid) || allowedFluidNames.contains(fluid.getName());
+	}
+	
 	// Tank Methods
 	
+	/** The stored stack for reads which neither keep nor change it - unlike getFluid, the tank can keep changing it in place */
+	@Nullable
+	public FluidStack peekFluid() {
+		return fluid;
+	}
+	
+	/** Replaces the stored stack with a copy if it has been handed out, so that holders of the old stack never see it change */
+	private void detachFluid() {
+		if (fluidExposed && fluid != null) fluid = fluid.copy();
+		fluidExposed = false;
+	}
+	
+	/** The stored stack is only replaced when the fluid type changes or it has been handed out - otherwise its amount is changed in place */
 	public void changeFluidStored(Fluid fluid, int amount) {
 		int newAmount = getFluidAmount() + amount;
 		if (fluid == null || newAmount <= 0) {
 			this.fluid = null;
 			return;
 		}
-		if (newAmount > capacity) newAmount = capacity;
-		this.fluid = new FluidStack(fluid, newAmount);
+		setFluidStored(fluid, newAmount);
 	}
 	
 	public void changeFluidAmount(int amount) {
@@ -62,27 +138,31 @@ public class Tank extends FluidTank implements INBTSerializable<NBTTagCompound>
 			this.fluid = null;
 			return;
 		}
-		if (newAmount > capacity) newAmount = capacity;
-		this.fluid = new FluidStack(fluid, newAmount);
+		detachFluid();
+		fluid.amount = Math.min(newAmount, capacity);
 	}
 	
 	public void setFluidStored(Fluid fluid, int amount) {
-		if (amount <= 0) {
+		if (fluid == null || amount <= 0) {
 			this.fluid = null;
 			return;
 		}
-		this.fluid = new FluidStack(fluid, amount);
-		if (getFluidAmount() > capacity) this.fluid = new FluidStack(this.fluid, capacity);
-		else if (getFluidAmount() < 0) this.fluid = null;
+		if (amount > capacity) amount = capacity;
+		detachFluid();
+		if (this.fluid != null && this.fluid.getFluid() == fluid && this.fluid.tag == null) this.fluid.amount = amount;
+		else this.fluid = new FluidStack(fluid, amount);
 	}
 	
+	/** The stack is copied rather than stored, so the caller's stack is never changed by the tank */
 	public void setFluidStored(FluidStack stack) {
 		if (stack == null || stack.amount <= 0) {
 			fluid = null;
 			return;
 		}
-		if (stack.amount > capacity) stack.amount = capacity;
-		fluid = stack;
+		int amount = Math.min(stack.amount, capacity);
+		detachFluid();
+		if (fluid != null && fluid.isFluidEqual(stack)) fluid.amount = amount;
+		else fluid = new FluidStack(stack, amount);
 	}
 	
 	public void setFluidAmount(int amount) {
@@ -92,6 +172,7 @@ public class Tank extends FluidTank implements INBTSerializable<NBTTagCompound>
 			return;
 		}
 		if(amount > capacity) amount = capacity;
+		detachFluid();
 		fluid.amount = amount;
     }
 	
@@ -103,9 +184,9 @@ public class Tank extends FluidTank implements INBTSerializable<NBTTagCompound>
 	
 	public void mergeTank(Tank other) {
 		if (fluid == null) {
-			fluid = other.fluid;
+			if (other.fluid != null) fluid = other.fluid.copy();
 		}
-		else if (!fluid.isFluidEqual(other.getFluid())) {
+		else if (!fluid.isFluidEqual(other.fluid)) {
 			setFluidStored(null);
 			return;
 		}
@@ -130,13 +211,19 @@ public class Tank extends FluidTank implements INBTSerializable<NBTTagCompound>
 		return canFill || canDrain;
 	}
 	
+	/** The contents are copied straight from the stored stack, as the wrapper's use of getFluid would mark it as handed out */
 	public IFluidTankProperties getFluidTankProperties() {
-		return new FluidTankPropertiesWrapper(this);
+		return new FluidTankPropertiesWrapper(this) {
+			@Override
+			public FluidStack getContents() {
+				return fluid == null ? null : fluid.copy();
+			}
+		};
 	}
 	
 	public String getFluidName() {
 		if (fluid == null || fluid.getFluid() == null) return "nullFluid";
-		return FluidRegistry.getFluidName(getFluid());
+		return FluidRegistry.getFluidName(fluid);
 	}
 	
 	public String getFluidLocalizedName() {
@@ -172,6 +259,7 @@ public class Tank extends FluidTank implements INBTSerializable<NBTTagCompound>
 	public Tank readFromNBT(NBTTagCompound nbt) {
 		if (nbt.getString("FluidName") == "nullFluid" || nbt.getInteger("FluidAmount") == 0) fluid = null;
 		else fluid = new FluidStack (FluidRegistry.getFluid(nbt.getString("FluidName")), nbt.getInteger("FluidAmount"));
+		fluidExposed = false;
 		if (getFluidAmount() > capacity) fluid.amount = capacity;
 		return this;
 	}
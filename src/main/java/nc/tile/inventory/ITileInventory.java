@@ -31,8 +31,7 @@ public interface ITileInventory extends ITile {
 		IItemHandler inv = thisTile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side);
 		if (inv == null) return;
 		
-		TileEntity tile = getTileWorld().getTileEntity(getTilePos().offset(side));
-		IItemHandler adjInv = tile == null ? null : tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side.getOpposite());
+		IItemHandler adjInv = getAdjacentCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side);
 		if (adjInv == null || adjInv.getSlots() < 1) return;
 		
 		for (int i = 0; i < getInventoryStacks().size(); i++) {
@@ -24,8 +24,7 @@ public interface IProcessor extends IInterfaceable, IBufferable {
 		double max = 1D;
 		List<ProcessorRecipe> recipes = recipeType.getRecipeHandler().getRecipes();
 		for (ProcessorRecipe recipe : recipes) {
-			if (recipe == null || recipe.extras().size() < 2) continue;
-			else if (recipe.extras().get(1) instanceof Double) max = Math.max(max, (double) recipe.extras().get(1));
+			if (recipe != null) max = Math.max(max, recipe.getProcessPower(1D));
 		}
 		return max;
 	}
@@ -220,7 +220,7 @@ public class TileFluidProcessor extends TileEnergyFluidSidedInventory implements
 			if (fluidProduct.getMaxStackSize() <= 0) continue;
 			if (fluidProduct.getStack() == null) return false;
 			else if (!getTanks().get(j + fluidInputSize).isEmpty()) {
-				if (!getTanks().get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+				if (!getTanks().get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 					return false;
 				} else if (!getVoidExcessFluidOutputs() && getTanks().get(j + fluidInputSize).getFluidAmount() + fluidProduct.getMaxStackSize() > getTanks().get(j + fluidInputSize).getCapacity()) {
 					return false;
@@ -265,7 +265,7 @@ public class TileFluidProcessor extends TileEnergyFluidSidedInventory implements
 			if (fluidProduct.getMaxStackSize() <= 0) continue;
 			if (getTanks().get(j + fluidInputSize).isEmpty()) {
 				getTanks().get(j + fluidInputSize).setFluidStored(fluidProduct.getNextStack());
-			} else if (getTanks().get(j + fluidInputSize).getFluid().isFluidEqual(fluidProduct.getStack())) {
+			} else if (getTanks().get(j + fluidInputSize).peekFluid().isFluidEqual(fluidProduct.getStack())) {
 				getTanks().get(j + fluidInputSize).changeFluidAmount(fluidProduct.getNextStackSize());
 			}
 		}
@@ -432,8 +432,8 @@ public class TileFluidProcessor extends TileEnergyFluidSidedInventory implements
 		if (!getTanksShared()) return true;
 		
 		for (int i = 0; i < fluidInputSize; i++) {
-			if (tankNumber != i && getTanks().get(i).canFill() && getTanks().get(i).getFluid() != null) {
-				if (getTanks().get(i).getFluid().isFluidEqual(resource)) return false;
+			if (tankNumber != i && getTanks().get(i).canFill() && getTanks().get(i).peekFluid() != null) {
+				if (getTanks().get(i).peekFluid().isFluidEqual(resource)) return false;
 			}
 		}
 		return true;
@@ -472,7 +472,7 @@ public class TileFluidProcessor extends TileEnergyFluidSidedInventory implements
 	
 	@Override
 	public ProcessorUpdatePacket getGuiUpdatePacket() {
-		return new ProcessorUpdatePacket(pos, time, getEnergyStored(), baseProcessTime, baseProcessPower);
+		return new ProcessorUpdatePacket(pos, time, getEnergyStored(), baseProcessTime, baseProcessPower, getTanks());
 	}
 	
 	@Override
@@ -481,5 +481,6 @@ public class TileFluidProcessor extends TileEnergyFluidSidedInventory implements
 		getEnergyStorage().setEnergyStored(message.energyStored);
 		baseProcessTime = message.baseProcessTime;
 		baseProcessPower = message.baseProcessPower;
+		message.tanks.applyTo(getTanks());
 	}
 }
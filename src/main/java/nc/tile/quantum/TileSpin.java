@@ -1,7 +1,7 @@
 package nc.tile.quantum;
 
 import nc.tile.NCTile;
-import nc.util.Complex;
+import nc.util.ComplexMatrix;
 import net.minecraft.nbt.NBTTagCompound;
 
 public class TileSpin extends NCTile {
@@ -11,10 +11,13 @@ public class TileSpin extends NCTile {
 	public double theta = 180;
 	public int isMeasured;
 	
-	public Complex[] stateVector;
+	/** Spin up and down amplitudes, as interleaved real and imaginary parts */
+	public final double[] stateVector = new double[4];
+	
+	private final double[] measurementState = new double[4];
 	
 	public TileSpin() {
-		stateVector = getStateFromAngles(phi, theta);
+		setStateFromAngles(phi, theta);
 	}
 	
 	@Override
@@ -26,11 +29,22 @@ public class TileSpin extends NCTile {
 	}
 	
 	public void setStateFromAngles(double phi, double theta) {
-		stateVector = getStateFromAngles(phi, theta);
+		getStateFromAngles(phi, theta, stateVector);
+	}
+	
+	/** Writes the state aligned with the axis at the angles, in degrees, into out */
+	public static void getStateFromAngles(double phi, double theta, double[] out) {
+		double p = phi*Math.PI/180D, up = Math.sin(theta*Math.PI/360D);
+		out[0] = Math.cos(p)*up;
+		out[1] = Math.sin(p)*up;
+		out[2] = Math.cos(theta*Math.PI/360D);
+		out[3] = 0D;
 	}
 	
-	public Complex[] getStateFromAngles(double phi, double theta) {
-		return new Complex[] {Complex.exp(new Complex(0, phi*Math.PI/180D)).multiply(Math.sin(theta*Math.PI/360D)), new Complex(Math.cos(theta*Math.PI/360D), 0)};
+	/** The probability of the spin being measured as aligned with the axis at the angles */
+	public double getMeasurementProbability(double phi, double theta) {
+		getStateFromAngles(phi, theta, measurementState);
+		return ComplexMatrix.dotAbsSq(measurementState, stateVector, 2);
 	}
 	
 	public boolean isMeasured() {
@@ -43,10 +57,10 @@ public class TileSpin extends NCTile {
 		nbt.setDouble("measuredSpin", measuredSpin);
 		nbt.setDouble("phi", phi);
 		nbt.setDouble("theta", theta);
-		nbt.setDouble("stateVectorUpRe", stateVector[0].re());
-		nbt.setDouble("stateVectorUpIm", stateVector[0].im());
-		nbt.setDouble("stateVectorDownRe", stateVector[1].re());
-		nbt.setDouble("stateVectorDownIm", stateVector[1].im());
+		nbt.setDouble("stateVectorUpRe", stateVector[0]);
+		nbt.setDouble("stateVectorUpIm", stateVector[1]);
+		nbt.setDouble("stateVectorDownRe", stateVector[2]);
+		nbt.setDouble("stateVectorDownIm", stateVector[3]);
 		return nbt;
 	}
 	
@@ -56,6 +70,9 @@ public class TileSpin extends NCTile {
 		measuredSpin = nbt.getDouble("measuredSpin");
 		phi = nbt.getDouble("phi");
 		theta = nbt.getDouble("theta");
-		stateVector = new Complex[] {new Complex(nbt.getDouble("stateVectorUpRe"), nbt.getDouble("stateVectorUpIm")), new Complex(nbt.getDouble("stateVectorDownRe"), nbt.getDouble("stateVectorDownIm"))};
+		stateVector[0] = nbt.getDouble("stateVectorUpRe");
+		stateVector[1] = nbt.getDouble("stateVectorUpIm");
+		stateVector[2] = nbt.getDouble("stateVectorDownRe");
+		stateVector[3] = nbt.getDouble("stateVectorDownIm");
 	}
 }
@@ -1,9 +1,9 @@
 package nc.tile.radiation;
 
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 
 import li.cil.oc.api.machine.Arguments;
 import li.cil.oc.api.machine.Callback;
@@ -11,45 +11,73 @@ import li.cil.oc.api.machine.Context;
 import li.cil.oc.api.network.SimpleComponent;
 import nc.Global;
 import nc.config.NCConfig;
+import nc.handler.BlockChangeHandler;
+import nc.handler.BlockChangeHandler.IBlockChangeListener;
 import nc.radiation.environment.RadiationEnvironmentHandler;
 import nc.radiation.environment.RadiationEnvironmentInfo;
 import nc.recipe.ingredient.OreIngredient;
 import nc.tile.passive.TilePassiveAbstract;
 import nc.util.MaterialHelper;
 import nc.util.NCMath;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.world.World;
 import net.minecraftforge.fml.common.Optional;
 
 @Optional.Interface(iface = "li.cil.oc.api.network.SimpleComponent", modid = "opencomputers")
-public class TileRadiationScrubber extends TilePassiveAbstract implements ITileRadiationEnvironment, SimpleComponent {
+public class TileRadiationScrubber extends TilePassiveAbstract implements ITileRadiationEnvironment, IBlockChangeListener, SimpleComponent {
 	
 	private static final int RADIUS = 5;
 	
 	private static final double OCCLUSION_PENALTY_FRACTION = NCConfig.radiation_scrubber_fraction/52D;
 	public static final double MAX_SCRUBBER_RATE_FRACTION = NCConfig.radiation_scrubber_fraction;
 	
+	/** Offsets within occlusion range, their inverse square distances, and a lookup from cube offset to index */
+	private static final List<BlockPos> OCCLUSION_OFFSETS = new ArrayList<BlockPos>();
+	private static final double[] OCCLUSION_INVERSE_DISTANCE_SQ;
+	private static final int[] OCCLUSION_INDEX = new int[NCMath.cube(2*RADIUS + 1)];
+	
+	static {
+		for (int x = -RADIUS; x <= RADIUS; x++) for (int y = -RADIUS; y <= RADIUS; y++) for (int z = -RADIUS; z <= RADIUS; z++) {
+			int distanceSq = x*x + y*y + z*z;
+			if (distanceSq == 0 || distanceSq >= NCMath.square(RADIUS)) OCCLUSION_INDEX[cubeIndex(x, y, z)] = -1;
+			else {
+				OCCLUSION_INDEX[cubeIndex(x, y, z)] = OCCLUSION_OFFSETS.size();
+				OCCLUSION_OFFSETS.add(new BlockPos(x, y, z));
+			}
+		}
+		OCCLUSION_INVERSE_DISTANCE_SQ = new double[OCCLUSION_OFFSETS.size()];
+		for (int i = 0; i < OCCLUSION_OFFSETS.size(); i++) OCCLUSION_INVERSE_DISTANCE_SQ[i] = 1D/OCCLUSION_OFFSETS.get(i).distanceSq(BlockPos.ORIGIN);
+	}
+	
 	private double scrubberRateFraction = 0D;
 	private double currentChunkBuffer = 0D;
 	
-	public final Map<BlockPos, Integer> occlusionMap = new ConcurrentHashMap<BlockPos, Integer>();
+	/** Occlusive positions in range, kept up to date by block changes */
+	private final BitSet occluded = new BitSet(OCCLUSION_OFFSETS.size());
+	/** Positions in range which were in unloaded chunks when last checked */
+	private final BitSet unchecked = new BitSet(OCCLUSION_OFFSETS.size());
+	/** The number of scrubbers in range of each position, reported by the radiation environment */
+	private final int[] scrubberCounts = new int[OCCLUSION_OFFSETS.size()];
+	private boolean occlusionChanged = true;
 	
 	private int radCheckCount = 0;
 	
 	public TileRadiationScrubber() {
 		super("radiation_scrubber", new OreIngredient("dustBorax", 1), -NCConfig.radiation_scrubber_borax_rate, -NCConfig.radiation_scrubber_power, NCConfig.machine_update_rate / 5);
 		stackChange = new OreIngredient("dustBorax", MathHelper.abs(itemChange)*NCConfig.machine_update_rate / 5);
+		Arrays.fill(scrubberCounts, 1);
 	}
 	
 	@Override
 	public void onAdded() {
 		super.onAdded();
 		if(!world.isRemote) {
-			for (int x = -RADIUS; x <= RADIUS; x++) for (int y = -RADIUS; y <= RADIUS; y++) for (int z = -RADIUS; z <= RADIUS; z++) {
-				RadiationEnvironmentHandler.addTile(pos.add(x, y, z), this);
-			}
+			unchecked.set(0, OCCLUSION_OFFSETS.size());
+			for (BlockPos offset : OCCLUSION_OFFSETS) RadiationEnvironmentHandler.addTile(pos.add(offset), this);
+			BlockChangeHandler.addListener(world, this);
+			checkUncheckedOcclusion();
 		}
 	}
 	
@@ -58,7 +86,7 @@ public class TileRadiationScrubber extends TilePassiveAbstract implements ITileR
 		super.update();
 		if(!world.isRemote) {
 			tickRadCount();
-			if(shouldRadCheck()) checkRadiationEnvironmentInfo();
+			if(shouldRadCheck() || occlusionChanged) checkRadiationEnvironmentInfo();
 		}
 	}
 	
@@ -78,37 +106,82 @@ public class TileRadiationScrubber extends TilePassiveAbstract implements ITileR
 	public void invalidate() {
 		super.invalidate();
 		RadiationEnvironmentHandler.removeTile(this);
+		BlockChangeHandler.removeListener(world, this);
+	}
+	
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		RadiationEnvironmentHandler.removeTile(this);
+		BlockChangeHandler.removeListener(world, this);
+	}
+	
+	// Occlusion
+	
+	private static int cubeIndex(int x, int y, int z) {
+		return ((x + RADIUS)*(2*RADIUS + 1) + y + RADIUS)*(2*RADIUS + 1) + z + RADIUS;
+	}
+	
+	/** Returns -1 for positions which can not occlude this scrubber */
+	private int getOcclusionIndex(BlockPos otherPos) {
+		int x = otherPos.getX() - pos.getX(), y = otherPos.getY() - pos.getY(), z = otherPos.getZ() - pos.getZ();
+		if (Math.abs(x) > RADIUS || Math.abs(y) > RADIUS || Math.abs(z) > RADIUS) return -1;
+		return OCCLUSION_INDEX[cubeIndex(x, y, z)];
+	}
+	
+	private void setOccluded(int index, boolean isOccluded) {
+		if (occluded.get(index) != isOccluded) {
+			occluded.set(index, isOccluded);
+			occlusionChanged = true;
+		}
+	}
+	
+	private void checkUncheckedOcclusion() {
+		for (int i = unchecked.nextSetBit(0); i >= 0; i = unchecked.nextSetBit(i + 1)) {
+			BlockPos otherPos = pos.add(OCCLUSION_OFFSETS.get(i));
+			if (!world.isBlockLoaded(otherPos)) continue;
+			setOccluded(i, !MaterialHelper.isEmpty(world.getBlockState(otherPos).getMaterial()));
+			unchecked.clear(i);
+		}
+	}
+	
+	@Override
+	public void onBlockChanged(BlockPos changedPos, IBlockState oldState, IBlockState newState) {
+		int index = getOcclusionIndex(changedPos);
+		if (index < 0) return;
+		setOccluded(index, !MaterialHelper.isEmpty(newState.getMaterial()));
+		unchecked.clear(index);
 	}
 	
 	// IRadiationEnvironmentHandler
 	
 	@Override
 	public void checkRadiationEnvironmentInfo() {
-		double newScrubberRateFraction = MAX_SCRUBBER_RATE_FRACTION;
+		if (!unchecked.isEmpty()) checkUncheckedOcclusion();
+		if (!occlusionChanged) return;
 		
-		Iterator<Entry<BlockPos, Integer>> occlusionIterator = occlusionMap.entrySet().iterator();
+		double newScrubberRateFraction = MAX_SCRUBBER_RATE_FRACTION;
 		
 		int occlusionCount = 0;
 		double tileCount = 0D;
-		while (occlusionIterator.hasNext()) {
-			Entry<BlockPos, Integer> occlusion = occlusionIterator.next();
-			
-			if (isOcclusive(pos, world, occlusion.getKey())) {
-				newScrubberRateFraction -= OCCLUSION_PENALTY_FRACTION/pos.distanceSq(occlusion.getKey());
-				occlusionCount++;
-				tileCount += Math.max(1D, Math.sqrt(occlusion.getValue()));
-			}
-			else occlusionIterator.remove();
+		for (int i = occluded.nextSetBit(0); i >= 0; i = occluded.nextSetBit(i + 1)) {
+			newScrubberRateFraction -= OCCLUSION_PENALTY_FRACTION*OCCLUSION_INVERSE_DISTANCE_SQ[i];
+			occlusionCount++;
+			tileCount += Math.max(1D, Math.sqrt(scrubberCounts[i]));
 		}
 		
 		scrubberRateFraction = occlusionCount == 0 ? MAX_SCRUBBER_RATE_FRACTION : Math.max(0D, (newScrubberRateFraction*occlusionCount)/tileCount);
+		occlusionChanged = false;
 	}
 	
 	@Override
 	public void handleRadiationEnvironmentInfo(RadiationEnvironmentInfo info) {
-		BlockPos blockPos = info.pos;
-		if (!pos.equals(blockPos) && isOcclusive(pos, world, blockPos)) {
-			occlusionMap.put(blockPos, Math.max(1, info.tileMap.size()));
+		int index = getOcclusionIndex(info.pos);
+		if (index < 0) return;
+		int scrubberCount = Math.max(1, info.tileMap.size());
+		if (scrubberCounts[index] != scrubberCount) {
+			scrubberCounts[index] = scrubberCount;
+			if (occluded.get(index)) occlusionChanged = true;
 		}
 	}
 	
@@ -129,10 +202,6 @@ public class TileRadiationScrubber extends TilePassiveAbstract implements ITileR
 	
 	// Helper
 	
-	private static boolean isOcclusive(BlockPos pos, World world, BlockPos otherPos) {
-		return pos.distanceSq(otherPos) < NCMath.square(RADIUS) && !MaterialHelper.isEmpty(world.getBlockState(otherPos).getMaterial());
-	}
-	
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == this) return true;
@@ -147,13 +216,6 @@ public class TileRadiationScrubber extends TilePassiveAbstract implements ITileR
 		super.writeAll(nbt);
 		nbt.setDouble("scrubberRate", scrubberRateFraction);
 		nbt.setDouble("currentChunkBuffer", currentChunkBuffer);
-		
-		int count = 0;
-		for (Entry<BlockPos, Integer> occlusion : occlusionMap.entrySet()) {
-			BlockPos pos = occlusion.getKey();
-			nbt.setIntArray("occlusion" + count, new int[] {occlusion.getValue(), pos.getX(), pos.getY(), pos.getZ()});
-			count++;
-		}
 		return nbt;
 	}
 	
@@ -162,14 +224,6 @@ public class TileRadiationScrubber extends TilePassiveAbstract implements ITileR
 		super.readAll(nbt);
 		scrubberRateFraction = nbt.getDouble("scrubberRate");
 		currentChunkBuffer = nbt.getDouble("currentChunkBuffer");
-		
-		for (String key : nbt.getKeySet()) {
-			if (key.startsWith("occlusion")) {
-				int[] data = nbt.getIntArray(key);
-				if (data.length < 4) continue;
-				occlusionMap.put(new BlockPos(data[1], data[2], data[3]), data[0]);
-			}
-		}
 	}
 	
 	// OpenComputers
@@ -1,15 +1,13 @@
 package nc.util;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 public class BlockFinder {
 	
@@ -17,6 +15,8 @@ public class BlockFinder {
 	private final World world;
 	private final int meta;
 	
+	private final BlockPos.MutableBlockPos probe = new BlockPos.MutableBlockPos();
+	
 	public BlockFinder(BlockPos pos, World world) {
 		this(pos, world, 4);
 	}
@@ -43,6 +43,83 @@ public class BlockFinder {
 		else return new BlockPos(pos.getX() + x, pos.getY() + y, pos.getZ() + z);
 	}
 	
+	public int worldX(int x, int z) {
+		if (meta == 2) return pos.getX() - z;
+		if (meta == 5) return pos.getX() - x;
+		if (meta == 3) return pos.getX() + z;
+		else return pos.getX() + x;
+	}
+	
+	public int worldY(int y) {
+		return pos.getY() + y;
+	}
+	
+	public int worldZ(int x, int z) {
+		if (meta == 2) return pos.getZ() + x;
+		if (meta == 5) return pos.getZ() - z;
+		if (meta == 3) return pos.getZ() - x;
+		else return pos.getZ() + z;
+	}
+	
+	// Predicates - probe through a reused position
+	
+	public IBlockState getAbsoluteBlockState(int x, int y, int z) {
+		return world.getBlockState(probe.setPos(x, y, z));
+	}
+	
+	public boolean findAbsolute(int x, int y, int z, BlockPredicate predicate) {
+		return predicate.test(getAbsoluteBlockState(x, y, z));
+	}
+	
+	public boolean find(BlockPos pos, BlockPredicate predicate) {
+		return predicate.test(getBlockState(pos));
+	}
+	
+	public boolean find(int x, int y, int z, BlockPredicate predicate) {
+		return findAbsolute(worldX(x, z), worldY(y), worldZ(x, z), predicate);
+	}
+	
+	public boolean adjacent(BlockPos pos, int dist, BlockPredicate predicate) {
+		return adjacentCount(pos, dist, predicate, 1) > 0;
+	}
+	
+	public int adjacentCount(BlockPos pos, int dist, BlockPredicate predicate) {
+		return adjacentCount(pos, dist, predicate, EnumFacing.VALUES.length);
+	}
+	
+	private int adjacentCount(BlockPos pos, int dist, BlockPredicate predicate, int limit) {
+		int count = 0;
+		for (EnumFacing side : EnumFacing.VALUES) {
+			if (findAbsolute(pos.getX() + dist*side.getFrontOffsetX(), pos.getY() + dist*side.getFrontOffsetY(), pos.getZ() + dist*side.getFrontOffsetZ(), predicate)) {
+				if (++count >= limit) return count;
+			}
+		}
+		return count;
+	}
+	
+	public boolean horizontalY(BlockPos pos, int dist, BlockPredicate predicate) {
+		for (EnumFacing side : EnumFacing.HORIZONTALS) {
+			if (!findAbsolute(pos.getX() + dist*side.getFrontOffsetX(), pos.getY(), pos.getZ() + dist*side.getFrontOffsetZ(), predicate)) return false;
+		}
+		return true;
+	}
+	
+	/** Whether every position of BlockPosHelper.squareRing(radius, height) around the origin matches */
+	public boolean squareRing(int radius, int height, BlockPredicate predicate) {
+		for (int i = -radius; i < radius; i++) {
+			if (!find(i, height, radius, predicate) || !find(-i, height, -radius, predicate)) return false;
+			if (!find(radius, height, -i, predicate) || !find(-radius, height, i, predicate)) return false;
+		}
+		return true;
+	}
+	
+	/** Whether every position of BlockPosHelper.squareTube(radius, height) around the origin matches */
+	public boolean squareTube(int radius, int height, BlockPredicate predicate) {
+		return squareRing(radius - 1, height, predicate) && squareRing(radius, height - 1, predicate) && squareRing(radius, height + 1, predicate) && squareRing(radius + 1, height, predicate);
+	}
+	
+	// Objects
+	
 	public boolean find(BlockPos pos, Object... blocks) {
 		for (int i = 0; i < blocks.length; i++) {
 			if (blocks[i] == null) continue;
@@ -60,14 +137,7 @@ public class BlockFinder {
 	}
 	
 	public boolean findOre(BlockPos pos, String... names) {
-		List<ItemStack> stackList = new ArrayList<ItemStack>();
-		for (int i = 0; i < names.length; i++) {
-			List<ItemStack> stacks = OreDictionary.getOres(names[i]);
-			stackList.addAll(stacks);
-		}
-		ItemStack stack = ItemStackHelper.blockStateToStack(getBlockState(pos));
-		for (ItemStack oreStack : stackList) if (oreStack.isItemEqual(stack)) return true;
-		return false;
+		return OreDictHelper.getBlockMatchesOre(getBlockState(pos), names);
 	}
 	
 	public boolean findOre(int x, int y, int z, String... names) {
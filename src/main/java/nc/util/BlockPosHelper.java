@@ -80,6 +80,10 @@ public class BlockPosHelper {
 		return horizontalsList(1);
 	}
 	
+	public static List<EnumFacing[]> horizontalsDirList() {
+		return Lists.newArrayList(HORIZONTALS_X, HORIZONTALS_Y, HORIZONTALS_Z);
+	}
+	
 	public static EnumFacing[] getHorizontals(EnumFacing dir) {
 		switch (dir) {
 		case DOWN:
@@ -0,0 +1,56 @@
+package nc.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraftforge.oredict.OreDictionary;
+
+/** Block matcher resolved once from the same arguments as BlockFinder.find(pos, Object...) */
+public class BlockPredicate {
+	
+	private final IBlockState[] states;
+	private final Block[] blocks;
+	private final int[] oreIDs;
+	private final String[] missingOres;
+	
+	public BlockPredicate(Object... targets) {
+		List<IBlockState> stateList = new ArrayList<IBlockState>();
+		List<Block> blockList = new ArrayList<Block>();
+		List<Integer> oreIDList = new ArrayList<Integer>();
+		List<String> missingOreList = new ArrayList<String>();
+		for (Object target : targets) {
+			if (target instanceof IBlockState) stateList.add((IBlockState) target);
+			else if (target instanceof Block) blockList.add((Block) target);
+			else if (target instanceof String) {
+				String oreName = (String) target;
+				if (OreDictionary.doesOreNameExist(oreName)) oreIDList.add(OreDictionary.getOreID(oreName));
+				else missingOreList.add(oreName);
+			}
+		}
+		states = stateList.toArray(new IBlockState[stateList.size()]);
+		blocks = blockList.toArray(new Block[blockList.size()]);
+		oreIDs = new int[oreIDList.size()];
+		for (int i = 0; i < oreIDs.length; i++) oreIDs[i] = oreIDList.get(i);
+		missingOres = missingOreList.toArray(new String[missingOreList.size()]);
+	}
+	
+	public boolean test(IBlockState state) {
+		for (IBlockState target : states) if (state == target) return true;
+		if (blocks.length > 0) {
+			Block block = state.getBlock();
+			for (Block target : blocks) if (block == target) return true;
+		}
+		if (oreIDs.length > 0 || missingOres.length > 0) {
+			BitSet stateOreIDs = OreDictHelper.getOreIDs(state);
+			for (int oreID : oreIDs) if (stateOreIDs.get(oreID)) return true;
+			// Names registered after this predicate was built
+			for (String oreName : missingOres) {
+				if (OreDictionary.doesOreNameExist(oreName) && stateOreIDs.get(OreDictionary.getOreID(oreName))) return true;
+			}
+		}
+		return false;
+	}
+}
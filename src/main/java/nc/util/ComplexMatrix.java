@@ -0,0 +1,131 @@
+package nc.util;
+
+import java.util.Arrays;
+
+/** Square complex matrices as flat arrays of interleaved real and imaginary parts. Elements are stored column by column, matching the [column][row] layout of the arrays used by {@link Matrix}, so element (row, col) is at index 2*(col*n + row). Kernels write into a supplied output array rather than allocating. */
+public class ComplexMatrix {
+	
+	public static double[] create(int n) {
+		return new double[2*n*n];
+	}
+	
+	public static int index(int row, int col, int n) {
+		return 2*(col*n + row);
+	}
+	
+	public static void identity(double[] out, int n) {
+		Arrays.fill(out, 0, 2*n*n, 0D);
+		for (int i = 0; i < n; i++) {
+			out[index(i, i, n)] = 1D;
+		}
+	}
+	
+	/** Sets out to the product a*b - out must not be either of the inputs */
+	public static void multiply(double[] a, double[] b, double[] out, int n) {
+		if (out == a || out == b) throw new IllegalArgumentException("Matrix product can not be written in place");
+		Arrays.fill(out, 0, 2*n*n, 0D);
+		for (int col = 0; col < n; col++) {
+			int outCol = 2*col*n;
+			for (int k = 0; k < n; k++) {
+				int bk = index(k, col, n);
+				double bRe = b[bk], bIm = b[bk + 1];
+				if (bRe == 0D && bIm == 0D) continue;
+				int aCol = 2*k*n;
+				for (int row = 0; row < 2*n; row += 2) {
+					double aRe = a[aCol + row], aIm = a[aCol + row + 1];
+					out[outCol + row] += aRe*bRe - aIm*bIm;
+					out[outCol + row + 1] += aRe*bIm + aIm*bRe;
+				}
+			}
+		}
+	}
+	
+	/** Sets out to the Kronecker product of the n*n matrix a and the m*m matrix b - out must not be either of the inputs */
+	public static void kronecker(double[] a, int n, double[] b, int m, double[] out) {
+		if (out == a || out == b) throw new IllegalArgumentException("Kronecker product can not be written in place");
+		int size = n*m;
+		for (int aCol = 0; aCol < n; aCol++) {
+			for (int aRow = 0; aRow < n; aRow++) {
+				int ai = index(aRow, aCol, n);
+				double aRe = a[ai], aIm = a[ai + 1];
+				for (int bCol = 0; bCol < m; bCol++) {
+					for (int bRow = 0; bRow < m; bRow++) {
+						int bi = index(bRow, bCol, m);
+						double bRe = b[bi], bIm = b[bi + 1];
+						int oi = index(bRow + m*aRow, bCol + m*aCol, size);
+						out[oi] = aRe*bRe - aIm*bIm;
+						out[oi + 1] = aRe*bIm + aIm*bRe;
+					}
+				}
+			}
+		}
+	}
+	
+	/** Sets out to the conjugate transpose of a - out may be a */
+	public static void adjoint(double[] a, double[] out, int n) {
+		for (int col = 0; col < n; col++) {
+			for (int row = 0; row <= col; row++) {
+				int i = index(row, col, n), j = index(col, row, n);
+				double re = a[i], im = a[i + 1];
+				out[i] = a[j];
+				out[i + 1] = -a[j + 1];
+				out[j] = re;
+				out[j + 1] = -im;
+			}
+		}
+	}
+	
+	/** Sets out to (re + i*im)*a - out may be a */
+	public static void scale(double re, double im, double[] a, double[] out, int n) {
+		for (int i = 0; i < 2*n*n; i += 2) {
+			double aRe = a[i], aIm = a[i + 1];
+			out[i] = re*aRe - im*aIm;
+			out[i + 1] = re*aIm + im*aRe;
+		}
+	}
+	
+	/** Sets out to a + b - out may be either of the inputs */
+	public static void add(double[] a, double[] b, double[] out, int n) {
+		for (int i = 0; i < 2*n*n; i++) {
+			out[i] = a[i] + b[i];
+		}
+	}
+	
+	// Vectors, stored as interleaved real and imaginary parts
+	
+	/** The squared magnitude of the inner product of the n element vectors a and b, conjugating a as Matrix.dot does */
+	public static double dotAbsSq(double[] a, double[] b, int n) {
+		double re = 0D, im = 0D;
+		for (int i = 0; i < 2*n; i += 2) {
+			re += a[i]*b[i] + a[i + 1]*b[i + 1];
+			im += a[i]*b[i + 1] - a[i + 1]*b[i];
+		}
+		return re*re + im*im;
+	}
+	
+	// Conversion
+	
+	public static double[] fromArray(Complex[][] a) {
+		int n = a.length;
+		double[] out = create(n);
+		for (int col = 0; col < n; col++) {
+			for (int row = 0; row < n; row++) {
+				int i = index(row, col, n);
+				out[i] = a[col][row].re();
+				out[i + 1] = a[col][row].im();
+			}
+		}
+		return out;
+	}
+	
+	public static Complex[][] toArray(double[] a, int n) {
+		Complex[][] out = new Complex[n][n];
+		for (int col = 0; col < n; col++) {
+			for (int row = 0; row < n; row++) {
+				int i = index(row, col, n);
+				out[col][row] = new Complex(a[i], a[i + 1]);
+			}
+		}
+		return out;
+	}
+}
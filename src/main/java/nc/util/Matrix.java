@@ -71,25 +71,21 @@ public class Matrix {
 	}
 	
 	public static Complex[][] multiply(Complex[][] a, Complex[][] b) {
-		Complex[][] c = new Complex[a[0].length][a[0].length];
-		for (int i = 0; i < a[0].length; i++) {
-			for (int j = 0; j < a[0].length; j++) {
-				c[j][i] = new Complex(0, 0);
-				for (int k = 0; k < a[0].length; k++) {
-					c[j][i].add(Complex.multiply(a[k][i], b[j][k]));
-				}
-			}
-		}
-		return c;
+		int n = a[0].length;
+		double[] c = ComplexMatrix.create(n);
+		ComplexMatrix.multiply(ComplexMatrix.fromArray(a), ComplexMatrix.fromArray(b), c, n);
+		return ComplexMatrix.toArray(c, n);
 	}
 	
 	public static Complex[] transform(Complex[] a, Complex[][] b) {
 		Complex[] c = new Complex[a.length];
 		for (int i = 0; i < a.length; i++) {
-			c[i] = new Complex(0, 0);
+			double re = 0D, im = 0D;
 			for (int j = 0; j < a.length; j++) {
-				c[i].add(Complex.multiply(b[i][j], a[j]));
+				re += b[i][j].re()*a[j].re() - b[i][j].im()*a[j].im();
+				im += b[i][j].re()*a[j].im() + b[i][j].im()*a[j].re();
 			}
+			c[i] = new Complex(re, im);
 		}
 		return c;
 	}
@@ -107,11 +103,12 @@ public class Matrix {
 	}
 	
 	public static Complex dot(Complex[] a, Complex[] b) {
-		Complex c = new Complex(0, 0);
+		double re = 0D, im = 0D;
 		for (int i = 0; i < a.length; i++) {
-			c.add(Complex.multiply(a[i].conjugate(), b[i]));
+			re += a[i].re()*b[i].re() + a[i].im()*b[i].im();
+			im += a[i].re()*b[i].im() - a[i].im()*b[i].re();
 		}
-		return c;
+		return new Complex(re, im);
 	}
 	
 	public static Complex expectation(Complex[] a, Complex[][] b) {
@@ -119,11 +116,12 @@ public class Matrix {
 	}
 	
 	public static Complex trace(Complex[][] a) {
-		Complex b = new Complex(0, 0);
+		double re = 0D, im = 0D;
 		for (int i = 0; i < a.length; i++) {
-			b.add(a[i][i]);
+			re += a[i][i].re();
+			im += a[i][i].im();
 		}
-		return b;
+		return new Complex(re, im);
 	}
 	
 	public static Complex[][] transpose(Complex[][] a) {
@@ -147,17 +145,10 @@ public class Matrix {
 	}
 	
 	public static Complex[][] tensorProduct(Complex[][] a, Complex[][] b) {
-		Complex[][] c = new Complex[a[0].length*b[0].length][a[0].length*b[0].length];
-		for (int m = 0; m < a[0].length; m++) {
-			for (int n = 0; n < a[0].length; n++) {
-				for (int i = 0; i < b[0].length; i++) {
-					for (int j = 0; j < b[0].length; j++) {
-						c[j + b[0].length*n][i + b[0].length*m] = Complex.multiply(a[n][m], b[j][i]);
-					}
-				}
-			}
-		}
-		return c;
+		int n = a[0].length, m = b[0].length;
+		double[] c = ComplexMatrix.create(n*m);
+		ComplexMatrix.kronecker(ComplexMatrix.fromArray(a), n, ComplexMatrix.fromArray(b), m, c);
+		return ComplexMatrix.toArray(c, n*m);
 	}
 	
 	public static Complex[][] commutator(Complex[][] a, Complex[][] b) {
@@ -179,7 +170,10 @@ public class Matrix {
 	}
 	
 	public static Complex[][] hermitian(Complex[][] a) {
-		return conjugate(transpose(a));
+		int n = a[0].length;
+		double[] b = ComplexMatrix.fromArray(a);
+		ComplexMatrix.adjoint(b, b, n);
+		return ComplexMatrix.toArray(b, n);
 	}
 	
 	// Spin Matrices
@@ -265,7 +259,7 @@ public class Matrix {
 		for (int i = a + 1; i <= spin.length; i++) {
 			y *= dim(s[i - 1]);
 		}
-		return tensorProduct(I(x), tensorProduct(spinZ(s[a - 1]), I(y)));
+		return embed(x, spinZ(s[a - 1]), y);
 	}
 	
 	public static Complex[][] spinX(int a, double... spin) {
@@ -281,7 +275,7 @@ public class Matrix {
 		for (int i = a + 1; i <= spin.length; i++) {
 			y *= dim(s[i - 1]);
 		}
-		return tensorProduct(I(x), tensorProduct(spinX(s[a - 1]), I(y)));
+		return embed(x, spinX(s[a - 1]), y);
 	}
 	
 	public static Complex[][] spinY(int a, double... spin) {
@@ -297,7 +291,7 @@ public class Matrix {
 		for (int i = a + 1; i <= spin.length; i++) {
 			y *= dim(s[i - 1]);
 		}
-		return tensorProduct(I(x), tensorProduct(spinY(s[a - 1]), I(y)));
+		return embed(x, spinY(s[a - 1]), y);
 	}
 	
 	public static Complex[][] spinW(int a, double t, double p, double... spin) {
@@ -313,7 +307,19 @@ public class Matrix {
 		for (int i = a + 1; i <= spin.length; i++) {
 			y *= dim(s[i - 1]);
 		}
-		return tensorProduct(I(x), tensorProduct(spinW(s[a - 1], t, p), I(y)));
+		return embed(x, spinW(s[a - 1], t, p), y);
+	}
+	
+	/** The operator acting on one spin of a system, as the tensor product I(x) (x) a (x) I(y), built without intermediate arrays */
+	private static Complex[][] embed(int x, Complex[][] a, int y) {
+		int n = a[0].length;
+		double[] left = ComplexMatrix.create(x), right = ComplexMatrix.create(y);
+		ComplexMatrix.identity(left, x);
+		ComplexMatrix.identity(right, y);
+		double[] inner = ComplexMatrix.create(n*y), outer = ComplexMatrix.create(x*n*y);
+		ComplexMatrix.kronecker(ComplexMatrix.fromArray(a), n, right, y, inner);
+		ComplexMatrix.kronecker(left, x, inner, n*y, outer);
+		return ComplexMatrix.toArray(outer, x*n*y);
 	}
 	
 	public static int dim(double... spin) {
@@ -377,7 +383,7 @@ public class Matrix {
 			y *= dim(s[i - 1]);
 		}
 		
-		return tensorProduct(I(x), tensorProduct(p, I(y)));
+		return embed(x, p, y);
 	}
 	
 	public static Complex[][] projection(Complex[] v, int a, double... spin) {
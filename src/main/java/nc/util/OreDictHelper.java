@@ -1,14 +1,18 @@
 package nc.util;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 
 import nc.config.NCConfig;
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
@@ -33,19 +37,11 @@ public class OreDictHelper {
 	public static final List<String> BLOCK_VOLUME_TYPES = Lists.newArrayList("block");
 	
 	public static boolean isOreMatching(ItemStack stack, ItemStack target) {
-		for (String oreName : getOreNames(target)) {
-			for (ItemStack ore : OreDictionary.getOres(oreName)) {
-				if (ItemStack.areItemsEqual(ore, stack)) return true;
-			}
-		}
-		return false;
+		return getOreIDs(stack).intersects(getOreIDs(target));
 	}
 	
 	public static boolean isOreMember(ItemStack stack, String oreName) {
-		for (ItemStack ore : OreDictionary.getOres(oreName)) {
-			if (ItemStack.areItemsEqual(ore, stack)) return true;
-		}
-		return false;
+		return OreDictionary.doesOreNameExist(oreName) && hasOreID(stack, OreDictionary.getOreID(oreName));
 	}
 	
 	public static boolean oreExists(String ore) {
@@ -73,13 +69,14 @@ public class OreDictHelper {
 	}
 	
 	public static boolean getBlockMatchesOre(World world, BlockPos pos, String... names) {
-		List<ItemStack> stackList = new ArrayList<ItemStack>();
-		for (int i = 0; i < names.length; i++) {
-			List<ItemStack> stacks = OreDictionary.getOres(names[i]);
-			stackList.addAll(stacks);
+		return getBlockMatchesOre(world.getBlockState(pos), names);
+	}
+	
+	public static boolean getBlockMatchesOre(IBlockState state, String... names) {
+		BitSet oreIDs = getOreIDs(state);
+		for (String name : names) {
+			if (OreDictionary.doesOreNameExist(name) && oreIDs.get(OreDictionary.getOreID(name))) return true;
 		}
-		ItemStack stack = ItemStackHelper.blockStateToStack(world.getBlockState(pos));
-		for (ItemStack oreStack : stackList) if (oreStack.isItemEqual(stack)) return true;
 		return false;
 	}
 	
@@ -122,17 +119,140 @@ public class OreDictHelper {
 		return getPrioritisedCraftingStack(backup == null ? ItemStack.EMPTY : new ItemStack(backup), ore);
 	}
 	
-	private static final Map<ItemInfo, List<String>> ORE_DICT_CACHE = new HashMap<ItemInfo, List<String>>();
+	// Ore ID Cache - cleared by OreDictHandler whenever an ore is registered, and read without locking by recipe lookups on any thread
 	
+	private static final BitSet NO_ORE_IDS = new OreIDSet(new int[0]);
+	private static final List<String> NO_ORE_NAMES = ImmutableList.of();
+	
+	private static final Map<Long, BitSet> ORE_ID_CACHE = new ConcurrentHashMap<Long, BitSet>();
+	private static final Map<Long, List<String>> ORE_NAME_CACHE = new ConcurrentHashMap<Long, List<String>>();
+	
+	public static long itemKey(Item item, int meta) {
+		return ((long) Item.getIdFromItem(item) << 32) | (meta & 0xFFFFFFFFL);
+	}
+	
+	public static void invalidateOreCache() {
+		ORE_ID_CACHE.clear();
+		ORE_NAME_CACHE.clear();
+	}
+	
+	/** The returned set is shared, so it can not be modified */
+	public static BitSet getOreIDs(ItemStack stack) {
+		if (stack == null || stack.isEmpty()) return NO_ORE_IDS;
+		return getOreIDs(stack.getItem(), stack.getItemDamage(), stack);
+	}
+	
+	/** The returned set is shared, so it can not be modified */
+	public static BitSet getOreIDs(IBlockState state) {
+		if (state == null) return NO_ORE_IDS;
+		Block block = state.getBlock();
+		Item item = Item.getItemFromBlock(block);
+		if (item == Items.AIR) return NO_ORE_IDS;
+		return getOreIDs(item, block.getMetaFromState(state), null);
+	}
+	
+	/** Threads which miss at the same time may both build the set, but only the first one is kept */
+	private static BitSet getOreIDs(Item item, int meta, ItemStack stack) {
+		Long key = itemKey(item, meta);
+		BitSet oreIDs = ORE_ID_CACHE.get(key);
+		if (oreIDs == null) {
+			oreIDs = new OreIDSet(OreDictionary.getOreIDs(stack == null ? new ItemStack(item, 1, meta) : stack));
+			BitSet previous = ORE_ID_CACHE.putIfAbsent(key, oreIDs);
+			if (previous != null) oreIDs = previous;
+		}
+		return oreIDs;
+	}
+	
+	public static boolean hasOreID(ItemStack stack, int oreID) {
+		return oreID >= 0 && getOreIDs(stack).get(oreID);
+	}
+	
+	/** The returned list is shared, so it can not be modified */
 	public static List<String> getOreNames(ItemStack stack) {
-		List<String> names = new ArrayList<String>();
-		if (stack == null || stack.isEmpty()) return names;
-		ItemInfo key = new ItemInfo(stack);
-		if (!ORE_DICT_CACHE.containsKey(key)) {
-			for (int oreID : OreDictionary.getOreIDs(stack)) names.add(OreDictionary.getOreName(oreID));
-			ORE_DICT_CACHE.put(key, names);
-			return names;
-		}
-		return ORE_DICT_CACHE.get(key);
+		if (stack == null || stack.isEmpty()) return NO_ORE_NAMES;
+		Long key = itemKey(stack.getItem(), stack.getItemDamage());
+		List<String> names = ORE_NAME_CACHE.get(key);
+		if (names == null) {
+			ImmutableList.Builder<String> builder = ImmutableList.builder();
+			BitSet oreIDs = getOreIDs(stack);
+			for (int oreID = oreIDs.nextSetBit(0); oreID >= 0; oreID = oreIDs.nextSetBit(oreID + 1)) builder.add(OreDictionary.getOreName(oreID));
+			names = builder.build();
+			List<String> previous = ORE_NAME_CACHE.putIfAbsent(key, names);
+			if (previous != null) names = previous;
+		}
+		return names;
+	}
+	
+	/** A bit set of ore IDs which throws on any change after construction, so that the cached sets can be handed out */
+	private static class OreIDSet extends BitSet {
+		
+		private OreIDSet(int[] oreIDs) {
+			for (int oreID : oreIDs) super.set(oreID);
+		}
+		
+		@Override
+		public void set(int bitIndex) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void set(int bitIndex, boolean value) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void set(int fromIndex, int toIndex) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void set(int fromIndex, int toIndex, boolean value) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void clear(int bitIndex) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void clear(int fromIndex, int toIndex) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void flip(int bitIndex) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void flip(int fromIndex, int toIndex) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void and(BitSet set) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void or(BitSet set) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void xor(BitSet set) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void andNot(BitSet set) {
+			throw new UnsupportedOperationException();
+		}
 	}
 }
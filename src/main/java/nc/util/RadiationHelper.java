@@ -91,7 +91,11 @@ public class RadiationHelper {
 		if (chunk == null || !chunk.hasCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null)) return;
 		IRadiationSource chunkRadiation = chunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
 		if (chunkRadiation == null) return;
-		
+		addToChunkBuffer(chunkRadiation, getRadiationFromSource(provider, chunk));
+	}
+	
+	/** The chunk must have a radiation source capability */
+	public static double getRadiationFromSource(ICapabilityProvider provider, Chunk chunk) {
 		double rawRadiation = 0D;
 		
 		if (ModCheck.ic2Loaded()) {
@@ -116,8 +120,7 @@ public class RadiationHelper {
 			if (sourceResistance != null) resistance = sourceResistance.getRadiationResistance();
 		}
 		
-		double radiation = rawRadiation <= 0D ? 0D : NCMath.square(rawRadiation)/(rawRadiation + resistance);
-		addToChunkBuffer(chunkRadiation, radiation);
+		return rawRadiation <= 0D ? 0D : NCMath.square(rawRadiation)/(rawRadiation + resistance);
 	}
 	
 	// Inventory -> ChunkBuffer
@@ -142,15 +145,21 @@ public class RadiationHelper {
 		IRadiationSource sourceChunkRadiation = sourceChunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
 		if (sourceChunkRadiation == null) return;
 		
+		IRadiationSource targetChunkRadiation = null;
 		if (targetChunk != null &&  targetChunk.isLoaded() && targetChunk.hasCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null)) {
-			IRadiationSource targetChunkRadiation = targetChunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
-			if (targetChunkRadiation != null && targetChunkRadiation.getRadiationBuffer() >= 0D) {
-				if (!sourceChunkRadiation.isRadiationNegligible()) {
-					if (targetChunkRadiation.getRadiationLevel() == 0D || sourceChunkRadiation.getRadiationLevel()/targetChunkRadiation.getRadiationLevel() > 1D + NCConfig.radiation_spread_gradient) {
-						double radiationSpread = (sourceChunkRadiation.getRadiationLevel() - targetChunkRadiation.getRadiationLevel())*NCConfig.radiation_spread_rate;
-						sourceChunkRadiation.setRadiationLevel(sourceChunkRadiation.getRadiationLevel() - radiationSpread);
-						targetChunkRadiation.setRadiationLevel(targetChunkRadiation.getRadiationLevel() + radiationSpread);
-					}
+			targetChunkRadiation = targetChunk.getCapability(IRadiationSource.CAPABILITY_RADIATION_SOURCE, null);
+		}
+		spreadRadiation(sourceChunkRadiation, targetChunkRadiation);
+	}
+	
+	/** The target may be null, in which case the source buffer is still emptied */
+	public static void spreadRadiation(IRadiationSource sourceChunkRadiation, IRadiationSource targetChunkRadiation) {
+		if (targetChunkRadiation != null && targetChunkRadiation.getRadiationBuffer() >= 0D) {
+			if (!sourceChunkRadiation.isRadiationNegligible()) {
+				if (targetChunkRadiation.getRadiationLevel() == 0D || sourceChunkRadiation.getRadiationLevel()/targetChunkRadiation.getRadiationLevel() > 1D + NCConfig.radiation_spread_gradient) {
+					double radiationSpread = (sourceChunkRadiation.getRadiationLevel() - targetChunkRadiation.getRadiationLevel())*NCConfig.radiation_spread_rate;
+					sourceChunkRadiation.setRadiationLevel(sourceChunkRadiation.getRadiationLevel() - radiationSpread);
+					targetChunkRadiation.setRadiationLevel(targetChunkRadiation.getRadiationLevel() + radiationSpread);
 				}
 			}
 		}
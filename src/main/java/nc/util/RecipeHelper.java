@@ -165,47 +165,44 @@ public class RecipeHelper {
 		return null;
 	}
 
+	/** Shapeless inputs are assigned greedily in input order to the first unused matching ingredient, tracked with a
+	 * bitmask so that no lists need to be copied */
 	public static boolean matchingIngredients(IngredientSorption sorption, List<IItemIngredient> itemIngredients, List<IFluidIngredient> fluidIngredients, List items, List fluids, boolean shapeless) {
-		List<IItemIngredient> itemIngredientsMatch = new ArrayList<IItemIngredient>(itemIngredients);
-		List<IFluidIngredient> fluidIngredientsMatch = new ArrayList<IFluidIngredient>(fluidIngredients);
 		if (itemIngredients.size() != items.size() || fluidIngredients.size() != fluids.size()) {
 			return false;
 		}
-		int pos = -1;
-		if (!items.isEmpty()) itemInputs: for (Object item : items) {
-			/*if (stack.isEmpty()) {
-				return false;
-			}*/
-			pos++;
+		if (shapeless && (itemIngredients.size() > 64 || fluidIngredients.size() > 64)) {
+			return matchingIngredientsLarge(sorption, itemIngredients, fluidIngredients, items, fluids);
+		}
+		
+		long used = 0L;
+		itemInputs: for (int i = 0; i < items.size(); i++) {
+			Object item = items.get(i);
 			if (shapeless) {
-				for (IItemIngredient itemIngredient : new ArrayList<IItemIngredient>(itemIngredientsMatch)) {
-					if (itemIngredient.matches(item, sorption)) {
-						itemIngredientsMatch.remove(itemIngredient);
+				for (int j = 0; j < itemIngredients.size(); j++) {
+					if ((used & (1L << j)) == 0L && itemIngredients.get(j).matches(item, sorption)) {
+						used |= 1L << j;
 						continue itemInputs;
 					}
 				}
-			} else if (itemIngredients.get(pos).matches(item, sorption)) {
-				itemIngredientsMatch.remove(itemIngredients.get(pos));
+			} else if (itemIngredients.get(i).matches(item, sorption)) {
 				continue itemInputs;
 			}
 			return false;
 		}
-		pos = -1;
-		if (!fluids.isEmpty()) fluidInputs: for (Object fluid : fluids) {
-			/*if (tank.isEmpty()) {
-				return false;
-			}*/
-			pos++;
-			if (fluid instanceof Tank) fluid = (FluidStack)((Tank)fluid).getFluid();
+		
+		used = 0L;
+		fluidInputs: for (int i = 0; i < fluids.size(); i++) {
+			Object fluid = fluids.get(i);
+			if (fluid instanceof Tank) fluid = ((Tank)fluid).peekFluid();
 			if (shapeless) {
-				for (IFluidIngredient fluidIngredient : new ArrayList<IFluidIngredient>(fluidIngredientsMatch)) {
-					if (fluidIngredient.matches(fluid, sorption)) {
-						fluidIngredientsMatch.remove(fluidIngredient);
+				for (int j = 0; j < fluidIngredients.size(); j++) {
+					if ((used & (1L << j)) == 0L && fluidIngredients.get(j).matches(fluid, sorption)) {
+						used |= 1L << j;
 						continue fluidInputs;
 					}
 				}
-			} else if (fluidIngredients.get(pos).matches(fluid, sorption)) {
-				fluidIngredientsMatch.remove(fluidIngredients.get(pos));
+			} else if (fluidIngredients.get(i).matches(fluid, sorption)) {
 				continue fluidInputs;
 			}
 			return false;
@@ -213,6 +210,32 @@ public class RecipeHelper {
 		return true;
 	}
 	
+	/** Fallback for shapeless recipes with more ingredients than fit in the bitmask */
+	private static boolean matchingIngredientsLarge(IngredientSorption sorption, List<IItemIngredient> itemIngredients, List<IFluidIngredient> fluidIngredients, List items, List fluids) {
+		boolean[] usedItems = new boolean[itemIngredients.size()];
+		itemInputs: for (Object item : items) {
+			for (int j = 0; j < itemIngredients.size(); j++) {
+				if (!usedItems[j] && itemIngredients.get(j).matches(item, sorption)) {
+					usedItems[j] = true;
+					continue itemInputs;
+				}
+			}
+			return false;
+		}
+		boolean[] usedFluids = new boolean[fluidIngredients.size()];
+		fluidInputs: for (Object fluid : fluids) {
+			if (fluid instanceof Tank) fluid = ((Tank)fluid).peekFluid();
+			for (int j = 0; j < fluidIngredients.size(); j++) {
+				if (!usedFluids[j] && fluidIngredients.get(j).matches(fluid, sorption)) {
+					usedFluids[j] = true;
+					continue fluidInputs;
+				}
+			}
+			return false;
+		}
+		return true;
+	}
+	
 	public static List<String> getItemIngredientNames(List<IItemIngredient> ingredientList) {
 		List<String> ingredientNames = new ArrayList<String>();
 		for (IItemIngredient ingredient : ingredientList) {
@@ -1,13 +1,17 @@
 package nc.worldgen.ore;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
+import com.google.common.base.Predicate;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import nc.block.BlockMeta;
 import nc.config.NCConfig;
 import nc.init.NCBlocks;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.IChunkGenerator;
@@ -26,10 +30,76 @@ public class OreGenerator implements IWorldGenerator {
 	private final WorldGenerator lithium;
 	private final WorldGenerator magnesium;
 	
+	/** The config's dimension list and list type, resolved whenever the config is synced */
+	private static IntSet oreDimSet = new IntOpenHashSet();
+	private static boolean oreDimsBlacklist = false;
+	
+	/** Only read by the vein generators before they place any blocks */
+	private final BlockPos.MutableBlockPos spawnPos = new BlockPos.MutableBlockPos();
+	
 	private static class WorldGenOre extends WorldGenMinable {
 		
+		private final IBlockState oreBlock;
+		private final int numberOfBlocks;
+		private final Predicate<IBlockState> predicate;
+		
 		public WorldGenOre(int meta) {
-			super(((BlockMeta)NCBlocks.ore).getStateFromMeta(meta), NCConfig.ore_size[meta] + 2, new UniversalOrePredicate());
+			this(((BlockMeta)NCBlocks.ore).getStateFromMeta(meta), NCConfig.ore_size[meta] + 2, new UniversalOrePredicate());
+		}
+		
+		private WorldGenOre(IBlockState oreBlock, int numberOfBlocks, Predicate<IBlockState> predicate) {
+			super(oreBlock, numberOfBlocks, predicate);
+			this.oreBlock = oreBlock;
+			this.numberOfBlocks = numberOfBlocks;
+			this.predicate = predicate;
+		}
+		
+		/** Same vein shape and random sequence as WorldGenMinable, but visits the blocks with one mutable position per vein - not one per generator, as placing blocks can populate a neighbouring chunk and re-enter */
+		@Override
+		public boolean generate(World worldIn, Random rand, BlockPos position) {
+			BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+			float f = rand.nextFloat()*(float)Math.PI;
+			double d0 = (double)((float)(position.getX() + 8) + MathHelper.sin(f)*(float)numberOfBlocks/8F);
+			double d1 = (double)((float)(position.getX() + 8) - MathHelper.sin(f)*(float)numberOfBlocks/8F);
+			double d2 = (double)((float)(position.getZ() + 8) + MathHelper.cos(f)*(float)numberOfBlocks/8F);
+			double d3 = (double)((float)(position.getZ() + 8) - MathHelper.cos(f)*(float)numberOfBlocks/8F);
+			double d4 = (double)(position.getY() + rand.nextInt(3) - 2);
+			double d5 = (double)(position.getY() + rand.nextInt(3) - 2);
+			
+			for (int i = 0; i < numberOfBlocks; i++) {
+				float f1 = (float)i/(float)numberOfBlocks;
+				double d6 = d0 + (d1 - d0)*(double)f1;
+				double d7 = d4 + (d5 - d4)*(double)f1;
+				double d8 = d2 + (d3 - d2)*(double)f1;
+				double d9 = rand.nextDouble()*(double)numberOfBlocks/16D;
+				double d10 = (double)(MathHelper.sin((float)Math.PI*f1) + 1F)*d9 + 1D;
+				double d11 = (double)(MathHelper.sin((float)Math.PI*f1) + 1F)*d9 + 1D;
+				int j = MathHelper.floor(d6 - d10/2D);
+				int k = MathHelper.floor(d7 - d11/2D);
+				int l = MathHelper.floor(d8 - d10/2D);
+				int i1 = MathHelper.floor(d6 + d10/2D);
+				int j1 = MathHelper.floor(d7 + d11/2D);
+				int k1 = MathHelper.floor(d8 + d10/2D);
+				
+				for (int l1 = j; l1 <= i1; l1++) {
+					double d12 = ((double)l1 + 0.5D - d6)/(d10/2D);
+					if (d12*d12 >= 1D) continue;
+					for (int i2 = k; i2 <= j1; i2++) {
+						double d13 = ((double)i2 + 0.5D - d7)/(d11/2D);
+						if (d12*d12 + d13*d13 >= 1D) continue;
+						for (int j2 = l; j2 <= k1; j2++) {
+							double d14 = ((double)j2 + 0.5D - d8)/(d10/2D);
+							if (d12*d12 + d13*d13 + d14*d14 >= 1D) continue;
+							pos.setPos(l1, i2, j2);
+							IBlockState state = worldIn.getBlockState(pos);
+							if (state.getBlock().isReplaceableOreGen(state, worldIn, pos, predicate)) {
+								worldIn.setBlockState(pos, oreBlock, 2);
+							}
+						}
+					}
+				}
+			}
+			return true;
 		}
 	}
 	
@@ -46,9 +116,17 @@ public class OreGenerator implements IWorldGenerator {
 
 	@Override
 	public void generate(Random random, int chunkX, int chunkZ, World world, IChunkGenerator chunkGenerator, IChunkProvider chunkProvider) {
-		List<Integer> dimList = new ArrayList<Integer>();
-		for (int i = 0; i < NCConfig.ore_dims.length; i ++) dimList.add(NCConfig.ore_dims[i]);
-		if (dimList.contains(world.provider.getDimension()) != NCConfig.ore_dims_list_type) generateOres(random, chunkX, chunkZ, world, chunkGenerator, chunkProvider);
+		if (isOreDim(world.provider.getDimension())) generateOres(random, chunkX, chunkZ, world, chunkGenerator, chunkProvider);
+	}
+	
+	public static boolean isOreDim(int dimension) {
+		return oreDimSet.contains(dimension) != oreDimsBlacklist;
+	}
+	
+	/** Called by the config after it has been loaded or changed in the GUI */
+	public static void refreshOreDims() {
+		oreDimSet = NCConfig.ore_dims == null ? new IntOpenHashSet() : new IntOpenHashSet(NCConfig.ore_dims);
+		oreDimsBlacklist = NCConfig.ore_dims_list_type;
 	}
 	
 	private void generateOre(WorldGenerator generator, World world, Random rand, int chunk_X, int chunk_Z, int chancesToSpawn, int minHeight, int maxHeight) {
@@ -60,7 +138,7 @@ public class OreGenerator implements IWorldGenerator {
 			int x = chunk_X * 16 + rand.nextInt(16);
 			int y = minHeight + rand.nextInt(heightDiff);
 			int z = chunk_Z * 16 + rand.nextInt(16);
-			generator.generate(world, rand, new BlockPos(x, y, z));
+			generator.generate(world, rand, spawnPos.setPos(x, y, z));
 		}
 	}
 	
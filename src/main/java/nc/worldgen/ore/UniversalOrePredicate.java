@@ -1,8 +1,11 @@
 package nc.worldgen.ore;
 
+import java.util.Set;
+
 import javax.annotation.Nullable;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.Sets;
 
 import net.minecraft.block.BlockStone;
 import net.minecraft.block.state.IBlockState;
@@ -10,15 +13,19 @@ import net.minecraft.init.Blocks;
 
 public class UniversalOrePredicate implements Predicate<IBlockState> {
 	
+	/** Natural stone, netherrack and end stone states, resolved once as the predicate is tested for every block of every vein */
+	private static final Set<IBlockState> REPLACEABLE = Sets.newIdentityHashSet();
+	
+	static {
+		for (IBlockState state : Blocks.STONE.getBlockState().getValidStates()) {
+			if (state.getValue(BlockStone.VARIANT).isNatural()) REPLACEABLE.add(state);
+		}
+		REPLACEABLE.addAll(Blocks.NETHERRACK.getBlockState().getValidStates());
+		REPLACEABLE.addAll(Blocks.END_STONE.getBlockState().getValidStates());
+	}
+	
 	@Override
 	public boolean apply(@Nullable IBlockState state) {
-		if (state != null) {
-			if (state.getBlock() == Blocks.STONE) {
-				BlockStone.EnumType blockstone$enumtype = (BlockStone.EnumType)state.getValue(BlockStone.VARIANT);
-				return blockstone$enumtype.isNatural();
-            }
-			if (state.getBlock() == Blocks.NETHERRACK || state.getBlock() == Blocks.END_STONE) return true;
-		}
-		return false;
+		return state != null && REPLACEABLE.contains(state);
 	}
 }
@@ -0,0 +1,316 @@
+package nc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.Sets;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.DimensionType;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.EmptyChunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.SaveHandlerMP;
+import net.minecraft.world.storage.WorldInfo;
+
+/** A server world held in memory, for tests and benchmarks which run without a Forge launch. Block states and tile
+ * entities are kept per chunk, and chunks can be unloaded and loaded again, with tiles written to NBT on unload and
+ * recreated from it on load as the game does. Writing to an unloaded chunk loads it, while reading from one returns air
+ * rather than loading it. There is no lighting, no entities and no chunk generation, other than an optional
+ * flat ground.
+ *
+ * Tick start listeners stand in for the Forge world tick event, and chunk load listeners for the chunk load event, as the
+ * event bus is not used. */
+public class StubWorld extends World {
+	
+	private final Long2ObjectMap<StubChunk> loadedChunks = new Long2ObjectOpenHashMap<StubChunk>();
+	private final Long2ObjectMap<StubChunk> unloadedChunks = new Long2ObjectOpenHashMap<StubChunk>();
+	
+	private final List<TileEntity> tickingTiles = new ArrayList<TileEntity>();
+	
+	private final List<Runnable> tickStartListeners = new ArrayList<Runnable>();
+	private final List<BiConsumer<Integer, Integer>> chunkLoadListeners = new ArrayList<BiConsumer<Integer, Integer>>();
+	
+	/** Read at positions below the ground height which have not been set, so that terrain does not have to be stored */
+	private IBlockState ground = Blocks.AIR.getDefaultState();
+	private int groundHeight = 0;
+	
+	public StubWorld() {
+		this(0);
+	}
+	
+	public StubWorld(int dimension) {
+		super(new SaveHandlerMP(), new WorldInfo(new WorldSettings(0L, GameType.SURVIVAL, false, false, WorldType.FLAT), "stub"), provider(dimension), new Profiler(), false);
+		provider.setWorld(this);
+		chunkProvider = createChunkProvider();
+	}
+	
+	private static WorldProvider provider(int dimension) {
+		WorldProvider provider = new WorldProvider() {
+			
+			@Override
+			public DimensionType getDimensionType() {
+				return DimensionType.OVERWORLD;
+			}
+		};
+		provider.setDimension(dimension);
+		return provider;
+	}
+	
+	// Listeners
+	
+	/** Run at the start of every tick, before tiles are ticked */
+	public void addTickStartListener(Runnable listener) {
+		tickStartListeners.add(listener);
+	}
+	
+	/** Run with the chunk coordinates after a chunk has been loaded and its tiles recreated */
+	public void addChunkLoadListener(BiConsumer<Integer, Integer> listener) {
+		chunkLoadListeners.add(listener);
+	}
+	
+	// Ticking
+	
+	/** Advances the world time, runs the tick start listeners and then updates every ticking tile */
+	@Override
+	public void tick() {
+		setTotalWorldTime(getTotalWorldTime() + 1L);
+		for (Runnable listener : tickStartListeners) listener.run();
+		
+		// Tiles added during the loop are ticked in the same tick, while removed ones are skipped and dropped after it
+		for (int i = 0; i < tickingTiles.size(); i++) {
+			TileEntity tile = tickingTiles.get(i);
+			if (!tile.isInvalid() && tile.hasWorld()) ((ITickable) tile).update();
+		}
+		tickingTiles.removeIf(TileEntity::isInvalid);
+	}
+	
+	public int getTickingTileCount() {
+		return tickingTiles.size();
+	}
+	
+	// Chunks
+	
+	@Override
+	protected IChunkProvider createChunkProvider() {
+		return new StubChunkProvider();
+	}
+	
+	@Override
+	protected boolean isChunkLoaded(int x, int z, boolean allowEmpty) {
+		return loadedChunks.containsKey(ChunkPos.asLong(x, z));
+	}
+	
+	/** Loads the chunk, recreating its tiles from the NBT written when it was unloaded, or creates it empty if it has never
+	 * been loaded */
+	public void loadChunk(int x, int z) {
+		long key = ChunkPos.asLong(x, z);
+		if (loadedChunks.containsKey(key)) return;
+		
+		StubChunk chunk = unloadedChunks.remove(key);
+		if (chunk == null) chunk = new StubChunk(this, x, z);
+		loadedChunks.put(key, chunk);
+		
+		List<NBTTagCompound> savedTiles = chunk.savedTiles;
+		chunk.savedTiles = new ArrayList<NBTTagCompound>();
+		for (NBTTagCompound nbt : savedTiles) {
+			TileEntity tile = TileEntity.create(this, nbt);
+			if (tile != null) setTileEntity(tile.getPos(), tile);
+		}
+		
+		for (BiConsumer<Integer, Integer> listener : chunkLoadListeners) listener.accept(x, z);
+	}
+	
+	/** Unloads the chunk - its tiles are written to NBT before they are told of the unload, as the game saves a chunk
+	 * before its tiles are removed */
+	public void unloadChunk(int x, int z) {
+		long key = ChunkPos.asLong(x, z);
+		StubChunk chunk = loadedChunks.get(key);
+		if (chunk == null) return;
+		
+		for (TileEntity tile : chunk.tiles.values()) chunk.savedTiles.add(tile.writeToNBT(new NBTTagCompound()));
+		
+		Set<TileEntity> unloaded = Sets.newIdentityHashSet();
+		unloaded.addAll(chunk.tiles.values());
+		for (TileEntity tile : unloaded) tile.onChunkUnload();
+		tickingTiles.removeIf(unloaded::contains);
+		chunk.tiles.clear();
+		
+		loadedChunks.remove(key);
+		unloadedChunks.put(key, chunk);
+	}
+	
+	@Nullable
+	private StubChunk getLoadedChunk(BlockPos pos) {
+		return loadedChunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+	}
+	
+	private StubChunk getOrLoadChunk(BlockPos pos) {
+		StubChunk chunk = getLoadedChunk(pos);
+		if (chunk != null) return chunk;
+		loadChunk(pos.getX() >> 4, pos.getZ() >> 4);
+		return getLoadedChunk(pos);
+	}
+	
+	public int getLoadedChunkCount() {
+		return loadedChunks.size();
+	}
+	
+	// Block States
+	
+	/** Fills every loaded chunk below the given height with the state, without storing it */
+	public void setGround(IBlockState state, int height) {
+		ground = state;
+		groundHeight = height;
+	}
+	
+	@Override
+	public IBlockState getBlockState(BlockPos pos) {
+		if (isOutsideBuildHeight(pos)) return Blocks.AIR.getDefaultState();
+		StubChunk chunk = getLoadedChunk(pos);
+		if (chunk == null) return Blocks.AIR.getDefaultState();
+		IBlockState state = chunk.states.get(pos.toLong());
+		if (state != null) return state;
+		return pos.getY() < groundHeight ? ground : Blocks.AIR.getDefaultState();
+	}
+	
+	/** Follows the order of the game's chunk: the old block is broken, a tile which should not survive the change is
+	 * removed, the new block is added and given a tile if it needs one, and then neighbours are notified if flag 1 is set */
+	@Override
+	public boolean setBlockState(BlockPos pos, IBlockState newState, int flags) {
+		if (isOutsideBuildHeight(pos)) return false;
+		pos = pos.toImmutable();
+		StubChunk chunk = getOrLoadChunk(pos);
+		
+		IBlockState oldState = getBlockState(pos);
+		if (oldState == newState) return false;
+		Block oldBlock = oldState.getBlock(), newBlock = newState.getBlock();
+		
+		if (newBlock == Blocks.AIR && pos.getY() >= groundHeight) chunk.states.remove(pos.toLong());
+		else chunk.states.put(pos.toLong(), newState);
+		
+		if (oldBlock != newBlock) oldBlock.breakBlock(this, pos, oldState);
+		TileEntity oldTile = chunk.tiles.get(pos.toLong());
+		if (oldTile != null && oldTile.shouldRefresh(this, pos, oldState, newState)) removeTileEntity(pos);
+		
+		if (oldBlock != newBlock) newBlock.onBlockAdded(this, pos, newState);
+		if (newBlock.hasTileEntity(newState)) {
+			TileEntity tile = chunk.tiles.get(pos.toLong());
+			if (tile == null) {
+				tile = newBlock.createTileEntity(this, newState);
+				if (tile != null) setTileEntity(pos, tile);
+			}
+			if (tile != null) tile.updateContainingBlockInfo();
+		}
+		
+		if ((flags & 1) != 0) notifyNeighborsRespectDebug(pos, oldBlock, true);
+		return true;
+	}
+	
+	// Tile Entities
+	
+	@Override
+	@Nullable
+	public TileEntity getTileEntity(BlockPos pos) {
+		if (isOutsideBuildHeight(pos)) return null;
+		StubChunk chunk = getLoadedChunk(pos);
+		return chunk == null ? null : chunk.tiles.get(pos.toLong());
+	}
+	
+	@Override
+	public void setTileEntity(BlockPos pos, @Nullable TileEntity tile) {
+		if (isOutsideBuildHeight(pos) || tile == null || tile.isInvalid()) return;
+		pos = pos.toImmutable();
+		StubChunk chunk = getOrLoadChunk(pos);
+		
+		tile.setWorld(this);
+		tile.setPos(pos);
+		TileEntity oldTile = chunk.tiles.put(pos.toLong(), tile);
+		if (oldTile != null && oldTile != tile) oldTile.invalidate();
+		tile.validate();
+		if (tile instanceof ITickable) tickingTiles.add(tile);
+		tile.onLoad();
+	}
+	
+	@Override
+	public void removeTileEntity(BlockPos pos) {
+		StubChunk chunk = getLoadedChunk(pos);
+		if (chunk == null) return;
+		TileEntity tile = chunk.tiles.remove(pos.toLong());
+		if (tile != null) tile.invalidate();
+	}
+	
+	/** Chunks are never saved, so there is nothing to mark */
+	@Override
+	public void markChunkDirty(BlockPos pos, TileEntity unusedTileEntity) {}
+	
+	// Chunk Storage
+	
+	private static class StubChunk {
+		
+		/** Handed to code which asks the chunk provider for the chunk, so that it is not allocated on every call */
+		private final Chunk emptyChunk;
+		
+		private final Long2ObjectMap<IBlockState> states = new Long2ObjectOpenHashMap<IBlockState>();
+		private final Long2ObjectMap<TileEntity> tiles = new Long2ObjectOpenHashMap<TileEntity>();
+		
+		/** Tiles written out when the chunk was last unloaded */
+		private List<NBTTagCompound> savedTiles = new ArrayList<NBTTagCompound>();
+		
+		private StubChunk(World world, int x, int z) {
+			emptyChunk = new EmptyChunk(world, x, z);
+		}
+	}
+	
+	/** Hands out empty chunks, as the stub keeps its blocks itself - only code which reaches for a Chunk directly sees them */
+	private class StubChunkProvider implements IChunkProvider {
+		
+		@Override
+		@Nullable
+		public Chunk getLoadedChunk(int x, int z) {
+			StubChunk chunk = loadedChunks.get(ChunkPos.asLong(x, z));
+			return chunk == null ? null : chunk.emptyChunk;
+		}
+		
+		@Override
+		public Chunk provideChunk(int x, int z) {
+			Chunk chunk = getLoadedChunk(x, z);
+			return chunk == null ? new EmptyChunk(StubWorld.this, x, z) : chunk;
+		}
+		
+		@Override
+		public boolean tick() {
+			return false;
+		}
+		
+		@Override
+		public String makeString() {
+			return "StubChunkProvider: " + loadedChunks.size();
+		}
+		
+		@Override
+		public boolean isChunkGeneratedAt(int x, int z) {
+			long key = ChunkPos.asLong(x, z);
+			return loadedChunks.containsKey(key) || unloadedChunks.containsKey(key);
+		}
+	}
+}
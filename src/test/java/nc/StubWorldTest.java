@@ -0,0 +1,94 @@
+package nc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.util.math.BlockPos;
+
+public class StubWorldTest {
+	
+	@BeforeClass
+	public static void init() {
+		TestBootstrap.init();
+	}
+	
+	@Test
+	public void blockStatesAreStoredPerPosition() {
+		StubWorld world = new StubWorld();
+		BlockPos pos = new BlockPos(3, 64, -20);
+		assertEquals(Blocks.AIR.getDefaultState(), world.getBlockState(pos));
+		
+		world.setBlockState(pos, Blocks.STONE.getDefaultState(), 3);
+		assertEquals(Blocks.STONE.getDefaultState(), world.getBlockState(pos));
+		assertEquals(Blocks.AIR.getDefaultState(), world.getBlockState(pos.up()));
+		assertTrue(world.isBlockLoaded(pos));
+		
+		world.setBlockToAir(pos);
+		assertEquals(Blocks.AIR.getDefaultState(), world.getBlockState(pos));
+	}
+	
+	@Test
+	public void tilesFollowTheirBlocks() {
+		StubWorld world = new StubWorld();
+		BlockPos pos = new BlockPos(0, 64, 0);
+		world.setBlockState(pos, Blocks.CHEST.getDefaultState(), 3);
+		TileEntity tile = world.getTileEntity(pos);
+		assertTrue(tile instanceof TileEntityChest);
+		assertEquals(pos, tile.getPos());
+		
+		world.setBlockToAir(pos);
+		assertNull(world.getTileEntity(pos));
+		assertTrue(tile.isInvalid());
+	}
+	
+	@Test
+	public void tilesAreSavedOnUnloadAndRecreatedOnLoad() {
+		StubWorld world = new StubWorld();
+		BlockPos pos = new BlockPos(17, 64, 1);
+		world.setBlockState(pos, Blocks.CHEST.getDefaultState(), 3);
+		TileEntityChest chest = (TileEntityChest) world.getTileEntity(pos);
+		chest.setInventorySlotContents(0, new ItemStack(Items.DIAMOND, 5));
+		
+		world.unloadChunk(1, 0);
+		assertNull(world.getTileEntity(pos));
+		assertEquals(Blocks.AIR.getDefaultState(), world.getBlockState(pos));
+		
+		int[] loaded = new int[2];
+		world.addChunkLoadListener((x, z) -> {
+			loaded[0] = x;
+			loaded[1] = z;
+		});
+		world.loadChunk(1, 0);
+		assertEquals(1, loaded[0]);
+		assertEquals(0, loaded[1]);
+		
+		assertEquals(Blocks.CHEST, world.getBlockState(pos).getBlock());
+		TileEntityChest restored = (TileEntityChest) world.getTileEntity(pos);
+		assertNotSame(chest, restored);
+		assertEquals(Items.DIAMOND, restored.getStackInSlot(0).getItem());
+		assertEquals(5, restored.getStackInSlot(0).getCount());
+	}
+	
+	@Test
+	public void tickRunsListenersAndAdvancesTime() {
+		StubWorld world = new StubWorld();
+		int[] ticks = new int[1];
+		world.addTickStartListener(() -> ticks[0]++);
+		long time = world.getTotalWorldTime();
+		
+		world.tick();
+		world.tick();
+		assertEquals(2, ticks[0]);
+		assertEquals(time + 2L, world.getTotalWorldTime());
+	}
+}
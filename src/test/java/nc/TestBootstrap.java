@@ -0,0 +1,127 @@
+package nc;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import nc.capability.radiation.entity.IEntityRads;
+import nc.capability.radiation.resistance.IRadiationResistance;
+import nc.capability.radiation.sink.IRadiationSink;
+import nc.capability.radiation.source.IRadiationSource;
+import nc.config.NCConfig;
+import nc.handler.CapabilityHandler;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.energy.CapabilityEnergy;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.items.CapabilityItemHandler;
+
+/** Sets up the vanilla registries, the vanilla ore dictionary and a set of plain fluids for tests and benchmarks which
+ * run without a Forge launch, and so without any of the mod's own content */
+public class TestBootstrap {
+	
+	public static final int TEST_FLUID_COUNT = 128;
+	
+	private static final ResourceLocation TEST_FLUID_TEXTURE = new ResourceLocation(Global.MOD_ID, "blocks/fluids/test");
+	
+	private static boolean initialized = false, capabilitiesInitialized = false, configInitialized = false;
+	
+	public static synchronized void init() {
+		if (initialized) return;
+		
+		Bootstrap.register();
+		for (int i = 0; i < TEST_FLUID_COUNT; i++) {
+			FluidRegistry.registerFluid(new Fluid(testFluidName(i), TEST_FLUID_TEXTURE, TEST_FLUID_TEXTURE));
+		}
+		
+		initialized = true;
+	}
+	
+	/** Loads the default config from a temporary file, as there is no config directory */
+	public static synchronized void initConfig() {
+		if (configInitialized) return;
+		init();
+		
+		try {
+			File configFile = File.createTempFile("nuclearcraft", ".cfg");
+			configFile.deleteOnExit();
+			NCConfig.load(configFile);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		
+		configInitialized = true;
+	}
+	
+	/** Registers the Forge and mod capabilities and fills in the fields which would be injected with them, as the
+	 * @CapabilityInject annotations are only handled by a Forge launch */
+	public static synchronized void initCapabilities() {
+		if (capabilitiesInitialized) return;
+		initConfig();
+		
+		CapabilityEnergy.register();
+		CapabilityFluidHandler.register();
+		CapabilityItemHandler.register();
+		CapabilityHandler.init();
+		
+		Map<String, Capability<?>> providers = capabilityProviders();
+		for (Class<?> holder : new Class<?>[] {CapabilityEnergy.class, CapabilityFluidHandler.class, CapabilityItemHandler.class, IEntityRads.class, IRadiationSource.class, IRadiationResistance.class, IRadiationSink.class}) {
+			for (Field field : holder.getDeclaredFields()) {
+				CapabilityInject inject = field.getAnnotation(CapabilityInject.class);
+				if (inject == null || !Modifier.isStatic(field.getModifiers())) continue;
+				Capability<?> capability = providers.get(inject.value().getName().intern());
+				if (capability == null) throw new IllegalStateException("Capability " + inject.value().getName() + " was not registered");
+				setStatic(field, capability);
+			}
+		}
+		
+		capabilitiesInitialized = true;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Map<String, Capability<?>> capabilityProviders() {
+		try {
+			Field field = CapabilityManager.class.getDeclaredField("providers");
+			field.setAccessible(true);
+			return (Map<String, Capability<?>>) field.get(CapabilityManager.INSTANCE);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/** Interface fields are implicitly final, so the modifier has to be dropped before they can be set */
+	private static void setStatic(Field field, Object value) {
+		try {
+			Field modifiers = Field.class.getDeclaredField("modifiers");
+			modifiers.setAccessible(true);
+			modifiers.setInt(field, field.getModifiers() & ~Modifier.FINAL);
+			field.setAccessible(true);
+			field.set(null, value);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/** Registers a plain fluid with the given name and temperature, for code which looks up the mod's fluids by name */
+	public static Fluid fluid(String name, int temperature) {
+		if (!FluidRegistry.isFluidRegistered(name)) {
+			FluidRegistry.registerFluid(new Fluid(name, TEST_FLUID_TEXTURE, TEST_FLUID_TEXTURE).setTemperature(temperature));
+		}
+		return FluidRegistry.getFluid(name);
+	}
+	
+	public static String testFluidName(int index) {
+		return "nc_test_fluid_" + index;
+	}
+	
+	public static Fluid testFluid(int index) {
+		return FluidRegistry.getFluid(testFluidName(index));
+	}
+}
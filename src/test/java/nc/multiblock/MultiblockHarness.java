@@ -0,0 +1,465 @@
+package nc.multiblock;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import nc.NuclearCraft;
+import nc.StubWorld;
+import nc.TestBootstrap;
+import nc.config.NCConfig;
+import nc.init.NCBlocks;
+import nc.init.NCTiles;
+import nc.multiblock.heatExchanger.HeatExchangerTubeType;
+import nc.multiblock.heatExchanger.block.BlockHeatExchangerController;
+import nc.multiblock.heatExchanger.block.BlockHeatExchangerFrame;
+import nc.multiblock.heatExchanger.block.BlockHeatExchangerTube;
+import nc.multiblock.heatExchanger.block.BlockHeatExchangerWall;
+import nc.multiblock.saltFission.block.BlockSaltFissionController;
+import nc.multiblock.saltFission.block.BlockSaltFissionDistributor;
+import nc.multiblock.saltFission.block.BlockSaltFissionFrame;
+import nc.multiblock.saltFission.block.BlockSaltFissionHeater;
+import nc.multiblock.saltFission.block.BlockSaltFissionRetriever;
+import nc.multiblock.saltFission.block.BlockSaltFissionVessel;
+import nc.multiblock.saltFission.block.BlockSaltFissionWall;
+import nc.multiblock.turbine.Turbine;
+import nc.multiblock.turbine.TurbineRotorBladeType;
+import nc.multiblock.turbine.block.BlockTurbineController;
+import nc.multiblock.turbine.block.BlockTurbineDynamoCoil;
+import nc.multiblock.turbine.block.BlockTurbineFrame;
+import nc.multiblock.turbine.block.BlockTurbineInlet;
+import nc.multiblock.turbine.block.BlockTurbineOutlet;
+import nc.multiblock.turbine.block.BlockTurbineRotorBearing;
+import nc.multiblock.turbine.block.BlockTurbineRotorBlade;
+import nc.multiblock.turbine.block.BlockTurbineRotorShaft;
+import nc.multiblock.turbine.block.BlockTurbineWall;
+import nc.multiblock.validation.ValidationError;
+import nc.network.PacketHandler;
+import nc.proxy.CommonProxy;
+import nc.tile.fluid.ITileFluid;
+import nc.tile.internal.fluid.Tank;
+import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.SimpleNetworkWrapper;
+
+/** Builds turbines, salt fission reactors and heat exchangers in a {@link StubWorld}, and reports how long they take to
+ * assemble and to restore after their chunks are reloaded, and the time, allocation and packets of each tick once they
+ * are running. The inputs are topped up and the outputs emptied before every tick, so each tick does the same work.
+ *
+ * Run with gradlew multiblockHarness -PharnessArgs="<turbine|salt_fission|heat_exchanger|all> <size> <ticks> [warmup]",
+ * where the size is the interior edge length. */
+public class MultiblockHarness {
+	
+	/** Ticks allowed for a structure to assemble before giving up */
+	private static final int MAX_ASSEMBLY_TICKS = 100;
+	
+	private static final CountingNetworkWrapper NETWORK;
+	
+	static {
+		TestBootstrap.initCapabilities();
+		
+		NuclearCraft.proxy = new CommonProxy() {
+			
+			@Override
+			public IMultiblockRegistry initMultiblockRegistry() {
+				return MultiblockRegistry.INSTANCE;
+			}
+		};
+		PacketHandler.instance = NETWORK = new CountingNetworkWrapper();
+		
+		TestBootstrap.initConfig();
+		NCConfig.salt_fission_overheat = false;
+		
+		registerFluids();
+		NCTiles.register();
+		registerBlocks();
+	}
+	
+	/** The fluids used by the turbine, salt fission and heat exchanger recipes - heat exchanger recipes read the
+	 * temperatures of all of theirs, so every one must be present */
+	private static void registerFluids() {
+		for (String coolant : new String[] {"", "redstone_", "quartz_", "gold_", "glowstone_", "lapis_", "diamond_", "liquidhelium_", "ender_", "cryotheum_", "iron_", "emerald_", "copper_", "tin_", "magnesium_"}) {
+			TestBootstrap.fluid(coolant + "nak", 300);
+			TestBootstrap.fluid(coolant + "nak_hot", 700);
+		}
+		TestBootstrap.fluid("steam", 800);
+		TestBootstrap.fluid("high_pressure_steam", 1200);
+		TestBootstrap.fluid("exhaust_steam", 400);
+		TestBootstrap.fluid("low_pressure_steam", 1000);
+		TestBootstrap.fluid("low_quality_steam", 350);
+		TestBootstrap.fluid("preheated_water", 400);
+		TestBootstrap.fluid("condensate_water", 300);
+		TestBootstrap.fluid("fuel_leu_235_fluoride_flibe", 1000);
+		TestBootstrap.fluid("depleted_fuel_leu_235_fluoride_flibe", 1000);
+	}
+	
+	/** Only the blocks the structures are built from are created, as the rest need content which is not loaded */
+	private static void registerBlocks() {
+		NCBlocks.turbine_controller = new BlockTurbineController();
+		NCBlocks.turbine_wall = new BlockTurbineWall();
+		NCBlocks.turbine_frame = new BlockTurbineFrame();
+		NCBlocks.turbine_rotor_shaft = new BlockTurbineRotorShaft();
+		NCBlocks.turbine_rotor_blade_steel = new BlockTurbineRotorBlade(TurbineRotorBladeType.STEEL);
+		NCBlocks.turbine_rotor_bearing = new BlockTurbineRotorBearing();
+		NCBlocks.turbine_dynamo_coil = new BlockTurbineDynamoCoil();
+		NCBlocks.turbine_inlet = new BlockTurbineInlet();
+		NCBlocks.turbine_outlet = new BlockTurbineOutlet();
+		
+		NCBlocks.salt_fission_controller = new BlockSaltFissionController();
+		NCBlocks.salt_fission_wall = new BlockSaltFissionWall();
+		NCBlocks.salt_fission_frame = new BlockSaltFissionFrame();
+		NCBlocks.salt_fission_vessel = new BlockSaltFissionVessel();
+		NCBlocks.salt_fission_heater = new BlockSaltFissionHeater();
+		NCBlocks.salt_fission_distributor = new BlockSaltFissionDistributor();
+		NCBlocks.salt_fission_retriever = new BlockSaltFissionRetriever();
+		
+		NCBlocks.heat_exchanger_controller = new BlockHeatExchangerController();
+		NCBlocks.heat_exchanger_wall = new BlockHeatExchangerWall();
+		NCBlocks.heat_exchanger_frame = new BlockHeatExchangerFrame();
+		NCBlocks.heat_exchanger_tube_copper = new BlockHeatExchangerTube(HeatExchangerTubeType.COPPER);
+	}
+	
+	public static void main(String[] args) {
+		String structureName = args.length > 0 ? args[0] : "all";
+		int size = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		int ticks = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+		int warmup = args.length > 3 ? Integer.parseInt(args[3]) : ticks/4;
+		
+		for (Structure structure : Structure.values()) {
+			if (!structureName.equals("all") && !structureName.equalsIgnoreCase(structure.name())) continue;
+			System.out.println(run(structure, Math.max(size, structure.minSize), ticks, warmup));
+		}
+	}
+	
+	/** Builds the structure with the given interior size, waits for it to assemble, ticks it and then reloads its chunks */
+	public static Result run(Structure structure, int size, int ticks, int warmup) {
+		StubWorld world = new StubWorld();
+		world.addTickStartListener(() -> MultiblockRegistry.INSTANCE.tickStart(world));
+		world.addChunkLoadListener((x, z) -> MultiblockRegistry.INSTANCE.onChunkLoaded(world, x, z));
+		
+		try {
+			Result result = new Result(structure, size);
+			Build build = new Build(world, size);
+			
+			long start = System.nanoTime();
+			structure.build(build);
+			result.buildNanos = System.nanoTime() - start;
+			result.blocks = build.blocks;
+			
+			start = System.nanoTime();
+			result.assemblyTicks = tickUntilAssembled(build);
+			result.assemblyNanos = System.nanoTime() - start;
+			
+			for (int i = 0; i < warmup; i++) {
+				structure.feed(build);
+				world.tick();
+			}
+			
+			com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			long thread = Thread.currentThread().getId();
+			NETWORK.reset();
+			long allocated = threads.getThreadAllocatedBytes(thread);
+			start = System.nanoTime();
+			for (int i = 0; i < ticks; i++) {
+				structure.feed(build);
+				world.tick();
+			}
+			result.tickNanos = (System.nanoTime() - start)/(double) ticks;
+			result.tickBytes = (threads.getThreadAllocatedBytes(thread) - allocated)/(double) ticks;
+			result.tickPackets = NETWORK.packets/(double) ticks;
+			result.tickPacketBytes = NETWORK.bytes/(double) ticks;
+			
+			start = System.nanoTime();
+			build.unloadChunks();
+			build.loadChunks();
+			result.restoreTicks = tickUntilAssembled(build);
+			result.restoreNanos = System.nanoTime() - start;
+			
+			return result;
+		} finally {
+			MultiblockRegistry.INSTANCE.onWorldUnloaded(world);
+		}
+	}
+	
+	private static int tickUntilAssembled(Build build) {
+		for (int tick = 1; tick <= MAX_ASSEMBLY_TICKS; tick++) {
+			build.world.tick();
+			MultiblockBase multiblock = build.getMultiblock();
+			if (multiblock != null && multiblock.isAssembled()) return tick;
+		}
+		MultiblockBase multiblock = build.getMultiblock();
+		ValidationError error = multiblock == null ? null : multiblock.getLastError();
+		throw new IllegalStateException("Structure did not assemble" + (error == null ? "" : ": " + error.getChatMessage().getUnformattedText() + " at " + error.getErrorPos()));
+	}
+	
+	// Structures
+	
+	public enum Structure {
+		
+		/** Flows along z, with the shaft through the centre, steel blades in the arms and magnesium coils around the
+		 * outlet end bearings */
+		TURBINE(3) {
+			
+			@Override
+			protected void build(Build build) {
+				int n = build.size, shaftWidth = n % 2 == 0 ? 2 : 1, bladeLength = (n - shaftWidth)/2;
+				int shaftMin = 1 + bladeLength, shaftMax = bladeLength + shaftWidth;
+				build.shell(NCBlocks.turbine_frame, NCBlocks.turbine_wall);
+				
+				for (int x = 1; x <= n; x++) for (int y = 1; y <= n; y++) {
+					boolean shaftX = x >= shaftMin && x <= shaftMax, shaftY = y >= shaftMin && y <= shaftMax;
+					for (int z = 1; z <= n; z++) {
+						if (shaftX && shaftY) build.place(x, y, z, NCBlocks.turbine_rotor_shaft);
+						else if (shaftX || shaftY) build.place(x, y, z, NCBlocks.turbine_rotor_blade_steel);
+					}
+					if (shaftX && shaftY) {
+						build.place(x, y, 0, NCBlocks.turbine_rotor_bearing);
+						build.place(x, y, n + 1, NCBlocks.turbine_rotor_bearing);
+					}
+					else if ((shaftX && (y == shaftMin - 1 || y == shaftMax + 1)) || (shaftY && (x == shaftMin - 1 || x == shaftMax + 1))) {
+						build.place(x, y, n + 1, NCBlocks.turbine_dynamo_coil);
+					}
+				}
+				
+				build.place(1, 1, 0, NCBlocks.turbine_inlet);
+				build.place(1, 1, n + 1, NCBlocks.turbine_outlet);
+				build.controller(NCBlocks.turbine_controller);
+			}
+			
+			/** The turbine's tanks and energy are held by the multiblock rather than by its valves and coils */
+			@Override
+			protected void feed(Build build) {
+				Turbine turbine = (Turbine) build.getMultiblock();
+				if (turbine == null) return;
+				fill(turbine.tanks.get(0), FluidRegistry.getFluid("high_pressure_steam"));
+				turbine.tanks.get(1).setFluidStored(null);
+				turbine.energyStorage.setEnergyStored(0);
+			}
+		},
+		
+		/** Vessels and NaK heaters alternate through the interior, fed by a distributor in the floor and drained by a
+		 * retriever in the roof */
+		SALT_FISSION(2) {
+			
+			@Override
+			protected void build(Build build) {
+				int n = build.size;
+				build.shell(NCBlocks.salt_fission_frame, NCBlocks.salt_fission_wall);
+				
+				for (int x = 1; x <= n; x++) for (int y = 1; y <= n; y++) for (int z = 1; z <= n; z++) {
+					if ((x + y + z) % 2 == 0) build.place(x, y, z, NCBlocks.salt_fission_vessel);
+					else {
+						BlockPos heater = build.place(x, y, z, NCBlocks.salt_fission_heater);
+						build.fill(heater, 0, "nak");
+						build.drain(heater, 1);
+					}
+				}
+				
+				build.fill(build.place(1, 0, 1, NCBlocks.salt_fission_distributor), 0, "fuel_leu_235_fluoride_flibe");
+				build.drain(build.place(1, n + 1, 1, NCBlocks.salt_fission_retriever), 0);
+				build.controller(NCBlocks.salt_fission_controller);
+			}
+		},
+		
+		/** A checkerboard of copper tubes, alternately cooling hot NaK and boiling water */
+		HEAT_EXCHANGER(2) {
+			
+			@Override
+			protected void build(Build build) {
+				int n = build.size;
+				build.shell(NCBlocks.heat_exchanger_frame, NCBlocks.heat_exchanger_wall);
+				
+				for (int x = 1; x <= n; x++) for (int y = 1; y <= n; y++) for (int z = 1; z <= n; z++) {
+					BlockPos tube = build.place(x, y, z, NCBlocks.heat_exchanger_tube_copper);
+					build.fill(tube, 0, (x + y + z) % 2 == 0 ? "nak_hot" : "water");
+					build.drain(tube, 1);
+				}
+				
+				build.controller(NCBlocks.heat_exchanger_controller);
+			}
+		};
+		
+		/** The smallest interior size the structure can be built with */
+		public final int minSize;
+		
+		private Structure(int minSize) {
+			this.minSize = minSize;
+		}
+		
+		protected abstract void build(Build build);
+		
+		/** Tops up the input tanks and empties the output tanks */
+		protected void feed(Build build) {
+			for (Build.Feed feed : build.feeds) {
+				TileEntity tile = build.world.getTileEntity(feed.pos);
+				if (!(tile instanceof ITileFluid)) continue;
+				Tank tank = ((ITileFluid) tile).getTanks().get(feed.tank);
+				if (feed.fluid == null) tank.setFluidStored(null);
+				else fill(tank, feed.fluid);
+			}
+		}
+		
+		private static void fill(Tank tank, Fluid fluid) {
+			tank.setFluidStored(fluid, tank.getCapacity());
+		}
+	}
+	
+	/** A structure being built at the origin, with its interior running from 1 to size on each axis */
+	public static class Build {
+		
+		public final StubWorld world;
+		public final int size;
+		
+		private int blocks = 0;
+		private BlockPos controller;
+		private final List<Feed> feeds = new ArrayList<Feed>();
+		
+		private Build(StubWorld world, int size) {
+			this.world = world;
+			this.size = size;
+		}
+		
+		public BlockPos place(int x, int y, int z, Block block) {
+			BlockPos pos = new BlockPos(x, y, z);
+			if (world.getBlockState(pos).getBlock() == Blocks.AIR) blocks++;
+			world.setBlockState(pos, block.getDefaultState(), 3);
+			return pos;
+		}
+		
+		/** Frame on the edges and walls on the faces */
+		private void shell(Block frame, Block wall) {
+			int max = size + 1;
+			for (int x = 0; x <= max; x++) for (int y = 0; y <= max; y++) for (int z = 0; z <= max; z++) {
+				int faces = (x == 0 || x == max ? 1 : 0) + (y == 0 || y == max ? 1 : 0) + (z == 0 || z == max ? 1 : 0);
+				if (faces >= 2) place(x, y, z, frame);
+				else if (faces == 1) place(x, y, z, wall);
+			}
+		}
+		
+		/** Places the controller in the west wall, powered by a redstone block outside it */
+		private void controller(Block block) {
+			controller = place(0, 1, 1, block);
+			world.setBlockState(controller.west(), Blocks.REDSTONE_BLOCK.getDefaultState(), 3);
+		}
+		
+		private void fill(BlockPos pos, int tank, String fluidName) {
+			feeds.add(new Feed(pos, tank, FluidRegistry.getFluid(fluidName)));
+		}
+		
+		private void drain(BlockPos pos, int tank) {
+			feeds.add(new Feed(pos, tank, null));
+		}
+		
+		public MultiblockBase getMultiblock() {
+			TileEntity tile = world.getTileEntity(controller);
+			return tile instanceof MultiblockTileBase ? ((MultiblockTileBase<?>) tile).getMultiblock() : null;
+		}
+		
+		/** The chunks the structure and its redstone block cover */
+		private List<int[]> chunks() {
+			List<int[]> chunks = new ArrayList<int[]>();
+			for (int x = -1 >> 4; x <= (size + 1) >> 4; x++) for (int z = 0; z <= (size + 1) >> 4; z++) chunks.add(new int[] {x, z});
+			return chunks;
+		}
+		
+		public void unloadChunks() {
+			for (int[] chunk : chunks()) world.unloadChunk(chunk[0], chunk[1]);
+		}
+		
+		public void loadChunks() {
+			for (int[] chunk : chunks()) world.loadChunk(chunk[0], chunk[1]);
+		}
+		
+		private static class Feed {
+			
+			private final BlockPos pos;
+			private final int tank;
+			private final Fluid fluid;
+			
+			private Feed(BlockPos pos, int tank, Fluid fluid) {
+				this.pos = pos;
+				this.tank = tank;
+				this.fluid = fluid;
+			}
+		}
+	}
+	
+	// Results
+	
+	public static class Result {
+		
+		public final Structure structure;
+		public final int size;
+		public int blocks, assemblyTicks, restoreTicks;
+		public long buildNanos, assemblyNanos, restoreNanos;
+		public double tickNanos, tickBytes, tickPackets, tickPacketBytes;
+		
+		private Result(Structure structure, int size) {
+			this.structure = structure;
+			this.size = size;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "%s %dx%dx%d (%d blocks): built in %.2f ms, assembled in %d ticks and %.2f ms, restored in %d ticks and %.2f ms; per tick %.1f us, %.0f bytes allocated, %.2f packets, %.1f packet bytes",
+				structure.name().toLowerCase(Locale.ROOT), size, size, size, blocks, buildNanos/1E6D, assemblyTicks, assemblyNanos/1E6D, restoreTicks, restoreNanos/1E6D, tickNanos/1E3D, tickBytes, tickPackets, tickPacketBytes);
+		}
+	}
+	
+	/** Counts the packets and encoded bytes the multiblocks send instead of sending them, as there is no network. A
+	 * broadcast is counted once, as it is encoded once however many players receive it. */
+	private static class CountingNetworkWrapper extends SimpleNetworkWrapper {
+		
+		private long packets = 0L, bytes = 0L;
+		
+		private CountingNetworkWrapper() {
+			super("nc_harness");
+		}
+		
+		private void reset() {
+			packets = bytes = 0L;
+		}
+		
+		private void count(IMessage message) {
+			ByteBuf buf = Unpooled.buffer();
+			message.toBytes(buf);
+			packets++;
+			bytes += buf.readableBytes();
+		}
+		
+		@Override
+		public void sendToAll(IMessage message) {
+			count(message);
+		}
+		
+		@Override
+		public void sendTo(IMessage message, EntityPlayerMP player) {
+			count(message);
+		}
+		
+		@Override
+		public void sendToAllAround(IMessage message, TargetPoint point) {
+			count(message);
+		}
+		
+		@Override
+		public void sendToAllTracking(IMessage message, TargetPoint point) {
+			count(message);
+		}
+		
+		@Override
+		public void sendToDimension(IMessage message, int dimensionId) {
+			count(message);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package nc.multiblock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import nc.multiblock.MultiblockHarness.Result;
+import nc.multiblock.MultiblockHarness.Structure;
+
+public class MultiblockHarnessTest {
+	
+	/** Assembly and restoration throw if the structure never forms, so a result means both happened */
+	private static Result run(Structure structure, int size) {
+		Result result = MultiblockHarness.run(structure, size, 20, 0);
+		assertTrue(result.assemblyTicks > 0);
+		assertTrue(result.restoreTicks > 0);
+		return result;
+	}
+	
+	@Test
+	public void turbineAssemblesAndRestores() {
+		run(Structure.TURBINE, Structure.TURBINE.minSize);
+		run(Structure.TURBINE, Structure.TURBINE.minSize + 1);
+	}
+	
+	@Test
+	public void saltFissionReactorAssemblesAndRestores() {
+		run(Structure.SALT_FISSION, Structure.SALT_FISSION.minSize);
+	}
+	
+	@Test
+	public void heatExchangerAssemblesAndRestores() {
+		run(Structure.HEAT_EXCHANGER, Structure.HEAT_EXCHANGER.minSize);
+	}
+	
+	@Test
+	public void blockCountCoversShellAndInterior() {
+		int size = Structure.HEAT_EXCHANGER.minSize;
+		// The controller replaces a wall, and the redstone block outside is not part of the structure
+		assertEquals((size + 2)*(size + 2)*(size + 2), run(Structure.HEAT_EXCHANGER, size).blocks);
+	}
+}
@@ -0,0 +1,323 @@
+package nc.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import nc.network.tile.ProcessorUpdatePacket;
+import net.minecraft.util.math.BlockPos;
+
+public class DeltaCodecTest {
+	
+	/** The receiving side keeps its last state per packet type and position, so each test uses its own position */
+	private static int nextPos = 0;
+	
+	private static BlockPos newPos() {
+		return new BlockPos(nextPos++, 64, 0);
+	}
+	
+	private static <PACKET extends DeltaUpdatePacket> PACKET send(DeltaUpdatePacket sent, DeltaState base, boolean broadcast, PACKET received) {
+		ByteBuf buf = Unpooled.buffer();
+		sent.setDeltaBase(base, broadcast);
+		sent.toBytes(buf);
+		received.fromBytes(buf);
+		assertTrue(received.messageValid);
+		assertEquals(sent.pos, received.pos);
+		assertEquals("Whole packet should be read", 0, buf.readableBytes());
+		return received;
+	}
+	
+	private static int encodedSize(DeltaUpdatePacket sent, DeltaState base) {
+		ByteBuf buf = Unpooled.buffer();
+		sent.setDeltaBase(base, false);
+		sent.toBytes(buf);
+		return buf.readableBytes();
+	}
+	
+	private static void assertSameFields(DeltaUpdatePacket expected, DeltaUpdatePacket actual) {
+		assertEquals(DeltaState.of(expected), DeltaState.of(actual));
+	}
+	
+	// Keyframes, deltas and broadcasts
+	
+	@Test
+	public void keyframeRoundTrip() {
+		TestPacket sent = new TestPacket(newPos(), true, 42, 1L << 40, 2.5D, "fuel");
+		assertSameFields(sent, send(sent, null, false, new TestPacket()));
+	}
+	
+	@Test
+	public void defaultKeyframeHasNoPayload() {
+		TestPacket sent = new TestPacket(newPos(), false, 0, 0L, 0D, "");
+		// Position, frame type and an empty field mask
+		assertEquals(8 + 1 + 1, encodedSize(sent, null));
+		assertSameFields(sent, send(sent, null, false, new TestPacket()));
+	}
+	
+	@Test
+	public void deltaRoundTrip() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, true, 10, 20L, 30D, "a");
+		send(first, null, false, new TestPacket());
+		
+		TestPacket second = new TestPacket(pos, false, 11, 20L, 30.25D, "b");
+		assertSameFields(second, send(second, first.getDeltaState(), false, new TestPacket()));
+		
+		TestPacket third = new TestPacket(pos, false, -5, 1L << 62, 30.25D, "b");
+		assertSameFields(third, send(third, second.getDeltaState(), false, new TestPacket()));
+	}
+	
+	@Test
+	public void unchangedDeltaHasNoPayload() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, true, 123456, -987654321L, Math.PI, "steam");
+		send(first, null, false, new TestPacket());
+		
+		TestPacket second = new TestPacket(pos, true, 123456, -987654321L, Math.PI, "steam");
+		assertEquals(8 + 1 + 1, encodedSize(second, first.getDeltaState()));
+		assertSameFields(second, send(second, first.getDeltaState(), false, new TestPacket()));
+	}
+	
+	@Test
+	public void broadcastDoesNotReplaceDeltaBase() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, true, 1, 2L, 3D, "x");
+		send(first, null, false, new TestPacket());
+		
+		TestPacket broadcast = new TestPacket(pos, false, 1000, -2000L, -3000D, "broadcast");
+		assertSameFields(broadcast, send(broadcast, null, true, new TestPacket()));
+		
+		// The sender keeps encoding this player's deltas against the last state sent to them directly
+		TestPacket second = new TestPacket(pos, true, 5, 2L, 3D, "y");
+		assertSameFields(second, send(second, first.getDeltaState(), false, new TestPacket()));
+	}
+	
+	@Test
+	public void keyframeResetsDeltaBase() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, true, 7, 7L, 7D, "seven");
+		send(first, null, false, new TestPacket());
+		
+		TestPacket reopened = new TestPacket(pos, false, 8, 0L, 0D, "");
+		assertSameFields(reopened, send(reopened, null, false, new TestPacket()));
+		
+		TestPacket delta = new TestPacket(pos, false, 9, 0L, 0D, "");
+		assertSameFields(delta, send(delta, reopened.getDeltaState(), false, new TestPacket()));
+	}
+	
+	@Test
+	public void deltaWithoutBaseIsDropped() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, true, 1, 1L, 1D, "one");
+		TestPacket second = new TestPacket(pos, false, 2, 1L, 1D, "one");
+		ByteBuf buf = Unpooled.buffer();
+		second.setDeltaBase(first.getDeltaState(), false);
+		second.toBytes(buf);
+		TestPacket received = new TestPacket();
+		received.fromBytes(buf);
+		assertFalse(received.messageValid);
+	}
+	
+	@Test
+	public void clearedReceiverDropsDeltas() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, true, 3, 3L, 3D, "three");
+		send(first, null, false, new TestPacket());
+		DeltaCodec.clearReceived();
+		
+		TestPacket second = new TestPacket(pos, true, 4, 3L, 3D, "three");
+		ByteBuf buf = Unpooled.buffer();
+		second.setDeltaBase(first.getDeltaState(), false);
+		second.toBytes(buf);
+		TestPacket received = new TestPacket();
+		received.fromBytes(buf);
+		assertFalse(received.messageValid);
+		
+		assertSameFields(second, send(second, null, false, new TestPacket()));
+	}
+	
+	@Test
+	public void processorPacketRoundTrip() {
+		BlockPos pos = newPos();
+		ProcessorUpdatePacket first = new ProcessorUpdatePacket(pos, 12.5D, 40000, 400D, 20D);
+		assertSameFields(first, send(first, null, false, new ProcessorUpdatePacket()));
+		
+		ProcessorUpdatePacket second = new ProcessorUpdatePacket(pos, 13.5D, 39980, 400D, 20D);
+		assertSameFields(second, send(second, first.getDeltaState(), false, new ProcessorUpdatePacket()));
+	}
+	
+	// Zigzag varints
+	
+	private static final int[] INT_EDGES = new int[] {0, -1, 1, 63, -64, 64, -65, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE + 1, Integer.MAX_VALUE - 1};
+	private static final long[] LONG_EDGES = new long[] {0L, -1L, 1L, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE + 1L, Long.MAX_VALUE - 1L};
+	
+	@Test
+	public void intEdgeValuesRoundTrip() {
+		for (int from : INT_EDGES) for (int to : INT_EDGES) {
+			BlockPos pos = newPos();
+			TestPacket first = new TestPacket(pos, false, from, 0L, 0D, "");
+			assertSameFields(first, send(first, null, false, new TestPacket()));
+			
+			TestPacket second = new TestPacket(pos, false, to, 0L, 0D, "");
+			assertEquals(to, send(second, first.getDeltaState(), false, new TestPacket()).intField);
+		}
+	}
+	
+	@Test
+	public void longEdgeValuesRoundTrip() {
+		for (long from : LONG_EDGES) for (long to : LONG_EDGES) {
+			BlockPos pos = newPos();
+			TestPacket first = new TestPacket(pos, false, 0, from, 0D, "");
+			assertSameFields(first, send(first, null, false, new TestPacket()));
+			
+			// Deltas such as Long.MAX_VALUE - Long.MIN_VALUE overflow, and must wrap back on the receiving side
+			TestPacket second = new TestPacket(pos, false, 0, to, 0D, "");
+			assertEquals(to, send(second, first.getDeltaState(), false, new TestPacket()).longField);
+		}
+	}
+	
+	@Test
+	public void smallDeltasStaySmall() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, false, Integer.MAX_VALUE, Long.MIN_VALUE, 0D, "");
+		send(first, null, false, new TestPacket());
+		
+		// One byte for the field mask and one for each zigzagged delta of -1
+		TestPacket second = new TestPacket(pos, false, Integer.MAX_VALUE - 1, Long.MIN_VALUE + 1L, 0D, "");
+		assertEquals(8 + 1 + 1 + 1 + 1, encodedSize(second, first.getDeltaState()));
+	}
+	
+	// Doubles
+	
+	private static final double[] DOUBLE_EDGES = new double[] {0D, -0D, 1D, -1D, 0.1D, -2.75D, Math.PI, 1D*(1L << 52), 1D*(1L << 53), -1D*(1L << 53), 1D*(1L << 53) + 2D, 1E300D, -1E300D, Double.MIN_VALUE, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN};
+	
+	@Test
+	public void doubleEdgeValuesRoundTrip() {
+		for (double value : DOUBLE_EDGES) {
+			BlockPos pos = newPos();
+			TestPacket first = new TestPacket(pos, false, 0, 0L, 1D, "");
+			send(first, null, false, new TestPacket());
+			
+			// Compared by raw bits, so that -0 and NaN payloads are preserved
+			TestPacket second = new TestPacket(pos, false, 0, 0L, value, "");
+			double received = send(second, first.getDeltaState(), false, new TestPacket()).doubleField;
+			assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(received));
+		}
+	}
+	
+	@Test
+	public void integralDoublesAreSentAsVarints() {
+		BlockPos pos = newPos();
+		TestPacket sent = new TestPacket(pos, false, 0, 0L, 100D, "");
+		// Position, frame type, field mask and a two byte varint instead of eight raw bytes
+		assertEquals(8 + 1 + 1 + 2, encodedSize(sent, null));
+	}
+	
+	// Strings
+	
+	@Test
+	public void stringsRoundTrip() {
+		BlockPos pos = newPos();
+		TestPacket first = new TestPacket(pos, false, 0, 0L, 0D, "\u00e9tat \u2622");
+		assertSameFields(first, send(first, null, false, new TestPacket()));
+		
+		TestPacket second = new TestPacket(pos, false, 0, 0L, 0D, "");
+		assertEquals("", send(second, first.getDeltaState(), false, new TestPacket()).stringField);
+	}
+	
+	// Field mask boundary
+	
+	@Test
+	public void sixtyFourFieldsRoundTrip() {
+		BlockPos pos = newPos();
+		WidePacket first = new WidePacket(pos, DeltaState.MAX_FIELDS);
+		for (int i = 0; i < first.values.length; i++) first.values[i] = i*i - 1000;
+		assertSameFields(first, send(first, null, false, new WidePacket(DeltaState.MAX_FIELDS)));
+		
+		// Only the field in the sign bit of the mask changes
+		WidePacket second = new WidePacket(pos, DeltaState.MAX_FIELDS);
+		System.arraycopy(first.values, 0, second.values, 0, first.values.length);
+		second.values[DeltaState.MAX_FIELDS - 1] = Integer.MIN_VALUE;
+		WidePacket received = send(second, first.getDeltaState(), false, new WidePacket(DeltaState.MAX_FIELDS));
+		assertSameFields(second, received);
+		
+		// Every field changes, including the first and last bits
+		WidePacket third = new WidePacket(pos, DeltaState.MAX_FIELDS);
+		for (int i = 0; i < third.values.length; i++) third.values[i] = second.values[i] + 1;
+		assertSameFields(third, send(third, second.getDeltaState(), false, new WidePacket(DeltaState.MAX_FIELDS)));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void moreThanSixtyFourFieldsAreRejected() {
+		DeltaState.of(new WidePacket(DeltaState.MAX_FIELDS + 1));
+	}
+	
+	@Test
+	public void stateEquality() {
+		TestPacket a = new TestPacket(newPos(), true, 1, 2L, 3D, "s");
+		TestPacket b = new TestPacket(newPos(), true, 1, 2L, 3D, "s");
+		TestPacket c = new TestPacket(newPos(), true, 1, 2L, 3D, "t");
+		assertEquals(a.getDeltaState(), b.getDeltaState());
+		assertFalse(a.getDeltaState().equals(c.getDeltaState()));
+	}
+	
+	// Packets
+	
+	public static class TestPacket extends DeltaUpdatePacket {
+		
+		public boolean booleanField;
+		public int intField;
+		public long longField;
+		public double doubleField;
+		public String stringField;
+		
+		public TestPacket() {
+			messageValid = false;
+		}
+		
+		public TestPacket(BlockPos pos, boolean booleanField, int intField, long longField, double doubleField, String stringField) {
+			this.pos = pos;
+			this.booleanField = booleanField;
+			this.intField = intField;
+			this.longField = longField;
+			this.doubleField = doubleField;
+			this.stringField = stringField;
+			
+			messageValid = true;
+		}
+		
+		@Override
+		public void visitFields(IPacketFields fields) {
+			booleanField = fields.visit(booleanField);
+			intField = fields.visit(intField);
+			longField = fields.visit(longField);
+			doubleField = fields.visit(doubleField);
+			stringField = fields.visit(stringField);
+		}
+	}
+	
+	public static class WidePacket extends DeltaUpdatePacket {
+		
+		public final int[] values;
+		
+		public WidePacket(int size) {
+			values = new int[size];
+			messageValid = false;
+		}
+		
+		public WidePacket(BlockPos pos, int size) {
+			this(size);
+			this.pos = pos;
+			messageValid = true;
+		}
+		
+		@Override
+		public void visitFields(IPacketFields fields) {
+			for (int i = 0; i < values.length; i++) values[i] = fields.visit(values[i]);
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package nc.tile.internal.fluid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTankInfo;
+
+/** Stacks handed out by a tank must never change when the tank later changes its contents in place */
+public class TankTest {
+	
+	@BeforeClass
+	public static void bootstrap() {
+		Bootstrap.register();
+	}
+	
+	private static Tank tank(int amount) {
+		Tank tank = new Tank(10000, TankSorption.BOTH, null);
+		tank.setFluidStored(FluidRegistry.WATER, amount);
+		return tank;
+	}
+	
+	@Test
+	public void changeFluidAmountDoesNotChangeExposedStack() {
+		Tank tank = tank(1000);
+		FluidStack view = tank.getFluid();
+		tank.changeFluidAmount(500);
+		assertEquals(1000, view.amount);
+		assertEquals(1500, tank.getFluidAmount());
+	}
+	
+	@Test
+	public void changeFluidStoredDoesNotChangeExposedStack() {
+		Tank tank = tank(1000);
+		FluidStack view = tank.getFluid();
+		tank.changeFluidStored(FluidRegistry.WATER, -200);
+		assertEquals(1000, view.amount);
+		assertEquals(800, tank.getFluidAmount());
+	}
+	
+	@Test
+	public void setFluidStoredDoesNotChangeExposedStack() {
+		Tank tank = tank(1000);
+		FluidStack view = tank.getFluid();
+		tank.setFluidStored(FluidRegistry.WATER, 300);
+		assertEquals(1000, view.amount);
+		
+		view = tank.getFluid();
+		tank.setFluidStored(new FluidStack(FluidRegistry.WATER, 400));
+		assertEquals(300, view.amount);
+		assertEquals(400, tank.getFluidAmount());
+	}
+	
+	@Test
+	public void setFluidAmountDoesNotChangeExposedStack() {
+		Tank tank = tank(1000);
+		FluidStack view = tank.getFluid();
+		tank.setFluidAmount(20);
+		assertEquals(1000, view.amount);
+		assertEquals(20, tank.getFluidAmount());
+	}
+	
+	@Test
+	public void fillAndDrainDoNotChangeExposedStack() {
+		Tank tank = tank(1000);
+		FluidStack view = tank.getFluid();
+		assertEquals(100, tank.fill(new FluidStack(FluidRegistry.WATER, 100), true));
+		assertEquals(1000, view.amount);
+		
+		view = tank.getFluid();
+		FluidStack drained = tank.drain(600, true);
+		assertEquals(1100, view.amount);
+		assertEquals(500, tank.getFluidAmount());
+		
+		drained.amount += 50;
+		assertEquals(500, tank.getFluidAmount());
+	}
+	
+	@Test
+	public void simulatedFillKeepsStoredStack() {
+		Tank tank = tank(1000);
+		FluidStack view = tank.getFluid();
+		tank.fill(new FluidStack(FluidRegistry.WATER, 100), false);
+		tank.drain(100, false);
+		assertSame(view, tank.getFluid());
+		assertEquals(1000, view.amount);
+	}
+	
+	@Test
+	public void mergeTankDoesNotChangeExposedStacks() {
+		Tank tank = tank(1000), other = tank(2000);
+		FluidStack view = tank.getFluid(), otherView = other.getFluid();
+		tank.mergeTank(other);
+		assertEquals(1000, view.amount);
+		assertEquals(2000, otherView.amount);
+		assertEquals(3000, tank.getFluidAmount());
+		
+		Tank empty = new Tank(10000, TankSorption.BOTH, null);
+		empty.mergeTank(other);
+		assertNotSame(other.peekFluid(), empty.peekFluid());
+	}
+	
+	@Test
+	public void callerStacksAreNotStored() {
+		Tank tank = new Tank(10000, TankSorption.BOTH, null);
+		FluidStack stack = new FluidStack(FluidRegistry.WATER, 100);
+		tank.setFluidStored(stack);
+		tank.changeFluidAmount(50);
+		assertEquals(100, stack.amount);
+		
+		stack = new FluidStack(FluidRegistry.WATER, 100);
+		tank.setFluid(stack);
+		tank.changeFluidAmount(50);
+		assertEquals(100, stack.amount);
+		assertEquals(150, tank.getFluidAmount());
+		
+		stack = new FluidStack(FluidRegistry.WATER, 100);
+		tank.fill(stack, true);
+		stack.amount = 1;
+		assertEquals(250, tank.getFluidAmount());
+	}
+	
+	@Test
+	public void infoAndPropertiesAreCopies() {
+		Tank tank = tank(1000);
+		FluidTankInfo info = tank.getInfo();
+		assertNotSame(tank.peekFluid(), info.fluid);
+		info.fluid.amount = 1;
+		assertEquals(1000, tank.getFluidAmount());
+		
+		FluidStack contents = tank.getFluidTankProperties().getContents();
+		tank.changeFluidAmount(100);
+		assertEquals(1000, contents.amount);
+		assertEquals(10000, info.capacity);
+	}
+	
+	@Test
+	public void propertiesDoNotExposeStack() {
+		Tank tank = tank(1000);
+		FluidStack stored = tank.peekFluid();
+		tank.getFluidTankProperties().getContents();
+		tank.changeFluidAmount(10);
+		assertSame(stored, tank.peekFluid());
+		assertEquals(1010, stored.amount);
+	}
+	
+	@Test
+	public void unexposedStackIsChangedInPlace() {
+		Tank tank = tank(1000);
+		FluidStack stored = tank.peekFluid();
+		tank.changeFluidAmount(10);
+		tank.setFluidAmount(500);
+		tank.fill(new FluidStack(FluidRegistry.WATER, 100), true);
+		tank.drain(50, true);
+		assertSame(stored, tank.peekFluid());
+		assertEquals(550, stored.amount);
+		
+		tank.getFluid();
+		tank.changeFluidAmount(10);
+		FluidStack detached = tank.peekFluid();
+		assertNotSame(stored, detached);
+		tank.changeFluidAmount(10);
+		assertSame(detached, tank.peekFluid());
+	}
+	
+	@Test
+	public void fluidTypeChangeReplacesStack() {
+		Tank tank = tank(1000);
+		FluidStack stored = tank.peekFluid();
+		tank.setFluidStored(FluidRegistry.LAVA, 200);
+		assertEquals(1000, stored.amount);
+		assertSame(FluidRegistry.LAVA, tank.peekFluid().getFluid());
+		
+		tank.changeFluidAmount(-200);
+		assertNull(tank.peekFluid());
+		assertTrue(tank.isEmpty());
+	}
+	
+	@Test
+	public void allowedFluidsAreRespected() {
+		Tank tank = new Tank(1000, TankSorption.BOTH, Lists.newArrayList("water"));
+		assertTrue(tank.canFillFluidType(FluidRegistry.WATER));
+		assertFalse(tank.canFillFluidType(FluidRegistry.LAVA));
+		assertEquals(0, tank.fill(new FluidStack(FluidRegistry.LAVA, 100), true));
+		assertEquals(100, tank.fill(new FluidStack(FluidRegistry.WATER, 100), true));
+	}
+}
@@ -0,0 +1,158 @@
+package nc.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/** Checks the primitive kernels against the Complex[][] index formulas Matrix used before them */
+public class ComplexMatrixTest {
+	
+	private static final double DELTA = 1E-12D;
+	
+	private final Random rand = new Random(1234L);
+	
+	private Complex[][] random(int n) {
+		Complex[][] a = new Complex[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				a[i][j] = rand.nextInt(4) == 0 ? new Complex(0D, 0D) : new Complex(rand.nextGaussian(), rand.nextGaussian());
+			}
+		}
+		return a;
+	}
+	
+	private Complex[] randomVector(int n) {
+		Complex[] a = new Complex[n];
+		for (int i = 0; i < n; i++) a[i] = new Complex(rand.nextGaussian(), rand.nextGaussian());
+		return a;
+	}
+	
+	private static void assertMatrixEquals(Complex[][] expected, Complex[][] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].length, actual[i].length);
+			for (int j = 0; j < expected[i].length; j++) {
+				assertEquals("re at " + i + ", " + j, expected[i][j].re(), actual[i][j].re(), DELTA);
+				assertEquals("im at " + i + ", " + j, expected[i][j].im(), actual[i][j].im(), DELTA);
+			}
+		}
+	}
+	
+	@Test
+	public void multiplyMatchesIndexFormula() {
+		for (int n = 1; n <= 16; n++) {
+			Complex[][] a = random(n), b = random(n);
+			assertMatrixEquals(LegacyMatrix.multiply(a, b), Matrix.multiply(a, b));
+		}
+	}
+	
+	@Test
+	public void tensorProductMatchesIndexFormula() {
+		for (int n = 1; n <= 4; n++) {
+			for (int m = 1; m <= 4; m++) {
+				Complex[][] a = random(n), b = random(m);
+				assertMatrixEquals(LegacyMatrix.tensorProduct(a, b), Matrix.tensorProduct(a, b));
+			}
+		}
+	}
+	
+	@Test
+	public void hermitianMatchesConjugateTranspose() {
+		for (int n = 1; n <= 16; n++) {
+			Complex[][] a = random(n);
+			assertMatrixEquals(LegacyMatrix.hermitian(a), Matrix.hermitian(a));
+		}
+	}
+	
+	@Test
+	public void adjointIsAnInvolution() {
+		for (int n = 1; n <= 16; n++) {
+			double[] a = ComplexMatrix.fromArray(random(n)), b = a.clone(), c = ComplexMatrix.create(n);
+			ComplexMatrix.adjoint(b, c, n);
+			ComplexMatrix.adjoint(c, c, n);
+			assertArrayEquals(a, c, 0D);
+		}
+	}
+	
+	@Test
+	public void conversionRoundTrips() {
+		for (int n = 1; n <= 16; n++) {
+			Complex[][] a = random(n);
+			assertMatrixEquals(a, ComplexMatrix.toArray(ComplexMatrix.fromArray(a), n));
+		}
+	}
+	
+	@Test
+	public void indexMatchesArrayLayout() {
+		Complex[][] a = random(3);
+		double[] b = ComplexMatrix.fromArray(a);
+		for (int col = 0; col < 3; col++) {
+			for (int row = 0; row < 3; row++) {
+				assertEquals(a[col][row].re(), b[ComplexMatrix.index(row, col, 3)], 0D);
+				assertEquals(a[col][row].im(), b[ComplexMatrix.index(row, col, 3) + 1], 0D);
+			}
+		}
+	}
+	
+	@Test
+	public void multiplyByIdentityIsUnchanged() {
+		for (int n = 1; n <= 16; n++) {
+			double[] a = ComplexMatrix.fromArray(random(n)), id = ComplexMatrix.create(n), out = ComplexMatrix.create(n);
+			ComplexMatrix.identity(id, n);
+			ComplexMatrix.multiply(a, id, out, n);
+			assertArrayEquals(a, out, 0D);
+			ComplexMatrix.multiply(id, a, out, n);
+			assertArrayEquals(a, out, 0D);
+		}
+	}
+	
+	@Test
+	public void scaleAndAddMatchComplexArithmetic() {
+		Complex s = new Complex(0.5D, -2D);
+		for (int n = 1; n <= 16; n++) {
+			Complex[][] a = random(n), b = random(n);
+			double[] out = ComplexMatrix.create(n);
+			ComplexMatrix.scale(s.re(), s.im(), ComplexMatrix.fromArray(a), out, n);
+			assertMatrixEquals(Matrix.multiply(s, a), ComplexMatrix.toArray(out, n));
+			ComplexMatrix.add(ComplexMatrix.fromArray(a), ComplexMatrix.fromArray(b), out, n);
+			assertMatrixEquals(Matrix.add(a, b), ComplexMatrix.toArray(out, n));
+		}
+	}
+	
+	@Test
+	public void spinOperatorsMatchTensorProducts() {
+		double[] spins = new double[] {0.5D, 1D, 0.5D};
+		for (int a = 1; a <= spins.length; a++) {
+			int x = 1, y = 1;
+			for (int i = 1; i < a; i++) x *= Matrix.dim(spins[i - 1]);
+			for (int i = a + 1; i <= spins.length; i++) y *= Matrix.dim(spins[i - 1]);
+			double s = spins[a - 1];
+			assertMatrixEquals(LegacyMatrix.tensorProduct(Matrix.I(x), LegacyMatrix.tensorProduct(Matrix.spinZ(s), Matrix.I(y))), Matrix.spinZ(a, spins));
+			assertMatrixEquals(LegacyMatrix.tensorProduct(Matrix.I(x), LegacyMatrix.tensorProduct(Matrix.spinX(s), Matrix.I(y))), Matrix.spinX(a, spins));
+			assertMatrixEquals(LegacyMatrix.tensorProduct(Matrix.I(x), LegacyMatrix.tensorProduct(Matrix.spinY(s), Matrix.I(y))), Matrix.spinY(a, spins));
+		}
+	}
+	
+	@Test
+	public void dotMatchesComplexArithmetic() {
+		for (int n = 1; n <= 16; n++) {
+			Complex[] a = randomVector(n), b = randomVector(n);
+			Complex expected = LegacyMatrix.dot(a, b);
+			Complex actual = Matrix.dot(a, b);
+			assertEquals(expected.re(), actual.re(), DELTA);
+			assertEquals(expected.im(), actual.im(), DELTA);
+			
+			double[] u = new double[2*n], v = new double[2*n];
+			for (int i = 0; i < n; i++) {
+				u[2*i] = a[i].re();
+				u[2*i + 1] = a[i].im();
+				v[2*i] = b[i].re();
+				v[2*i + 1] = b[i].im();
+			}
+			assertEquals(Complex.absSq(expected), ComplexMatrix.dotAbsSq(u, v, n), 1E-9D);
+		}
+	}
+}
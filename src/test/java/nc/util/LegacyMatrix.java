@@ -0,0 +1,45 @@
+package nc.util;
+
+/** The Complex[][] index formulas Matrix used before its primitive kernels, kept as a reference for tests and
+ * benchmarks */
+public class LegacyMatrix {
+	
+	public static Complex[][] multiply(Complex[][] a, Complex[][] b) {
+		Complex[][] c = new Complex[a[0].length][a[0].length];
+		for (int i = 0; i < a[0].length; i++) {
+			for (int j = 0; j < a[0].length; j++) {
+				c[j][i] = new Complex(0, 0);
+				for (int k = 0; k < a[0].length; k++) {
+					c[j][i] = c[j][i].add(Complex.multiply(a[k][i], b[j][k]));
+				}
+			}
+		}
+		return c;
+	}
+	
+	public static Complex[][] tensorProduct(Complex[][] a, Complex[][] b) {
+		Complex[][] c = new Complex[a[0].length*b[0].length][a[0].length*b[0].length];
+		for (int m = 0; m < a[0].length; m++) {
+			for (int n = 0; n < a[0].length; n++) {
+				for (int i = 0; i < b[0].length; i++) {
+					for (int j = 0; j < b[0].length; j++) {
+						c[j + b[0].length*n][i + b[0].length*m] = Complex.multiply(a[n][m], b[j][i]);
+					}
+				}
+			}
+		}
+		return c;
+	}
+	
+	public static Complex[][] hermitian(Complex[][] a) {
+		return Matrix.conjugate(Matrix.transpose(a));
+	}
+	
+	public static Complex dot(Complex[] a, Complex[] b) {
+		Complex c = new Complex(0, 0);
+		for (int i = 0; i < a.length; i++) {
+			c = c.add(Complex.multiply(a[i].conjugate(), b[i]));
+		}
+		return c;
+	}
+}
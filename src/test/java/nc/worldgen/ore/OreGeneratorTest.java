@@ -0,0 +1,52 @@
+package nc.worldgen.ore;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import nc.config.NCConfig;
+
+public class OreGeneratorTest {
+	
+	private final int[] oreDims = NCConfig.ore_dims;
+	private final boolean oreDimsListType = NCConfig.ore_dims_list_type;
+	
+	@After
+	public void restoreConfig() {
+		NCConfig.ore_dims = oreDims;
+		NCConfig.ore_dims_list_type = oreDimsListType;
+		OreGenerator.refreshOreDims();
+	}
+	
+	@Test
+	public void whitelistAllowsOnlyListedDimensions() {
+		NCConfig.ore_dims = new int[] {0, -6};
+		NCConfig.ore_dims_list_type = false;
+		OreGenerator.refreshOreDims();
+		assertTrue(OreGenerator.isOreDim(0));
+		assertTrue(OreGenerator.isOreDim(-6));
+		assertFalse(OreGenerator.isOreDim(1));
+	}
+	
+	@Test
+	public void blacklistAllowsAllButListedDimensions() {
+		NCConfig.ore_dims = new int[] {0, -6};
+		NCConfig.ore_dims_list_type = true;
+		OreGenerator.refreshOreDims();
+		assertFalse(OreGenerator.isOreDim(0));
+		assertTrue(OreGenerator.isOreDim(1));
+	}
+	
+	@Test
+	public void lookupKeepsItsValuesUntilRefreshed() {
+		NCConfig.ore_dims = new int[] {7};
+		NCConfig.ore_dims_list_type = false;
+		OreGenerator.refreshOreDims();
+		NCConfig.ore_dims[0] = 8;
+		NCConfig.ore_dims_list_type = true;
+		assertTrue(OreGenerator.isOreDim(7));
+		assertFalse(OreGenerator.isOreDim(8));
+	}
+}